@@ -20,6 +20,8 @@
 
 package org.apache.gravitino;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
@@ -46,6 +48,27 @@ public interface SupportsSchemas {
    */
   String[] listSchemas() throws NoSuchCatalogException;
 
+  /**
+   * List schemas with their metadata under the entity.
+   *
+   * <p>The default implementation lists the schema names and loads the schemas one by one.
+   *
+   * @return An array of schemas under the namespace.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  default Schema[] listSchemasInfo() throws NoSuchCatalogException {
+    String[] schemaNames = listSchemas();
+    List<Schema> schemas = new ArrayList<>(schemaNames.length);
+    for (String schemaName : schemaNames) {
+      try {
+        schemas.add(loadSchema(schemaName));
+      } catch (NoSuchSchemaException e) {
+        // The schema is dropped after listing, skip it.
+      }
+    }
+    return schemas.toArray(new Schema[0]);
+  }
+
   /**
    * Check if a schema exists.
    *
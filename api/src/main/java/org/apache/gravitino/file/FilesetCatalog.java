@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino.file;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -43,6 +45,30 @@ public interface FilesetCatalog {
    */
   NameIdentifier[] listFilesets(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List the filesets with their metadata in a schema namespace from the catalog.
+   *
+   * <p>The default implementation lists the fileset identifiers and loads the filesets one by one.
+   * Catalogs that can fetch the metadata of multiple filesets in one call to the underlying source
+   * should override this method.
+   *
+   * @param namespace A schema namespace.
+   * @return An array of filesets in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default Fileset[] listFilesetsInfo(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier[] idents = listFilesets(namespace);
+    List<Fileset> filesets = new ArrayList<>(idents.length);
+    for (NameIdentifier ident : idents) {
+      try {
+        filesets.add(loadFileset(ident));
+      } catch (NoSuchFilesetException e) {
+        // The fileset is dropped after listing, skip it.
+      }
+    }
+    return filesets.toArray(new Fileset[0]);
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
@@ -18,6 +18,8 @@
  */
 package org.apache.gravitino.messaging;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -42,6 +44,30 @@ public interface TopicCatalog {
    */
   NameIdentifier[] listTopics(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List the topics with their metadata in a schema namespace from the catalog.
+   *
+   * <p>The default implementation lists the topic identifiers and loads the topics one by one.
+   * Catalogs that can fetch the metadata of multiple topics in one call to the underlying source
+   * should override this method.
+   *
+   * @param namespace A schema namespace.
+   * @return An array of topics in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default Topic[] listTopicsInfo(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier[] idents = listTopics(namespace);
+    List<Topic> topics = new ArrayList<>(idents.length);
+    for (NameIdentifier ident : idents) {
+      try {
+        topics.add(loadTopic(ident));
+      } catch (NoSuchTopicException e) {
+        // The topic is dropped after listing, skip it.
+      }
+    }
+    return topics.toArray(new Topic[0]);
+  }
+
   /**
    * Load topic metadata by {@link NameIdentifier} from the catalog.
    *
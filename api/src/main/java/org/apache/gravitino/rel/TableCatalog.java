@@ -20,6 +20,8 @@
 
 package org.apache.gravitino.rel;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -51,6 +53,30 @@ public interface TableCatalog {
    */
   NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List the tables with their metadata in a namespace from the catalog.
+   *
+   * <p>The default implementation lists the table identifiers and loads the tables one by one.
+   * Catalogs that can fetch the metadata of multiple tables in one call to the underlying source
+   * should override this method.
+   *
+   * @param namespace A namespace.
+   * @return An array of tables in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier[] idents = listTables(namespace);
+    List<Table> tables = new ArrayList<>(idents.length);
+    for (NameIdentifier ident : idents) {
+      try {
+        tables.add(loadTable(ident));
+      } catch (NoSuchTableException e) {
+        // The table is dropped after listing, skip it.
+      }
+    }
+    return tables.toArray(new Table[0]);
+  }
+
   /**
    * Load table metadata by {@link NameIdentifier} from the catalog.
    *
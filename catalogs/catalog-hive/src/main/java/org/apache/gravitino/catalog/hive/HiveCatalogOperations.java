@@ -537,6 +537,33 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
    */
   @Override
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
+    return listHiveTables(namespace).stream()
+        .map(tb -> NameIdentifier.of(namespace, tb.getTableName()))
+        .toArray(NameIdentifier[]::new);
+  }
+
+  /**
+   * Lists all the tables with their metadata under the specified namespace. The table objects are
+   * fetched from Hive Metastore in bulk, so no extra call is made for each table.
+   *
+   * @param namespace The namespace to list tables for.
+   * @return An array of {@link Table} in the namespace.
+   * @throws NoSuchSchemaException If the schema with the provided namespace does not exist.
+   */
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    return listHiveTables(namespace).stream()
+        .map(
+            tb ->
+                HiveTable.fromHiveTable(tb)
+                    .withProxyPlugin(proxyPlugin)
+                    .withClientPool(clientPool)
+                    .build())
+        .toArray(Table[]::new);
+  }
+
+  private List<org.apache.hadoop.hive.metastore.api.Table> listHiveTables(Namespace namespace)
+      throws NoSuchSchemaException {
     NameIdentifier schemaIdent = NameIdentifier.of(namespace.levels());
     if (!schemaExists(schemaIdent)) {
       throw new NoSuchSchemaException("Schema (database) does not exist %s", namespace);
@@ -570,8 +597,7 @@ public class HiveCatalogOperations implements CatalogOperations, SupportsSchemas
                         }
                         return true;
                       })
-                  .map(tb -> NameIdentifier.of(namespace, tb.getTableName()))
-                  .toArray(NameIdentifier[]::new));
+                  .collect(Collectors.toList()));
     } catch (UnknownDBException e) {
       throw new NoSuchSchemaException(
           "Schema (database) does not exist %s in Hive Metastore", namespace);
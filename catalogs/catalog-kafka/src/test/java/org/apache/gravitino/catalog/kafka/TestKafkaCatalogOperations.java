@@ -23,11 +23,14 @@ import static org.apache.gravitino.Configs.DEFAULT_ENTITY_KV_STORE;
 import static org.apache.gravitino.Configs.DEFAULT_ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_KV_ROCKSDB_BACKEND_PATH;
 import static org.apache.gravitino.Configs.ENTITY_KV_STORE;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CHANGE_LOG_RETENTION_MS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CHANGE_POLL_ENABLED;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_LEADER_ELECTION_ENABLED;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_SERDE;
 import static org.apache.gravitino.Configs.ENTITY_STORE;
@@ -149,6 +152,9 @@ public class TestKafkaCatalogOperations extends KafkaClusterEmbedded {
     f.deleteOnExit();
 
     when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    when(config.get(ENTITY_RELATIONAL_CHANGE_POLL_ENABLED)).thenReturn(false);
+    when(config.get(ENTITY_RELATIONAL_LEADER_ELECTION_ENABLED)).thenReturn(false);
+    when(config.get(ENTITY_RELATIONAL_CHANGE_LOG_RETENTION_MS)).thenReturn(60 * 60 * 1000L);
     when(config.get(STORE_TRANSACTION_MAX_SKEW_TIME)).thenReturn(1000L);
     when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
     when(config.get(ENTITY_SERDE)).thenReturn("proto");
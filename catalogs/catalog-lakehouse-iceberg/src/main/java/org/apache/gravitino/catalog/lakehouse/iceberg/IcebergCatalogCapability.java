@@ -28,4 +28,14 @@ public class IcebergCatalogCapability implements Capability {
     // https://github.com/apache/iceberg/pull/4525
     return CapabilityResult.unsupported("Iceberg does not support column default value.");
   }
+
+  @Override
+  public CapabilityResult fullyPopulatedOnWrite(Scope scope) {
+    // The Iceberg table returned by create and alter is built from the table metadata in the
+    // response of the Iceberg catalog, which is the same as the one returned by load.
+    if (scope == Scope.TABLE) {
+      return CapabilityResult.SUPPORTED;
+    }
+    return Capability.super.fullyPopulatedOnWrite(scope);
+  }
 }
@@ -528,7 +528,7 @@ public class IcebergCatalogOperations implements CatalogOperations, SupportsSche
       loadTableResponse.validate();
 
       LOG.info("Created Iceberg table {}", tableIdent.name());
-      return createdTable;
+      return IcebergTable.fromIcebergTable(loadTableResponse.tableMetadata(), tableIdent.name());
     } catch (AlreadyExistsException e) {
       throw new TableAlreadyExistsException(e, "Table already exists: %s", tableIdent.name());
     }
@@ -33,6 +33,7 @@ dependencies {
   implementation(libs.jackson.annotations)
   implementation(libs.jackson.datatype.jdk8)
   implementation(libs.jackson.datatype.jsr310)
+  implementation(libs.jackson.dataformat.smile)
   implementation(libs.guava)
   implementation(libs.httpclient5)
   implementation(libs.commons.lang3)
@@ -20,6 +20,7 @@ package org.apache.gravitino.client;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -38,6 +39,7 @@ import org.apache.gravitino.dto.requests.SchemaUpdateRequest;
 import org.apache.gravitino.dto.requests.SchemaUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.SchemaListResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -116,6 +118,31 @@ abstract class BaseSchemaCatalog extends CatalogDTO
     return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
   }
 
+  /**
+   * List all the schemas with their information under the given catalog namespace.
+   *
+   * @return A list of {@link Schema} under the given catalog namespace.
+   * @throws NoSuchCatalogException if the catalog with specified namespace does not exist.
+   */
+  @Override
+  public Schema[] listSchemasInfo() throws NoSuchCatalogException {
+    Map<String, String> params = new HashMap<>();
+    params.put("details", "true");
+    SchemaListResponse resp =
+        restClient.get(
+            formatSchemaRequestPath(schemaNamespace()),
+            params,
+            SchemaListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.schemaErrorHandler());
+    resp.validate();
+
+    return Arrays.stream(resp.getSchemas())
+        .map(
+            schema -> new GenericSchema(schema, restClient, catalogNamespace.level(0), this.name()))
+        .toArray(Schema[]::new);
+  }
+
   /**
    * Create a new schema with specified identifier, comment and metadata.
    *
@@ -0,0 +1,393 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.client;
+
+import static org.apache.gravitino.dto.util.DTOConverters.toDTO;
+import static org.apache.gravitino.dto.util.DTOConverters.toDTOs;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.SchemaChange;
+import org.apache.gravitino.dto.requests.BatchOperationRequest;
+import org.apache.gravitino.dto.requests.BatchRequest;
+import org.apache.gravitino.dto.requests.SchemaCreateRequest;
+import org.apache.gravitino.dto.requests.SchemaUpdatesRequest;
+import org.apache.gravitino.dto.requests.TableCreateRequest;
+import org.apache.gravitino.dto.requests.TableUpdatesRequest;
+import org.apache.gravitino.dto.responses.BaseResponse;
+import org.apache.gravitino.dto.responses.BatchResponse;
+import org.apache.gravitino.dto.responses.DropResponse;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.SchemaResponse;
+import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.exceptions.RESTException;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rel.expressions.distributions.Distribution;
+import org.apache.gravitino.rel.expressions.distributions.Distributions;
+import org.apache.gravitino.rel.expressions.sorts.SortOrder;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.indexes.Index;
+import org.apache.gravitino.rel.indexes.Indexes;
+
+/**
+ * Builds a batch of independent schema and table operations, and executes them in a single request.
+ * Operations are executed by the server in parallel, and each of them gets its own {@link Result},
+ * so a failed operation does not fail the others.
+ *
+ * <p>The identifiers of the operations are relative to the metalake, i.e. "catalog.schema" for
+ * schemas and "catalog.schema.table" for tables.
+ */
+public class Batch {
+
+  private static final String API_METALAKES_BATCH_PATH = "api/metalakes/%s/batch";
+
+  private static final ObjectMapper MAPPER = ObjectMapperProvider.objectMapper();
+
+  private final String metalake;
+
+  private final RESTClient restClient;
+
+  private final List<BatchOperationRequest> operations = Lists.newArrayList();
+
+  private final List<Function<JsonNode, Result>> resultParsers = Lists.newArrayList();
+
+  Batch(String metalake, RESTClient restClient) {
+    this.metalake = metalake;
+    this.restClient = restClient;
+  }
+
+  /**
+   * Adds an operation creating a schema.
+   *
+   * @param ident The identifier of the schema, in "catalog.schema" format.
+   * @param comment The comment of the schema.
+   * @param properties The properties of the schema.
+   * @return This batch.
+   */
+  public Batch createSchema(NameIdentifier ident, String comment, Map<String, String> properties) {
+    return addSchemaOperation(
+        BatchOperationRequest.Operation.CREATE,
+        ident,
+        new SchemaCreateRequest(ident.name(), comment, properties));
+  }
+
+  /**
+   * Adds an operation loading a schema.
+   *
+   * @param ident The identifier of the schema, in "catalog.schema" format.
+   * @return This batch.
+   */
+  public Batch loadSchema(NameIdentifier ident) {
+    return addSchemaOperation(BatchOperationRequest.Operation.LOAD, ident, null);
+  }
+
+  /**
+   * Adds an operation altering a schema.
+   *
+   * @param ident The identifier of the schema, in "catalog.schema" format.
+   * @param changes The changes to apply to the schema.
+   * @return This batch.
+   */
+  public Batch alterSchema(NameIdentifier ident, SchemaChange... changes) {
+    return addSchemaOperation(
+        BatchOperationRequest.Operation.ALTER,
+        ident,
+        new SchemaUpdatesRequest(
+            Arrays.stream(changes)
+                .map(DTOConverters::toSchemaUpdateRequest)
+                .collect(Collectors.toList())));
+  }
+
+  /**
+   * Adds an operation dropping a schema. The schema must be empty.
+   *
+   * @param ident The identifier of the schema, in "catalog.schema" format.
+   * @return This batch.
+   */
+  public Batch dropSchema(NameIdentifier ident) {
+    return addSchemaOperation(BatchOperationRequest.Operation.DROP, ident, null);
+  }
+
+  /**
+   * Adds an operation creating a table without partitioning, distribution, sort orders and indexes.
+   *
+   * @param ident The identifier of the table, in "catalog.schema.table" format.
+   * @param columns The columns of the table.
+   * @param comment The comment of the table.
+   * @param properties The properties of the table.
+   * @return This batch.
+   */
+  public Batch createTable(
+      NameIdentifier ident, Column[] columns, String comment, Map<String, String> properties) {
+    return createTable(
+        ident,
+        columns,
+        comment,
+        properties,
+        new Transform[0],
+        Distributions.NONE,
+        new SortOrder[0],
+        Indexes.EMPTY_INDEXES);
+  }
+
+  /**
+   * Adds an operation creating a table.
+   *
+   * @param ident The identifier of the table, in "catalog.schema.table" format.
+   * @param columns The columns of the table.
+   * @param comment The comment of the table.
+   * @param properties The properties of the table.
+   * @param partitioning The partitioning of the table.
+   * @param distribution The distribution of the table.
+   * @param sortOrders The sort orders of the table.
+   * @param indexes The indexes of the table.
+   * @return This batch.
+   */
+  public Batch createTable(
+      NameIdentifier ident,
+      Column[] columns,
+      String comment,
+      Map<String, String> properties,
+      Transform[] partitioning,
+      Distribution distribution,
+      SortOrder[] sortOrders,
+      Index[] indexes) {
+    return addTableOperation(
+        BatchOperationRequest.Operation.CREATE,
+        ident,
+        new TableCreateRequest(
+            ident.name(),
+            comment,
+            toDTOs(columns),
+            properties,
+            toDTOs(sortOrders),
+            toDTO(distribution),
+            toDTOs(partitioning),
+            toDTOs(indexes)));
+  }
+
+  /**
+   * Adds an operation loading a table.
+   *
+   * @param ident The identifier of the table, in "catalog.schema.table" format.
+   * @return This batch.
+   */
+  public Batch loadTable(NameIdentifier ident) {
+    return addTableOperation(BatchOperationRequest.Operation.LOAD, ident, null);
+  }
+
+  /**
+   * Adds an operation altering a table.
+   *
+   * @param ident The identifier of the table, in "catalog.schema.table" format.
+   * @param changes The changes to apply to the table.
+   * @return This batch.
+   */
+  public Batch alterTable(NameIdentifier ident, TableChange... changes) {
+    return addTableOperation(
+        BatchOperationRequest.Operation.ALTER,
+        ident,
+        new TableUpdatesRequest(
+            Arrays.stream(changes)
+                .map(DTOConverters::toTableUpdateRequest)
+                .collect(Collectors.toList())));
+  }
+
+  /**
+   * Adds an operation dropping a table.
+   *
+   * @param ident The identifier of the table, in "catalog.schema.table" format.
+   * @return This batch.
+   */
+  public Batch dropTable(NameIdentifier ident) {
+    return addTableOperation(BatchOperationRequest.Operation.DROP, ident, null);
+  }
+
+  /** @return The number of operations in this batch. */
+  public int size() {
+    return operations.size();
+  }
+
+  /**
+   * Executes the operations of this batch in a single request.
+   *
+   * @return The results of the operations, in the same order as the operations were added.
+   * @throws IllegalArgumentException If the batch is empty or exceeds the limit of the server.
+   */
+  public Result[] execute() {
+    BatchRequest request = new BatchRequest(Collections.unmodifiableList(operations));
+    request.validate();
+
+    BatchResponse resp =
+        restClient.post(
+            String.format(API_METALAKES_BATCH_PATH, metalake),
+            request,
+            BatchResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.restErrorHandler());
+    resp.validate();
+
+    JsonNode[] results = resp.getResults();
+    Preconditions.checkState(
+        results.length == resultParsers.size(),
+        "Expected %s results, but got %s",
+        resultParsers.size(),
+        results.length);
+    Result[] parsed = new Result[results.length];
+    for (int i = 0; i < results.length; i++) {
+      parsed[i] = resultParsers.get(i).apply(results[i]);
+    }
+    return parsed;
+  }
+
+  private Batch addSchemaOperation(
+      BatchOperationRequest.Operation operation, NameIdentifier ident, Object request) {
+    Preconditions.checkArgument(
+        ident.namespace().length() == 1,
+        "Schema identifier must be in \"catalog.schema\" format, but got %s",
+        ident);
+    return addOperation(
+        MetadataObject.Type.SCHEMA,
+        operation,
+        ident,
+        request,
+        operation == BatchOperationRequest.Operation.DROP
+            ? DropResponse.class
+            : SchemaResponse.class,
+        ErrorHandlers.schemaErrorHandler());
+  }
+
+  private Batch addTableOperation(
+      BatchOperationRequest.Operation operation, NameIdentifier ident, Object request) {
+    Preconditions.checkArgument(
+        ident.namespace().length() == 2,
+        "Table identifier must be in \"catalog.schema.table\" format, but got %s",
+        ident);
+    return addOperation(
+        MetadataObject.Type.TABLE,
+        operation,
+        ident,
+        request,
+        operation == BatchOperationRequest.Operation.DROP
+            ? DropResponse.class
+            : TableResponse.class,
+        ErrorHandlers.tableErrorHandler());
+  }
+
+  private Batch addOperation(
+      MetadataObject.Type type,
+      BatchOperationRequest.Operation operation,
+      NameIdentifier ident,
+      Object request,
+      Class<? extends BaseResponse> responseClass,
+      Consumer<ErrorResponse> errorHandler) {
+    String[] levels = Arrays.copyOf(ident.namespace().levels(), ident.namespace().length() + 1);
+    levels[levels.length - 1] = ident.name();
+    operations.add(
+        new BatchOperationRequest(
+            type, operation, levels, request == null ? null : MAPPER.valueToTree(request)));
+    resultParsers.add(node -> parseResult(node, responseClass, errorHandler));
+    return this;
+  }
+
+  private static Result parseResult(
+      JsonNode node,
+      Class<? extends BaseResponse> responseClass,
+      Consumer<ErrorResponse> errorHandler) {
+    try {
+      if (node.get("code").asInt() != 0) {
+        ErrorResponse error = MAPPER.treeToValue(node, ErrorResponse.class);
+        try {
+          errorHandler.accept(error);
+        } catch (RuntimeException e) {
+          return new Result(null, e);
+        }
+        return new Result(null, new RESTException("%s", error.getMessage()));
+      }
+
+      BaseResponse resp = MAPPER.treeToValue(node, responseClass);
+      resp.validate();
+      if (resp instanceof SchemaResponse) {
+        return new Result(((SchemaResponse) resp).getSchema(), null);
+      } else if (resp instanceof TableResponse) {
+        return new Result(((TableResponse) resp).getTable(), null);
+      } else {
+        return new Result(((DropResponse) resp).dropped(), null);
+      }
+    } catch (JsonProcessingException e) {
+      return new Result(null, new RESTException(e, "Failed to parse the batch result: %s", node));
+    }
+  }
+
+  /** The result of an operation in the batch. */
+  public static class Result {
+
+    private final Object value;
+
+    private final RuntimeException error;
+
+    private Result(Object value, RuntimeException error) {
+      this.value = value;
+      this.error = error;
+    }
+
+    /** @return True if the operation succeeded, false otherwise. */
+    public boolean succeeded() {
+      return error == null;
+    }
+
+    /**
+     * Returns the value of a succeeded operation. It is a {@link Schema} or a {@link Table} for the
+     * create, load and alter operations, and a {@link Boolean} telling whether the object is
+     * dropped for the drop operations.
+     *
+     * @param <T> The type of the value.
+     * @return The value of the operation.
+     * @throws RuntimeException The error of the operation if it failed, e.g. {@link
+     *     org.apache.gravitino.exceptions.NoSuchTableException}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T value() {
+      if (error != null) {
+        throw error;
+      }
+      return (T) value;
+    }
+
+    /** @return The error of a failed operation, or null if it succeeded. */
+    public RuntimeException error() {
+      return error;
+    }
+  }
+}
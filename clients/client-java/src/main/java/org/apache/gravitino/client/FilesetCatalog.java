@@ -22,6 +22,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -36,6 +37,7 @@ import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.FilesetListResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -95,6 +97,35 @@ class FilesetCatalog extends BaseSchemaCatalog implements org.apache.gravitino.f
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List the filesets with their information in a schema namespace from the catalog.
+   *
+   * @param namespace A schema namespace. This namespace should have 1 level, which is the schema
+   *     name;
+   * @return An array of filesets in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public Fileset[] listFilesetsInfo(Namespace namespace) throws NoSuchSchemaException {
+    checkFilesetNamespace(namespace);
+
+    Namespace fullNamespace = getFilesetFullNamespace(namespace);
+    Map<String, String> params = new HashMap<>();
+    params.put("details", "true");
+    FilesetListResponse resp =
+        restClient.get(
+            formatFilesetRequestPath(fullNamespace),
+            params,
+            FilesetListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.filesetErrorHandler());
+    resp.validate();
+
+    return Arrays.stream(resp.getFilesets())
+        .map(fileset -> new GenericFileset(fileset, restClient, fullNamespace))
+        .toArray(Fileset[]::new);
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
@@ -129,6 +129,16 @@ public class GravitinoClient extends GravitinoClientBase
     return getMetalake().dropCatalog(catalogName);
   }
 
+  /**
+   * Creates a batch of schema and table operations under the metalake, which are executed in a
+   * single request.
+   *
+   * @return A new empty batch.
+   */
+  public Batch batch() {
+    return getMetalake().batch();
+  }
+
   /**
    * Adds a new User.
    *
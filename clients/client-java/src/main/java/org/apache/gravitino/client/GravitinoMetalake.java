@@ -264,6 +264,16 @@ public class GravitinoMetalake extends MetalakeDTO implements SupportsCatalogs,
     return resp.dropped();
   }
 
+  /**
+   * Creates a batch of schema and table operations under this metalake, which are executed in a
+   * single request.
+   *
+   * @return A new empty batch.
+   */
+  public Batch batch() {
+    return new Batch(this.name(), restClient);
+  }
+
   /**
    * Test whether a catalog can be created successfully with the specified parameters, without
    * actually creating it.
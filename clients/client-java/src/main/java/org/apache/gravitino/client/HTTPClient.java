@@ -19,16 +19,24 @@
 
 package org.apache.gravitino.client;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.gravitino.auth.AuthConstants;
@@ -37,21 +45,27 @@ import org.apache.gravitino.exceptions.RESTException;
 import org.apache.gravitino.rest.RESTRequest;
 import org.apache.gravitino.rest.RESTResponse;
 import org.apache.gravitino.rest.RESTUtils;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.Method;
-import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
 import org.apache.hc.core5.http.message.BasicHeader;
 import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.net.URIBuilder;
@@ -69,11 +83,29 @@ public class HTTPClient implements RESTClient {
 
   private static final String VERSION_HEADER = "application/vnd.gravitino.v1+json";
 
+  private static final String SMILE_MIME_TYPE = "application/x-jackson-smile";
+
+  // Prefers the binary Smile format, a server not supporting it still answers in JSON.
+  private static final String SMILE_ACCEPT_HEADER =
+      SMILE_MIME_TYPE + ", " + VERSION_HEADER + ";q=0.9";
+
+  /** The default maximum number of GET responses cached for revalidation with their ETags. */
+  public static final int DEFAULT_RESPONSE_CACHE_SIZE = 100;
+
   private final String uri;
   private final CloseableHttpClient httpClient;
+  // The HTTP/2 client used instead of the HTTP/1.1 client if HTTP/2 is enabled.
+  private final CloseableHttpAsyncClient http2Client;
   private final ObjectMapper mapper;
+  // The mapper of the Smile responses, null if the client doesn't accept Smile.
+  private final ObjectMapper smileMapper;
   private final AuthDataProvider authDataProvider;
 
+  // The GET responses with an ETag, keyed by the request URI, the credentials and the accepted
+  // formats, see responseCacheKey. The cached body is reused when the server answers the
+  // conditional request with 304 Not Modified.
+  private final Map<String, CachedResponse> responseCache;
+
   // Handler to be executed before connecting to the server.
   private final Runnable beforeConnectHandler;
   // Handler status
@@ -97,26 +129,60 @@ public class HTTPClient implements RESTClient {
    * @param objectMapper The ObjectMapper used for JSON serialization and deserialization.
    * @param authDataProvider The provider of authentication data.
    * @param beforeConnectHandler The function to be executed before connecting to the server.
+   * @param responseCacheSize The maximum number of GET responses cached for revalidation, 0 to
+   *     disable the cache.
+   * @param contentCompression Whether to request compressed responses and decompress them.
+   * @param http2 Whether to send the requests over HTTP/2.
+   * @param smile Whether to accept responses in the binary Smile format.
    */
   private HTTPClient(
       String uri,
       Map<String, String> baseHeaders,
       ObjectMapper objectMapper,
       AuthDataProvider authDataProvider,
-      Runnable beforeConnectHandler) {
+      Runnable beforeConnectHandler,
+      int responseCacheSize,
+      boolean contentCompression,
+      boolean http2,
+      boolean smile) {
     this.uri = uri;
     this.mapper = objectMapper;
+    this.smileMapper = smile ? ObjectMapperProvider.smileMapper() : null;
+    this.responseCache =
+        responseCacheSize > 0
+            ? Collections.synchronizedMap(
+                new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+                  @Override
+                  protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                    return size() > responseCacheSize;
+                  }
+                })
+            : null;
 
-    HttpClientBuilder clientBuilder = HttpClients.custom();
+    List<Header> defaultHeaders =
+        baseHeaders == null
+            ? Collections.emptyList()
+            : baseHeaders.entrySet().stream()
+                .map(e -> new BasicHeader(e.getKey(), e.getValue()))
+                .collect(Collectors.toList());
 
-    if (baseHeaders != null) {
-      clientBuilder.setDefaultHeaders(
-          baseHeaders.entrySet().stream()
-              .map(e -> new BasicHeader(e.getKey(), e.getValue()))
-              .collect(Collectors.toList()));
+    if (http2) {
+      // The requests are multiplexed over one connection per route, using h2c with prior
+      // knowledge for http and h2 negotiated by ALPN for https.
+      this.http2Client = HttpAsyncClients.customHttp2().setDefaultHeaders(defaultHeaders).build();
+      this.http2Client.start();
+      this.httpClient = null;
+    } else {
+      HttpClientBuilder clientBuilder = HttpClients.custom();
+      // With content compression, the client sends "Accept-Encoding: gzip, deflate" and
+      // transparently decompresses the responses.
+      if (!contentCompression) {
+        clientBuilder.disableContentCompression();
+      }
+      clientBuilder.setDefaultHeaders(defaultHeaders);
+      this.httpClient = clientBuilder.build();
+      this.http2Client = null;
     }
-
-    this.httpClient = clientBuilder.build();
     this.authDataProvider = authDataProvider;
 
     if (beforeConnectHandler == null) {
@@ -126,25 +192,43 @@ public class HTTPClient implements RESTClient {
   }
 
   /**
-   * Extracts the response body as a string from the provided HTTP response.
+   * Extracts the response body as bytes from the provided HTTP response.
    *
    * @param response The HTTP response from which the response body will be extracted.
-   * @return The response body as a string.
-   * @throws RESTException If an error occurs during conversion of the response body to a string.
+   * @return The response body as bytes.
+   * @throws RESTException If an error occurs while reading the response body.
    */
-  private String extractResponseBodyAsString(CloseableHttpResponse response) {
+  private byte[] extractResponseBody(ClassicHttpResponse response) {
     try {
       if (response.getEntity() == null) {
         return null;
       }
 
-      // EntityUtils.toString returns null when HttpEntity.getContent returns null.
-      return EntityUtils.toString(response.getEntity(), "UTF-8");
-    } catch (IOException | ParseException e) {
-      throw new RESTException(e, "Failed to convert HTTP response body to string");
+      // EntityUtils.toByteArray returns null when HttpEntity.getContent returns null.
+      return EntityUtils.toByteArray(response.getEntity());
+    } catch (IOException e) {
+      throw new RESTException(e, "Failed to read HTTP response body");
     }
   }
 
+  /**
+   * Returns the mapper to parse the response body with, according to its content type.
+   *
+   * @param response The HTTP response to parse.
+   * @return The Smile mapper for a Smile response, otherwise the JSON mapper.
+   */
+  private ObjectMapper responseMapper(ClassicHttpResponse response) {
+    HttpEntity entity = response.getEntity();
+    if (smileMapper != null
+        && entity != null
+        && entity.getContentType() != null
+        && SMILE_MIME_TYPE.equalsIgnoreCase(
+            ContentType.parse(entity.getContentType()).getMimeType())) {
+      return smileMapper;
+    }
+    return mapper;
+  }
+
   /**
    * Checks if the response indicates a successful response.
    *
@@ -153,7 +237,7 @@ public class HTTPClient implements RESTClient {
    * @param response The response to check for success.
    * @return True if the response is successful, false otherwise.
    */
-  private boolean isSuccessful(CloseableHttpResponse response) {
+  private boolean isSuccessful(ClassicHttpResponse response) {
     int code = response.getCode();
     return code == HttpStatus.SC_OK
         || code == HttpStatus.SC_ACCEPTED
@@ -170,7 +254,7 @@ public class HTTPClient implements RESTClient {
    * @param response The response from which the ErrorResponse is built.
    * @return An ErrorResponse object representing the REST error response.
    */
-  private ErrorResponse buildRestErrorResponse(CloseableHttpResponse response) {
+  private ErrorResponse buildRestErrorResponse(ClassicHttpResponse response) {
     String responseReason = response.getReasonPhrase();
     String message =
         responseReason != null && !responseReason.isEmpty()
@@ -192,7 +276,7 @@ public class HTTPClient implements RESTClient {
    *     during parsing.
    */
   private void throwFailure(
-      CloseableHttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
+      ClassicHttpResponse response, String responseBody, Consumer<ErrorResponse> errorHandler) {
     ErrorResponse errorResponse = null;
 
     if (responseBody != null) {
@@ -337,7 +421,8 @@ public class HTTPClient implements RESTClient {
           "Received a malformed path for a REST request: %s. Paths should not start with /", path);
     }
 
-    HttpUriRequestBase request = new HttpUriRequestBase(method.name(), buildUri(path, queryParams));
+    URI requestUri = buildUri(path, queryParams);
+    HttpUriRequestBase request = new HttpUriRequestBase(method.name(), requestUri);
 
     if (requestBody instanceof Map) {
       // encode maps as form data, application/x-www-form-urlencoded
@@ -356,7 +441,17 @@ public class HTTPClient implements RESTClient {
           new String(authDataProvider.getTokenData(), StandardCharsets.UTF_8));
     }
 
-    try (CloseableHttpResponse response = httpClient.execute(request)) {
+    String cacheKey = null;
+    CachedResponse cachedResponse = null;
+    if (method == Method.GET && responseCache != null) {
+      cacheKey = responseCacheKey(requestUri, request);
+      cachedResponse = responseCache.get(cacheKey);
+      if (cachedResponse != null) {
+        request.setHeader(HttpHeaders.IF_NONE_MATCH, cachedResponse.eTag);
+      }
+    }
+
+    try (ClassicHttpResponse response = sendRequest(request)) {
       Map<String, String> respHeaders = Maps.newHashMap();
       for (Header header : response.getHeaders()) {
         respHeaders.put(header.getName(), header.getValue());
@@ -370,12 +465,41 @@ public class HTTPClient implements RESTClient {
         return null;
       }
 
-      String responseBody = extractResponseBodyAsString(response);
+      boolean notModified =
+          cachedResponse != null && response.getCode() == HttpStatus.SC_NOT_MODIFIED;
+      if (!notModified
+          && isSuccessful(response)
+          && response.getEntity() != null
+          && response.getFirstHeader(HttpHeaders.ETAG) == null) {
+        // Nothing to cache, parse the body while reading it rather than buffering it as a string,
+        // large list responses are streamed by the server.
+        if (cacheKey != null) {
+          responseCache.remove(cacheKey);
+        }
+        return parseResponseStream(response, responseType);
+      }
 
-      if (!isSuccessful(response)) {
+      byte[] responseBody;
+      ObjectMapper responseMapper;
+      if (notModified) {
+        // The server validated the cached response, so its body is reused.
+        responseBody = cachedResponse.body;
+        responseMapper = cachedResponse.mapper;
+      } else {
+        responseBody = extractResponseBody(response);
+        responseMapper = responseMapper(response);
+        if (cacheKey != null) {
+          cacheResponse(cacheKey, response, responseBody, responseMapper);
+        }
+      }
+
+      if (!notModified && !isSuccessful(response)) {
         // The provided error handler is expected to throw, but a RESTException.java is thrown if
-        // not.
-        throwFailure(response, responseBody, errorHandler);
+        // not. The error responses are always in JSON.
+        throwFailure(
+            response,
+            responseBody == null ? null : new String(responseBody, StandardCharsets.UTF_8),
+            errorHandler);
       }
 
       if (responseBody == null) {
@@ -388,7 +512,7 @@ public class HTTPClient implements RESTClient {
       }
 
       try {
-        return mapper.readValue(responseBody, responseType);
+        return responseMapper.readValue(responseBody, responseType);
       } catch (JsonProcessingException e) {
         throw new RESTException(
             e,
@@ -401,6 +525,86 @@ public class HTTPClient implements RESTClient {
     }
   }
 
+  private <T> T parseResponseStream(ClassicHttpResponse response, Class<T> responseType)
+      throws IOException {
+    ObjectMapper responseMapper = responseMapper(response);
+    try (InputStream content = response.getEntity().getContent();
+        JsonParser parser = responseMapper.getFactory().createParser(content)) {
+      return responseMapper.readValue(parser, responseType);
+    } catch (JsonProcessingException e) {
+      throw new RESTException(
+          e,
+          "Received a success response code of %d, but failed to parse response body into %s",
+          response.getCode(),
+          responseType.getSimpleName());
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private ClassicHttpResponse sendRequest(HttpUriRequestBase request) throws IOException {
+    if (http2Client == null) {
+      return httpClient.execute(request);
+    }
+
+    SimpleRequestBuilder requestBuilder =
+        SimpleRequestBuilder.create(request.getMethod()).setHeaders(request.getHeaders());
+    try {
+      requestBuilder.setUri(request.getUri());
+    } catch (URISyntaxException e) {
+      throw new RESTException(e, "Invalid request URI: %s", request.getRequestUri());
+    }
+    HttpEntity entity = request.getEntity();
+    if (entity != null) {
+      requestBuilder.setBody(
+          EntityUtils.toByteArray(entity), ContentType.parse(entity.getContentType()));
+    }
+
+    SimpleHttpResponse response;
+    try {
+      response = http2Client.execute(requestBuilder.build(), null).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the HTTP/2 response");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+    }
+
+    // Adapt the buffered response, so that it's processed in the same way as HTTP/1.1.
+    BasicClassicHttpResponse classicResponse =
+        new BasicClassicHttpResponse(response.getCode(), response.getReasonPhrase());
+    classicResponse.setHeaders(response.getHeaders());
+    if (response.getBodyBytes() != null) {
+      classicResponse.setEntity(
+          new ByteArrayEntity(response.getBodyBytes(), response.getContentType()));
+    }
+    return classicResponse;
+  }
+
+  // The response depends on who asks and in which format, so a body cached for one principal is
+  // never revalidated on behalf of another. The credentials are hashed rather than kept in the key.
+  private static String responseCacheKey(URI requestUri, HttpUriRequestBase request) {
+    Header authorization = request.getFirstHeader(AuthConstants.HTTP_HEADER_AUTHORIZATION);
+    Header accept = request.getFirstHeader(HttpHeaders.ACCEPT);
+    String credentials =
+        authorization == null
+            ? ""
+            : Hashing.sha256()
+                .hashString(authorization.getValue(), StandardCharsets.UTF_8)
+                .toString();
+    return requestUri + "|" + (accept == null ? "" : accept.getValue()) + "|" + credentials;
+  }
+
+  private void cacheResponse(
+      String cacheKey, ClassicHttpResponse response, byte[] body, ObjectMapper bodyMapper) {
+    Header eTag = response.getFirstHeader(HttpHeaders.ETAG);
+    if (response.getCode() == HttpStatus.SC_OK && eTag != null && body != null) {
+      responseCache.put(cacheKey, new CachedResponse(eTag.getValue(), body, bodyMapper));
+    } else {
+      responseCache.remove(cacheKey);
+    }
+  }
+
   private synchronized void performPreConnectHandler() {
     // beforeConnectHandler is a pre-connection handler that needs to be executed before the first
     // HTTP request. if the handler execute fails, we set the status to Start to retry the handler.
@@ -647,7 +851,8 @@ public class HTTPClient implements RESTClient {
     // Some systems require the Content-Type header to be set even for empty-bodied requests to
     // avoid failures.
     request.setHeader(HttpHeaders.CONTENT_TYPE, bodyMimeType);
-    request.setHeader(HttpHeaders.ACCEPT, VERSION_HEADER);
+    request.setHeader(
+        HttpHeaders.ACCEPT, smileMapper != null ? SMILE_ACCEPT_HEADER : VERSION_HEADER);
     requestHeaders.forEach(request::setHeader);
   }
 
@@ -661,7 +866,11 @@ public class HTTPClient implements RESTClient {
     if (authDataProvider != null) {
       authDataProvider.close();
     }
-    httpClient.close(CloseMode.GRACEFUL);
+    if (http2Client != null) {
+      http2Client.close(CloseMode.GRACEFUL);
+    } else {
+      httpClient.close(CloseMode.GRACEFUL);
+    }
   }
 
   /**
@@ -689,6 +898,10 @@ public class HTTPClient implements RESTClient {
     private ObjectMapper mapper = ObjectMapperProvider.objectMapper();
     private AuthDataProvider authDataProvider;
     private Runnable beforeConnectHandler;
+    private int responseCacheSize = DEFAULT_RESPONSE_CACHE_SIZE;
+    private boolean contentCompression = true;
+    private boolean http2 = false;
+    private boolean smile = false;
 
     private Builder(Map<String, String> properties) {
       this.properties = properties;
@@ -763,6 +976,58 @@ public class HTTPClient implements RESTClient {
       return this;
     }
 
+    /**
+     * Sets the maximum number of GET responses cached by the HTTP client. A cached response is
+     * revalidated with its ETag, and the server only sends a new body if the resource changed.
+     *
+     * @param responseCacheSize The maximum number of cached responses, 0 to disable the cache.
+     * @return This Builder instance for method chaining.
+     */
+    public Builder withResponseCacheSize(int responseCacheSize) {
+      Preconditions.checkArgument(
+          responseCacheSize >= 0, "Invalid response cache size: %s", responseCacheSize);
+      this.responseCacheSize = responseCacheSize;
+      return this;
+    }
+
+    /**
+     * Sets whether the HTTP client requests compressed responses from the server. The compressed
+     * responses are decompressed transparently. The content compression is enabled by default.
+     *
+     * @param contentCompression Whether to enable the content compression.
+     * @return This Builder instance for method chaining.
+     */
+    public Builder withContentCompression(boolean contentCompression) {
+      this.contentCompression = contentCompression;
+      return this;
+    }
+
+    /**
+     * Sets whether the HTTP client sends the requests over HTTP/2. The concurrent requests are
+     * multiplexed over one connection to the server, which must enable HTTP/2. The content
+     * compression is not supported by the HTTP/2 transport.
+     *
+     * @param http2 Whether to enable HTTP/2.
+     * @return This Builder instance for method chaining.
+     */
+    public Builder withHttp2(boolean http2) {
+      this.http2 = http2;
+      return this;
+    }
+
+    /**
+     * Sets whether the HTTP client accepts responses in the binary Smile format, which are smaller
+     * and cheaper to parse than JSON. A server not supporting Smile answers in JSON, and the error
+     * responses are always in JSON. Smile is disabled by default.
+     *
+     * @param smile Whether to accept Smile responses.
+     * @return This Builder instance for method chaining.
+     */
+    public Builder withSmile(boolean smile) {
+      this.smile = smile;
+      return this;
+    }
+
     /**
      * Builds and returns an instance of the HTTPClient with the configured options.
      *
@@ -770,7 +1035,16 @@ public class HTTPClient implements RESTClient {
      */
     public HTTPClient build() {
 
-      return new HTTPClient(uri, baseHeaders, mapper, authDataProvider, beforeConnectHandler);
+      return new HTTPClient(
+          uri,
+          baseHeaders,
+          mapper,
+          authDataProvider,
+          beforeConnectHandler,
+          responseCacheSize,
+          contentCompression,
+          http2,
+          smile);
     }
   }
 
@@ -785,4 +1059,17 @@ public class HTTPClient implements RESTClient {
   private StringEntity toFormEncoding(Map<?, ?> formData) {
     return new StringEntity(RESTUtils.encodeFormData(formData));
   }
+
+  private static class CachedResponse {
+    private final String eTag;
+    private final byte[] body;
+    // The mapper of the body format, JSON or Smile.
+    private final ObjectMapper mapper;
+
+    private CachedResponse(String eTag, byte[] body, ObjectMapper mapper) {
+      this.eTag = eTag;
+      this.body = body;
+      this.mapper = mapper;
+    }
+  }
 }
@@ -22,6 +22,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -36,6 +37,7 @@ import org.apache.gravitino.dto.requests.TopicUpdateRequest;
 import org.apache.gravitino.dto.requests.TopicUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
+import org.apache.gravitino.dto.responses.TopicListResponse;
 import org.apache.gravitino.dto.responses.TopicResponse;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTopicException;
@@ -101,6 +103,35 @@ class MessagingCatalog extends BaseSchemaCatalog implements TopicCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List all the topics with their information under the given namespace.
+   *
+   * @param namespace The namespace to list topics under it. This namespace should have 1 level,
+   *     which is the schema name;
+   * @return An array of {@link Topic} under the given namespace.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  @Override
+  public Topic[] listTopicsInfo(Namespace namespace) throws NoSuchSchemaException {
+    checkTopicNamespace(namespace);
+
+    Namespace fullNamespace = getTopicFullNamespace(namespace);
+    Map<String, String> params = new HashMap<>();
+    params.put("details", "true");
+    TopicListResponse resp =
+        restClient.get(
+            formatTopicRequestPath(fullNamespace),
+            params,
+            TopicListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.topicErrorHandler());
+    resp.validate();
+
+    return Arrays.stream(resp.getTopics())
+        .map(topic -> new GenericTopic(topic, restClient, fullNamespace))
+        .toArray(Topic[]::new);
+  }
+
   /**
    * Load the topic with the given identifier.
    *
@@ -19,6 +19,8 @@
 package org.apache.gravitino.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -28,9 +30,11 @@ import java.util.stream.Collectors;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
 import org.apache.gravitino.dto.MetalakeDTO;
+import org.apache.gravitino.dto.SchemaDTO;
 import org.apache.gravitino.dto.requests.CatalogCreateRequest;
 import org.apache.gravitino.dto.requests.CatalogUpdateRequest;
 import org.apache.gravitino.dto.requests.CatalogUpdatesRequest;
@@ -38,6 +42,7 @@ import org.apache.gravitino.dto.requests.MetalakeCreateRequest;
 import org.apache.gravitino.dto.requests.TagCreateRequest;
 import org.apache.gravitino.dto.requests.TagUpdateRequest;
 import org.apache.gravitino.dto.requests.TagUpdatesRequest;
+import org.apache.gravitino.dto.responses.BatchResponse;
 import org.apache.gravitino.dto.responses.CatalogListResponse;
 import org.apache.gravitino.dto.responses.CatalogResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
@@ -45,12 +50,14 @@ import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.dto.responses.MetalakeResponse;
 import org.apache.gravitino.dto.responses.NameListResponse;
+import org.apache.gravitino.dto.responses.SchemaResponse;
 import org.apache.gravitino.dto.responses.TagListResponse;
 import org.apache.gravitino.dto.responses.TagResponse;
 import org.apache.gravitino.dto.tag.TagDTO;
 import org.apache.gravitino.exceptions.CatalogAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchMetalakeException;
+import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.exceptions.NoSuchTagException;
 import org.apache.gravitino.exceptions.RESTException;
 import org.apache.gravitino.exceptions.TagAlreadyExistsException;
@@ -701,6 +708,71 @@ public class TestGravitinoMetalake extends TestBase {
     Assertions.assertTrue(ex1.getMessage().contains("mock error"));
   }
 
+  @Test
+  public void testBatch() throws JsonProcessingException {
+    String path = "/api/metalakes/" + metalakeName + "/batch";
+    SchemaDTO schema =
+        SchemaDTO.builder()
+            .withName("schema1")
+            .withComment("comment")
+            .withAudit(
+                AuditDTO.builder().withCreator("creator").withCreateTime(Instant.now()).build())
+            .build();
+    ObjectMapper mapper = ObjectMapperProvider.objectMapper();
+    BatchResponse resp =
+        new BatchResponse(
+            new JsonNode[] {
+              mapper.valueToTree(new SchemaResponse(schema)),
+              mapper.valueToTree(
+                  ErrorResponse.notFound(NoSuchTableException.class.getSimpleName(), "mock error")),
+              mapper.valueToTree(new DropResponse(true))
+            });
+    buildMockResource(Method.POST, path, null, resp, HttpStatus.SC_OK);
+
+    Batch batch =
+        gravitinoClient
+            .batch()
+            .createSchema(NameIdentifier.of("catalog1", "schema1"), "comment", null)
+            .loadTable(NameIdentifier.of("catalog1", "schema1", "table1"))
+            .dropTable(NameIdentifier.of("catalog1", "schema1", "table2"));
+    Assertions.assertEquals(3, batch.size());
+    Batch.Result[] results = batch.execute();
+    Assertions.assertEquals(3, results.length);
+
+    Assertions.assertTrue(results[0].succeeded());
+    Schema created = results[0].value();
+    Assertions.assertEquals("schema1", created.name());
+
+    Assertions.assertFalse(results[1].succeeded());
+    Assertions.assertInstanceOf(NoSuchTableException.class, results[1].error());
+    Assertions.assertThrows(NoSuchTableException.class, results[1]::value);
+
+    Assertions.assertTrue(results[2].succeeded());
+    Assertions.assertTrue(results[2].<Boolean>value());
+
+    // Test illegal identifier
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> gravitinoClient.batch().loadTable(NameIdentifier.of("catalog1", "table1")));
+
+    // Test empty batch
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> gravitinoClient.batch().execute());
+
+    // Test internal error
+    ErrorResponse errorResp = ErrorResponse.internalError("mock error");
+    buildMockResource(Method.POST, path, null, errorResp, HttpStatus.SC_INTERNAL_SERVER_ERROR);
+    Throwable ex =
+        Assertions.assertThrows(
+            RuntimeException.class,
+            () ->
+                gravitinoClient
+                    .batch()
+                    .loadSchema(NameIdentifier.of("catalog1", "schema1"))
+                    .execute());
+    Assertions.assertTrue(ex.getMessage().contains("mock error"));
+  }
+
   static GravitinoMetalake createMetalake(GravitinoAdminClient client, String metalakeName)
       throws JsonProcessingException {
     MetalakeDTO mockMetalake =
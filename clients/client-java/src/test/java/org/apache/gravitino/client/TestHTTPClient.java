@@ -31,11 +31,15 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 import org.apache.gravitino.dto.responses.ErrorResponse;
 import org.apache.gravitino.exceptions.NotFoundException;
 import org.apache.gravitino.rest.RESTRequest;
@@ -48,6 +52,7 @@ import org.junit.jupiter.api.Test;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
+import org.mockserver.verify.VerificationTimes;
 
 /**
  * * Exercises the RESTClient interface, specifically over a mocked-server using the actual
@@ -127,6 +132,164 @@ public class TestHTTPClient {
     testHttpMethodOnFailure(Method.HEAD, false, false);
   }
 
+  @Test
+  public void testGetWithETag() throws JsonProcessingException {
+    Item body = new Item(1L, "etag");
+    String path = "GET_etag";
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new RuntimeException("Failure response")).when(onError).accept(any());
+
+    mockServer
+        .when(request("/" + path).withMethod("GET").withHeader("If-None-Match", "\"v1\""))
+        .respond(response().withStatusCode(304).withHeader("ETag", "\"v1\""));
+    mockServer
+        .when(request("/" + path).withMethod("GET"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("ETag", "\"v1\"")
+                .withBody(MAPPER.writeValueAsString(body)));
+
+    Assertions.assertEquals(body, doExecuteRequest(Method.GET, path, null, onError, h -> {}));
+    // The second request is revalidated and the cached body is returned
+    Assertions.assertEquals(body, doExecuteRequest(Method.GET, path, null, onError, h -> {}));
+    mockServer.verify(
+        request("/" + path).withMethod("GET").withHeader("If-None-Match", "\"v1\""),
+        VerificationTimes.once());
+    verify(onError, never()).accept(any());
+  }
+
+  @Test
+  public void testETagCachePerPrincipal() throws IOException {
+    Item body = new Item(4L, "principal");
+    String path = "GET_principal_etag";
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new RuntimeException("Failure response")).when(onError).accept(any());
+
+    mockServer
+        .when(request("/" + path).withMethod("GET").withHeader("If-None-Match", "\"v1\""))
+        .respond(response().withStatusCode(304).withHeader("ETag", "\"v1\""));
+    mockServer
+        .when(request("/" + path).withMethod("GET"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("ETag", "\"v1\"")
+                .withBody(MAPPER.writeValueAsString(body)));
+
+    AtomicReference<String> token = new AtomicReference<>("Basic user1");
+    AuthDataProvider authDataProvider =
+        new AuthDataProvider() {
+          @Override
+          public boolean hasTokenData() {
+            return true;
+          }
+
+          @Override
+          public byte[] getTokenData() {
+            return token.get().getBytes(StandardCharsets.UTF_8);
+          }
+
+          @Override
+          public void close() {}
+        };
+    try (HTTPClient client =
+        HTTPClient.builder(ImmutableMap.of())
+            .uri(String.format("http://127.0.0.1:%d", mockServer.getPort()))
+            .withAuthDataProvider(authDataProvider)
+            .build()) {
+      Assertions.assertEquals(body, client.get(path, Item.class, ImmutableMap.of(), onError));
+      // Another principal doesn't revalidate the response cached for the first one
+      token.set("Basic user2");
+      Assertions.assertEquals(body, client.get(path, Item.class, ImmutableMap.of(), onError));
+      token.set("Basic user1");
+      Assertions.assertEquals(body, client.get(path, Item.class, ImmutableMap.of(), onError));
+    }
+    mockServer.verify(
+        request("/" + path)
+            .withMethod("GET")
+            .withHeader("Authorization", "Basic user2")
+            .withHeader("If-None-Match", "\"v1\""),
+        VerificationTimes.never());
+    mockServer.verify(
+        request("/" + path)
+            .withMethod("GET")
+            .withHeader("Authorization", "Basic user1")
+            .withHeader("If-None-Match", "\"v1\""),
+        VerificationTimes.once());
+    verify(onError, never()).accept(any());
+  }
+
+  @Test
+  public void testGetSmileResponse() throws IOException {
+    Item body = new Item(3L, "smile");
+    String path = "GET_smile";
+    String cachedPath = "GET_smile_etag";
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new RuntimeException("Failure response")).when(onError).accept(any());
+
+    byte[] smileBody = ObjectMapperProvider.smileMapper().writeValueAsBytes(body);
+    mockServer
+        .when(request("/" + path).withMethod("GET").withHeader("Accept", ".*x-jackson-smile.*"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("Content-Type", "application/x-jackson-smile")
+                .withBody(smileBody));
+    mockServer
+        .when(request("/" + cachedPath).withMethod("GET").withHeader("If-None-Match", "\"v1\""))
+        .respond(response().withStatusCode(304).withHeader("ETag", "\"v1\""));
+    mockServer
+        .when(
+            request("/" + cachedPath).withMethod("GET").withHeader("Accept", ".*x-jackson-smile.*"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("Content-Type", "application/x-jackson-smile")
+                .withHeader("ETag", "\"v1\"")
+                .withBody(smileBody));
+
+    try (HTTPClient smileClient =
+        HTTPClient.builder(ImmutableMap.of())
+            .uri(String.format("http://127.0.0.1:%d", mockServer.getPort()))
+            .withSmile(true)
+            .build()) {
+      Assertions.assertEquals(body, smileClient.get(path, Item.class, ImmutableMap.of(), onError));
+      Assertions.assertEquals(
+          body, smileClient.get(cachedPath, Item.class, ImmutableMap.of(), onError));
+      // The cached Smile body is reused after the revalidation
+      Assertions.assertEquals(
+          body, smileClient.get(cachedPath, Item.class, ImmutableMap.of(), onError));
+    }
+    mockServer.verify(
+        request("/" + cachedPath).withMethod("GET").withHeader("If-None-Match", "\"v1\""),
+        VerificationTimes.once());
+    verify(onError, never()).accept(any());
+  }
+
+  @Test
+  public void testGetCompressedResponse() throws IOException {
+    Item body = new Item(2L, "gzip");
+    String path = "GET_gzip";
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new RuntimeException("Failure response")).when(onError).accept(any());
+
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+      out.write(MAPPER.writeValueAsBytes(body));
+    }
+    mockServer
+        .when(request("/" + path).withMethod("GET").withHeader("Accept-Encoding", ".*gzip.*"))
+        .respond(
+            response()
+                .withStatusCode(200)
+                .withHeader("Content-Encoding", "gzip")
+                .withBody(compressed.toByteArray()));
+
+    Assertions.assertEquals(body, doExecuteRequest(Method.GET, path, null, onError, h -> {}));
+    verify(onError, never()).accept(any());
+  }
+
   public static void testHttpMethodOnSuccess(
       Method method, boolean hasRequestBody, boolean hasResponseBody)
       throws JsonProcessingException {
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.json.JsonUtils;
+
+/** Represents a change of a metadata object in the change feed. */
+@EqualsAndHashCode
+@ToString
+public class ChangeDTO {
+
+  /** The operation of a change. */
+  public enum Operation {
+    /** The object is created. */
+    CREATE,
+    /** The object is altered, including renamed. */
+    ALTER,
+    /** The object is dropped. */
+    DROP
+  }
+
+  @JsonProperty("sequence")
+  private long sequence;
+
+  @JsonProperty("operation")
+  private Operation operation;
+
+  @JsonProperty("objectType")
+  private MetadataObject.Type objectType;
+
+  @JsonProperty("identifier")
+  @JsonSerialize(using = JsonUtils.NameIdentifierSerializer.class)
+  @JsonDeserialize(using = JsonUtils.NameIdentifierDeserializer.class)
+  private NameIdentifier identifier;
+
+  @JsonProperty("eventTime")
+  private long eventTime;
+
+  /** Default constructor for Jackson deserialization. */
+  protected ChangeDTO() {}
+
+  /**
+   * Creates a new ChangeDTO.
+   *
+   * @param sequence The sequence number of the change.
+   * @param operation The operation of the change.
+   * @param objectType The type of the object changed.
+   * @param identifier The identifier of the object changed.
+   * @param eventTime The time in milliseconds of the change.
+   */
+  public ChangeDTO(
+      long sequence,
+      Operation operation,
+      MetadataObject.Type objectType,
+      NameIdentifier identifier,
+      long eventTime) {
+    this.sequence = sequence;
+    this.operation = operation;
+    this.objectType = objectType;
+    this.identifier = identifier;
+    this.eventTime = eventTime;
+  }
+
+  /** @return The sequence number of the change. */
+  public long sequence() {
+    return sequence;
+  }
+
+  /** @return The operation of the change. */
+  public Operation operation() {
+    return operation;
+  }
+
+  /** @return The type of the object changed. */
+  public MetadataObject.Type objectType() {
+    return objectType;
+  }
+
+  /** @return The identifier of the object changed, the identifier before the change for renames. */
+  public NameIdentifier identifier() {
+    return identifier;
+  }
+
+  /** @return The time in milliseconds of the change. */
+  public long eventTime() {
+    return eventTime;
+  }
+
+  /**
+   * Validates the change.
+   *
+   * @throws IllegalArgumentException If the fields are not set.
+   */
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(sequence > 0, "sequence must be positive");
+    Preconditions.checkArgument(operation != null, "operation must not be null");
+    Preconditions.checkArgument(objectType != null, "objectType must not be null");
+    Preconditions.checkArgument(identifier != null, "identifier must not be null");
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.requests;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.rest.RESTRequest;
+
+/**
+ * Represents a single operation of a {@link BatchRequest}. The request body of the create and alter
+ * operations is the same as the one of the corresponding REST API, e.g. {@link TableCreateRequest}
+ * or {@link TableUpdatesRequest} for tables.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class BatchOperationRequest implements RESTRequest {
+
+  /** The operation to execute on the metadata object. */
+  public enum Operation {
+    /** Create the metadata object. */
+    CREATE,
+    /** Load the metadata object. */
+    LOAD,
+    /** Alter the metadata object. */
+    ALTER,
+    /** Drop the metadata object. */
+    DROP
+  }
+
+  @JsonProperty("type")
+  private final MetadataObject.Type type;
+
+  @JsonProperty("operation")
+  private final Operation operation;
+
+  @JsonProperty("identifier")
+  private final String[] identifier;
+
+  @Nullable
+  @JsonProperty("request")
+  private final JsonNode request;
+
+  /**
+   * Creates a new BatchOperationRequest.
+   *
+   * @param type The type of the metadata object, only schemas and tables are supported.
+   * @param operation The operation to execute.
+   * @param identifier The levels of the metadata object name under the metalake, e.g. [catalog,
+   *     schema, table].
+   * @param request The request body of the create and alter operations, null for the others.
+   */
+  public BatchOperationRequest(
+      MetadataObject.Type type, Operation operation, String[] identifier, JsonNode request) {
+    this.type = type;
+    this.operation = operation;
+    this.identifier = identifier;
+    this.request = request;
+  }
+
+  /** This is the constructor that is used by Jackson deserializer */
+  public BatchOperationRequest() {
+    this(null, null, null, null);
+  }
+
+  /**
+   * Validates the request.
+   *
+   * @throws IllegalArgumentException If the request is invalid, this exception is thrown.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(type != null, "\"type\" field is required");
+    Preconditions.checkArgument(
+        type == MetadataObject.Type.SCHEMA || type == MetadataObject.Type.TABLE,
+        "Unsupported type %s of batch operation, only schema and table are supported",
+        type);
+    Preconditions.checkArgument(operation != null, "\"operation\" field is required");
+    int levels = type == MetadataObject.Type.SCHEMA ? 2 : 3;
+    Preconditions.checkArgument(
+        identifier != null
+            && identifier.length == levels
+            && Arrays.stream(identifier).allMatch(StringUtils::isNotBlank),
+        "\"identifier\" field of %s must have %s non-empty levels",
+        type,
+        levels);
+    Preconditions.checkArgument(
+        request != null || (operation != Operation.CREATE && operation != Operation.ALTER),
+        "\"request\" field is required for %s operation",
+        operation);
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Represents a response of a batch request. Each result is the response of the operation at the
+ * same position in the request, which is either the response of the corresponding REST API with
+ * code 0 or an {@link ErrorResponse}.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class BatchResponse extends BaseResponse {
+
+  @JsonProperty("results")
+  private final JsonNode[] results;
+
+  /**
+   * Creates a new BatchResponse.
+   *
+   * @param results The results of the operations.
+   */
+  public BatchResponse(JsonNode[] results) {
+    super(0);
+    this.results = results;
+  }
+
+  /**
+   * This is the constructor that is used by Jackson deserializer to create an instance of
+   * BatchResponse.
+   */
+  public BatchResponse() {
+    super();
+    this.results = null;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if results are not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(results != null, "results must be non-null");
+    for (JsonNode result : results) {
+      Preconditions.checkArgument(
+          result != null && result.has("code"), "result must have a 'code' field");
+    }
+  }
+}
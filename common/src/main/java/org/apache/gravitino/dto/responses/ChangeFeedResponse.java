@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.dto.ChangeDTO;
+
+/**
+ * Represents a response of the change feed. The client reads the next changes with the epoch and
+ * the latest sequence of the response. If the response is a reset, the changes since the last read
+ * are not complete, and the client should invalidate all its cached metadata of the metalake.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class ChangeFeedResponse extends BaseResponse {
+
+  @JsonProperty("epoch")
+  private final String epoch;
+
+  @JsonProperty("latestSequence")
+  private final long latestSequence;
+
+  @JsonProperty("reset")
+  private final boolean reset;
+
+  @JsonProperty("changes")
+  private final ChangeDTO[] changes;
+
+  /**
+   * Creates a new ChangeFeedResponse.
+   *
+   * @param epoch The epoch of the change feed, which changes when the server restarts.
+   * @param latestSequence The sequence to read the next changes after.
+   * @param reset Whether the client should invalidate all its cached metadata.
+   * @param changes The changes read.
+   */
+  public ChangeFeedResponse(String epoch, long latestSequence, boolean reset, ChangeDTO[] changes) {
+    super(0);
+    this.epoch = epoch;
+    this.latestSequence = latestSequence;
+    this.reset = reset;
+    this.changes = changes;
+  }
+
+  /**
+   * This is the constructor that is used by Jackson deserializer to create an instance of
+   * ChangeFeedResponse.
+   */
+  public ChangeFeedResponse() {
+    super();
+    this.epoch = null;
+    this.latestSequence = 0;
+    this.reset = false;
+    this.changes = null;
+  }
+
+  /**
+   * Validates the response data.
+   *
+   * @throws IllegalArgumentException if the epoch or the changes are not set.
+   */
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(epoch != null, "epoch must be non-null");
+    Preconditions.checkArgument(latestSequence >= 0, "latestSequence must be non-negative");
+    Preconditions.checkArgument(changes != null, "changes must be non-null");
+    for (ChangeDTO change : changes) {
+      change.validate();
+    }
+  }
+}
@@ -20,6 +20,7 @@ plugins {
   `maven-publish`
   id("java")
   id("idea")
+  alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -58,6 +59,10 @@ dependencies {
   testRuntimeOnly(libs.junit.jupiter.engine)
 }
 
+jmh {
+  jmhVersion.set(libs.versions.jmh.get())
+}
+
 tasks.test {
   val testMode = project.properties["testMode"] as? String ?: "embedded"
   if (testMode == "embedded") {
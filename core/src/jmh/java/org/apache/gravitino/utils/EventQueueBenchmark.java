@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.utils;
+
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the throughput of the event queues of the async listeners: a {@link LinkedBlockingQueue}
+ * and a {@link RingBufferQueue} with each wait strategy. Four producers offer the events and one
+ * consumer polls them, like the request threads and the dispatcher thread. Run it with {@code
+ * ./gradlew :core:jmh}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class EventQueueBenchmark {
+
+  private static final Object EVENT = new Object();
+
+  @Param({"linked", "blocking", "yielding", "busy_spin"})
+  private String queue;
+
+  @Param({"3000"})
+  private int capacity;
+
+  private BlockingQueue<Object> events;
+
+  @Setup
+  public void setup() {
+    if ("linked".equals(queue)) {
+      events = new LinkedBlockingQueue<>(capacity);
+    } else {
+      events =
+          new RingBufferQueue<>(
+              capacity,
+              RingBufferQueue.WaitStrategy.valueOf(queue.toUpperCase(Locale.ROOT)),
+              RingBufferQueue.OverflowPolicy.DROP_NEWEST,
+              0,
+              e -> {});
+    }
+  }
+
+  @Benchmark
+  @Group("queue")
+  @GroupThreads(4)
+  public boolean offer() {
+    return events.offer(EVENT);
+  }
+
+  @Benchmark
+  @Group("queue")
+  @GroupThreads(1)
+  public void poll(Blackhole blackhole) throws InterruptedException {
+    // A bounded wait, so the consumer doesn't hang when the producers stop at the end of a trial.
+    blackhole.consume(events.poll(1, TimeUnit.MILLISECONDS));
+  }
+}
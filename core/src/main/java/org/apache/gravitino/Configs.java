@@ -22,6 +22,7 @@ import com.google.common.collect.Lists;
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.config.ConfigBuilder;
 import org.apache.gravitino.config.ConfigConstants;
@@ -166,6 +167,52 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_PATH);
 
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_CHANGE_POLL_ENABLED =
+      new ConfigBuilder("gravitino.entity.store.relational.changeLog.pollEnabled")
+          .doc(
+              "Whether to poll the entity change log to invalidate the caches after the changes"
+                  + " made by the other servers sharing the database")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_CHANGE_POLL_INTERVAL_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.changeLog.pollIntervalMs")
+          .doc("The interval in milliseconds to poll the entity change log")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_CHANGE_LOG_RETENTION_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.changeLog.retentionMs")
+          .doc(
+              "The time in milliseconds the entity changes are kept in the change log before"
+                  + " the garbage collector deletes them")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60 * 60 * 1000L);
+
+  public static final ConfigEntry<Boolean> ENTITY_RELATIONAL_LEADER_ELECTION_ENABLED =
+      new ConfigBuilder("gravitino.entity.store.relational.leaderElection.enabled")
+          .doc(
+              "Whether the servers sharing the database elect a leader by a lease in the database,"
+                  + " the singleton background jobs only run on the leader")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_LEADER_LEASE_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.leaderElection.leaseMs")
+          .doc(
+              "The time in milliseconds the leader lease lasts without renewal, another server"
+                  + " takes over the leadership within it after the leader fails")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(30 * 1000L);
+
   public static final ConfigEntry<String> ENTITY_KV_ROCKSDB_BACKEND_PATH =
       new ConfigBuilder(ENTITY_KV_ROCKSDB_BACKEND_PATH_KEY)
           .doc(
@@ -191,6 +238,80 @@ public class Configs {
           .longConf()
           .createWithDefault(60 * 60 * 1000L);
 
+  public static final ConfigEntry<Long> CATALOG_PARTITION_TABLE_CACHE_EXPIRE_MS =
+      new ConfigBuilder("gravitino.catalog.partitionTableCache.expireMs")
+          .doc(
+              "The time in milliseconds to cache the table handle used by partition operations, "
+                  + "0 means the table is loaded for every partition operation")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5 * 1000L);
+
+  public static final ConfigEntry<Boolean> CATALOG_ASYNC_IMPORT_ENABLED =
+      new ConfigBuilder("gravitino.catalog.asyncImport.enabled")
+          .doc(
+              "Whether to re-import the tables whose entities don't match the external systems "
+                  + "asynchronously when they are loaded, the tables without entities are always "
+                  + "imported synchronously")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Integer> CATALOG_ASYNC_IMPORT_QUEUE_CAPACITY =
+      new ConfigBuilder("gravitino.catalog.asyncImport.queueCapacity")
+          .doc(
+              "The capacity of the queue to import tables asynchronously, the tables are imported "
+                  + "synchronously when the queue is full")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000);
+
+  public static final ConfigEntry<Boolean> CATALOG_CRAWLER_ENABLED =
+      new ConfigBuilder("gravitino.catalog.crawler.enabled")
+          .doc(
+              "Whether to crawl the catalogs periodically in background to import the schemas, "
+                  + "tables and topics created by external systems, and delete the dropped ones from "
+                  + "the store")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> CATALOG_CRAWLER_INTERVAL_MS =
+      new ConfigBuilder("gravitino.catalog.crawler.intervalMs")
+          .doc("The interval in milliseconds between two crawls of the catalogs")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60 * 60 * 1000L);
+
+  public static final ConfigEntry<Integer> CATALOG_CRAWLER_PARALLELISM =
+      new ConfigBuilder("gravitino.catalog.crawler.parallelism")
+          .doc("The number of catalogs crawled in parallel")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(2);
+
+  public static final ConfigEntry<Integer> CATALOG_CRAWLER_MAX_LIST_REQUESTS_PER_SECOND =
+      new ConfigBuilder("gravitino.catalog.crawler.maxListRequestsPerSecond")
+          .doc("The maximum number of listing requests sent to the catalogs per second by crawler")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10);
+
+  public static final ConfigEntry<Long> CATALOG_CRAWLER_DELETE_GRACE_PERIOD_MS =
+      new ConfigBuilder("gravitino.catalog.crawler.deleteGracePeriodMs")
+          .doc(
+              "The time in milliseconds an object must stay vanished from the catalog before the "
+                  + "crawler deletes its entity from the store")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(24 * 60 * 60 * 1000L);
+
   public static final ConfigEntry<Boolean> CATALOG_LOAD_ISOLATED =
       new ConfigBuilder("gravitino.catalog.classloader.isolated")
           .doc("Whether to load the catalog in an isolated classloader")
@@ -342,6 +463,77 @@ public class Configs {
           .intConf()
           .createWithDefault(DEFAULT_METRICS_TIME_SLIDING_WINDOW_SECONDS);
 
+  public static final ConfigEntry<List<String>> METRICS_REPORTERS =
+      new ConfigBuilder("gravitino.metrics.reporters")
+          .doc(
+              "Comma-separated list of the metrics reporters, `jmx`, `statsd`, or the class names"
+                  + " of the MetricsReporterProvider implementations")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .toSequence()
+          .createWithDefault(Collections.singletonList("jmx"));
+
+  public static final ConfigEntry<List<String>> METRICS_EXCLUDES =
+      new ConfigBuilder("gravitino.metrics.excludes")
+          .doc(
+              "Comma-separated list of the glob patterns of the metric names not reported, `*`"
+                  + " matches any characters")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .toSequence()
+          .createWithDefault(Collections.emptyList());
+
+  public static final ConfigEntry<List<String>> METRICS_INCLUDES =
+      new ConfigBuilder("gravitino.metrics.includes")
+          .doc(
+              "Comma-separated list of the glob patterns of the metric names reported even if they"
+                  + " match the excludes")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .toSequence()
+          .createWithDefault(Collections.emptyList());
+
+  public static final ConfigEntry<Long> METRICS_PROMETHEUS_CACHE_MS =
+      new ConfigBuilder("gravitino.metrics.prometheus.cacheMs")
+          .doc(
+              "The time in milliseconds the Prometheus metrics are cached between the scrapes, 0"
+                  + " means collecting them for every scrape")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<String> METRICS_STATSD_HOST =
+      new ConfigBuilder("gravitino.metrics.statsd.host")
+          .doc("The host of the StatsD server the statsd reporter sends the metrics to")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault("localhost");
+
+  public static final ConfigEntry<Integer> METRICS_STATSD_PORT =
+      new ConfigBuilder("gravitino.metrics.statsd.port")
+          .doc("The UDP port of the StatsD server")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8125);
+
+  public static final ConfigEntry<String> METRICS_STATSD_PREFIX =
+      new ConfigBuilder("gravitino.metrics.statsd.prefix")
+          .doc("The prefix of the metric names sent to the StatsD server")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .createWithDefault("gravitino");
+
+  public static final ConfigEntry<Long> METRICS_STATSD_PERIOD_SECS =
+      new ConfigBuilder("gravitino.metrics.statsd.periodSecs")
+          .doc("The interval in seconds the statsd reporter sends the metrics")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10L);
+
   public static final ConfigEntry<List<String>> REST_API_EXTENSION_PACKAGES =
       new ConfigBuilder("gravitino.server.rest.extensionPackages")
           .doc("Comma-separated list of REST API packages to expand")
@@ -349,4 +541,142 @@ public class Configs {
           .stringConf()
           .toSequence()
           .createWithDefault(Collections.emptyList());
+
+  public static final ConfigEntry<Optional<Integer>> REST_READ_THREADS =
+      new ConfigBuilder("gravitino.server.rest.readThreads")
+          .doc(
+              "The number of threads serving asynchronous read requests (list, load) against "
+                  + "schemas, tables, partitions, filesets and topics, 0 means serving them on "
+                  + "the web server threads. The maximum threads of the web server by default")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithOptional();
+
+  public static final ConfigEntry<Integer> REST_WRITE_THREADS =
+      new ConfigBuilder("gravitino.server.rest.writeThreads")
+          .doc(
+              "The number of threads serving asynchronous write requests (create, alter, drop) "
+                  + "against schemas, tables, partitions, filesets and topics, 0 means serving "
+                  + "them on the web server threads")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(16);
+
+  public static final ConfigEntry<Integer> REST_QUEUE_SIZE =
+      new ConfigBuilder("gravitino.server.rest.queueSize")
+          .doc(
+              "The maximum number of asynchronous requests waiting for each executor, requests "
+                  + "beyond it are rejected with 503")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
+  public static final ConfigEntry<Integer> REST_BATCH_THREADS =
+      new ConfigBuilder("gravitino.server.rest.batchThreads")
+          .doc(
+              "The number of threads executing the operations of batch requests, 0 means "
+                  + "executing them on the thread serving the batch request")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(16);
+
+  public static final ConfigEntry<Integer> REST_BATCH_PARALLELISM =
+      new ConfigBuilder("gravitino.server.rest.batchParallelism")
+          .doc("The maximum number of operations of a single batch request executed in parallel")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8);
+
+  public static final ConfigEntry<Integer> REST_BATCH_MAX_OPERATIONS =
+      new ConfigBuilder("gravitino.server.rest.batchMaxOperations")
+          .doc("The maximum number of operations of a single batch request")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
+  public static final ConfigEntry<Long> REST_SLOW_REQUEST_THRESHOLD_MS =
+      new ConfigBuilder("gravitino.server.rest.slowRequestThresholdMs")
+          .doc(
+              "The time in milliseconds beyond which a request is logged with the breakdown of its "
+                  + "time by stage, 0 means not logging the slow requests")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(3000L);
+
+  public static final ConfigEntry<Boolean> REST_SERVER_TIMING_ENABLED =
+      new ConfigBuilder("gravitino.server.rest.serverTiming.enabled")
+          .doc("Whether to return the breakdown of the request time in the Server-Timing header")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Boolean> REST_ACCESS_LOG_ENABLED =
+      new ConfigBuilder("gravitino.server.rest.accessLog.enabled")
+          .doc("Whether to write a record of each REST request to the access log")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Integer> REST_ACCESS_LOG_BUFFER_SIZE =
+      new ConfigBuilder("gravitino.server.rest.accessLog.bufferSize")
+          .doc(
+              "The number of access log records buffered for the background writer, rounded up to"
+                  + " a power of two")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(8192);
+
+  public static final ConfigEntry<Integer> REST_ACCESS_LOG_SAMPLE_RATIO =
+      new ConfigBuilder("gravitino.server.rest.accessLog.sampleRatio")
+          .doc(
+              "Write one of every N successful requests to the access log on average, the failed"
+                  + " requests are always written")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  public static final ConfigEntry<Boolean> REST_ACCESS_LOG_DROP_ON_OVERFLOW =
+      new ConfigBuilder("gravitino.server.rest.accessLog.dropOnOverflow")
+          .doc(
+              "Whether to drop the access log records when the buffer is full, otherwise they are"
+                  + " written by the request threads")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Boolean> CHANGE_FEED_ENABLED =
+      new ConfigBuilder("gravitino.server.rest.changeFeed.enabled")
+          .doc(
+              "Whether to keep the recent changes of the metadata objects for the change feed"
+                  + " endpoint")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Integer> CHANGE_FEED_CAPACITY =
+      new ConfigBuilder("gravitino.server.rest.changeFeed.capacity")
+          .doc(
+              "The number of the recent changes kept for the change feed, a client falling"
+                  + " further behind must reset its cache")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000);
+
+  public static final ConfigEntry<Long> CHANGE_FEED_MAX_WAIT_MS =
+      new ConfigBuilder("gravitino.server.rest.changeFeed.maxWaitMs")
+          .doc("The maximum time in milliseconds a change feed request waits for the changes")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60000L);
 }
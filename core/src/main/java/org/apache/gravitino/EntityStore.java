@@ -21,9 +21,13 @@ package org.apache.gravitino;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.storage.EntityChangeListener;
+import org.apache.gravitino.storage.LeaderElector;
 import org.apache.gravitino.tag.SupportsTagOperations;
 import org.apache.gravitino.utils.Executable;
 
@@ -204,4 +208,31 @@ public interface EntityStore extends Closeable {
   default SupportsRelationOperations relationOperations() {
     throw new UnsupportedOperationException("relation operations are not supported");
   }
+
+  /**
+   * Add a listener of the entity changes made by the other servers sharing the storage with this
+   * one. It does nothing if the entity store doesn't support it.
+   *
+   * @param listener the listener to be notified of the changed entities
+   */
+  default void addEntityChangeListener(EntityChangeListener listener) {}
+
+  /**
+   * Get the elector of the server running the singleton background jobs among the servers sharing
+   * the storage. The server is always the leader if the entity store doesn't support it.
+   *
+   * @return the leader elector of the entity store
+   */
+  default LeaderElector leaderElector() {
+    return LeaderElector.ALWAYS_LEADER;
+  }
+
+  /**
+   * Get the metrics source of the entity store operations.
+   *
+   * @return the metrics source, or empty if the entity store doesn't collect metrics
+   */
+  default Optional<MetricsSource> metricsSource() {
+    return Optional.empty();
+  }
 }
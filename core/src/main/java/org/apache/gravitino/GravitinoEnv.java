@@ -23,6 +23,7 @@ import org.apache.gravitino.authorization.AccessControlDispatcher;
 import org.apache.gravitino.authorization.AccessControlManager;
 import org.apache.gravitino.authorization.OwnerManager;
 import org.apache.gravitino.auxiliary.AuxiliaryServiceManager;
+import org.apache.gravitino.catalog.CatalogCrawler;
 import org.apache.gravitino.catalog.CatalogDispatcher;
 import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.catalog.CatalogNormalizeDispatcher;
@@ -49,6 +50,7 @@ import org.apache.gravitino.hook.SchemaHookDispatcher;
 import org.apache.gravitino.hook.TableHookDispatcher;
 import org.apache.gravitino.hook.TopicHookDispatcher;
 import org.apache.gravitino.listener.CatalogEventDispatcher;
+import org.apache.gravitino.listener.ChangeFeed;
 import org.apache.gravitino.listener.EventBus;
 import org.apache.gravitino.listener.EventListenerManager;
 import org.apache.gravitino.listener.FilesetEventDispatcher;
@@ -64,6 +66,7 @@ import org.apache.gravitino.metalake.MetalakeNormalizeDispatcher;
 import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.metrics.source.JVMMetricsSource;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.storage.LeaderElector;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.tag.TagManager;
 import org.slf4j.Logger;
@@ -88,6 +91,10 @@ public class GravitinoEnv {
 
   private TableDispatcher tableDispatcher;
 
+  private TableOperationDispatcher tableOperationDispatcher;
+
+  private CatalogCrawler catalogCrawler;
+
   private PartitionDispatcher partitionDispatcher;
 
   private FilesetDispatcher filesetDispatcher;
@@ -110,6 +117,7 @@ public class GravitinoEnv {
 
   private TagManager tagManager;
   private EventBus eventBus;
+  private ChangeFeed changeFeed;
   private OwnerManager ownerManager;
 
   protected GravitinoEnv() {}
@@ -256,6 +264,16 @@ public class GravitinoEnv {
     return eventBus;
   }
 
+  /**
+   * Get the ChangeFeed associated with the Gravitino environment.
+   *
+   * @return The ChangeFeed instance.
+   */
+  public ChangeFeed changeFeed() {
+    Preconditions.checkArgument(changeFeed != null, "GravitinoEnv is not initialized.");
+    return changeFeed;
+  }
+
   /**
    * Get the MetricsSystem associated with the Gravitino environment.
    *
@@ -269,6 +287,16 @@ public class GravitinoEnv {
     return lockManager;
   }
 
+  /**
+   * Get the LeaderElector of the servers sharing the EntityStore, the singleton background jobs
+   * only run on the leader.
+   *
+   * @return The LeaderElector instance.
+   */
+  public LeaderElector leaderElector() {
+    return entityStore != null ? entityStore.leaderElector() : LeaderElector.ALWAYS_LEADER;
+  }
+
   /**
    * Get the AccessControlDispatcher associated with the Gravitino environment.
    *
@@ -293,6 +321,10 @@ public class GravitinoEnv {
 
   public void start() {
     auxServiceManager.serviceStart();
+    if (catalogCrawler != null) {
+      metricsSystem.register(catalogCrawler.metricsSource());
+      catalogCrawler.start();
+    }
     metricsSystem.start();
     eventListenerManager.start();
   }
@@ -301,6 +333,15 @@ public class GravitinoEnv {
   public void shutdown() {
     LOG.info("Shutting down Gravitino Environment...");
 
+    // Stop crawling and importing before closing the entity store.
+    if (catalogCrawler != null) {
+      catalogCrawler.close();
+    }
+
+    if (tableOperationDispatcher != null) {
+      tableOperationDispatcher.close();
+    }
+
     if (entityStore != null) {
       try {
         entityStore.close();
@@ -333,12 +374,17 @@ public class GravitinoEnv {
   }
 
   private void initBaseComponents() {
-    this.metricsSystem = new MetricsSystem();
+    this.metricsSystem = new MetricsSystem(config);
     metricsSystem.register(new JVMMetricsSource());
 
     this.eventListenerManager = new EventListenerManager();
     eventListenerManager.init(
         config.getConfigsWithPrefix(EventListenerManager.GRAVITINO_EVENT_LISTENER_PREFIX));
+    metricsSystem.register(eventListenerManager.metricsSource());
+    this.changeFeed = new ChangeFeed(config.get(Configs.CHANGE_FEED_CAPACITY));
+    if (config.get(Configs.CHANGE_FEED_ENABLED)) {
+      eventListenerManager.addEventListener("change-feed", changeFeed);
+    }
     this.eventBus = eventListenerManager.createEventBus();
   }
 
@@ -346,6 +392,7 @@ public class GravitinoEnv {
     // Initialize EntityStore
     this.entityStore = EntityStoreFactory.createEntityStore(config);
     entityStore.initialize(config);
+    entityStore.metricsSource().ifPresent(metricsSystem::register);
 
     // create and initialize a random id generator
     this.idGenerator = new RandomIdGenerator();
@@ -359,6 +406,7 @@ public class GravitinoEnv {
 
     // Create and initialize Catalog related modules
     this.catalogManager = new CatalogManager(config, entityStore, idGenerator);
+    metricsSystem.register(catalogManager.metricsSource());
     CatalogHookDispatcher catalogHookDispatcher = new CatalogHookDispatcher(catalogManager);
     CatalogNormalizeDispatcher catalogNormalizeDispatcher =
         new CatalogNormalizeDispatcher(catalogHookDispatcher);
@@ -371,8 +419,13 @@ public class GravitinoEnv {
         new SchemaNormalizeDispatcher(schemaHookDispatcher, catalogManager);
     this.schemaDispatcher = new SchemaEventDispatcher(eventBus, schemaNormalizeDispatcher);
 
-    TableOperationDispatcher tableOperationDispatcher =
-        new TableOperationDispatcher(catalogManager, entityStore, idGenerator);
+    int asyncImportQueueCapacity =
+        config.get(Configs.CATALOG_ASYNC_IMPORT_ENABLED)
+            ? config.get(Configs.CATALOG_ASYNC_IMPORT_QUEUE_CAPACITY)
+            : 0;
+    this.tableOperationDispatcher =
+        new TableOperationDispatcher(
+            catalogManager, entityStore, idGenerator, asyncImportQueueCapacity);
     TableHookDispatcher tableHookDispatcher = new TableHookDispatcher(tableOperationDispatcher);
     TableNormalizeDispatcher tableNormalizeDispatcher =
         new TableNormalizeDispatcher(tableHookDispatcher, catalogManager);
@@ -401,6 +454,16 @@ public class GravitinoEnv {
         new TopicNormalizeDispatcher(topicHookDispatcher, catalogManager);
     this.topicDispatcher = new TopicEventDispatcher(eventBus, topicNormalizeDispatcher);
 
+    if (config.get(Configs.CATALOG_CRAWLER_ENABLED)) {
+      this.catalogCrawler =
+          new CatalogCrawler(
+              config,
+              entityStore,
+              schemaOperationDispatcher,
+              tableOperationDispatcher,
+              topicOperationDispatcher);
+    }
+
     // Create and initialize access control related modules
     boolean enableAuthorization = config.get(Configs.ENABLE_AUTHORIZATION);
     if (enableAuthorization) {
@@ -420,6 +483,7 @@ public class GravitinoEnv {
 
     // Tree lock
     this.lockManager = new LockManager(config);
+    metricsSystem.register(lockManager.metricsSource());
 
     // Tag manager
     this.tagManager = new TagManager(idGenerator, entityStore);
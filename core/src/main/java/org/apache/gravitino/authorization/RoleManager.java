@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
@@ -82,6 +83,19 @@ class RoleManager {
                             .setNameFormat("role-cleaner-%d")
                             .build())))
             .build();
+    store.addEntityChangeListener(this::onEntityChange);
+  }
+
+  // Removes the cached roles changed by the other servers sharing the entity store.
+  private void onEntityChange(NameIdentifier ident, Entity.EntityType entityType) {
+    if (entityType == Entity.EntityType.ROLE) {
+      cache.invalidate(ident);
+    } else if (entityType == Entity.EntityType.METALAKE) {
+      cache.invalidateAll(
+          cache.asMap().keySet().stream()
+              .filter(roleIdent -> roleIdent.namespace().level(0).equals(ident.name()))
+              .collect(Collectors.toList()));
+    }
   }
 
   RoleEntity createRole(
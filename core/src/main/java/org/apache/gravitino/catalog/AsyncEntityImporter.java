@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import java.io.Closeable;
+import java.security.Principal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AsyncEntityImporter imports the entities created by external systems into the entity store in a
+ * background thread, so the read path doesn't need to wait for the import. The pending entities are
+ * deduplicated, and the entities under the same parent are handed over to the batch importer
+ * together, so that the parent lock is only acquired once for each batch.
+ *
+ * <p>The entities are submitted along with the objects already loaded from the external system, so
+ * the batch importer doesn't need to load them again. The import is done on behalf of the principal
+ * who submitted the entity.
+ *
+ * @param <T> The type of the objects loaded from the external system.
+ */
+public class AsyncEntityImporter<T> implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncEntityImporter.class);
+  private static final String NAME_PREFIX = "async-entity-importer-";
+  private static final int MAX_BATCH_SIZE = 1000;
+  private static final long JOIN_TIMEOUT_MS = 3000L;
+
+  private final String importerName;
+  private final BiConsumer<NameIdentifier, Map<NameIdentifier, T>> batchImporter;
+  private final BlockingQueue<NameIdentifier> queue;
+  private final Map<NameIdentifier, PendingEntity<T>> pendingEntities = new ConcurrentHashMap<>();
+  private final Thread asyncProcessor;
+  private final AtomicBoolean stopped = new AtomicBoolean(false);
+
+  /**
+   * Creates a new AsyncEntityImporter and starts its background thread.
+   *
+   * @param name The name of the importer, used to name the background thread.
+   * @param queueCapacity The maximum number of the pending entities.
+   * @param batchImporter The function to import the entities under the same parent, the first
+   *     argument is the identifier of the parent, the second maps the entities to import to their
+   *     loaded objects, in the submission order.
+   */
+  public AsyncEntityImporter(
+      String name,
+      int queueCapacity,
+      BiConsumer<NameIdentifier, Map<NameIdentifier, T>> batchImporter) {
+    this.importerName = NAME_PREFIX + name;
+    this.batchImporter = batchImporter;
+    this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    this.asyncProcessor = new Thread(this::processImports);
+    asyncProcessor.setDaemon(true);
+    asyncProcessor.setName(importerName);
+    asyncProcessor.start();
+  }
+
+  /**
+   * Submits an entity to import. The entity is ignored if it is already waiting to be imported.
+   *
+   * @param ident The identifier of the entity to import.
+   * @param loaded The object loaded from the external system for the entity.
+   * @return true if the entity is submitted or already pending, false if the importer is stopped or
+   *     the queue is full, in which case the caller should import the entity by itself.
+   */
+  public boolean submit(NameIdentifier ident, T loaded) {
+    if (stopped.get()) {
+      return false;
+    }
+
+    PendingEntity<T> pending = new PendingEntity<>(PrincipalUtils.getCurrentPrincipal(), loaded);
+    if (pendingEntities.putIfAbsent(ident, pending) != null) {
+      return true;
+    }
+
+    if (!queue.offer(ident)) {
+      pendingEntities.remove(ident);
+      LOG.warn("{} queue is full, entity {} is not submitted", importerName, ident);
+      return false;
+    }
+
+    return true;
+  }
+
+  @Override
+  public void close() {
+    if (!stopped.compareAndSet(false, true)) {
+      return;
+    }
+
+    asyncProcessor.interrupt();
+    try {
+      asyncProcessor.join(JOIN_TIMEOUT_MS);
+    } catch (InterruptedException e) {
+      LOG.warn("{} interrupt async processor failed.", importerName, e);
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @VisibleForTesting
+  int pendingSize() {
+    return pendingEntities.size();
+  }
+
+  private void processImports() {
+    List<NameIdentifier> batch = Lists.newArrayList();
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        batch.add(queue.take());
+        queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+        importBatch(batch);
+      } catch (InterruptedException e) {
+        LOG.warn("{} import thread is interrupted.", importerName);
+        break;
+      } catch (Exception e) {
+        LOG.warn("{} throw a exception while importing entities", importerName, e);
+      } finally {
+        batch.forEach(pendingEntities::remove);
+        batch.clear();
+      }
+    }
+
+    if (!queue.isEmpty()) {
+      LOG.warn(
+          "{} drop {} entities since import thread is interrupted", importerName, queue.size());
+    }
+  }
+
+  private void importBatch(List<NameIdentifier> batch) {
+    // Group the entities by the parent and the principal, keeping the submission order.
+    Map<NameIdentifier, Map<Principal, Map<NameIdentifier, T>>> groups = new LinkedHashMap<>();
+    for (NameIdentifier ident : batch) {
+      PendingEntity<T> pending = pendingEntities.get(ident);
+      groups
+          .computeIfAbsent(
+              NameIdentifier.of(ident.namespace().levels()), k -> new LinkedHashMap<>())
+          .computeIfAbsent(pending.principal, k -> new LinkedHashMap<>())
+          .put(ident, pending.loaded);
+    }
+
+    groups.forEach(
+        (parent, principalGroups) ->
+            principalGroups.forEach(
+                (principal, idents) -> {
+                  try {
+                    PrincipalUtils.doAs(
+                        principal,
+                        () -> {
+                          batchImporter.accept(parent, idents);
+                          return null;
+                        });
+                  } catch (Exception e) {
+                    LOG.warn(
+                        "{} failed to import {} entities under {}",
+                        importerName,
+                        idents.size(),
+                        parent,
+                        e);
+                  }
+                }));
+  }
+
+  private static class PendingEntity<T> {
+    private final Principal principal;
+    private final T loaded;
+
+    private PendingEntity(Principal principal, T loaded) {
+      this.principal = principal;
+      this.loaded = loaded;
+    }
+  }
+}
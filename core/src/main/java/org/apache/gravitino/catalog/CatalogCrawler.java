@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity.EntityType;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CatalogCrawler walks the schemas, tables and topics of all the catalogs periodically in
+ * background, and reconciles the entities in the store with the objects in the underlying catalogs,
+ * so the store converges without waiting for users to touch the objects. The filesets are kept in
+ * the store by the fileset catalogs themselves, so they are not crawled.
+ *
+ * <p>The catalogs are crawled with bounded parallelism, and the listing requests sent to the
+ * underlying catalogs are rate limited. Each catalog is crawled on behalf of its creator. The
+ * entities whose objects vanish from the catalogs are only deleted after the delete grace period.
+ */
+public class CatalogCrawler implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(CatalogCrawler.class);
+
+  private final EntityStore store;
+  private final SchemaOperationDispatcher schemaDispatcher;
+  private final TableOperationDispatcher tableDispatcher;
+  private final TopicOperationDispatcher topicDispatcher;
+  private final VanishedEntities vanishedEntities;
+  private final long intervalMs;
+  private final RateLimiter listRateLimiter;
+  private final CatalogCrawlerMetricsSource metricsSource;
+
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setDaemon(true).setNameFormat("catalog-crawler-%d").build());
+  private final ExecutorService crawlPool;
+
+  public CatalogCrawler(
+      Config config,
+      EntityStore store,
+      SchemaOperationDispatcher schemaDispatcher,
+      TableOperationDispatcher tableDispatcher,
+      TopicOperationDispatcher topicDispatcher) {
+    this.store = store;
+    this.schemaDispatcher = schemaDispatcher;
+    this.tableDispatcher = tableDispatcher;
+    this.topicDispatcher = topicDispatcher;
+    this.vanishedEntities =
+        new VanishedEntities(config.get(Configs.CATALOG_CRAWLER_DELETE_GRACE_PERIOD_MS));
+    this.intervalMs = config.get(Configs.CATALOG_CRAWLER_INTERVAL_MS);
+    this.listRateLimiter =
+        RateLimiter.create(config.get(Configs.CATALOG_CRAWLER_MAX_LIST_REQUESTS_PER_SECOND));
+    this.crawlPool =
+        Executors.newFixedThreadPool(
+            config.get(Configs.CATALOG_CRAWLER_PARALLELISM),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("catalog-crawler-worker-%d")
+                .build());
+    this.metricsSource = new CatalogCrawlerMetricsSource(vanishedEntities::size);
+  }
+
+  /** Starts crawling the catalogs periodically. */
+  public void start() {
+    scheduler.scheduleWithFixedDelay(this::crawlAll, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Gets the metrics source of the crawler.
+   *
+   * @return The metrics source.
+   */
+  public CatalogCrawlerMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    crawlPool.shutdownNow();
+  }
+
+  @VisibleForTesting
+  void crawlAll() {
+    long startTime = System.currentTimeMillis();
+    List<Future<?>> futures = Lists.newArrayList();
+    try {
+      for (BaseMetalake metalake :
+          store.list(Namespace.empty(), BaseMetalake.class, EntityType.METALAKE)) {
+        Namespace catalogNs = Namespace.of(metalake.name());
+        for (CatalogEntity catalog :
+            store.list(catalogNs, CatalogEntity.class, EntityType.CATALOG)) {
+          futures.add(crawlPool.submit(() -> crawlCatalog(catalog)));
+        }
+      }
+
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      LOG.warn("Catalog crawler is interrupted");
+      futures.forEach(f -> f.cancel(true));
+      Thread.currentThread().interrupt();
+      return;
+    } catch (Exception e) {
+      LOG.error("Failed to crawl the catalogs", e);
+      return;
+    }
+
+    metricsSource.onCrawlFinished(startTime, System.currentTimeMillis());
+  }
+
+  @VisibleForTesting
+  void crawlCatalog(CatalogEntity catalog) {
+    NameIdentifier catalogIdent = catalog.nameIdentifier();
+    long startTime = System.currentTimeMillis();
+    try {
+      ReconcileResult result =
+          PrincipalUtils.doAs(
+              new UserPrincipal(catalog.auditInfo().creator()), () -> reconcileCatalog(catalog));
+      metricsSource.onCatalogCrawled(result, System.currentTimeMillis() - startTime);
+      LOG.info(
+          "Crawled catalog {} in {}ms, {}",
+          catalogIdent,
+          System.currentTimeMillis() - startTime,
+          result);
+    } catch (Exception e) {
+      metricsSource.onCatalogFailed();
+      LOG.warn("Failed to crawl catalog {}", catalogIdent, e);
+    }
+  }
+
+  private ReconcileResult reconcileCatalog(CatalogEntity catalog) throws Exception {
+    Namespace schemaNs = Namespace.of(catalog.namespace().level(0), catalog.name());
+    listRateLimiter.acquire();
+    ReconcileResult result = schemaDispatcher.reconcileSchemas(schemaNs, vanishedEntities);
+
+    if (catalog.getType() != Catalog.Type.RELATIONAL
+        && catalog.getType() != Catalog.Type.MESSAGING) {
+      return result;
+    }
+
+    for (SchemaEntity schema : store.list(schemaNs, SchemaEntity.class, EntityType.SCHEMA)) {
+      if (Thread.currentThread().isInterrupted()) {
+        throw new InterruptedException("Catalog crawler is interrupted");
+      }
+
+      Namespace objectNs = Namespace.of(schemaNs.level(0), schemaNs.level(1), schema.name());
+      listRateLimiter.acquire();
+      try {
+        result =
+            result.merge(
+                catalog.getType() == Catalog.Type.RELATIONAL
+                    ? tableDispatcher.reconcileTables(objectNs, vanishedEntities)
+                    : topicDispatcher.reconcileTopics(objectNs, vanishedEntities));
+      } catch (Exception e) {
+        // The schema may be dropped after it is listed, continue with the other schemas.
+        LOG.warn("Failed to crawl the objects of schema {}", schema.nameIdentifier(), e);
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * The metrics of {@link CatalogCrawler}. The lag is the time elapsed since the start of the last
+ * completed crawl, that is, the maximum staleness of the store caused by external changes.
+ */
+public class CatalogCrawlerMetricsSource extends MetricsSource {
+
+  private final AtomicLong lastCrawlStartTime = new AtomicLong(System.currentTimeMillis());
+  private final AtomicLong lastCrawlDurationMs = new AtomicLong(0);
+
+  public CatalogCrawlerMetricsSource(IntSupplier vanishedEntities) {
+    super(MetricsSource.CATALOG_CRAWLER_METRIC_NAME);
+    registerGauge(MetricNames.CRAWLER_VANISHED_ENTITIES, vanishedEntities::getAsInt);
+    registerGauge(
+        MetricNames.CRAWLER_LAG_MS, () -> System.currentTimeMillis() - lastCrawlStartTime.get());
+    registerGauge(MetricNames.CRAWLER_LAST_CRAWL_DURATION_MS, lastCrawlDurationMs::get);
+  }
+
+  void onCatalogCrawled(ReconcileResult result, long durationMs) {
+    getCounter(MetricNames.CRAWLER_LISTED_OBJECTS).inc(result.listed());
+    getCounter(MetricNames.CRAWLER_IMPORTED_OBJECTS).inc(result.imported());
+    getCounter(MetricNames.CRAWLER_DELETED_OBJECTS).inc(result.deleted());
+    getTimer(MetricNames.CRAWLER_CATALOG_CRAWL_DURATION).update(durationMs, TimeUnit.MILLISECONDS);
+  }
+
+  void onCatalogFailed() {
+    getCounter(MetricNames.CRAWLER_FAILED_CATALOGS).inc();
+  }
+
+  void onCrawlFinished(long startTime, long endTime) {
+    lastCrawlStartTime.set(startTime);
+    lastCrawlDurationMs.set(endTime - startTime);
+  }
+}
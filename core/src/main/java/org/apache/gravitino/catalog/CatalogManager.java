@@ -23,6 +23,7 @@ import static org.apache.gravitino.StringIdentifier.ID_KEY;
 import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForAlter;
 import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForCreate;
 
+import com.codahale.metrics.Timer;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Scheduler;
@@ -48,6 +49,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -87,6 +89,7 @@ import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.trace.RequestTrace;
 import org.apache.gravitino.utils.IsolatedClassLoader;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.gravitino.utils.ThrowableFunction;
@@ -101,18 +104,53 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(CatalogManager.class);
 
+  private static final long PARTITION_TABLE_CACHE_MAX_SIZE = 1000L;
+
   /** Wrapper class for a catalog instance and its class loader. */
   public static class CatalogWrapper {
     private BaseCatalog catalog;
     private IsolatedClassLoader classLoader;
 
+    // The short-lived cache of the partition operations of the tables, to avoid loading the table
+    // from the underlying catalog for every partition operation. Null if the cache is disabled.
+    private final Cache<NameIdentifier, SupportsPartitions> partitionOpsCache;
+
+    // The metrics of the connector operations, null if the operations are not measured.
+    private final CatalogManagerMetricsSource metricsSource;
+
+    // The connector timers acquired by this wrapper by the kind of the operations, they are
+    // released when the wrapper is closed.
+    private final Map<String, Timer> connectorTimers = new ConcurrentHashMap<>();
+
     public CatalogWrapper(BaseCatalog catalog, IsolatedClassLoader classLoader) {
+      this(catalog, classLoader, 0L);
+    }
+
+    public CatalogWrapper(
+        BaseCatalog catalog, IsolatedClassLoader classLoader, long partitionTableCacheExpireMs) {
+      this(catalog, classLoader, partitionTableCacheExpireMs, null);
+    }
+
+    CatalogWrapper(
+        BaseCatalog catalog,
+        IsolatedClassLoader classLoader,
+        long partitionTableCacheExpireMs,
+        CatalogManagerMetricsSource metricsSource) {
       this.catalog = catalog;
       this.classLoader = classLoader;
+      this.metricsSource = metricsSource;
+      this.partitionOpsCache =
+          partitionTableCacheExpireMs > 0
+              ? Caffeine.newBuilder()
+                  .expireAfterWrite(partitionTableCacheExpireMs, TimeUnit.MILLISECONDS)
+                  .maximumSize(PARTITION_TABLE_CACHE_MAX_SIZE)
+                  .build()
+              : null;
     }
 
     public <R> R doWithSchemaOps(ThrowableFunction<SupportsSchemas, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withClassLoader(
+          "schema",
           cl -> {
             if (asSchemas() == null) {
               throw new UnsupportedOperationException("Catalog does not support schema operations");
@@ -122,7 +160,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithTableOps(ThrowableFunction<TableCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withClassLoader(
+          "table",
           cl -> {
             if (asTables() == null) {
               throw new UnsupportedOperationException("Catalog does not support table operations");
@@ -132,7 +171,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithFilesetOps(ThrowableFunction<FilesetCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withClassLoader(
+          "fileset",
           cl -> {
             if (asFilesets() == null) {
               throw new UnsupportedOperationException(
@@ -143,7 +183,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithTopicOps(ThrowableFunction<TopicCatalog, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withClassLoader(
+          "topic",
           cl -> {
             if (asTopics() == null) {
               throw new UnsupportedOperationException("Catalog does not support topic operations");
@@ -153,32 +194,95 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     }
 
     public <R> R doWithCatalogOps(ThrowableFunction<CatalogOperations, R> fn) throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog.ops()));
+      return withClassLoader("catalog", cl -> fn.apply(catalog.ops()));
     }
 
     public <R> R doWithPartitionOps(
         NameIdentifier tableIdent, ThrowableFunction<SupportsPartitions, R> fn) throws Exception {
-      return classLoader.withClassLoader(
+      return withClassLoader(
+          "partition",
           cl -> {
             Preconditions.checkArgument(
                 asTables() != null, "Catalog does not support table operations");
-            Table table = asTables().loadTable(tableIdent);
-            Preconditions.checkArgument(
-                table.supportPartitions() != null, "Table does not support partition operations");
-            return fn.apply(table.supportPartitions());
+            SupportsPartitions partitionOps =
+                partitionOpsCache == null
+                    ? loadPartitionOps(tableIdent)
+                    : partitionOpsCache.get(tableIdent, this::loadPartitionOps);
+            return fn.apply(partitionOps);
           });
     }
 
+    /**
+     * Invalidates the cached partition operations of the table, this should be called when the
+     * table is altered or dropped.
+     *
+     * @param tableIdent The identifier of the table.
+     */
+    public void invalidatePartitionOps(NameIdentifier tableIdent) {
+      if (partitionOpsCache != null) {
+        partitionOpsCache.invalidate(tableIdent);
+      }
+    }
+
+    private SupportsPartitions loadPartitionOps(NameIdentifier tableIdent) {
+      Table table = asTables().loadTable(tableIdent);
+      Preconditions.checkArgument(
+          table.supportPartitions() != null, "Table does not support partition operations");
+      return table.supportPartitions();
+    }
+
     public <R> R doWithPropertiesMeta(ThrowableFunction<HasPropertyMetadata, R> fn)
         throws Exception {
-      return classLoader.withClassLoader(cl -> fn.apply(catalog));
+      return withClassLoader(null, cl -> fn.apply(catalog));
     }
 
     public Capability capabilities() throws Exception {
-      return classLoader.withClassLoader(cl -> catalog.capability());
+      return withClassLoader(null, cl -> catalog.capability());
+    }
+
+    // The operations of the kind are measured as the connector operations, the kind is null for
+    // the operations answered by the catalog itself without calling the underlying source.
+    private <R> R withClassLoader(String operationKind, ThrowableFunction<ClassLoader, R> fn)
+        throws Exception {
+      Timer timer = connectorTimer(operationKind);
+      // The class loader stage only measures the switch, the call itself is the connector stage.
+      try (RequestTrace.Span ignored = RequestTrace.span(RequestTrace.Stage.CLASSLOADER)) {
+        return classLoader.withClassLoader(
+            cl -> {
+              try (RequestTrace.Span connector = RequestTrace.span(RequestTrace.Stage.CONNECTOR);
+                  Timer.Context context = timer == null ? null : timer.time()) {
+                return fn.apply(cl);
+              }
+            });
+      }
+    }
+
+    private Timer connectorTimer(String operationKind) {
+      if (metricsSource == null || operationKind == null) {
+        return null;
+      }
+      Timer timer = connectorTimers.get(operationKind);
+      if (timer != null) {
+        return timer;
+      }
+      return connectorTimers.computeIfAbsent(
+          operationKind,
+          kind -> metricsSource.acquireConnectorDuration(catalog.entity().nameIdentifier(), kind));
     }
 
     public void close() {
+      if (partitionOpsCache != null) {
+        partitionOpsCache.invalidateAll();
+      }
+
+      // Only the timers acquired by this wrapper are released, a reloaded wrapper of the same
+      // catalog keeps the timers it holds.
+      if (metricsSource != null && catalog != null && !connectorTimers.isEmpty()) {
+        metricsSource.releaseConnectorDurations(
+            catalog.entity().nameIdentifier(), connectorTimers.keySet());
+        connectorTimers.clear();
+      }
+
       try {
         classLoader.withClassLoader(
             cl -> {
@@ -220,6 +324,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
   private final IdGenerator idGenerator;
 
+  private final CatalogManagerMetricsSource metricsSource;
+
   /**
    * Constructs a CatalogManager instance.
    *
@@ -232,6 +338,9 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     this.store = store;
     this.idGenerator = idGenerator;
 
+    // The cache is read after the constructor, when the metrics are reported.
+    this.metricsSource = new CatalogManagerMetricsSource(this::catalogCacheSize);
+
     long cacheEvictionIntervalInMs = config.get(Configs.CATALOG_CACHE_EVICTION_INTERVAL_MS);
     this.catalogCache =
         Caffeine.newBuilder()
@@ -239,6 +348,11 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
             .removalListener(
                 (k, v, c) -> {
                   LOG.info("Closing catalog {}.", k);
+                  if (c.wasEvicted()) {
+                    metricsSource.onCatalogEvicted();
+                  }
+                  // Whether dropped, renamed, changed by another server or evicted, the wrapper
+                  // releases the connector metrics it holds when it's closed.
                   ((CatalogWrapper) v).close();
                 })
             .scheduler(
@@ -250,6 +364,20 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
                             .setNameFormat("catalog-cleaner-%d")
                             .build())))
             .build();
+    store.addEntityChangeListener(this::onEntityChange);
+  }
+
+  private long catalogCacheSize() {
+    return catalogCache.estimatedSize();
+  }
+
+  /**
+   * Returns the metrics source of the catalog manager.
+   *
+   * @return The metrics source of the catalog manager.
+   */
+  public CatalogManagerMetricsSource metricsSource() {
+    return metricsSource;
   }
 
   /**
@@ -261,6 +389,18 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     catalogCache.invalidateAll();
   }
 
+  // Closes the cached catalogs changed by the other servers sharing the entity store.
+  private void onEntityChange(NameIdentifier ident, Entity.EntityType entityType) {
+    if (entityType == Entity.EntityType.CATALOG) {
+      catalogCache.invalidate(ident);
+    } else if (entityType == Entity.EntityType.METALAKE) {
+      catalogCache.invalidateAll(
+          catalogCache.asMap().keySet().stream()
+              .filter(catalogIdent -> catalogIdent.namespace().level(0).equals(ident.name()))
+              .collect(Collectors.toList()));
+    }
+  }
+
   /**
    * Lists the catalogs within the specified namespace.
    *
@@ -653,13 +793,27 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
   }
 
   private CatalogWrapper createCatalogWrapper(CatalogEntity entity) {
+    try (Timer.Context ignored = metricsSource.loadDuration().time()) {
+      return doCreateCatalogWrapper(entity);
+    } catch (RuntimeException e) {
+      metricsSource.onCatalogLoadFailed();
+      throw e;
+    }
+  }
+
+  private CatalogWrapper doCreateCatalogWrapper(CatalogEntity entity) {
     Map<String, String> conf = entity.getProperties();
     String provider = entity.getProvider();
 
     IsolatedClassLoader classLoader = createClassLoader(provider, conf);
     BaseCatalog<?> catalog = createBaseCatalog(classLoader, entity);
 
-    CatalogWrapper wrapper = new CatalogWrapper(catalog, classLoader);
+    CatalogWrapper wrapper =
+        new CatalogWrapper(
+            catalog,
+            classLoader,
+            config.get(Configs.CATALOG_PARTITION_TABLE_CACHE_EXPIRE_MS),
+            metricsSource);
     // Validate catalog properties and initialize the config
     classLoader.withClassLoader(
         cl -> {
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.utils.IsolatedClassLoader;
+
+/**
+ * The metrics of {@link CatalogManager}: the size of the catalog cache, the loads and the evictions
+ * of the catalogs, the open class loaders, and the duration of the connector operations of each
+ * catalog. The connector metrics are named after the catalog and the kind of the operations, e.g.
+ * "metalake.catalog.table.connector-duration".
+ *
+ * <p>The connector timers are held by the catalog wrappers which measure them, and removed once the
+ * last wrapper of the catalog holding them is closed. So the timers don't outlive a dropped,
+ * renamed or evicted catalog, while a reloaded wrapper keeps the timers it registered even if the
+ * former wrapper of the catalog is closed after it.
+ */
+public class CatalogManagerMetricsSource extends MetricsSource {
+
+  private final Timer loadDuration;
+  private final Counter loadFailures;
+  private final Counter evictions;
+
+  // The number of the catalog wrappers holding each connector timer.
+  private final Map<String, Integer> connectorTimerHolders = new HashMap<>();
+
+  public CatalogManagerMetricsSource(LongSupplier cacheSize) {
+    super(MetricsSource.CATALOG_MANAGER_METRIC_NAME);
+    this.loadDuration = getTimer(MetricNames.CATALOG_LOAD_DURATION);
+    this.loadFailures = getCounter(MetricNames.CATALOG_LOAD_FAILURES);
+    this.evictions = getCounter(MetricNames.CATALOG_EVICTIONS);
+    registerGauge(MetricNames.CATALOG_CACHE_SIZE, cacheSize::getAsLong);
+    registerGauge(MetricNames.CATALOG_CLASS_LOADERS, IsolatedClassLoader::openClassLoaders);
+  }
+
+  Timer loadDuration() {
+    return loadDuration;
+  }
+
+  void onCatalogLoadFailed() {
+    loadFailures.inc();
+  }
+
+  void onCatalogEvicted() {
+    evictions.inc();
+  }
+
+  /**
+   * Gets or creates the connector timer of the catalog operations of a kind, the timer is held by
+   * the caller until it's released by {@link #releaseConnectorDurations}.
+   *
+   * @param catalogIdent The identifier of the catalog.
+   * @param operationKind The kind of the operations, e.g. "table".
+   * @return The connector timer.
+   */
+  synchronized Timer acquireConnectorDuration(NameIdentifier catalogIdent, String operationKind) {
+    String name = connectorDurationName(catalogIdent, operationKind);
+    connectorTimerHolders.merge(name, 1, Integer::sum);
+    return getTimer(name);
+  }
+
+  /**
+   * Releases the connector timers acquired by a caller, the timers no longer held are removed.
+   *
+   * @param catalogIdent The identifier of the catalog.
+   * @param operationKinds The kinds of the operations whose timers were acquired.
+   */
+  synchronized void releaseConnectorDurations(
+      NameIdentifier catalogIdent, Collection<String> operationKinds) {
+    for (String operationKind : operationKinds) {
+      String name = connectorDurationName(catalogIdent, operationKind);
+      if (connectorTimerHolders.computeIfPresent(name, (k, v) -> v > 1 ? v - 1 : null) == null) {
+        getMetricRegistry().remove(name);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  static String connectorDurationName(NameIdentifier catalogIdent, String operationKind) {
+    return catalogIdent + "." + operationKind + "." + MetricNames.CONNECTOR_OPERATION_DURATION;
+  }
+}
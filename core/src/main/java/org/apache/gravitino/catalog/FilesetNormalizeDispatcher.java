@@ -51,6 +51,13 @@ public class FilesetNormalizeDispatcher implements FilesetDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public Fileset[] listFilesetsInfo(Namespace namespace) throws NoSuchSchemaException {
+    // The constraints of the name spec may be more strict than underlying catalog,
+    // and for compatibility reasons, we only apply case-sensitive capabilities here.
+    return dispatcher.listFilesetsInfo(normalizeCaseSensitive(namespace));
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -21,12 +21,14 @@ package org.apache.gravitino.catalog;
 import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForCreate;
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -63,6 +65,34 @@ public class FilesetOperationDispatcher extends OperationDispatcher implements F
         NoSuchSchemaException.class);
   }
 
+  /**
+   * List the filesets with their metadata in a schema namespace from the catalog.
+   *
+   * @param namespace A schema namespace.
+   * @return An array of filesets in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public Fileset[] listFilesetsInfo(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(NameIdentifier.of(namespace.levels()));
+    Fileset[] filesets =
+        doWithCatalog(
+            catalogIdent,
+            c -> c.doWithFilesetOps(f -> f.listFilesetsInfo(namespace)),
+            NoSuchSchemaException.class);
+
+    PropertiesMetadata propertiesMetadata =
+        getPropertiesMetadata(catalogIdent, HasPropertyMetadata::filesetPropertiesMetadata);
+    // Currently we only support maintaining the Fileset in the Gravitino's store.
+    return Arrays.stream(filesets)
+        .map(
+            fileset ->
+                EntityCombinedFileset.of(fileset)
+                    .withHiddenPropertiesSet(
+                        getHiddenPropertyNames(propertiesMetadata, fileset.properties())))
+        .toArray(Fileset[]::new);
+  }
+
   /**
    * Load fileset metadata by {@link NameIdentifier} from the catalog.
    *
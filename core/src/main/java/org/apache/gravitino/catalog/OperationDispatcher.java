@@ -22,13 +22,19 @@ import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePro
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
@@ -36,10 +42,13 @@ import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.file.FilesetChange;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
 import org.apache.gravitino.messaging.TopicChange;
 import org.apache.gravitino.rel.SupportsPartitions;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.storage.IdGenerator;
+import org.apache.gravitino.trace.RequestTrace;
 import org.apache.gravitino.utils.ThrowableFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,7 +85,7 @@ public abstract class OperationDispatcher {
       throws E {
     try {
       NameIdentifier catalogIdent = getCatalogIdentifier(tableIdent);
-      CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndWrap(catalogIdent);
+      CatalogManager.CatalogWrapper c = loadCatalogAndWrap(catalogIdent);
       return c.doWithPartitionOps(tableIdent, fn);
     } catch (Throwable throwable) {
       if (ex.isInstance(throwable)) {
@@ -93,7 +102,7 @@ public abstract class OperationDispatcher {
       NameIdentifier ident, ThrowableFunction<CatalogManager.CatalogWrapper, R> fn, Class<E> ex)
       throws E {
     try {
-      CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndWrap(ident);
+      CatalogManager.CatalogWrapper c = loadCatalogAndWrap(ident);
       return fn.apply(c);
     } catch (Throwable throwable) {
       if (ex.isInstance(throwable)) {
@@ -113,7 +122,7 @@ public abstract class OperationDispatcher {
       Class<E2> ex2)
       throws E1, E2 {
     try {
-      CatalogManager.CatalogWrapper c = catalogManager.loadCatalogAndWrap(ident);
+      CatalogManager.CatalogWrapper c = loadCatalogAndWrap(ident);
       return fn.apply(c);
     } catch (Throwable throwable) {
       if (ex1.isInstance(throwable)) {
@@ -129,6 +138,12 @@ public abstract class OperationDispatcher {
     }
   }
 
+  private CatalogManager.CatalogWrapper loadCatalogAndWrap(NameIdentifier catalogIdent) {
+    try (RequestTrace.Span ignored = RequestTrace.span(RequestTrace.Stage.CATALOG)) {
+      return catalogManager.loadCatalogAndWrap(catalogIdent);
+    }
+  }
+
   protected Set<String> getHiddenPropertyNames(
       NameIdentifier catalogIdent,
       ThrowableFunction<HasPropertyMetadata, PropertiesMetadata> provider,
@@ -146,6 +161,189 @@ public abstract class OperationDispatcher {
         IllegalArgumentException.class);
   }
 
+  protected PropertiesMetadata getPropertiesMetadata(
+      NameIdentifier catalogIdent,
+      ThrowableFunction<HasPropertyMetadata, PropertiesMetadata> provider) {
+    return doWithCatalog(
+        catalogIdent, c -> c.doWithPropertiesMeta(provider), IllegalArgumentException.class);
+  }
+
+  protected Set<String> getHiddenPropertyNames(
+      PropertiesMetadata propertiesMetadata, Map<String, String> properties) {
+    return properties.keySet().stream()
+        .filter(propertiesMetadata::isHiddenProperty)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Lists the entities under the namespace from the store and indexes them by name. This is used to
+   * combine the metadata of listed objects with the entities in one store call instead of one call
+   * per object.
+   *
+   * @param namespace The namespace to list.
+   * @param clazz The class of the entity.
+   * @param type The type of the entity.
+   * @return The entities indexed by name, or an empty map if the store fails to list them.
+   * @param <E> The type of the entity.
+   */
+  protected <E extends Entity & HasIdentifier> Map<String, E> listEntitiesByName(
+      Namespace namespace, Class<E> clazz, Entity.EntityType type) {
+    try {
+      return store.list(namespace, clazz, type).stream()
+          .collect(Collectors.toMap(HasIdentifier::name, e -> e, (e1, e2) -> e1));
+    } catch (NoSuchEntityException e) {
+      // The parent entity is not imported yet, so none of its children is in the store.
+      return Collections.emptyMap();
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "list", namespace, e);
+      return Collections.emptyMap();
+    }
+  }
+
+  /**
+   * Reconciles the entities under the namespace in the store with the objects listed from the
+   * underlying catalog. The objects missing in the store are imported, and the entities whose
+   * objects no longer exist in the catalog are deleted once they stay vanished for the grace period
+   * of {@link VanishedEntities}. The catalog is checked without holding any lock, and only the
+   * store mutation of each entity holds the write lock of the entity.
+   *
+   * @param namespace The namespace of the objects.
+   * @param listedNames The names of the objects listed from the catalog.
+   * @param clazz The class of the entity.
+   * @param type The type of the entity.
+   * @param existsInCatalog The function to check again if an object exists in the catalog before
+   *     marking its entity vanished, since the object may be created after it is listed.
+   * @param importer The function to import an object into the store.
+   * @param vanishedEntities The entities whose objects are found vanished by the former
+   *     reconciliations.
+   * @return The result of the reconciliation.
+   * @param <E> The type of the entity.
+   * @throws IOException If the store fails to list or delete the entities.
+   */
+  protected <E extends Entity & HasIdentifier> ReconcileResult reconcileEntities(
+      Namespace namespace,
+      Set<String> listedNames,
+      Class<E> clazz,
+      Entity.EntityType type,
+      Predicate<NameIdentifier> existsInCatalog,
+      Consumer<NameIdentifier> importer,
+      VanishedEntities vanishedEntities)
+      throws IOException {
+    Set<String> storedNames = Sets.newHashSet();
+    Set<NameIdentifier> vanished = Sets.newHashSet();
+    long now = System.currentTimeMillis();
+    long deleted = 0;
+    for (E entity : store.list(namespace, clazz, type)) {
+      storedNames.add(entity.name());
+      NameIdentifier ident = NameIdentifier.of(namespace, entity.name());
+      if (listedNames.contains(entity.name()) || existsInCatalog.test(ident)) {
+        continue;
+      }
+
+      if (vanishedEntities.markVanished(ident, entity.id(), now)
+          && deleteVanishedEntity(ident, entity, clazz, type)) {
+        vanishedEntities.onDeleted(ident);
+        deleted++;
+      } else {
+        vanished.add(ident);
+      }
+    }
+    vanishedEntities.retainVanished(namespace, vanished);
+
+    long imported = 0;
+    for (String name : listedNames) {
+      NameIdentifier ident = NameIdentifier.of(namespace, name);
+      if (!storedNames.contains(name) && importListedObject(ident, type, importer)) {
+        imported++;
+      }
+    }
+
+    return new ReconcileResult(listedNames.size(), imported, deleted);
+  }
+
+  private <E extends Entity & HasIdentifier> boolean deleteVanishedEntity(
+      NameIdentifier ident, E entity, Class<E> clazz, Entity.EntityType type) throws IOException {
+    return TreeLockUtils.doWithTreeLock(
+        ident,
+        LockType.WRITE,
+        () -> {
+          // The entity may be recreated after it is listed, only delete the vanished one. Deleting
+          // the parent entity also deletes the child entities.
+          try {
+            return store.get(ident, type, clazz).id() == entity.id()
+                && store.delete(ident, type, true /* cascade */);
+          } catch (NoSuchEntityException e) {
+            return false;
+          }
+        });
+  }
+
+  private boolean importListedObject(
+      NameIdentifier ident, Entity.EntityType type, Consumer<NameIdentifier> importer)
+      throws IOException {
+    return TreeLockUtils.doWithTreeLock(
+        ident,
+        LockType.WRITE,
+        () -> {
+          // The entity may be created or imported after the entities are listed.
+          if (store.exists(ident, type)) {
+            return false;
+          }
+          importer.accept(ident);
+          return true;
+        });
+  }
+
+  /**
+   * Finds the entity of a listed object from the entities indexed by {@link #listEntitiesByName}.
+   *
+   * @param ident The identifier of the listed object.
+   * @param properties The properties of the listed object, used to get the string identifier.
+   * @param entities The entities indexed by name.
+   * @return The matched entity, or null if the object is not created by Gravitino or the entity
+   *     doesn't match.
+   * @param <E> The type of the entity.
+   */
+  protected <E extends HasIdentifier> E findListedEntity(
+      NameIdentifier ident, Map<String, String> properties, Map<String, E> entities) {
+    StringIdentifier stringId = getStringIdFromProperties(properties);
+    if (stringId == null) {
+      return null;
+    }
+
+    E entity = entities.get(ident.name());
+    if (entity == null) {
+      LOG.error(FormattedErrorMessages.ENTITY_NOT_FOUND, ident);
+      return null;
+    }
+
+    if (entity.id() != stringId.id()) {
+      LOG.error(FormattedErrorMessages.ENTITY_UNMATCHED, ident, entity.id(), stringId.id());
+      return null;
+    }
+
+    return entity;
+  }
+
+  /**
+   * Checks whether a listed object is imported, the same way as when it's loaded: an object with a
+   * string identifier is imported if its entity matches, an object without one if an entity of the
+   * same name exists.
+   *
+   * @param ident The identifier of the listed object.
+   * @param properties The properties of the listed object, used to get the string identifier.
+   * @param entity The entity found by {@link #findListedEntity}, null if not found.
+   * @param entities The entities indexed by name.
+   * @return True if the listed object is imported, false otherwise.
+   * @param <E> The type of the entity.
+   */
+  protected <E extends HasIdentifier> boolean isListedEntityImported(
+      NameIdentifier ident, Map<String, String> properties, E entity, Map<String, E> entities) {
+    return getStringIdFromProperties(properties) == null
+        ? entities.containsKey(ident.name())
+        : entity != null;
+  }
+
   protected <T> void validateAlterProperties(
       NameIdentifier ident,
       ThrowableFunction<HasPropertyMetadata, PropertiesMetadata> provider,
@@ -228,6 +426,13 @@ public abstract class OperationDispatcher {
         IllegalArgumentException.class);
   }
 
+  boolean isFullyPopulatedOnWrite(NameIdentifier catalogIdent, Capability.Scope scope) {
+    return doWithCatalog(
+        catalogIdent,
+        c -> c.capabilities().fullyPopulatedOnWrite(scope).supported(),
+        IllegalArgumentException.class);
+  }
+
   protected boolean isEntityExist(NameIdentifier ident, Entity.EntityType type) {
     try {
       return store.exists(ident, type);
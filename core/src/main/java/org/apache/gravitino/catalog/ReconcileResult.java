@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+/** The result of reconciling the entities in the store with the objects in a catalog. */
+public final class ReconcileResult {
+
+  /** The empty result, nothing is listed. */
+  public static final ReconcileResult EMPTY = new ReconcileResult(0, 0, 0);
+
+  private final long listed;
+  private final long imported;
+  private final long deleted;
+
+  /**
+   * Creates a new ReconcileResult.
+   *
+   * @param listed The number of objects listed from the catalog.
+   * @param imported The number of objects imported into the store.
+   * @param deleted The number of entities deleted from the store.
+   */
+  public ReconcileResult(long listed, long imported, long deleted) {
+    this.listed = listed;
+    this.imported = imported;
+    this.deleted = deleted;
+  }
+
+  /** @return The number of objects listed from the catalog. */
+  public long listed() {
+    return listed;
+  }
+
+  /** @return The number of objects imported into the store. */
+  public long imported() {
+    return imported;
+  }
+
+  /** @return The number of entities deleted from the store. */
+  public long deleted() {
+    return deleted;
+  }
+
+  /**
+   * Merges this result with another one.
+   *
+   * @param other The other result.
+   * @return The merged result.
+   */
+  public ReconcileResult merge(ReconcileResult other) {
+    return new ReconcileResult(
+        listed + other.listed, imported + other.imported, deleted + other.deleted);
+  }
+
+  @Override
+  public String toString() {
+    return "ReconcileResult{listed="
+        + listed
+        + ", imported="
+        + imported
+        + ", deleted="
+        + deleted
+        + "}";
+  }
+}
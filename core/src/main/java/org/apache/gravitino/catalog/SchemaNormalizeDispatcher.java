@@ -51,6 +51,11 @@ public class SchemaNormalizeDispatcher implements SchemaDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public Schema[] listSchemasInfo(Namespace namespace) throws NoSuchCatalogException {
+    return dispatcher.listSchemasInfo(namespace);
+  }
+
   @Override
   public boolean schemaExists(NameIdentifier ident) {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -22,8 +22,12 @@ import static org.apache.gravitino.Entity.EntityType.SCHEMA;
 import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForCreate;
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
+import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -31,6 +35,7 @@ import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -78,6 +83,49 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
         NoSuchCatalogException.class);
   }
 
+  /**
+   * Lists the schemas with their metadata within the specified namespace.
+   *
+   * @param namespace The namespace in which to list schemas.
+   * @return An array of Schema objects within the specified namespace.
+   * @throws NoSuchCatalogException If the catalog namespace does not exist.
+   */
+  @Override
+  public Schema[] listSchemasInfo(Namespace namespace) throws NoSuchCatalogException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(NameIdentifier.of(namespace.levels()));
+    Schema[] schemas =
+        doWithCatalog(
+            catalogIdent,
+            c -> c.doWithSchemaOps(s -> s.listSchemasInfo(namespace)),
+            NoSuchCatalogException.class);
+
+    PropertiesMetadata propertiesMetadata =
+        getPropertiesMetadata(catalogIdent, HasPropertyMetadata::schemaPropertiesMetadata);
+    // If the Schema is maintained by the entity store, we don't have to combine the entities.
+    boolean isManagedSchema = isManagedEntity(catalogIdent, Capability.Scope.SCHEMA);
+    Map<String, SchemaEntity> schemaEntities =
+        isManagedSchema
+            ? Collections.emptyMap()
+            : listEntitiesByName(namespace, SchemaEntity.class, SCHEMA);
+    return Arrays.stream(schemas)
+        .map(
+            schema -> {
+              NameIdentifier ident = NameIdentifier.of(namespace, schema.name());
+              SchemaEntity schemaEntity =
+                  isManagedSchema
+                      ? null
+                      : findListedEntity(ident, schema.properties(), schemaEntities);
+              return EntityCombinedSchema.of(schema, schemaEntity)
+                  .withHiddenPropertiesSet(
+                      getHiddenPropertyNames(propertiesMetadata, schema.properties()))
+                  .withImported(
+                      isManagedSchema
+                          || isListedEntityImported(
+                              ident, schema.properties(), schemaEntity, schemaEntities));
+            })
+        .toArray(Schema[]::new);
+  }
+
   /**
    * Creates a new schema.
    *
@@ -129,12 +177,15 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
                   createdSchema.properties()));
     }
 
-    // Retrieve the Schema again to obtain some values generated by underlying catalog
+    // Retrieve the Schema again to obtain some values generated by underlying catalog, unless the
+    // catalog already returns a fully populated schema
     Schema schema =
-        doWithCatalog(
-            catalogIdent,
-            c -> c.doWithSchemaOps(s -> s.loadSchema(ident)),
-            NoSuchSchemaException.class);
+        isFullyPopulatedOnWrite(catalogIdent, Capability.Scope.SCHEMA)
+            ? createdSchema
+            : doWithCatalog(
+                catalogIdent,
+                c -> c.doWithSchemaOps(s -> s.loadSchema(ident)),
+                NoSuchSchemaException.class);
 
     SchemaEntity schemaEntity =
         SchemaEntity.builder()
@@ -214,16 +265,19 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
             c -> c.doWithSchemaOps(s -> s.alterSchema(ident, changes)),
             NoSuchSchemaException.class);
 
-    // Retrieve the Schema again to obtain some values generated by underlying catalog
+    // Retrieve the Schema again to obtain some values generated by underlying catalog, unless the
+    // catalog already returns a fully populated schema
     Schema alteredSchema =
-        doWithCatalog(
-            catalogIdent,
-            c ->
-                c.doWithSchemaOps(
-                    s ->
-                        s.loadSchema(
-                            NameIdentifier.of(ident.namespace(), tempAlteredSchema.name()))),
-            NoSuchSchemaException.class);
+        isFullyPopulatedOnWrite(catalogIdent, Capability.Scope.SCHEMA)
+            ? tempAlteredSchema
+            : doWithCatalog(
+                catalogIdent,
+                c ->
+                    c.doWithSchemaOps(
+                        s ->
+                            s.loadSchema(
+                                NameIdentifier.of(ident.namespace(), tempAlteredSchema.name()))),
+                NoSuchSchemaException.class);
 
     // If the Schema is maintained by the Gravitino's store, we don't have to alter again.
     boolean isManagedSchema = isManagedEntity(catalogIdent, Capability.Scope.SCHEMA);
@@ -323,12 +377,57 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
         : droppedFromCatalog;
   }
 
+  /**
+   * Reconciles the schema entities of a catalog in the store with the schemas in the underlying
+   * catalog. The schemas missing in the store are imported, and the schema entities which stay
+   * vanished from the catalog for the grace period are deleted together with their children.
+   *
+   * @param namespace The namespace of the catalog.
+   * @param vanishedEntities The entities found vanished by the former reconciliations.
+   * @return The result of the reconciliation.
+   * @throws IOException If the store fails to list or delete the schema entities.
+   */
+  ReconcileResult reconcileSchemas(Namespace namespace, VanishedEntities vanishedEntities)
+      throws IOException {
+    NameIdentifier catalogIdent = NameIdentifier.of(namespace.levels());
+    // If the Schema is maintained by the entity store, there is nothing to reconcile.
+    if (isManagedEntity(catalogIdent, Capability.Scope.SCHEMA)) {
+      return ReconcileResult.EMPTY;
+    }
+
+    Schema[] listedSchemas =
+        doWithCatalog(
+            catalogIdent,
+            c -> c.doWithSchemaOps(s -> s.listSchemasInfo(namespace)),
+            NoSuchCatalogException.class);
+    Map<String, Schema> schemas =
+        Arrays.stream(listedSchemas)
+            .collect(Collectors.toMap(Schema::name, s -> s, (s1, s2) -> s1));
+
+    return reconcileEntities(
+        namespace,
+        schemas.keySet(),
+        SchemaEntity.class,
+        SCHEMA,
+        ident ->
+            doWithCatalog(
+                catalogIdent,
+                c -> c.doWithSchemaOps(s -> s.schemaExists(ident)),
+                RuntimeException.class),
+        ident -> putImportedSchema(ident, EntityCombinedSchema.of(schemas.get(ident.name()))),
+        vanishedEntities);
+  }
+
   private void importSchema(NameIdentifier identifier) {
     EntityCombinedSchema schema = internalLoadSchema(identifier);
     if (schema.imported()) {
       return;
     }
 
+    putImportedSchema(identifier, schema);
+  }
+
+  private void putImportedSchema(NameIdentifier identifier, EntityCombinedSchema schema) {
     StringIdentifier stringId = null;
     try {
       stringId = schema.stringIdentifier();
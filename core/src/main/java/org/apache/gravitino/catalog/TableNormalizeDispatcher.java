@@ -56,6 +56,13 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    // The constraints of the name spec may be more strict than underlying catalog,
+    // and for compatibility reasons, we only apply case-sensitive capabilities here.
+    return dispatcher.listTablesInfo(normalizeCaseSensitive(namespace));
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -24,15 +24,20 @@ import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePro
 import static org.apache.gravitino.rel.expressions.transforms.Transforms.EMPTY_TRANSFORM;
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
+import com.google.common.collect.ImmutableMap;
+import java.io.Closeable;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -56,10 +61,15 @@ import org.apache.gravitino.utils.PrincipalUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class TableOperationDispatcher extends OperationDispatcher implements TableDispatcher {
+public class TableOperationDispatcher extends OperationDispatcher
+    implements TableDispatcher, Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(TableOperationDispatcher.class);
 
+  // The importer to re-import the tables whose entities don't match the external systems in
+  // background, null if the tables are always imported synchronously when they are loaded.
+  private final AsyncEntityImporter<EntityCombinedTable> tableImporter;
+
   /**
    * Creates a new TableOperationDispatcher instance.
    *
@@ -69,7 +79,28 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
    */
   public TableOperationDispatcher(
       CatalogManager catalogManager, EntityStore store, IdGenerator idGenerator) {
+    this(catalogManager, store, idGenerator, 0);
+  }
+
+  /**
+   * Creates a new TableOperationDispatcher instance.
+   *
+   * @param catalogManager The CatalogManager instance to be used for table operations.
+   * @param store The EntityStore instance to be used for table operations.
+   * @param idGenerator The IdGenerator instance to be used for table operations.
+   * @param asyncImportQueueCapacity The capacity of the queue to re-import the tables renamed by
+   *     external systems asynchronously, 0 means the tables are imported synchronously.
+   */
+  public TableOperationDispatcher(
+      CatalogManager catalogManager,
+      EntityStore store,
+      IdGenerator idGenerator,
+      int asyncImportQueueCapacity) {
     super(catalogManager, store, idGenerator);
+    this.tableImporter =
+        asyncImportQueueCapacity > 0
+            ? new AsyncEntityImporter<>("table", asyncImportQueueCapacity, this::importTables)
+            : null;
   }
 
   /**
@@ -88,6 +119,44 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         NoSuchSchemaException.class);
   }
 
+  /**
+   * Lists the tables with their metadata within a schema.
+   *
+   * <p>The tables are fetched from the underlying catalog in bulk if the catalog supports it, and
+   * are combined with the table entities listed from the store in a single call.
+   *
+   * @param namespace The namespace of the schema containing the tables.
+   * @return An array of {@link Table} objects in the schema.
+   * @throws NoSuchSchemaException If the specified schema does not exist.
+   */
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(NameIdentifier.of(namespace.levels()));
+    Table[] tables =
+        doWithCatalog(
+            catalogIdent,
+            c -> c.doWithTableOps(t -> t.listTablesInfo(namespace)),
+            NoSuchSchemaException.class);
+
+    PropertiesMetadata propertiesMetadata =
+        getPropertiesMetadata(catalogIdent, HasPropertyMetadata::tablePropertiesMetadata);
+    Map<String, TableEntity> tableEntities =
+        listEntitiesByName(namespace, TableEntity.class, TABLE);
+    return Arrays.stream(tables)
+        .map(
+            table -> {
+              NameIdentifier ident = NameIdentifier.of(namespace, table.name());
+              TableEntity tableEntity = findListedEntity(ident, table.properties(), tableEntities);
+              return EntityCombinedTable.of(table, tableEntity)
+                  .withHiddenPropertiesSet(
+                      getHiddenPropertyNames(propertiesMetadata, table.properties()))
+                  .withImported(
+                      isListedEntityImported(
+                          ident, table.properties(), tableEntity, tableEntities));
+            })
+        .toArray(Table[]::new);
+  }
+
   /**
    * Loads a table.
    *
@@ -100,25 +169,31 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     EntityCombinedTable table =
         TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
 
-    if (!table.imported()) {
-      // Load the schema to make sure the schema is imported.
-      SchemaDispatcher schemaDispatcher = GravitinoEnv.getInstance().schemaDispatcher();
-      NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
-      schemaDispatcher.loadSchema(schemaIdent);
-
-      // Import the table.
-      TreeLockUtils.doWithTreeLock(
-          schemaIdent,
-          LockType.WRITE,
-          () -> {
-            importTable(ident);
-            return null;
-          });
+    if (table.imported()) {
+      return table;
+    }
+
+    // A table without any entity is imported before returning, so the operations relying on the
+    // entity, like setting tags or owners, can follow the load. Only the entities which exist but
+    // don't match the external system are corrected in background, so the caller doesn't need to
+    // wait for the schema write lock.
+    if (tableImporter == null
+        || !isEntityExist(ident, TABLE)
+        || !tableImporter.submit(ident, table)) {
+      importTables(NameIdentifier.of(ident.namespace().levels()), ImmutableMap.of(ident, table));
     }
 
     return table;
   }
 
+  /** Stops importing the tables in background, the pending tables will not be imported. */
+  @Override
+  public void close() {
+    if (tableImporter != null) {
+      tableImporter.close();
+    }
+  }
+
   /**
    * Creates a new table in a schema.
    *
@@ -161,29 +236,33 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     Map<String, String> updatedProperties =
         StringIdentifier.newPropertiesWithId(stringId, properties);
 
-    doWithCatalog(
-        catalogIdent,
-        c ->
-            c.doWithTableOps(
-                t ->
-                    t.createTable(
-                        ident,
-                        columns,
-                        comment,
-                        updatedProperties,
-                        partitions == null ? EMPTY_TRANSFORM : partitions,
-                        distribution == null ? Distributions.NONE : distribution,
-                        sortOrders == null ? new SortOrder[0] : sortOrders,
-                        indexes == null ? Indexes.EMPTY_INDEXES : indexes)),
-        NoSuchSchemaException.class,
-        TableAlreadyExistsException.class);
-
-    // Retrieve the Table again to obtain some values generated by underlying catalog
-    Table table =
+    Table createdTable =
         doWithCatalog(
             catalogIdent,
-            c -> c.doWithTableOps(t -> t.loadTable(ident)),
-            NoSuchTableException.class);
+            c ->
+                c.doWithTableOps(
+                    t ->
+                        t.createTable(
+                            ident,
+                            columns,
+                            comment,
+                            updatedProperties,
+                            partitions == null ? EMPTY_TRANSFORM : partitions,
+                            distribution == null ? Distributions.NONE : distribution,
+                            sortOrders == null ? new SortOrder[0] : sortOrders,
+                            indexes == null ? Indexes.EMPTY_INDEXES : indexes)),
+            NoSuchSchemaException.class,
+            TableAlreadyExistsException.class);
+
+    // Retrieve the Table again to obtain some values generated by underlying catalog, unless the
+    // catalog already returns a fully populated table
+    Table table =
+        isFullyPopulatedOnWrite(catalogIdent, Capability.Scope.TABLE)
+            ? createdTable
+            : doWithCatalog(
+                catalogIdent,
+                c -> c.doWithTableOps(t -> t.loadTable(ident)),
+                NoSuchTableException.class);
 
     TableEntity tableEntity =
         TableEntity.builder()
@@ -238,15 +317,21 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
             NoSuchTableException.class,
             IllegalArgumentException.class);
 
-    // Retrieve the Table again to obtain some values generated by underlying catalog
+    invalidatePartitionOps(catalogIdent, ident);
+
+    // Retrieve the Table again to obtain some values generated by underlying catalog, unless the
+    // catalog already returns a fully populated table
     Table alteredTable =
-        doWithCatalog(
-            catalogIdent,
-            c ->
-                c.doWithTableOps(
-                    t ->
-                        t.loadTable(NameIdentifier.of(ident.namespace(), tempAlteredTable.name()))),
-            NoSuchTableException.class);
+        isFullyPopulatedOnWrite(catalogIdent, Capability.Scope.TABLE)
+            ? tempAlteredTable
+            : doWithCatalog(
+                catalogIdent,
+                c ->
+                    c.doWithTableOps(
+                        t ->
+                            t.loadTable(
+                                NameIdentifier.of(ident.namespace(), tempAlteredTable.name()))),
+                NoSuchTableException.class);
 
     StringIdentifier stringId = getStringIdFromProperties(alteredTable.properties());
     // Case 1: The table is not created by Gravitino.
@@ -313,6 +398,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     boolean droppedFromCatalog =
         doWithCatalog(
             catalogIdent, c -> c.doWithTableOps(t -> t.dropTable(ident)), RuntimeException.class);
+    invalidatePartitionOps(catalogIdent, ident);
 
     // For unmanaged table, it could happen that the table:
     // 1. Is not found in the catalog (dropped directly from underlying sources)
@@ -361,6 +447,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
             c -> c.doWithTableOps(t -> t.purgeTable(ident)),
             RuntimeException.class,
             UnsupportedOperationException.class);
+    invalidatePartitionOps(catalogIdent, ident);
 
     // For unmanaged table, it could happen that the table:
     // 1. Is not found in the catalog (dropped directly from underlying sources)
@@ -387,13 +474,97 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         : droppedFromCatalog;
   }
 
-  private void importTable(NameIdentifier identifier) {
-    EntityCombinedTable table = internalLoadTable(identifier);
+  private void importTables(
+      NameIdentifier schemaIdent, Map<NameIdentifier, EntityCombinedTable> tables) {
+    // Load the schema to make sure the schema is imported.
+    SchemaDispatcher schemaDispatcher = GravitinoEnv.getInstance().schemaDispatcher();
+    schemaDispatcher.loadSchema(schemaIdent);
+
+    // Import the tables under one schema lock.
+    TreeLockUtils.doWithTreeLock(
+        schemaIdent,
+        LockType.WRITE,
+        () -> {
+          // Keep the failure visible to the caller when only one table is imported.
+          if (tables.size() == 1) {
+            tables.forEach(this::importTable);
+            return null;
+          }
+
+          tables.forEach(
+              (ident, table) -> {
+                try {
+                  importTable(ident, table);
+                } catch (Exception e) {
+                  LOG.warn("Failed to import the table {}", ident, e);
+                }
+              });
+          return null;
+        });
+  }
 
-    if (table.imported()) {
+  /**
+   * Reconciles the table entities of a schema in the store with the tables in the underlying
+   * catalog. The tables missing in the store are imported, and the table entities which stay
+   * vanished from the catalog for the grace period are deleted.
+   *
+   * @param namespace The namespace of the schema.
+   * @param vanishedEntities The entities found vanished by the former reconciliations.
+   * @return The result of the reconciliation.
+   * @throws IOException If the store fails to list or delete the table entities.
+   */
+  ReconcileResult reconcileTables(Namespace namespace, VanishedEntities vanishedEntities)
+      throws IOException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(NameIdentifier.of(namespace.levels()));
+    Table[] listedTables =
+        doWithCatalog(
+            catalogIdent,
+            c -> c.doWithTableOps(t -> t.listTablesInfo(namespace)),
+            NoSuchSchemaException.class);
+    Map<String, Table> tables =
+        Arrays.stream(listedTables).collect(Collectors.toMap(Table::name, t -> t, (t1, t2) -> t1));
+
+    return reconcileEntities(
+        namespace,
+        tables.keySet(),
+        TableEntity.class,
+        TABLE,
+        ident ->
+            doWithCatalog(
+                catalogIdent,
+                c -> c.doWithTableOps(t -> t.tableExists(ident)),
+                RuntimeException.class),
+        ident -> putImportedTable(ident, EntityCombinedTable.of(tables.get(ident.name()))),
+        vanishedEntities);
+  }
+
+  private void importTable(NameIdentifier identifier, EntityCombinedTable table) {
+    // The table was loaded without the schema lock, so check again whether another thread has
+    // imported it. Only the store is checked, the table is not loaded from the catalog again.
+    StringIdentifier stringId = null;
+    try {
+      stringId = table.stringIdentifier();
+    } catch (IllegalArgumentException ie) {
+      LOG.warn(FormattedErrorMessages.STRING_ID_PARSE_ERROR, ie.getMessage());
+    }
+
+    boolean imported =
+        stringId == null
+            ? isEntityExist(identifier, TABLE)
+            : operateOnEntity(
+                    identifier,
+                    ident -> store.get(ident, TABLE, TableEntity.class),
+                    "GET",
+                    stringId.id())
+                != null;
+    if (imported) {
       return;
     }
 
+    putImportedTable(identifier, table);
+  }
+
+  private void putImportedTable(NameIdentifier identifier, EntityCombinedTable table) {
     StringIdentifier stringId = null;
     try {
       stringId = table.stringIdentifier();
@@ -476,4 +647,14 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                 table.properties()))
         .withImported(tableEntity != null);
   }
+
+  private void invalidatePartitionOps(NameIdentifier catalogIdent, NameIdentifier ident) {
+    doWithCatalog(
+        catalogIdent,
+        c -> {
+          c.invalidatePartitionOps(ident);
+          return null;
+        },
+        RuntimeException.class);
+  }
 }
@@ -52,6 +52,13 @@ public class TopicNormalizeDispatcher implements TopicDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public Topic[] listTopicsInfo(Namespace namespace) throws NoSuchSchemaException {
+    // The constraints of the name spec may be more strict than underlying catalog,
+    // and for compatibility reasons, we only apply case-sensitive capabilities here.
+    return dispatcher.listTopicsInfo(normalizeCaseSensitive(namespace));
+  }
+
   @Override
   public Topic loadTopic(NameIdentifier ident) throws NoSuchTopicException {
     // The constraints of the name spec may be more strict than underlying catalog,
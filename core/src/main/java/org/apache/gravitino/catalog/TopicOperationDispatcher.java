@@ -23,8 +23,11 @@ import static org.apache.gravitino.StringIdentifier.fromProperties;
 import static org.apache.gravitino.catalog.PropertiesMetadataHelpers.validatePropertyForCreate;
 import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier;
 
+import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
@@ -32,6 +35,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -79,6 +83,41 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
         NoSuchSchemaException.class);
   }
 
+  /**
+   * List the topics with their metadata in a schema namespace from the catalog.
+   *
+   * @param namespace A schema namespace.
+   * @return An array of topics in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  @Override
+  public Topic[] listTopicsInfo(Namespace namespace) throws NoSuchSchemaException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(NameIdentifier.of(namespace.levels()));
+    Topic[] topics =
+        doWithCatalog(
+            catalogIdent,
+            c -> c.doWithTopicOps(t -> t.listTopicsInfo(namespace)),
+            NoSuchSchemaException.class);
+
+    PropertiesMetadata propertiesMetadata =
+        getPropertiesMetadata(catalogIdent, HasPropertyMetadata::topicPropertiesMetadata);
+    Map<String, TopicEntity> topicEntities =
+        listEntitiesByName(namespace, TopicEntity.class, TOPIC);
+    return Arrays.stream(topics)
+        .map(
+            topic -> {
+              NameIdentifier ident = NameIdentifier.of(namespace, topic.name());
+              TopicEntity topicEntity = findListedEntity(ident, topic.properties(), topicEntities);
+              return EntityCombinedTopic.of(topic, topicEntity)
+                  .withHiddenPropertiesSet(
+                      getHiddenPropertyNames(propertiesMetadata, topic.properties()))
+                  .withImported(
+                      isListedEntityImported(
+                          ident, topic.properties(), topicEntity, topicEntities));
+            })
+        .toArray(Topic[]::new);
+  }
+
   /**
    * Load topic metadata by {@link NameIdentifier} from the catalog.
    *
@@ -143,18 +182,23 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
     Map<String, String> updatedProperties =
         StringIdentifier.newPropertiesWithId(stringId, properties);
 
-    doWithCatalog(
-        catalogIdent,
-        c -> c.doWithTopicOps(t -> t.createTopic(ident, comment, dataLayout, updatedProperties)),
-        NoSuchSchemaException.class,
-        TopicAlreadyExistsException.class);
-
-    // Retrieve the Topic again to obtain some values generated by underlying catalog
-    Topic topic =
+    Topic createdTopic =
         doWithCatalog(
             catalogIdent,
-            c -> c.doWithTopicOps(t -> t.loadTopic(ident)),
-            NoSuchTopicException.class);
+            c ->
+                c.doWithTopicOps(t -> t.createTopic(ident, comment, dataLayout, updatedProperties)),
+            NoSuchSchemaException.class,
+            TopicAlreadyExistsException.class);
+
+    // Retrieve the Topic again to obtain some values generated by underlying catalog, unless the
+    // catalog already returns a fully populated topic
+    Topic topic =
+        isFullyPopulatedOnWrite(catalogIdent, Capability.Scope.TOPIC)
+            ? createdTopic
+            : doWithCatalog(
+                catalogIdent,
+                c -> c.doWithTopicOps(t -> t.loadTopic(ident)),
+                NoSuchTopicException.class);
 
     TopicEntity topicEntity =
         TopicEntity.builder()
@@ -207,15 +251,19 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
             NoSuchTopicException.class,
             IllegalArgumentException.class);
 
-    // Retrieve the Topic again to obtain some values generated by underlying catalog
+    // Retrieve the Topic again to obtain some values generated by underlying catalog, unless the
+    // catalog already returns a fully populated topic
     Topic alteredTopic =
-        doWithCatalog(
-            catalogIdent,
-            c ->
-                c.doWithTopicOps(
-                    t ->
-                        t.loadTopic(NameIdentifier.of(ident.namespace(), tempAlteredTopic.name()))),
-            NoSuchTopicException.class);
+        isFullyPopulatedOnWrite(catalogIdent, Capability.Scope.TOPIC)
+            ? tempAlteredTopic
+            : doWithCatalog(
+                catalogIdent,
+                c ->
+                    c.doWithTopicOps(
+                        t ->
+                            t.loadTopic(
+                                NameIdentifier.of(ident.namespace(), tempAlteredTopic.name()))),
+                NoSuchTopicException.class);
 
     TopicEntity updatedTopicEntity =
         operateOnEntity(
@@ -292,6 +340,46 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
         : droppedFromCatalog;
   }
 
+  /**
+   * Reconciles the topic entities of a schema in the store with the topics in the underlying
+   * catalog. The topics missing in the store are imported, and the topic entities which stay
+   * vanished from the catalog for the grace period are deleted.
+   *
+   * @param namespace The namespace of the schema.
+   * @param vanishedEntities The entities found vanished by the former reconciliations.
+   * @return The result of the reconciliation.
+   * @throws IOException If the store fails to list or delete the topic entities.
+   */
+  ReconcileResult reconcileTopics(Namespace namespace, VanishedEntities vanishedEntities)
+      throws IOException {
+    NameIdentifier catalogIdent = getCatalogIdentifier(NameIdentifier.of(namespace.levels()));
+    // If the Topic is maintained by the entity store, there is nothing to reconcile.
+    if (isManagedEntity(catalogIdent, Capability.Scope.TOPIC)) {
+      return ReconcileResult.EMPTY;
+    }
+
+    Topic[] listedTopics =
+        doWithCatalog(
+            catalogIdent,
+            c -> c.doWithTopicOps(t -> t.listTopicsInfo(namespace)),
+            NoSuchSchemaException.class);
+    Map<String, Topic> topics =
+        Arrays.stream(listedTopics).collect(Collectors.toMap(Topic::name, t -> t, (t1, t2) -> t1));
+
+    return reconcileEntities(
+        namespace,
+        topics.keySet(),
+        TopicEntity.class,
+        TOPIC,
+        ident ->
+            doWithCatalog(
+                catalogIdent,
+                c -> c.doWithTopicOps(t -> t.topicExists(ident)),
+                RuntimeException.class),
+        ident -> putImportedTopic(ident, EntityCombinedTopic.of(topics.get(ident.name()))),
+        vanishedEntities);
+  }
+
   private void importTopic(NameIdentifier identifier) {
 
     EntityCombinedTopic topic = internalLoadTopic(identifier);
@@ -300,6 +388,10 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
       return;
     }
 
+    putImportedTopic(identifier, topic);
+  }
+
+  private void putImportedTopic(NameIdentifier identifier, EntityCombinedTopic topic) {
     StringIdentifier stringId = null;
     try {
       stringId = topic.stringIdentifier();
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+
+/**
+ * Tracks the entities whose objects are no longer found in the underlying catalogs. An entity is
+ * only deleted after its object stays vanished for the grace period, so an object which vanishes
+ * temporarily, e.g. while it is recreated or migrated, keeps the tags, owners and privileges
+ * attached to its entity.
+ */
+class VanishedEntities {
+
+  private final long gracePeriodMs;
+  // The entity id and the time when the object was found vanished, by the entity identifier.
+  private final Map<NameIdentifier, long[]> vanishedSince = new ConcurrentHashMap<>();
+
+  VanishedEntities(long gracePeriodMs) {
+    this.gracePeriodMs = gracePeriodMs;
+  }
+
+  /**
+   * Marks the entity as vanished if it's not marked yet.
+   *
+   * @param ident The identifier of the entity.
+   * @param entityId The id of the entity, an entity recreated with another id is marked again.
+   * @param now The current time in milliseconds.
+   * @return True if the entity has vanished for the grace period and should be deleted.
+   */
+  boolean markVanished(NameIdentifier ident, long entityId, long now) {
+    long[] mark =
+        vanishedSince.compute(
+            ident, (k, m) -> m == null || m[0] != entityId ? new long[] {entityId, now} : m);
+    return now - mark[1] >= gracePeriodMs;
+  }
+
+  /**
+   * Removes the marks of the entities in the namespace which are not vanished any more.
+   *
+   * @param namespace The namespace of the entities.
+   * @param vanished The identifiers of the entities still vanished in the namespace.
+   */
+  void retainVanished(Namespace namespace, Set<NameIdentifier> vanished) {
+    vanishedSince
+        .keySet()
+        .removeIf(ident -> ident.namespace().equals(namespace) && !vanished.contains(ident));
+  }
+
+  /**
+   * Removes the marks of a deleted entity and its children.
+   *
+   * @param ident The identifier of the deleted entity.
+   */
+  void onDeleted(NameIdentifier ident) {
+    vanishedSince.keySet().removeIf(k -> k.equals(ident) || isChild(ident, k));
+  }
+
+  private static boolean isChild(NameIdentifier parent, NameIdentifier ident) {
+    String[] parentLevels = parent.namespace().levels();
+    String[] levels = ident.namespace().levels();
+    return levels.length > parentLevels.length
+        && Arrays.equals(parentLevels, Arrays.copyOf(levels, parentLevels.length))
+        && levels[parentLevels.length].equals(parent.name());
+  }
+
+  /** @return The number of the entities marked as vanished. */
+  int size() {
+    return vanishedSince.size();
+  }
+}
@@ -59,4 +59,7 @@ public final class ConfigConstants {
 
   /** The version number for the 0.6.0 release. */
   public static final String VERSION_0_6_0 = "0.6.0";
+
+  /** The version number for the 0.7.0 release. */
+  public static final String VERSION_0_7_0 = "0.7.0";
 }
@@ -20,6 +20,8 @@
 
 package org.apache.gravitino.connector;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
@@ -51,6 +53,30 @@ public interface SupportsSchemas {
    */
   NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException;
 
+  /**
+   * List schemas with their metadata under a namespace.
+   *
+   * <p>The default implementation lists the schema identifiers and loads the schemas one by one.
+   * Catalogs that can fetch the metadata of multiple schemas in one call to the underlying source
+   * should override this method.
+   *
+   * @param namespace The namespace to list.
+   * @return An array of schemas under the namespace.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  default Schema[] listSchemasInfo(Namespace namespace) throws NoSuchCatalogException {
+    NameIdentifier[] idents = listSchemas(namespace);
+    List<Schema> schemas = new ArrayList<>(idents.length);
+    for (NameIdentifier ident : idents) {
+      try {
+        schemas.add(loadSchema(ident));
+      } catch (NoSuchSchemaException e) {
+        // The schema is dropped after listing, skip it.
+      }
+    }
+    return schemas.toArray(new Schema[0]);
+  }
+
   /**
    * Check if a schema exists.
    *
@@ -91,6 +91,18 @@ public interface Capability {
     return DEFAULT.managedStorage(scope);
   }
 
+  /**
+   * Check if the entity returned by the create and alter operations in the scope is fully
+   * populated, that is, it already contains all the values generated by the underlying catalog, so
+   * Gravitino doesn't need to load it again after the operation.
+   *
+   * @param scope The scope of the capability.
+   * @return The capability of returning the fully populated entity on write.
+   */
+  default CapabilityResult fullyPopulatedOnWrite(Scope scope) {
+    return DEFAULT.fullyPopulatedOnWrite(scope);
+  }
+
   /** The default implementation of the capability. */
   class DefaultCapability implements Capability {
 
@@ -143,5 +155,12 @@ public interface Capability {
       return CapabilityResult.unsupported(
           String.format("The %s entity is not fully managed by Gravitino.", scope));
     }
+
+    @Override
+    public CapabilityResult fullyPopulatedOnWrite(Scope scope) {
+      return CapabilityResult.unsupported(
+          String.format(
+              "The %s entity returned on write is not fully populated by the catalog.", scope));
+    }
   }
 }
@@ -51,6 +51,11 @@ public class FilesetHookDispatcher implements FilesetDispatcher {
     return dispatcher.listFilesets(namespace);
   }
 
+  @Override
+  public Fileset[] listFilesetsInfo(Namespace namespace) throws NoSuchSchemaException {
+    return dispatcher.listFilesetsInfo(namespace);
+  }
+
   @Override
   public Fileset loadFileset(NameIdentifier ident) throws NoSuchFilesetException {
     return dispatcher.loadFileset(ident);
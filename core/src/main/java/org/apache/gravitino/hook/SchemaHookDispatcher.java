@@ -52,6 +52,11 @@ public class SchemaHookDispatcher implements SchemaDispatcher {
     return dispatcher.listSchemas(namespace);
   }
 
+  @Override
+  public Schema[] listSchemasInfo(Namespace namespace) throws NoSuchCatalogException {
+    return dispatcher.listSchemasInfo(namespace);
+  }
+
   @Override
   public Schema createSchema(NameIdentifier ident, String comment, Map<String, String> properties)
       throws NoSuchCatalogException, SchemaAlreadyExistsException {
@@ -56,6 +56,11 @@ public class TableHookDispatcher implements TableDispatcher {
     return dispatcher.listTables(namespace);
   }
 
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    return dispatcher.listTablesInfo(namespace);
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     return dispatcher.loadTable(ident);
@@ -52,6 +52,11 @@ public class TopicHookDispatcher implements TopicDispatcher {
     return dispatcher.listTopics(namespace);
   }
 
+  @Override
+  public Topic[] listTopicsInfo(Namespace namespace) throws NoSuchSchemaException {
+    return dispatcher.listTopicsInfo(namespace);
+  }
+
   @Override
   public Topic loadTopic(NameIdentifier ident) throws NoSuchTopicException {
     return dispatcher.loadTopic(ident);
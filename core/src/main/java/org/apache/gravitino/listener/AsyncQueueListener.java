@@ -19,15 +19,18 @@
 
 package org.apache.gravitino.listener;
 
+import com.codahale.metrics.Counter;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.Event;
 import org.slf4j.Logger;
@@ -38,33 +41,83 @@ import org.slf4j.LoggerFactory;
  * dispatcher thread to dispatch event to the real listeners. For default AsyncQueueListener it may
  * contain multi listeners share with one queue and dispatcher thread. For other
  * AsyncQueueDispatchers, contain only one listener.
+ *
+ * <p>With more than one dispatcher thread, the queue is split into partitions, each drained by its
+ * own thread. The events are assigned to the partitions by the hash of their identifiers, so the
+ * events of the same object are still processed in order, while the events of different objects are
+ * processed in parallel.
+ *
+ * <p>The queues are linked blocking queues by default, or lock-free ring buffers with the wait
+ * strategy and the overflow policy configured.
  */
 public class AsyncQueueListener implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(AsyncQueueListener.class);
   private static final String NAME_PREFIX = "async-queue-listener-";
 
   private final List<EventListenerPlugin> eventListeners;
-  private final BlockingQueue<Event> queue;
-  private final Thread asyncProcessor;
+  private final InterestedListeners interestedListeners;
+  private final Partition[] partitions;
   private final int dispatcherJoinSeconds;
+  private final int maxBatchSize;
+  private final long batchLingerNanos;
   private final AtomicBoolean stopped = new AtomicBoolean(false);
   private final AtomicLong dropEventCounters = new AtomicLong(0);
   private final AtomicLong lastDropEventCounters = new AtomicLong(0);
-  private Instant lastRecordDropEventTime;
+  private volatile Instant lastRecordDropEventTime = Instant.now();
+  private final Counter droppedEvents;
   private final String asyncQueueListenerName;
 
   public AsyncQueueListener(
       List<EventListenerPlugin> listeners,
       String name,
       int queueCapacity,
-      int dispatcherJoinSeconds) {
+      int dispatcherJoinSeconds,
+      int dispatcherThreads,
+      int maxBatchSize,
+      long batchLingerMs,
+      EventListenerMetricsSource metricsSource) {
+    this(
+        listeners,
+        name,
+        queueCapacity,
+        dispatcherJoinSeconds,
+        dispatcherThreads,
+        maxBatchSize,
+        batchLingerMs,
+        metricsSource,
+        EventQueueFactory.LINKED);
+  }
+
+  AsyncQueueListener(
+      List<EventListenerPlugin> listeners,
+      String name,
+      int queueCapacity,
+      int dispatcherJoinSeconds,
+      int dispatcherThreads,
+      int maxBatchSize,
+      long batchLingerMs,
+      EventListenerMetricsSource metricsSource,
+      EventQueueFactory queueFactory) {
     this.asyncQueueListenerName = NAME_PREFIX + name;
     this.eventListeners = listeners;
-    this.queue = new LinkedBlockingQueue<>(queueCapacity);
-    this.asyncProcessor = new Thread(() -> processEvents());
+    this.interestedListeners = new InterestedListeners(listeners);
     this.dispatcherJoinSeconds = dispatcherJoinSeconds;
-    asyncProcessor.setDaemon(true);
-    asyncProcessor.setName(asyncQueueListenerName);
+    this.maxBatchSize = maxBatchSize;
+    this.batchLingerNanos = TimeUnit.MILLISECONDS.toNanos(batchLingerMs);
+
+    // The capacity is shared by the partitions, so the memory bound is the same as one queue.
+    int partitionCapacity =
+        Math.max(1, (queueCapacity + dispatcherThreads - 1) / dispatcherThreads);
+    this.partitions = new Partition[dispatcherThreads];
+    for (int i = 0; i < dispatcherThreads; i++) {
+      String threadName =
+          dispatcherThreads == 1 ? asyncQueueListenerName : asyncQueueListenerName + "-" + i;
+      partitions[i] =
+          new Partition(threadName, queueFactory.create(partitionCapacity, this::onDropOldest));
+    }
+
+    this.droppedEvents = metricsSource.droppedEvents(asyncQueueListenerName);
+    metricsSource.registerQueueDepth(asyncQueueListenerName, this::queueDepth);
   }
 
   @Override
@@ -77,13 +130,24 @@ public class AsyncQueueListener implements EventListenerPlugin {
       return;
     }
 
-    if (queue.offer(event)) {
+    if (partitionOf(event.identifier()).queue.offer(event)) {
       return;
     }
 
+    droppedEvents.inc();
     logDropEventsIfNecessary();
   }
 
+  private void onDropOldest(Event event) {
+    droppedEvents.inc();
+    logDropEventsIfNecessary();
+  }
+
+  @Override
+  public boolean isInterestedIn(Class<? extends Event> eventClass) {
+    return !interestedListeners.get(eventClass).isEmpty();
+  }
+
   @Override
   public void init(Map<String, String> properties) {
     throw new RuntimeException(
@@ -93,16 +157,26 @@ public class AsyncQueueListener implements EventListenerPlugin {
   @Override
   public void start() {
     eventListeners.forEach(listenerPlugin -> listenerPlugin.start());
-    asyncProcessor.start();
+    for (Partition partition : partitions) {
+      partition.processor.start();
+    }
   }
 
   @Override
   public void stop() {
     Preconditions.checkState(!stopped.get(), asyncQueueListenerName + " had already stopped");
     stopped.compareAndSet(false, true);
-    asyncProcessor.interrupt();
+    for (Partition partition : partitions) {
+      partition.processor.interrupt();
+    }
+
+    // All the processors share the join timeout.
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(dispatcherJoinSeconds);
     try {
-      asyncProcessor.join(dispatcherJoinSeconds * 1000L);
+      for (Partition partition : partitions) {
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        partition.processor.join(Math.max(1, remainingMs));
+      }
     } catch (InterruptedException e) {
       LOG.warn("{} interrupt async processor failed.", asyncQueueListenerName, e);
     }
@@ -114,27 +188,70 @@ public class AsyncQueueListener implements EventListenerPlugin {
     return this.eventListeners;
   }
 
-  private void processEvents() {
+  @VisibleForTesting
+  int queueDepth() {
+    int depth = 0;
+    for (Partition partition : partitions) {
+      depth += partition.queue.size();
+    }
+    return depth;
+  }
+
+  private Partition partitionOf(NameIdentifier identifier) {
+    if (partitions.length == 1 || identifier == null) {
+      return partitions[0];
+    }
+
+    int hash = identifier.hashCode();
+    // Spread the high bits, the hash codes of the identifiers are often alike in the low bits.
+    hash ^= (hash >>> 16);
+    return partitions[Math.floorMod(hash, partitions.length)];
+  }
+
+  private void processEvents(BlockingQueue<Event> queue) {
+    List<Event> batch = new ArrayList<>(maxBatchSize);
     while (!Thread.currentThread().isInterrupted()) {
       try {
-        Event event = queue.take();
-        this.eventListeners.forEach(listener -> listener.onPostEvent(event));
+        batch.add(queue.take());
+        fillBatch(queue, batch);
       } catch (InterruptedException e) {
-        LOG.warn("{} event dispatcher thread is interrupted.", asyncQueueListenerName);
+        LOG.warn("{} event dispatcher thread is interrupted.", Thread.currentThread().getName());
+        // Dispatch the events already taken from the queue.
+        interestedListeners.dispatch(batch, asyncQueueListenerName);
         break;
-      } catch (Exception e) {
-        LOG.warn("{} throw a exception while processing event", asyncQueueListenerName, e);
       }
+
+      interestedListeners.dispatch(batch, asyncQueueListenerName);
+      batch.clear();
     }
 
     if (!queue.isEmpty()) {
       LOG.warn(
           "{} drop {} events since dispatch thread is interrupted",
-          asyncQueueListenerName,
+          Thread.currentThread().getName(),
           queue.size());
     }
   }
 
+  private void fillBatch(BlockingQueue<Event> queue, List<Event> batch)
+      throws InterruptedException {
+    queue.drainTo(batch, maxBatchSize - batch.size());
+    if (batchLingerNanos <= 0) {
+      return;
+    }
+
+    long deadline = System.nanoTime() + batchLingerNanos;
+    while (batch.size() < maxBatchSize) {
+      long remainingNanos = deadline - System.nanoTime();
+      Event event = remainingNanos > 0 ? queue.poll(remainingNanos, TimeUnit.NANOSECONDS) : null;
+      if (event == null) {
+        return;
+      }
+      batch.add(event);
+      queue.drainTo(batch, maxBatchSize - batch.size());
+    }
+  }
+
   private void logDropEventsIfNecessary() {
     long currentDropEvents = dropEventCounters.incrementAndGet();
     long lastDropEvents = lastDropEventCounters.get();
@@ -154,4 +271,17 @@ public class AsyncQueueListener implements EventListenerPlugin {
       }
     }
   }
+
+  /** A queue with the thread dispatching its events. */
+  private final class Partition {
+    private final BlockingQueue<Event> queue;
+    private final Thread processor;
+
+    private Partition(String threadName, BlockingQueue<Event> queue) {
+      this.queue = queue;
+      this.processor = new Thread(() -> processEvents(queue));
+      processor.setDaemon(true);
+      processor.setName(threadName);
+    }
+  }
 }
@@ -67,11 +67,14 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
   public NameIdentifier[] listCatalogs(Namespace namespace) throws NoSuchMetalakeException {
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listCatalogs(namespace);
-      eventBus.dispatchEvent(new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListCatalogEvent.class,
+          () -> new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), e, namespace));
+          ListCatalogFailureEvent.class,
+          () -> new ListCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), e, namespace));
       throw e;
     }
   }
@@ -80,11 +83,14 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
   public Catalog[] listCatalogsInfo(Namespace namespace) throws NoSuchMetalakeException {
     try {
       Catalog[] catalogs = dispatcher.listCatalogsInfo(namespace);
-      eventBus.dispatchEvent(new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListCatalogEvent.class,
+          () -> new ListCatalogEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return catalogs;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), e, namespace));
+          ListCatalogFailureEvent.class,
+          () -> new ListCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), e, namespace));
       throw e;
     }
   }
@@ -94,12 +100,15 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
     try {
       Catalog catalog = dispatcher.loadCatalog(ident);
       eventBus.dispatchEvent(
-          new LoadCatalogEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new CatalogInfo(catalog)));
+          LoadCatalogEvent.class,
+          () ->
+              new LoadCatalogEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new CatalogInfo(catalog)));
       return catalog;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new LoadCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          LoadCatalogFailureEvent.class,
+          () -> new LoadCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -115,15 +124,19 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
     try {
       Catalog catalog = dispatcher.createCatalog(ident, type, provider, comment, properties);
       eventBus.dispatchEvent(
-          new CreateCatalogEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new CatalogInfo(catalog)));
+          CreateCatalogEvent.class,
+          () ->
+              new CreateCatalogEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new CatalogInfo(catalog)));
       return catalog;
     } catch (Exception e) {
       CatalogInfo createCatalogRequest =
           new CatalogInfo(ident.name(), type, provider, comment, properties, null);
       eventBus.dispatchEvent(
-          new CreateCatalogFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, createCatalogRequest));
+          CreateCatalogFailureEvent.class,
+          () ->
+              new CreateCatalogFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, createCatalogRequest));
       throw e;
     }
   }
@@ -134,12 +147,19 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
     try {
       Catalog catalog = dispatcher.alterCatalog(ident, changes);
       eventBus.dispatchEvent(
-          new AlterCatalogEvent(
-              PrincipalUtils.getCurrentUserName(), ident, changes, new CatalogInfo(catalog)));
+          AlterCatalogEvent.class,
+          () ->
+              new AlterCatalogEvent(
+                  PrincipalUtils.getCurrentUserName(),
+                  ident,
+                  changes,
+                  () -> new CatalogInfo(catalog)));
       return catalog;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new AlterCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
+          AlterCatalogFailureEvent.class,
+          () ->
+              new AlterCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
       throw e;
     }
   }
@@ -149,11 +169,13 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
     try {
       boolean isExists = dispatcher.dropCatalog(ident);
       eventBus.dispatchEvent(
-          new DropCatalogEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
+          DropCatalogEvent.class,
+          () -> new DropCatalogEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          DropCatalogFailureEvent.class,
+          () -> new DropCatalogFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
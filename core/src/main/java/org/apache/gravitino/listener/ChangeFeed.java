@@ -0,0 +1,375 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.AddPartitionEvent;
+import org.apache.gravitino.listener.api.event.AlterCatalogEvent;
+import org.apache.gravitino.listener.api.event.AlterFilesetEvent;
+import org.apache.gravitino.listener.api.event.AlterMetalakeEvent;
+import org.apache.gravitino.listener.api.event.AlterSchemaEvent;
+import org.apache.gravitino.listener.api.event.AlterTableEvent;
+import org.apache.gravitino.listener.api.event.AlterTopicEvent;
+import org.apache.gravitino.listener.api.event.CreateCatalogEvent;
+import org.apache.gravitino.listener.api.event.CreateFilesetEvent;
+import org.apache.gravitino.listener.api.event.CreateMetalakeEvent;
+import org.apache.gravitino.listener.api.event.CreateSchemaEvent;
+import org.apache.gravitino.listener.api.event.CreateTableEvent;
+import org.apache.gravitino.listener.api.event.CreateTopicEvent;
+import org.apache.gravitino.listener.api.event.DropCatalogEvent;
+import org.apache.gravitino.listener.api.event.DropFilesetEvent;
+import org.apache.gravitino.listener.api.event.DropMetalakeEvent;
+import org.apache.gravitino.listener.api.event.DropPartitionEvent;
+import org.apache.gravitino.listener.api.event.DropSchemaEvent;
+import org.apache.gravitino.listener.api.event.DropTableEvent;
+import org.apache.gravitino.listener.api.event.DropTopicEvent;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.PurgePartitionEvent;
+import org.apache.gravitino.listener.api.event.PurgeTableEvent;
+
+/**
+ * Keeps the recent create, alter and drop changes of the metadata objects, fed by the events of the
+ * event bus, so the clients can invalidate their caches by the changes instead of polling the
+ * objects.
+ *
+ * <p>Each change gets a sequence number, increasing by one from 1. The feed keeps the changes in a
+ * ring of a fixed capacity, and the sequence numbers restart with the server, so each feed has a
+ * random epoch. A client reading from a sequence no longer kept, or of another epoch, must reset
+ * its cache.
+ *
+ * <p>The changes of the partitions are reported as the changes of their tables. The drops of the
+ * objects not existing aren't reported.
+ */
+public class ChangeFeed implements EventListenerPlugin {
+
+  /** The operation of a change. */
+  public enum Operation {
+    CREATE,
+    ALTER,
+    DROP
+  }
+
+  /** A change of a metadata object. */
+  public static final class Change {
+    private final long sequence;
+    private final Operation operation;
+    private final MetadataObject.Type objectType;
+    private final NameIdentifier identifier;
+    private final long eventTime;
+
+    private Change(
+        long sequence,
+        Operation operation,
+        MetadataObject.Type objectType,
+        NameIdentifier identifier,
+        long eventTime) {
+      this.sequence = sequence;
+      this.operation = operation;
+      this.objectType = objectType;
+      this.identifier = identifier;
+      this.eventTime = eventTime;
+    }
+
+    /** @return The sequence number of the change. */
+    public long sequence() {
+      return sequence;
+    }
+
+    /** @return The operation of the change. */
+    public Operation operation() {
+      return operation;
+    }
+
+    /** @return The type of the object changed. */
+    public MetadataObject.Type objectType() {
+      return objectType;
+    }
+
+    /** @return The identifier of the object changed, before the change for renames. */
+    public NameIdentifier identifier() {
+      return identifier;
+    }
+
+    /** @return The time in milliseconds of the change. */
+    public long eventTime() {
+      return eventTime;
+    }
+  }
+
+  /** The changes read from the feed. */
+  public static final class Page {
+    private final boolean reset;
+    private final long latestSequence;
+    private final List<Change> changes;
+
+    private Page(boolean reset, long latestSequence, List<Change> changes) {
+      this.reset = reset;
+      this.latestSequence = latestSequence;
+      this.changes = changes;
+    }
+
+    /** @return True if the client should reset its cache, since the changes are incomplete. */
+    public boolean reset() {
+      return reset;
+    }
+
+    /**
+     * @return The sequence to read the next page from, the sequence of the last change read or the
+     *     latest sequence of the feed if no change is read.
+     */
+    public long latestSequence() {
+      return latestSequence;
+    }
+
+    /** @return The changes read. */
+    public List<Change> changes() {
+      return changes;
+    }
+  }
+
+  private static final class Kind {
+    private final Operation operation;
+    private final MetadataObject.Type objectType;
+
+    private Kind(Operation operation, MetadataObject.Type objectType) {
+      this.operation = operation;
+      this.objectType = objectType;
+    }
+  }
+
+  private static final Map<Class<? extends Event>, Kind> KINDS =
+      ImmutableMap.<Class<? extends Event>, Kind>builder()
+          .put(CreateMetalakeEvent.class, kind(Operation.CREATE, MetadataObject.Type.METALAKE))
+          .put(AlterMetalakeEvent.class, kind(Operation.ALTER, MetadataObject.Type.METALAKE))
+          .put(DropMetalakeEvent.class, kind(Operation.DROP, MetadataObject.Type.METALAKE))
+          .put(CreateCatalogEvent.class, kind(Operation.CREATE, MetadataObject.Type.CATALOG))
+          .put(AlterCatalogEvent.class, kind(Operation.ALTER, MetadataObject.Type.CATALOG))
+          .put(DropCatalogEvent.class, kind(Operation.DROP, MetadataObject.Type.CATALOG))
+          .put(CreateSchemaEvent.class, kind(Operation.CREATE, MetadataObject.Type.SCHEMA))
+          .put(AlterSchemaEvent.class, kind(Operation.ALTER, MetadataObject.Type.SCHEMA))
+          .put(DropSchemaEvent.class, kind(Operation.DROP, MetadataObject.Type.SCHEMA))
+          .put(CreateTableEvent.class, kind(Operation.CREATE, MetadataObject.Type.TABLE))
+          .put(AlterTableEvent.class, kind(Operation.ALTER, MetadataObject.Type.TABLE))
+          .put(DropTableEvent.class, kind(Operation.DROP, MetadataObject.Type.TABLE))
+          .put(PurgeTableEvent.class, kind(Operation.DROP, MetadataObject.Type.TABLE))
+          .put(AddPartitionEvent.class, kind(Operation.ALTER, MetadataObject.Type.TABLE))
+          .put(DropPartitionEvent.class, kind(Operation.ALTER, MetadataObject.Type.TABLE))
+          .put(PurgePartitionEvent.class, kind(Operation.ALTER, MetadataObject.Type.TABLE))
+          .put(CreateFilesetEvent.class, kind(Operation.CREATE, MetadataObject.Type.FILESET))
+          .put(AlterFilesetEvent.class, kind(Operation.ALTER, MetadataObject.Type.FILESET))
+          .put(DropFilesetEvent.class, kind(Operation.DROP, MetadataObject.Type.FILESET))
+          .put(CreateTopicEvent.class, kind(Operation.CREATE, MetadataObject.Type.TOPIC))
+          .put(AlterTopicEvent.class, kind(Operation.ALTER, MetadataObject.Type.TOPIC))
+          .put(DropTopicEvent.class, kind(Operation.DROP, MetadataObject.Type.TOPIC))
+          .build();
+
+  private final String epoch = UUID.randomUUID().toString();
+  private final Change[] changes;
+  // Guarded by this.
+  private long latestSequence;
+  private final Set<Runnable> waiters = new LinkedHashSet<>();
+  private volatile boolean running;
+
+  /**
+   * Creates a change feed.
+   *
+   * @param capacity The number of the recent changes kept.
+   */
+  public ChangeFeed(int capacity) {
+    Preconditions.checkArgument(capacity > 0, "The capacity must be positive");
+    this.changes = new Change[capacity];
+  }
+
+  /** @return The epoch of the feed, which changes when the server restarts. */
+  public String epoch() {
+    return epoch;
+  }
+
+  /**
+   * Reads the changes of a metalake after a sequence. If the changes after the sequence aren't all
+   * kept, the page is a reset without changes, and the client should read from its latest sequence
+   * after resetting its cache.
+   *
+   * @param metalake The name of the metalake.
+   * @param epoch The epoch of the feed the sequence is read from, or null if it isn't known.
+   * @param afterSequence The sequence of the last change the client has read, or a negative number
+   *     to read from the latest sequence.
+   * @param limit The maximum number of changes to read.
+   * @return The changes read.
+   */
+  public synchronized Page read(String metalake, String epoch, long afterSequence, int limit) {
+    if (afterSequence < 0) {
+      return new Page(false, latestSequence, ImmutableList.of());
+    }
+
+    long oldestSequence = Math.max(1, latestSequence - changes.length + 1);
+    if ((epoch != null && !epoch.equals(this.epoch))
+        || afterSequence > latestSequence
+        || afterSequence + 1 < oldestSequence) {
+      return new Page(true, latestSequence, ImmutableList.of());
+    }
+
+    ImmutableList.Builder<Change> builder = ImmutableList.builder();
+    long sequence = afterSequence;
+    int count = 0;
+    while (sequence < latestSequence && count < limit) {
+      sequence++;
+      Change change = changes[(int) ((sequence - 1) % changes.length)];
+      if (metalakeOf(change.identifier).equals(metalake)) {
+        builder.add(change);
+        count++;
+      }
+    }
+    return new Page(false, sequence, builder.build());
+  }
+
+  /**
+   * Registers a waiter run once by the next change of the feed. The waiter is run by the thread
+   * adding the change, so it should hand the work over to another thread.
+   *
+   * @param afterSequence The sequence the caller has read to.
+   * @param waiter The waiter to run.
+   * @return True if the waiter is registered, false if the feed has changed after the sequence, and
+   *     the caller should read the feed again.
+   */
+  public synchronized boolean awaitChange(long afterSequence, Runnable waiter) {
+    if (afterSequence != latestSequence || !running) {
+      return false;
+    }
+    waiters.add(waiter);
+    return true;
+  }
+
+  /**
+   * Removes a waiter registered, e.g. when the caller stops waiting.
+   *
+   * @param waiter The waiter to remove.
+   */
+  public synchronized void removeWaiter(Runnable waiter) {
+    waiters.remove(waiter);
+  }
+
+  /** @return True if the feed is fed by the event bus. */
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public void onPostEvent(Event event) {
+    Kind kind = KINDS.get(event.getClass());
+    if (kind == null || event.identifier() == null || !isChanged(event)) {
+      return;
+    }
+
+    List<Runnable> changeWaiters;
+    synchronized (this) {
+      latestSequence++;
+      changes[(int) ((latestSequence - 1) % changes.length)] =
+          new Change(
+              latestSequence,
+              kind.operation,
+              kind.objectType,
+              event.identifier(),
+              event.eventTime());
+      changeWaiters = takeWaiters();
+    }
+    // Run the waiters outside the lock, they may read the feed.
+    changeWaiters.forEach(Runnable::run);
+  }
+
+  @Override
+  public boolean isInterestedIn(Class<? extends Event> eventClass) {
+    return KINDS.containsKey(eventClass);
+  }
+
+  @Override
+  public void init(Map<String, String> properties) {}
+
+  @Override
+  public void start() {
+    running = true;
+  }
+
+  @Override
+  public void stop() {
+    // Release the waiters.
+    List<Runnable> changeWaiters;
+    synchronized (this) {
+      running = false;
+      changeWaiters = takeWaiters();
+    }
+    changeWaiters.forEach(Runnable::run);
+  }
+
+  @Override
+  public Mode mode() {
+    return Mode.SYNC;
+  }
+
+  private List<Runnable> takeWaiters() {
+    if (waiters.isEmpty()) {
+      return ImmutableList.of();
+    }
+    List<Runnable> taken = new ArrayList<>(waiters);
+    waiters.clear();
+    return taken;
+  }
+
+  private static boolean isChanged(Event event) {
+    if (event instanceof DropMetalakeEvent) {
+      return ((DropMetalakeEvent) event).isExists();
+    } else if (event instanceof DropCatalogEvent) {
+      return ((DropCatalogEvent) event).isExists();
+    } else if (event instanceof DropSchemaEvent) {
+      return ((DropSchemaEvent) event).isExists();
+    } else if (event instanceof DropTableEvent) {
+      return ((DropTableEvent) event).isExists();
+    } else if (event instanceof PurgeTableEvent) {
+      return ((PurgeTableEvent) event).isExists();
+    } else if (event instanceof DropPartitionEvent) {
+      return ((DropPartitionEvent) event).isExists();
+    } else if (event instanceof PurgePartitionEvent) {
+      return ((PurgePartitionEvent) event).isExists();
+    } else if (event instanceof DropFilesetEvent) {
+      return ((DropFilesetEvent) event).isExists();
+    } else if (event instanceof DropTopicEvent) {
+      return ((DropTopicEvent) event).isExists();
+    }
+    return true;
+  }
+
+  private static String metalakeOf(NameIdentifier identifier) {
+    return identifier.hasNamespace() ? identifier.namespace().level(0) : identifier.name();
+  }
+
+  private static Kind kind(Operation operation, MetadataObject.Type objectType) {
+    return new Kind(operation, objectType);
+  }
+}
@@ -0,0 +1,464 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only log of the events of a durable async queue, stored in memory-mapped segment files.
+ *
+ * <p>Each segment is preallocated and named by the offset of its first byte in the log. A record is
+ * laid out as {@code [length][crc32][payload]}, the length is written last, so a record torn by a
+ * crash is detected and truncated on recovery. A record that doesn't fit in the rest of a segment
+ * rolls the log to a new segment.
+ *
+ * <p>The appends don't wait for the disk, a flusher thread forces the dirty segments and persists
+ * the checkpoint of the consumer periodically, so the appends of an interval are committed
+ * together. The segments consumed entirely are deleted by the flusher, as well as the oldest
+ * segments beyond the retention size.
+ */
+class DurableEventLog implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(DurableEventLog.class);
+
+  private static final int HEADER_BYTES = 8;
+  private static final int ROLL_MARKER = -1;
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final String CHECKPOINT_FILE = "checkpoint";
+
+  /** A record read from the log. */
+  static final class Record {
+    private final long offset;
+    private final long nextOffset;
+    private final byte[] payload;
+
+    private Record(long offset, long nextOffset, byte[] payload) {
+      this.offset = offset;
+      this.nextOffset = nextOffset;
+      this.payload = payload;
+    }
+
+    long offset() {
+      return offset;
+    }
+
+    long nextOffset() {
+      return nextOffset;
+    }
+
+    byte[] payload() {
+      return payload;
+    }
+  }
+
+  private final Path dir;
+  private final int segmentBytes;
+  private final long retentionBytes;
+  private final long flushIntervalMs;
+  private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+  private final Set<Segment> dirtySegments = ConcurrentHashMap.newKeySet();
+  private final AtomicLong checkpoint = new AtomicLong();
+  private final CRC32 crc = new CRC32();
+  private final Object flushLock = new Object();
+  private final Thread flusher;
+
+  private volatile Segment activeSegment;
+  private volatile long endOffset;
+  private volatile boolean closed;
+  // Guarded by the flush lock.
+  private long persistedCheckpoint;
+
+  DurableEventLog(
+      Path dir, int segmentBytes, long retentionBytes, long flushIntervalMs, String name)
+      throws IOException {
+    Preconditions.checkArgument(
+        segmentBytes > HEADER_BYTES, "Segment size must be larger than %s", HEADER_BYTES);
+    this.dir = dir;
+    this.segmentBytes = segmentBytes;
+    this.retentionBytes = retentionBytes;
+    this.flushIntervalMs = flushIntervalMs;
+
+    Files.createDirectories(dir);
+    recover();
+
+    this.flusher = new Thread(this::flushPeriodically);
+    flusher.setDaemon(true);
+    flusher.setName(name + "-flusher");
+    flusher.start();
+  }
+
+  /**
+   * Appends a record to the log, the record is visible to the readers once this method returns.
+   *
+   * @param payload The payload of the record, must not be empty.
+   * @param beforePublish Called with the offset of the record before it is visible to the readers.
+   * @return The offset of the record.
+   */
+  synchronized long append(byte[] payload, LongConsumer beforePublish) throws IOException {
+    Preconditions.checkState(!closed, "The event log %s is closed", dir);
+    Preconditions.checkArgument(payload.length > 0, "The payload must not be empty");
+    int recordBytes = HEADER_BYTES + payload.length;
+    Preconditions.checkArgument(
+        recordBytes <= segmentBytes,
+        "The record of %s bytes is larger than the segment size %s",
+        recordBytes,
+        segmentBytes);
+
+    Segment segment = activeSegment;
+    if (segment.position + recordBytes > segment.capacity) {
+      segment = roll(segment);
+    }
+
+    int position = segment.position;
+    crc.reset();
+    crc.update(payload, 0, payload.length);
+    ByteBuffer buffer = segment.buffer.duplicate();
+    buffer.position(position + Integer.BYTES);
+    buffer.putInt((int) crc.getValue());
+    buffer.put(payload);
+    // The length is written last, a record with a zero length isn't complete.
+    segment.buffer.putInt(position, payload.length);
+    segment.position = position + recordBytes;
+    dirtySegments.add(segment);
+
+    long offset = segment.base + position;
+    beforePublish.accept(offset);
+    endOffset = offset + recordBytes;
+    return offset;
+  }
+
+  /**
+   * Reads the records from the given offset. If the records at the offset were already deleted,
+   * reads from the first record retained.
+   *
+   * @param offset The offset to read from.
+   * @param maxRecords The maximum number of records to read.
+   * @return The records read, empty if there is no record after the offset.
+   */
+  List<Record> read(long offset, int maxRecords) {
+    List<Record> records = new ArrayList<>();
+    long end = endOffset;
+    while (offset < end && records.size() < maxRecords) {
+      Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+      if (entry == null) {
+        offset = segments.firstKey();
+        continue;
+      }
+
+      Segment segment = entry.getValue();
+      int position = (int) (offset - segment.base);
+      if (position + HEADER_BYTES > segment.capacity
+          || segment.buffer.getInt(position) == ROLL_MARKER) {
+        offset = segment.base + segment.capacity;
+        continue;
+      }
+
+      int length = segment.buffer.getInt(position);
+      byte[] payload = new byte[length];
+      ByteBuffer buffer = segment.buffer.duplicate();
+      buffer.position(position + HEADER_BYTES);
+      buffer.get(payload);
+      long nextOffset = offset + HEADER_BYTES + length;
+      records.add(new Record(offset, nextOffset, payload));
+      offset = nextOffset;
+    }
+    return records;
+  }
+
+  /** @return The offset of the first record retained, the records before it were deleted. */
+  long startOffset() {
+    return segments.firstKey();
+  }
+
+  /** @return The offset the consumer should read from. */
+  long checkpoint() {
+    return checkpoint.get();
+  }
+
+  /**
+   * Commits the offset the consumer has processed to, it is persisted by the next flush.
+   *
+   * @param offset The offset following the last record processed.
+   */
+  void commit(long offset) {
+    checkpoint.accumulateAndGet(offset, Math::max);
+  }
+
+  /** @return The offset following the last record appended. */
+  long endOffset() {
+    return endOffset;
+  }
+
+  @VisibleForTesting
+  int segmentCount() {
+    return segments.size();
+  }
+
+  /** Forces the dirty segments to the disk, persists the checkpoint and applies the retention. */
+  @VisibleForTesting
+  void flush() throws IOException {
+    // The segments are forced without the lock of the appends, so the appends don't wait for it.
+    synchronized (flushLock) {
+      doFlush();
+    }
+  }
+
+  private void doFlush() throws IOException {
+    for (Iterator<Segment> it = dirtySegments.iterator(); it.hasNext(); ) {
+      Segment segment = it.next();
+      it.remove();
+      segment.buffer.force();
+    }
+
+    long committed = checkpoint.get();
+    if (committed != persistedCheckpoint) {
+      persistCheckpoint(committed);
+      persistedCheckpoint = committed;
+    }
+
+    applyRetention();
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+
+    flusher.interrupt();
+    try {
+      flusher.join(TimeUnit.SECONDS.toMillis(10));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    synchronized (flushLock) {
+      doFlush();
+      for (Segment segment : segments.values()) {
+        segment.channel.close();
+      }
+    }
+  }
+
+  private void flushPeriodically() {
+    while (!closed) {
+      try {
+        Thread.sleep(flushIntervalMs);
+      } catch (InterruptedException e) {
+        return;
+      }
+
+      try {
+        flush();
+      } catch (Exception e) {
+        LOG.warn("Failed to flush the event log {}", dir, e);
+      }
+    }
+  }
+
+  private Segment roll(Segment segment) throws IOException {
+    if (segment.position + Integer.BYTES <= segment.capacity) {
+      segment.buffer.putInt(segment.position, ROLL_MARKER);
+    }
+    segment.position = segment.capacity;
+    dirtySegments.add(segment);
+
+    Segment next = Segment.open(dir, segment.base + segment.capacity, segmentBytes);
+    segments.put(next.base, next);
+    activeSegment = next;
+    return next;
+  }
+
+  private void applyRetention() throws IOException {
+    long totalBytes = 0;
+    for (Segment segment : segments.values()) {
+      totalBytes += segment.capacity;
+    }
+
+    for (Segment segment : segments.values()) {
+      if (segment == activeSegment) {
+        return;
+      }
+
+      long segmentEnd = segment.base + segment.capacity;
+      if (segmentEnd > checkpoint.get()) {
+        if (totalBytes <= retentionBytes) {
+          return;
+        }
+        LOG.warn(
+            "The event log {} exceeds the retention size {}, skip the events before offset {}",
+            dir,
+            retentionBytes,
+            segmentEnd);
+        commit(segmentEnd);
+      }
+
+      // The mapping of a deleted file stays valid until it is garbage collected, so the readers of
+      // the segment aren't affected.
+      segments.remove(segment.base);
+      dirtySegments.remove(segment);
+      segment.channel.close();
+      Files.deleteIfExists(segment.path);
+      totalBytes -= segment.capacity;
+    }
+  }
+
+  private void recover() throws IOException {
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + SEGMENT_SUFFIX)) {
+      for (Path file : files) {
+        String fileName = file.getFileName().toString();
+        long base = Long.parseLong(fileName.substring(0, fileName.length() - 4));
+        segments.put(base, Segment.open(dir, base, segmentBytes));
+      }
+    }
+
+    if (segments.isEmpty()) {
+      segments.put(0L, Segment.open(dir, 0L, segmentBytes));
+    }
+
+    // Only the last segment could have been written when the server stopped.
+    Segment last = segments.lastEntry().getValue();
+    last.position = validLength(last);
+    activeSegment = last;
+    endOffset = last.base + last.position;
+
+    long committed = segments.firstKey();
+    Path checkpointFile = dir.resolve(CHECKPOINT_FILE);
+    if (Files.exists(checkpointFile)) {
+      committed =
+          Math.max(committed, ByteBuffer.wrap(Files.readAllBytes(checkpointFile)).getLong());
+    }
+    committed = Math.min(committed, endOffset);
+    checkpoint.set(committed);
+    persistedCheckpoint = committed;
+  }
+
+  private int validLength(Segment segment) {
+    MappedByteBuffer buffer = segment.buffer;
+    int position = 0;
+    while (position + HEADER_BYTES <= segment.capacity) {
+      int length = buffer.getInt(position);
+      if (length == ROLL_MARKER) {
+        return segment.capacity;
+      }
+      if (length <= 0 || position + HEADER_BYTES + length > segment.capacity) {
+        break;
+      }
+
+      byte[] payload = new byte[length];
+      ByteBuffer record = buffer.duplicate();
+      record.position(position + HEADER_BYTES);
+      record.get(payload);
+      crc.reset();
+      crc.update(payload, 0, payload.length);
+      if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+        break;
+      }
+      position += HEADER_BYTES + length;
+    }
+
+    if (position + Integer.BYTES <= segment.capacity && buffer.getInt(position) != 0) {
+      LOG.warn("Truncate the torn record at offset {} of the event log {}", segment.base, dir);
+      for (int i = position; i < segment.capacity; i++) {
+        buffer.put(i, (byte) 0);
+      }
+      dirtySegments.add(segment);
+    }
+    return position;
+  }
+
+  private void persistCheckpoint(long offset) throws IOException {
+    Path tmpFile = dir.resolve(CHECKPOINT_FILE + ".tmp");
+    try (FileChannel channel =
+        FileChannel.open(
+            tmpFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+      buffer.putLong(0, offset);
+      channel.write(buffer);
+      channel.force(true);
+    }
+    Files.move(
+        tmpFile,
+        dir.resolve(CHECKPOINT_FILE),
+        StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /** A preallocated segment file mapped into memory. */
+  private static final class Segment {
+    private final long base;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    // Guarded by the lock of the log.
+    private int position;
+
+    private Segment(long base, Path path, FileChannel channel, MappedByteBuffer buffer) {
+      this.base = base;
+      this.path = path;
+      this.channel = channel;
+      this.buffer = buffer;
+      this.capacity = buffer.capacity();
+    }
+
+    private static Segment open(Path dir, long base, int segmentBytes) throws IOException {
+      Path path = dir.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX));
+      try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+        // Keep the size of an existing segment, the segment size may have been changed.
+        long size = file.length() > 0 ? file.length() : segmentBytes;
+        file.setLength(size);
+        FileChannel channel =
+            FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new Segment(
+            base, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+      }
+    }
+  }
+}
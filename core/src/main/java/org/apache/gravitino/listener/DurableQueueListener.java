@@ -0,0 +1,331 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.codahale.metrics.Counter;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.ReplayedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * DurableQueueListener acts as an async event listener like {@link AsyncQueueListener}, but appends
+ * the events to a {@link DurableEventLog} instead of an in-memory queue. The dispatcher thread
+ * commits the offset of the events dispatched, so the events not dispatched before the server stops
+ * are dispatched after it restarts, as {@link ReplayedEvent}s. The events are dispatched at least
+ * once.
+ *
+ * <p>The original events are kept in memory until they are dispatched, up to the queue capacity.
+ * When the capacity is reached, the event producers wait up to the block timeout for the dispatcher
+ * to make room. Beyond that, the events are only kept in the log and dispatched as {@link
+ * ReplayedEvent}s without their details, they are counted as the degraded events.
+ */
+public class DurableQueueListener implements EventListenerPlugin {
+  private static final Logger LOG = LoggerFactory.getLogger(DurableQueueListener.class);
+  private static final String NAME_PREFIX = "durable-queue-listener-";
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long DEGRADED_EVENTS_LOG_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+
+  private final List<EventListenerPlugin> eventListeners;
+  private final InterestedListeners interestedListeners;
+  private final DurableEventLog eventLog;
+  // The original events by their offsets. The events deleted from the log by the retention are
+  // removed when the dispatcher skips them. The size is counted apart, since counting a skip list
+  // map walks it.
+  private final ConcurrentSkipListMap<Long, Event> pendingEvents = new ConcurrentSkipListMap<>();
+  private final AtomicInteger pendingEventCount = new AtomicInteger();
+  private final int queueCapacity;
+  private final long blockTimeoutNanos;
+  // The producers waiting for the room of the original events.
+  private final Queue<Thread> capacityWaiters = new ConcurrentLinkedQueue<>();
+  private final AtomicLong lastDegradedEventsLogTime = new AtomicLong(0);
+  private final int dispatcherJoinSeconds;
+  private final int maxBatchSize;
+  private final AtomicBoolean stopped = new AtomicBoolean(false);
+  private final Counter droppedEvents;
+  private final Counter degradedEvents;
+  private final Thread dispatcher;
+  private final String durableQueueListenerName;
+
+  public DurableQueueListener(
+      List<EventListenerPlugin> listeners,
+      String name,
+      Path dir,
+      int queueCapacity,
+      int dispatcherJoinSeconds,
+      int maxBatchSize,
+      int segmentBytes,
+      long retentionBytes,
+      long flushIntervalMs,
+      long blockTimeoutMs,
+      EventListenerMetricsSource metricsSource) {
+    this.durableQueueListenerName = NAME_PREFIX + name;
+    this.eventListeners = listeners;
+    this.interestedListeners = new InterestedListeners(listeners);
+    this.queueCapacity = queueCapacity;
+    this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+    this.dispatcherJoinSeconds = dispatcherJoinSeconds;
+    this.maxBatchSize = maxBatchSize;
+    try {
+      this.eventLog =
+          new DurableEventLog(
+              dir.resolve(name),
+              segmentBytes,
+              retentionBytes,
+              flushIntervalMs,
+              durableQueueListenerName);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to open the event log of " + durableQueueListenerName, e);
+    }
+
+    this.dispatcher = new Thread(this::processEvents);
+    dispatcher.setDaemon(true);
+    dispatcher.setName(durableQueueListenerName);
+
+    this.droppedEvents = metricsSource.droppedEvents(durableQueueListenerName);
+    this.degradedEvents = metricsSource.degradedEvents(durableQueueListenerName);
+    metricsSource.registerQueueDepth(durableQueueListenerName, pendingEventCount::get);
+  }
+
+  @Override
+  public void onPostEvent(Event event) {
+    if (stopped.get()) {
+      LOG.warn(
+          "{} drop event: {}, since DurableQueueListener is stopped",
+          durableQueueListenerName,
+          event.getClass().getSimpleName());
+      return;
+    }
+
+    boolean keepOriginal = awaitCapacity();
+    try {
+      eventLog.append(
+          EventRecordCodec.encode(event),
+          offset -> {
+            if (keepOriginal) {
+              pendingEvents.put(offset, event);
+              pendingEventCount.incrementAndGet();
+            }
+          });
+    } catch (Exception e) {
+      droppedEvents.inc();
+      LOG.warn(
+          "{} drop event: {}, since it fails to append to the event log",
+          durableQueueListenerName,
+          event.getClass().getSimpleName(),
+          e);
+      return;
+    }
+
+    if (!keepOriginal) {
+      degradedEvents.inc();
+      logDegradedEvents();
+    }
+    LockSupport.unpark(dispatcher);
+  }
+
+  // Waits up to the block timeout for the dispatcher to make room for the original event.
+  private boolean awaitCapacity() {
+    if (pendingEventCount.get() < queueCapacity) {
+      return true;
+    }
+
+    Thread current = Thread.currentThread();
+    long deadline = System.nanoTime() + blockTimeoutNanos;
+    capacityWaiters.add(current);
+    try {
+      // Check again after registering, the signal may have been sent before.
+      while (pendingEventCount.get() >= queueCapacity) {
+        long remainingNanos = deadline - System.nanoTime();
+        if (remainingNanos <= 0 || stopped.get() || current.isInterrupted()) {
+          return false;
+        }
+        LockSupport.parkNanos(this, remainingNanos);
+      }
+      return true;
+    } finally {
+      capacityWaiters.remove(current);
+    }
+  }
+
+  private void signalCapacityWaiters() {
+    if (!capacityWaiters.isEmpty()) {
+      capacityWaiters.forEach(LockSupport::unpark);
+    }
+  }
+
+  private void logDegradedEvents() {
+    long now = System.currentTimeMillis();
+    long lastLogTime = lastDegradedEventsLogTime.get();
+    if (now - lastLogTime >= DEGRADED_EVENTS_LOG_INTERVAL_MS
+        && lastDegradedEventsLogTime.compareAndSet(lastLogTime, now)) {
+      LOG.warn(
+          "{} has {} degraded events in total, which are dispatched as ReplayedEvents without "
+              + "their details since the queue is full",
+          durableQueueListenerName,
+          degradedEvents.getCount());
+    }
+  }
+
+  @Override
+  public boolean isInterestedIn(Class<? extends Event> eventClass) {
+    return !interestedListeners.get(eventClass).isEmpty();
+  }
+
+  @Override
+  public void init(Map<String, String> properties) {
+    throw new RuntimeException(
+        "Should not reach here, the event listener has already been initialized.");
+  }
+
+  @Override
+  public void start() {
+    eventListeners.forEach(listenerPlugin -> listenerPlugin.start());
+    dispatcher.start();
+  }
+
+  @Override
+  public void stop() {
+    Preconditions.checkState(!stopped.get(), durableQueueListenerName + " had already stopped");
+    stopped.compareAndSet(false, true);
+    LockSupport.unpark(dispatcher);
+
+    // Give the dispatcher the join timeout to drain the log, then interrupt it. The events left are
+    // dispatched after the restart.
+    try {
+      dispatcher.join(TimeUnit.SECONDS.toMillis(dispatcherJoinSeconds));
+      if (dispatcher.isAlive()) {
+        dispatcher.interrupt();
+        dispatcher.join(TimeUnit.SECONDS.toMillis(1));
+      }
+    } catch (InterruptedException e) {
+      LOG.warn("{} interrupt durable processor failed.", durableQueueListenerName, e);
+    }
+
+    try {
+      eventLog.close();
+    } catch (IOException e) {
+      LOG.warn("{} failed to close the event log.", durableQueueListenerName, e);
+    }
+    eventListeners.forEach(listenerPlugin -> listenerPlugin.stop());
+  }
+
+  @VisibleForTesting
+  List<EventListenerPlugin> getEventListeners() {
+    return this.eventListeners;
+  }
+
+  private void processEvents() {
+    long offset = eventLog.checkpoint();
+    List<Event> batch = new ArrayList<>(maxBatchSize);
+    while (!Thread.currentThread().isInterrupted()) {
+      List<DurableEventLog.Record> records = eventLog.read(offset, maxBatchSize);
+      if (records.isEmpty()) {
+        removePendingEventsBefore(eventLog.startOffset());
+        if (stopped.get()) {
+          break;
+        }
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+        continue;
+      }
+
+      // The records before the first one read were deleted by the retention, or skipped.
+      removePendingEventsBefore(records.get(0).offset());
+      for (DurableEventLog.Record record : records) {
+        Event event = pendingEvents.remove(record.offset());
+        if (event != null) {
+          pendingEventCount.decrementAndGet();
+        } else {
+          event = replay(record);
+        }
+        if (event != null) {
+          batch.add(event);
+        }
+      }
+      signalCapacityWaiters();
+
+      interestedListeners.dispatch(batch, durableQueueListenerName);
+      batch.clear();
+      if (Thread.currentThread().isInterrupted()) {
+        // The listeners may not have finished the batch, so it is dispatched again after restart.
+        break;
+      }
+      offset = records.get(records.size() - 1).nextOffset();
+      eventLog.commit(offset);
+    }
+
+    long remainingBytes = eventLog.endOffset() - offset;
+    if (remainingBytes > 0) {
+      LOG.warn(
+          "{} leaves {} bytes of events to dispatch after the restart",
+          durableQueueListenerName,
+          remainingBytes);
+    }
+  }
+
+  private void removePendingEventsBefore(long offset) {
+    // Only the dispatcher removes the events, and the events appended have larger offsets.
+    Map.Entry<Long, Event> first;
+    while ((first = pendingEvents.firstEntry()) != null && first.getKey() < offset) {
+      pendingEvents.remove(first.getKey());
+      pendingEventCount.decrementAndGet();
+    }
+    signalCapacityWaiters();
+  }
+
+  @VisibleForTesting
+  int pendingEventCount() {
+    return pendingEventCount.get();
+  }
+
+  @VisibleForTesting
+  long eventLogStartOffset() {
+    return eventLog.startOffset();
+  }
+
+  private Event replay(DurableEventLog.Record record) {
+    try {
+      return EventRecordCodec.decode(record.payload());
+    } catch (Exception e) {
+      droppedEvents.inc();
+      LOG.warn(
+          "{} skip the undecodable event at offset {}",
+          durableQueueListenerName,
+          record.offset(),
+          e);
+      return null;
+    }
+  }
+}
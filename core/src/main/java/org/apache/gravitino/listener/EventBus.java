@@ -21,6 +21,7 @@ package org.apache.gravitino.listener;
 
 import com.google.common.annotations.VisibleForTesting;
 import java.util.List;
+import java.util.function.Supplier;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.Event;
 
@@ -36,6 +37,8 @@ public class EventBus {
   // asynchronous event processing.
   private final List<EventListenerPlugin> postEventListeners;
 
+  private final InterestedListeners interestedListeners;
+
   /**
    * Constructs an EventBus with a predefined list of event listeners.
    *
@@ -44,6 +47,7 @@ public class EventBus {
    */
   public EventBus(List<EventListenerPlugin> postEventListeners) {
     this.postEventListeners = postEventListeners;
+    this.interestedListeners = new InterestedListeners(postEventListeners);
   }
 
   /**
@@ -53,7 +57,38 @@ public class EventBus {
    * @param event The event to be dispatched to all registered listeners.
    */
   public void dispatchEvent(Event event) {
-    postEventListeners.forEach(postEventListener -> postEventListener.onPostEvent(event));
+    interestedListeners
+        .get(event.getClass())
+        .forEach(postEventListener -> postEventListener.onPostEvent(event));
+  }
+
+  /**
+   * Dispatches an event to the registered listeners interested in its class. The event is only
+   * built if any listener is interested, so the callers don't pay for building the events no one
+   * listens to.
+   *
+   * @param eventClass The class of the event.
+   * @param eventSupplier The supplier building the event.
+   * @param <E> The type of the event.
+   */
+  public <E extends Event> void dispatchEvent(Class<E> eventClass, Supplier<E> eventSupplier) {
+    List<EventListenerPlugin> listeners = interestedListeners.get(eventClass);
+    if (listeners.isEmpty()) {
+      return;
+    }
+
+    E event = eventSupplier.get();
+    listeners.forEach(postEventListener -> postEventListener.onPostEvent(event));
+  }
+
+  /**
+   * Checks whether any registered listener is interested in the events of the class.
+   *
+   * @param eventClass The class of the events.
+   * @return True if any listener is interested, false otherwise.
+   */
+  public boolean isInterestedIn(Class<? extends Event> eventClass) {
+    return !interestedListeners.get(eventClass).isEmpty();
   }
 
   /**
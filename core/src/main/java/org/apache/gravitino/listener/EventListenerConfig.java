@@ -20,10 +20,13 @@
 package org.apache.gravitino.listener;
 
 import java.util.Map;
+import org.apache.commons.lang3.EnumUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.config.ConfigBuilder;
 import org.apache.gravitino.config.ConfigConstants;
 import org.apache.gravitino.config.ConfigEntry;
+import org.apache.gravitino.utils.RingBufferQueue;
 
 class EventListenerConfig extends Config {
   static final ConfigEntry<String> LISTENER_NAMES =
@@ -49,8 +52,146 @@ class EventListenerConfig extends Config {
           .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3);
 
+  static final ConfigEntry<Integer> DISPATCHER_THREADS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS)
+          .doc(
+              "The number of threads dispatching the events of each async queue, the events of the"
+                  + " same object are dispatched in order by one thread")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  static final ConfigEntry<Integer> MAX_BATCH_SIZE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_MAX_BATCH_SIZE)
+          .doc("The maximum number of events dispatched in one batch to an async listener")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
+  static final ConfigEntry<Long> BATCH_LINGER_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_BATCH_LINGER_MS)
+          .doc(
+              "The time in milliseconds an async dispatcher waits for more events to fill a batch,"
+                  + " 0 means only batching the events already in the queue")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0L);
+
+  static final ConfigEntry<Boolean> DURABLE_QUEUE_ENABLED =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_ENABLED)
+          .doc(
+              "Whether the async listeners use a durable queue on the disk, so the events not"
+                  + " dispatched are dispatched after the server restarts")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  static final ConfigEntry<String> DURABLE_QUEUE_DIR =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_DIR)
+          .doc(
+              "The directory of the durable queues, a relative path is resolved against"
+                  + " GRAVITINO_HOME")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault("data/event-queue");
+
+  static final ConfigEntry<Integer> DURABLE_QUEUE_SEGMENT_BYTES =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_SEGMENT_BYTES)
+          .doc("The size in bytes of each segment file of a durable queue")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(64 * 1024 * 1024);
+
+  static final ConfigEntry<Long> DURABLE_QUEUE_RETENTION_BYTES =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_RETENTION_BYTES)
+          .doc(
+              "The maximum size in bytes of the segment files of a durable queue, the oldest"
+                  + " segments are deleted beyond it even if their events aren't dispatched")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1024L * 1024 * 1024);
+
+  static final ConfigEntry<Long> DURABLE_QUEUE_FLUSH_INTERVAL_MS =
+      new ConfigBuilder(
+              EventListenerManager.GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_FLUSH_INTERVAL_MS)
+          .doc(
+              "The interval in milliseconds to flush the events of a durable queue to the disk,"
+                  + " the events appended in an interval are flushed together")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100L);
+
+  static final ConfigEntry<Long> DURABLE_QUEUE_BLOCK_TIMEOUT_MS =
+      new ConfigBuilder(
+              EventListenerManager.GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_BLOCK_TIMEOUT_MS)
+          .doc(
+              "The time in milliseconds to wait for the dispatcher of a durable queue when it"
+                  + " holds `queueCapacity` original events, the event is dispatched as a"
+                  + " ReplayedEvent without its details after it")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100L);
+
+  static final ConfigEntry<String> QUEUE_TYPE =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_TYPE)
+          .doc(
+              "The queue of the async listeners, `linked` for a linked blocking queue, or"
+                  + " `ring_buffer` for a pre-allocated lock-free ring buffer")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .checkValue(
+              value -> isValidEnum(EventQueueFactory.QueueType.class, value),
+              "The value must be one of linked, ring_buffer")
+          .createWithDefault("linked");
+
+  static final ConfigEntry<String> QUEUE_WAIT_STRATEGY =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_WAIT_STRATEGY)
+          .doc(
+              "How the threads wait for the ring buffer queue, one of `blocking`, `yielding` or"
+                  + " `busy_spin`")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .checkValue(
+              value -> isValidEnum(RingBufferQueue.WaitStrategy.class, value),
+              "The value must be one of blocking, yielding, busy_spin")
+          .createWithDefault("blocking");
+
+  static final ConfigEntry<String> QUEUE_OVERFLOW_POLICY =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_OVERFLOW_POLICY)
+          .doc(
+              "What the ring buffer queue does with a new event when it is full, one of"
+                  + " `drop_newest`, `drop_oldest` or `block`")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .checkValue(
+              value -> isValidEnum(RingBufferQueue.OverflowPolicy.class, value),
+              "The value must be one of drop_newest, drop_oldest, block")
+          .createWithDefault("drop_newest");
+
+  static final ConfigEntry<Long> QUEUE_BLOCK_TIMEOUT_MS =
+      new ConfigBuilder(EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_BLOCK_TIMEOUT_MS)
+          .doc(
+              "The time in milliseconds to wait for the room of a full ring buffer queue with the"
+                  + " `block` overflow policy, the event is dropped after it")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100L);
+
   EventListenerConfig(Map<String, String> properties) {
     super(false);
     loadFromMap(properties, k -> true);
   }
+
+  private static <E extends Enum<E>> boolean isValidEnum(Class<E> enumClass, String value) {
+    return value != null && EnumUtils.isValidEnum(enumClass, EventQueueFactory.upperCase(value));
+  }
 }
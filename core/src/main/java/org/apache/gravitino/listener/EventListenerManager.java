@@ -24,7 +24,10 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -47,6 +50,11 @@ import org.slf4j.LoggerFactory;
  *
  * <p>For async listeners with the isolated dispatcher, will create a separate AsyncQueueListener
  * for each EventListenerWrapper.
+ *
+ * <p>With the durable queue enabled, DurableQueueListeners are created instead of
+ * AsyncQueueListeners, so the events not dispatched survive the restart of the server. The settings
+ * of the in-memory queues, like the dispatcher threads and the queue type, don't apply to the
+ * durable queues and are rejected.
  */
 public class EventListenerManager {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerManager.class);
@@ -55,19 +63,76 @@ public class EventListenerManager {
   @VisibleForTesting static final String GRAVITINO_EVENT_LISTENER_CLASS = "class";
   static final String GRAVITINO_EVENT_LISTENER_QUEUE_CAPACITY = "queueCapacity";
   static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_JOIN_SECONDS = "dispatcherJoinSeconds";
+  static final String GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS = "dispatcherThreads";
+  static final String GRAVITINO_EVENT_LISTENER_MAX_BATCH_SIZE = "maxBatchSize";
+  static final String GRAVITINO_EVENT_LISTENER_BATCH_LINGER_MS = "batchLingerMs";
+  static final String GRAVITINO_EVENT_LISTENER_QUEUE_TYPE = "queueType";
+  static final String GRAVITINO_EVENT_LISTENER_QUEUE_WAIT_STRATEGY = "queueWaitStrategy";
+  static final String GRAVITINO_EVENT_LISTENER_QUEUE_OVERFLOW_POLICY = "queueOverflowPolicy";
+  static final String GRAVITINO_EVENT_LISTENER_QUEUE_BLOCK_TIMEOUT_MS = "queueBlockTimeoutMs";
+  static final String GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_ENABLED = "durableQueue.enabled";
+  static final String GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_DIR = "durableQueue.dir";
+  static final String GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_SEGMENT_BYTES =
+      "durableQueue.segmentBytes";
+  static final String GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_RETENTION_BYTES =
+      "durableQueue.retentionBytes";
+  static final String GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_FLUSH_INTERVAL_MS =
+      "durableQueue.flushIntervalMs";
+  static final String GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_BLOCK_TIMEOUT_MS =
+      "durableQueue.blockTimeoutMs";
+  // The settings of the in-memory queues of AsyncQueueListener, which DurableQueueListener ignores.
+  private static final List<String> IN_MEMORY_QUEUE_SETTINGS =
+      ImmutableList.of(
+          GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS,
+          GRAVITINO_EVENT_LISTENER_BATCH_LINGER_MS,
+          GRAVITINO_EVENT_LISTENER_QUEUE_TYPE,
+          GRAVITINO_EVENT_LISTENER_QUEUE_WAIT_STRATEGY,
+          GRAVITINO_EVENT_LISTENER_QUEUE_OVERFLOW_POLICY,
+          GRAVITINO_EVENT_LISTENER_QUEUE_BLOCK_TIMEOUT_MS);
   private static final Splitter splitter = Splitter.on(",");
   private static final Joiner DOT = Joiner.on(".");
 
   private int queueCapacity;
   private int dispatcherJoinSeconds;
+  private int dispatcherThreads;
+  private int maxBatchSize;
+  private long batchLingerMs;
+  private boolean durableQueueEnabled;
+  private Path durableQueueDir;
+  private int durableQueueSegmentBytes;
+  private long durableQueueRetentionBytes;
+  private long durableQueueFlushIntervalMs;
+  private long durableQueueBlockTimeoutMs;
+  private EventQueueFactory queueFactory;
+  private Map<String, String> properties;
   private List<EventListenerPlugin> eventListeners;
+  private final EventListenerMetricsSource metricsSource = new EventListenerMetricsSource();
 
   public void init(Map<String, String> properties) {
+    this.properties = properties;
     EventListenerConfig config = new EventListenerConfig(properties);
     this.queueCapacity = config.get(EventListenerConfig.QUEUE_CAPACITY);
     this.dispatcherJoinSeconds = config.get(EventListenerConfig.DISPATCHER_JOIN_SECONDS);
+    this.dispatcherThreads = config.get(EventListenerConfig.DISPATCHER_THREADS);
+    this.maxBatchSize = config.get(EventListenerConfig.MAX_BATCH_SIZE);
+    this.batchLingerMs = config.get(EventListenerConfig.BATCH_LINGER_MS);
+    this.durableQueueEnabled = config.get(EventListenerConfig.DURABLE_QUEUE_ENABLED);
+    this.durableQueueDir =
+        resolveDurableQueueDir(config.get(EventListenerConfig.DURABLE_QUEUE_DIR));
+    this.durableQueueSegmentBytes = config.get(EventListenerConfig.DURABLE_QUEUE_SEGMENT_BYTES);
+    this.durableQueueRetentionBytes = config.get(EventListenerConfig.DURABLE_QUEUE_RETENTION_BYTES);
+    this.durableQueueFlushIntervalMs =
+        config.get(EventListenerConfig.DURABLE_QUEUE_FLUSH_INTERVAL_MS);
+    this.durableQueueBlockTimeoutMs =
+        config.get(EventListenerConfig.DURABLE_QUEUE_BLOCK_TIMEOUT_MS);
+    this.queueFactory = EventQueueFactory.fromConfig(config);
 
     String eventListenerNames = config.get(EventListenerConfig.LISTENER_NAMES);
+    if (durableQueueEnabled) {
+      checkDurableQueueSettings(
+          splitter.omitEmptyStrings().trimResults().splitToList(eventListenerNames));
+    }
+
     Map<String, EventListenerPlugin> userEventListenerPlugins =
         splitter
             .omitEmptyStrings()
@@ -87,6 +152,21 @@ public class EventListenerManager {
     this.eventListeners = assembleEventListeners(userEventListenerPlugins);
   }
 
+  /**
+   * Adds a built-in listener of the server, it must be called before creating the event bus.
+   *
+   * @param listenerName The name of the listener.
+   * @param listener The listener, only the listeners of {@link EventListenerPlugin.Mode#SYNC} are
+   *     supported.
+   */
+  public void addEventListener(String listenerName, EventListenerPlugin listener) {
+    Preconditions.checkArgument(
+        listener.mode() == EventListenerPlugin.Mode.SYNC,
+        "Only the sync built-in listener is supported: %s",
+        listenerName);
+    eventListeners.add(new EventListenerPluginWrapper(listenerName, listener, metricsSource));
+  }
+
   public void start() {
     eventListeners.stream().forEach(listener -> listener.start());
   }
@@ -99,6 +179,15 @@ public class EventListenerManager {
     return new EventBus(eventListeners);
   }
 
+  /**
+   * Returns the metrics of the event listeners.
+   *
+   * @return The metrics source of the event listeners.
+   */
+  public EventListenerMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
   private List<EventListenerPlugin> assembleEventListeners(
       Map<String, EventListenerPlugin> userEventListeners) {
     List<EventListenerPlugin> sharedQueueListeners = new ArrayList<>();
@@ -111,16 +200,17 @@ public class EventListenerManager {
                   EventListenerPlugin listener = entrySet.getValue();
                   switch (listener.mode()) {
                     case SYNC:
-                      return new EventListenerPluginWrapper(listenerName, listener);
+                      return new EventListenerPluginWrapper(listenerName, listener, metricsSource);
                     case ASYNC_ISOLATED:
-                      return new AsyncQueueListener(
-                          ImmutableList.of(new EventListenerPluginWrapper(listenerName, listener)),
+                      return createAsyncListener(
+                          ImmutableList.of(
+                              new EventListenerPluginWrapper(
+                                  listenerName, listener, metricsSource)),
                           listenerName,
-                          queueCapacity,
-                          dispatcherJoinSeconds);
+                          listenerQueueFactory(listenerName));
                     case ASYNC_SHARED:
                       sharedQueueListeners.add(
-                          new EventListenerPluginWrapper(listenerName, listener));
+                          new EventListenerPluginWrapper(listenerName, listener, metricsSource));
                       return null;
                     default:
                       throw new RuntimeException("Unexpected listener mode:" + listener.mode());
@@ -130,13 +220,77 @@ public class EventListenerManager {
             .collect(Collectors.toList());
 
     if (!sharedQueueListeners.isEmpty()) {
-      listeners.add(
-          new AsyncQueueListener(
-              sharedQueueListeners, "default", queueCapacity, dispatcherJoinSeconds));
+      listeners.add(createAsyncListener(sharedQueueListeners, "default", queueFactory));
     }
     return listeners;
   }
 
+  private EventListenerPlugin createAsyncListener(
+      List<EventListenerPlugin> listeners, String name, EventQueueFactory listenerQueueFactory) {
+    if (durableQueueEnabled) {
+      return new DurableQueueListener(
+          listeners,
+          name,
+          durableQueueDir,
+          queueCapacity,
+          dispatcherJoinSeconds,
+          maxBatchSize,
+          durableQueueSegmentBytes,
+          durableQueueRetentionBytes,
+          durableQueueFlushIntervalMs,
+          durableQueueBlockTimeoutMs,
+          metricsSource);
+    }
+
+    return new AsyncQueueListener(
+        listeners,
+        name,
+        queueCapacity,
+        dispatcherJoinSeconds,
+        dispatcherThreads,
+        maxBatchSize,
+        batchLingerMs,
+        metricsSource,
+        listenerQueueFactory);
+  }
+
+  private void checkDurableQueueSettings(List<String> listenerNames) {
+    for (String setting : IN_MEMORY_QUEUE_SETTINGS) {
+      Preconditions.checkArgument(
+          !properties.containsKey(setting),
+          "%s%s doesn't apply to the durable queue, remove it or disable %s%s",
+          GRAVITINO_EVENT_LISTENER_PREFIX,
+          setting,
+          GRAVITINO_EVENT_LISTENER_PREFIX,
+          GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_ENABLED);
+      for (String listenerName : listenerNames) {
+        Preconditions.checkArgument(
+            !properties.containsKey(DOT.join(listenerName, setting)),
+            "%s%s doesn't apply to the durable queue, remove it or disable %s%s",
+            GRAVITINO_EVENT_LISTENER_PREFIX,
+            DOT.join(listenerName, setting),
+            GRAVITINO_EVENT_LISTENER_PREFIX,
+            GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_ENABLED);
+      }
+    }
+  }
+
+  // The queue of an isolated listener can be configured by the properties of the listener.
+  private EventQueueFactory listenerQueueFactory(String listenerName) {
+    Map<String, String> mergedProperties = new HashMap<>(properties);
+    mergedProperties.putAll(MapUtils.getPrefixMap(properties, DOT.join(listenerName, "")));
+    return EventQueueFactory.fromConfig(new EventListenerConfig(mergedProperties));
+  }
+
+  private static Path resolveDurableQueueDir(String dir) {
+    Path path = Paths.get(dir);
+    String gravitinoHome = System.getenv("GRAVITINO_HOME");
+    if (path.isAbsolute() || gravitinoHome == null) {
+      return path;
+    }
+    return Paths.get(gravitinoHome, dir);
+  }
+
   private EventListenerPlugin loadUserEventListenerPlugin(
       String listenerName, Map<String, String> config) {
     LOG.info("EventListener:{}, config:{}.", listenerName, config);
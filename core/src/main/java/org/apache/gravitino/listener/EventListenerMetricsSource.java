@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import java.util.function.IntSupplier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * The metrics of the event listeners: the depth and the dropped events of each async queue, the
+ * degraded events of each durable queue, and the process duration and the failed events of each
+ * listener. The metrics are named after the queue or the listener, e.g.
+ * "{listenerName}.process-duration".
+ */
+public class EventListenerMetricsSource extends MetricsSource {
+
+  public EventListenerMetricsSource() {
+    super(MetricsSource.EVENT_LISTENER_METRIC_NAME);
+  }
+
+  void registerQueueDepth(String queueName, IntSupplier depth) {
+    registerGauge(metricName(queueName, MetricNames.EVENT_LISTENER_QUEUE_DEPTH), depth::getAsInt);
+  }
+
+  Counter droppedEvents(String queueName) {
+    return getCounter(metricName(queueName, MetricNames.EVENT_LISTENER_DROPPED_EVENTS));
+  }
+
+  Counter degradedEvents(String queueName) {
+    return getCounter(metricName(queueName, MetricNames.EVENT_LISTENER_DEGRADED_EVENTS));
+  }
+
+  Timer processDuration(String listenerName) {
+    return getTimer(metricName(listenerName, MetricNames.EVENT_LISTENER_PROCESS_DURATION));
+  }
+
+  Counter failedEvents(String listenerName) {
+    return getCounter(metricName(listenerName, MetricNames.EVENT_LISTENER_FAILED_EVENTS));
+  }
+
+  private static String metricName(String prefix, String name) {
+    return prefix + "." + name;
+  }
+}
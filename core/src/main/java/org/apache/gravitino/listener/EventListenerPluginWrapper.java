@@ -19,7 +19,10 @@
 
 package org.apache.gravitino.listener;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.listener.api.EventListenerPlugin;
 import org.apache.gravitino.listener.api.event.Event;
@@ -34,10 +37,21 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
   private static final Logger LOG = LoggerFactory.getLogger(EventListenerPluginWrapper.class);
   private String listenerName;
   private EventListenerPlugin userEventListener;
+  private final Timer processDuration;
+  private final Counter failedEvents;
+  // Whether the user listener handles the batches itself, otherwise the events of a batch are
+  // processed one by one, so a failed event doesn't affect the others.
+  private final boolean handlesBatches;
 
-  public EventListenerPluginWrapper(String listenerName, EventListenerPlugin userEventListener) {
+  public EventListenerPluginWrapper(
+      String listenerName,
+      EventListenerPlugin userEventListener,
+      EventListenerMetricsSource metricsSource) {
     this.listenerName = listenerName;
     this.userEventListener = userEventListener;
+    this.processDuration = metricsSource.processDuration(listenerName);
+    this.failedEvents = metricsSource.failedEvents(listenerName);
+    this.handlesBatches = overridesOnPostEvents(userEventListener);
   }
 
   @Override
@@ -64,9 +78,10 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
 
   @Override
   public void onPostEvent(Event event) {
-    try {
+    try (Timer.Context ignored = processDuration.time()) {
       userEventListener.onPostEvent(event);
     } catch (Exception e) {
+      failedEvents.inc();
       LOG.warn(
           "Event listener {} process event {} failed,",
           listenerName,
@@ -75,6 +90,44 @@ public class EventListenerPluginWrapper implements EventListenerPlugin {
     }
   }
 
+  @Override
+  public void onPostEvents(List<Event> events) {
+    if (!handlesBatches) {
+      events.forEach(this::onPostEvent);
+      return;
+    }
+
+    try (Timer.Context ignored = processDuration.time()) {
+      userEventListener.onPostEvents(events);
+    } catch (Exception e) {
+      failedEvents.inc(events.size());
+      LOG.warn("Event listener {} process {} events failed,", listenerName, events.size(), e);
+    }
+  }
+
+  @Override
+  public boolean isInterestedIn(Class<? extends Event> eventClass) {
+    try {
+      return userEventListener.isInterestedIn(eventClass);
+    } catch (Exception e) {
+      LOG.warn(
+          "Event listener {} failed to tell the interest in event {}, assume it's interested,",
+          listenerName,
+          eventClass.getSimpleName(),
+          e);
+      return true;
+    }
+  }
+
+  private static boolean overridesOnPostEvents(EventListenerPlugin listener) {
+    try {
+      return listener.getClass().getMethod("onPostEvents", List.class).getDeclaringClass()
+          != EventListenerPlugin.class;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   @VisibleForTesting
   EventListenerPlugin getUserEventListener() {
     return userEventListener;
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.utils.RingBufferQueue;
+
+/** Creates the queues of the async listeners according to the configurations. */
+final class EventQueueFactory {
+
+  /** The implementation of the queue. */
+  enum QueueType {
+    LINKED,
+    RING_BUFFER
+  }
+
+  static final EventQueueFactory LINKED =
+      new EventQueueFactory(
+          QueueType.LINKED,
+          RingBufferQueue.WaitStrategy.BLOCKING,
+          RingBufferQueue.OverflowPolicy.DROP_NEWEST,
+          0);
+
+  private final QueueType queueType;
+  private final RingBufferQueue.WaitStrategy waitStrategy;
+  private final RingBufferQueue.OverflowPolicy overflowPolicy;
+  private final long blockTimeoutMs;
+
+  EventQueueFactory(
+      QueueType queueType,
+      RingBufferQueue.WaitStrategy waitStrategy,
+      RingBufferQueue.OverflowPolicy overflowPolicy,
+      long blockTimeoutMs) {
+    this.queueType = queueType;
+    this.waitStrategy = waitStrategy;
+    this.overflowPolicy = overflowPolicy;
+    this.blockTimeoutMs = blockTimeoutMs;
+  }
+
+  static EventQueueFactory fromConfig(EventListenerConfig config) {
+    return new EventQueueFactory(
+        QueueType.valueOf(upperCase(config.get(EventListenerConfig.QUEUE_TYPE))),
+        RingBufferQueue.WaitStrategy.valueOf(
+            upperCase(config.get(EventListenerConfig.QUEUE_WAIT_STRATEGY))),
+        RingBufferQueue.OverflowPolicy.valueOf(
+            upperCase(config.get(EventListenerConfig.QUEUE_OVERFLOW_POLICY))),
+        config.get(EventListenerConfig.QUEUE_BLOCK_TIMEOUT_MS));
+  }
+
+  /**
+   * Creates a queue.
+   *
+   * @param capacity The capacity of the queue.
+   * @param dropListener Called with the events dropped from the queue to make room for the new
+   *     ones. The events rejected by the queue aren't passed to it.
+   * @return The queue.
+   */
+  BlockingQueue<Event> create(int capacity, Consumer<Event> dropListener) {
+    if (queueType == QueueType.RING_BUFFER) {
+      return new RingBufferQueue<>(
+          capacity, waitStrategy, overflowPolicy, blockTimeoutMs, dropListener);
+    }
+    return new LinkedBlockingQueue<>(capacity);
+  }
+
+  static String upperCase(String value) {
+    return value.trim().toUpperCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.FailureEvent;
+import org.apache.gravitino.listener.api.event.ReplayedEvent;
+
+/**
+ * Encodes the events to the records of {@link DurableEventLog}, and decodes the records to {@link
+ * ReplayedEvent}. Only the fields common to all the events are encoded: the type, the user, the
+ * identifier, the time, and the exception of the failure events.
+ */
+final class EventRecordCodec {
+
+  private static final byte VERSION = 1;
+
+  // Keeps the modified UTF-8 encoding of the failure within the 64KB limit of writeUTF.
+  private static final int MAX_FAILURE_LENGTH = 16 * 1024;
+
+  private EventRecordCodec() {}
+
+  static byte[] encode(Event event) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+      out.writeUTF(
+          event instanceof ReplayedEvent
+              ? ((ReplayedEvent) event).eventType()
+              : event.getClass().getName());
+      out.writeLong(event.eventTime());
+      writeNullableString(out, event.user());
+
+      NameIdentifier identifier = event.identifier();
+      out.writeBoolean(identifier != null);
+      if (identifier != null) {
+        String[] levels = identifier.namespace().levels();
+        out.writeInt(levels.length);
+        for (String level : levels) {
+          out.writeUTF(level);
+        }
+        out.writeUTF(identifier.name());
+      }
+
+      String failure = null;
+      if (event instanceof ReplayedEvent) {
+        failure = ((ReplayedEvent) event).failure();
+      } else if (event instanceof FailureEvent) {
+        Exception exception = ((FailureEvent) event).exception();
+        failure = exception.getClass().getName() + ": " + exception.getMessage();
+      }
+      if (failure != null && failure.length() > MAX_FAILURE_LENGTH) {
+        failure = failure.substring(0, MAX_FAILURE_LENGTH);
+      }
+      writeNullableString(out, failure);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  static ReplayedEvent decode(byte[] record) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+      byte version = in.readByte();
+      if (version != VERSION) {
+        throw new IllegalStateException("Unsupported event record version: " + version);
+      }
+
+      String eventType = in.readUTF();
+      long eventTime = in.readLong();
+      String user = readNullableString(in);
+
+      NameIdentifier identifier = null;
+      if (in.readBoolean()) {
+        String[] names = new String[in.readInt() + 1];
+        for (int i = 0; i < names.length; i++) {
+          names[i] = in.readUTF();
+        }
+        identifier = NameIdentifier.of(names);
+      }
+
+      String failure = readNullableString(in);
+      return new ReplayedEvent(user, identifier, eventTime, eventType, failure);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      out.writeUTF(value);
+    }
+  }
+
+  private static String readNullableString(DataInputStream in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+}
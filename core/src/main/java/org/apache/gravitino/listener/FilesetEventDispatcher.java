@@ -60,11 +60,30 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
   public NameIdentifier[] listFilesets(Namespace namespace) throws NoSuchSchemaException {
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listFilesets(namespace);
-      eventBus.dispatchEvent(new ListFilesetEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListFilesetEvent.class,
+          () -> new ListFilesetEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+          ListFilesetFailureEvent.class,
+          () -> new ListFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public Fileset[] listFilesetsInfo(Namespace namespace) throws NoSuchSchemaException {
+    try {
+      Fileset[] filesets = dispatcher.listFilesetsInfo(namespace);
+      eventBus.dispatchEvent(
+          ListFilesetEvent.class,
+          () -> new ListFilesetEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return filesets;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          ListFilesetFailureEvent.class,
+          () -> new ListFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
       throw e;
     }
   }
@@ -74,12 +93,15 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
     try {
       Fileset fileset = dispatcher.loadFileset(ident);
       eventBus.dispatchEvent(
-          new LoadFilesetEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new FilesetInfo(fileset)));
+          LoadFilesetEvent.class,
+          () ->
+              new LoadFilesetEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new FilesetInfo(fileset)));
       return fileset;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new LoadFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          LoadFilesetFailureEvent.class,
+          () -> new LoadFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -95,16 +117,20 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
     try {
       Fileset fileset = dispatcher.createFileset(ident, comment, type, storageLocation, properties);
       eventBus.dispatchEvent(
-          new CreateFilesetEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new FilesetInfo(fileset)));
+          CreateFilesetEvent.class,
+          () ->
+              new CreateFilesetEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new FilesetInfo(fileset)));
       return fileset;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new CreateFilesetFailureEvent(
-              PrincipalUtils.getCurrentUserName(),
-              ident,
-              e,
-              new FilesetInfo(ident.name(), comment, type, storageLocation, properties, null)));
+          CreateFilesetFailureEvent.class,
+          () ->
+              new CreateFilesetFailureEvent(
+                  PrincipalUtils.getCurrentUserName(),
+                  ident,
+                  e,
+                  new FilesetInfo(ident.name(), comment, type, storageLocation, properties, null)));
       throw e;
     }
   }
@@ -115,12 +141,19 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
     try {
       Fileset fileset = dispatcher.alterFileset(ident, changes);
       eventBus.dispatchEvent(
-          new AlterFilesetEvent(
-              PrincipalUtils.getCurrentUserName(), ident, changes, new FilesetInfo(fileset)));
+          AlterFilesetEvent.class,
+          () ->
+              new AlterFilesetEvent(
+                  PrincipalUtils.getCurrentUserName(),
+                  ident,
+                  changes,
+                  () -> new FilesetInfo(fileset)));
       return fileset;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new AlterFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
+          AlterFilesetFailureEvent.class,
+          () ->
+              new AlterFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
       throw e;
     }
   }
@@ -130,11 +163,13 @@ public class FilesetEventDispatcher implements FilesetDispatcher {
     try {
       boolean isExists = dispatcher.dropFileset(ident);
       eventBus.dispatchEvent(
-          new DropFilesetEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
+          DropFilesetEvent.class,
+          () -> new DropFilesetEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          DropFilesetFailureEvent.class,
+          () -> new DropFilesetFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.ReplayedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the listeners interested in each event class, so the interest of the listeners is only
+ * asked once per event class. A {@link ReplayedEvent} goes to the listeners interested in the class
+ * of its original event, as well as the ones interested in {@link ReplayedEvent}.
+ */
+class InterestedListeners extends ClassValue<List<EventListenerPlugin>> {
+  private static final Logger LOG = LoggerFactory.getLogger(InterestedListeners.class);
+
+  private final List<EventListenerPlugin> listeners;
+  // The listeners interested in the replayed events by the type of the original events.
+  private final Map<String, List<EventListenerPlugin>> replayedEventListeners =
+      new ConcurrentHashMap<>();
+
+  InterestedListeners(List<EventListenerPlugin> listeners) {
+    this.listeners = listeners;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected List<EventListenerPlugin> computeValue(Class<?> type) {
+    Class<? extends Event> eventClass = (Class<? extends Event>) type;
+    ImmutableList.Builder<EventListenerPlugin> builder = ImmutableList.builder();
+    for (EventListenerPlugin listener : listeners) {
+      if (listener.isInterestedIn(eventClass)) {
+        builder.add(listener);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Gets the listeners interested in an event.
+   *
+   * @param event The event.
+   * @return The listeners interested in the event.
+   */
+  List<EventListenerPlugin> interestedIn(Event event) {
+    if (event instanceof ReplayedEvent) {
+      return replayedEventListeners.computeIfAbsent(
+          ((ReplayedEvent) event).eventType(), this::computeReplayedEventListeners);
+    }
+    return get(event.getClass());
+  }
+
+  private List<EventListenerPlugin> computeReplayedEventListeners(String eventType) {
+    List<EventListenerPlugin> originalEventListeners = ImmutableList.of();
+    try {
+      Class<?> eventClass = Class.forName(eventType, false, Event.class.getClassLoader());
+      if (Event.class.isAssignableFrom(eventClass)) {
+        originalEventListeners = get(eventClass);
+      }
+    } catch (ClassNotFoundException e) {
+      LOG.warn("Unknown type of the replayed events: {}", eventType);
+    }
+
+    List<EventListenerPlugin> replayedListeners = get(ReplayedEvent.class);
+    ImmutableList.Builder<EventListenerPlugin> builder = ImmutableList.builder();
+    for (EventListenerPlugin listener : listeners) {
+      if (originalEventListeners.contains(listener) || replayedListeners.contains(listener)) {
+        builder.add(listener);
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Dispatches a batch of events to the listeners, each listener only gets the events it is
+   * interested in. The failure of a listener doesn't stop the others.
+   */
+  void dispatch(List<Event> batch, String dispatcherName) {
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    // The batch buffer is reused by the caller, so hand over a copy the listeners may keep.
+    List<Event> events = ImmutableList.copyOf(batch);
+    for (EventListenerPlugin listener : listeners) {
+      try {
+        List<Event> interestedEvents = interestedEvents(listener, events);
+        if (!interestedEvents.isEmpty()) {
+          listener.onPostEvents(interestedEvents);
+        }
+      } catch (Exception e) {
+        LOG.warn("{} throw a exception while processing event", dispatcherName, e);
+      }
+    }
+  }
+
+  private List<Event> interestedEvents(EventListenerPlugin listener, List<Event> events) {
+    // Only copy the events if the listener isn't interested in some of them.
+    List<Event> interestedEvents = null;
+    for (int i = 0; i < events.size(); i++) {
+      Event event = events.get(i);
+      boolean interested = interestedIn(event).contains(listener);
+      if (!interested && interestedEvents == null) {
+        interestedEvents = new ArrayList<>(events.subList(0, i));
+      } else if (interested && interestedEvents != null) {
+        interestedEvents.add(event);
+      }
+    }
+    return interestedEvents == null ? events : Collections.unmodifiableList(interestedEvents);
+  }
+}
@@ -65,10 +65,14 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
   public Metalake[] listMetalakes() {
     try {
       Metalake[] metalakes = dispatcher.listMetalakes();
-      eventBus.dispatchEvent(new ListMetalakeEvent(PrincipalUtils.getCurrentUserName()));
+      eventBus.dispatchEvent(
+          ListMetalakeEvent.class,
+          () -> new ListMetalakeEvent(PrincipalUtils.getCurrentUserName()));
       return metalakes;
     } catch (Exception e) {
-      eventBus.dispatchEvent(new ListMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), e));
+      eventBus.dispatchEvent(
+          ListMetalakeFailureEvent.class,
+          () -> new ListMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), e));
       throw e;
     }
   }
@@ -78,12 +82,15 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
     try {
       Metalake metalake = dispatcher.loadMetalake(ident);
       eventBus.dispatchEvent(
-          new LoadMetalakeEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new MetalakeInfo(metalake)));
+          LoadMetalakeEvent.class,
+          () ->
+              new LoadMetalakeEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new MetalakeInfo(metalake)));
       return metalake;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new LoadMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          LoadMetalakeFailureEvent.class,
+          () -> new LoadMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -100,14 +107,18 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
     try {
       Metalake metalake = dispatcher.createMetalake(ident, comment, properties);
       eventBus.dispatchEvent(
-          new CreateMetalakeEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new MetalakeInfo(metalake)));
+          CreateMetalakeEvent.class,
+          () ->
+              new CreateMetalakeEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new MetalakeInfo(metalake)));
       return metalake;
     } catch (Exception e) {
       MetalakeInfo metalakeInfo = new MetalakeInfo(ident.name(), comment, properties, null);
       eventBus.dispatchEvent(
-          new CreateMetalakeFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, metalakeInfo));
+          CreateMetalakeFailureEvent.class,
+          () ->
+              new CreateMetalakeFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, metalakeInfo));
       throw e;
     }
   }
@@ -118,12 +129,20 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
     try {
       Metalake metalake = dispatcher.alterMetalake(ident, changes);
       eventBus.dispatchEvent(
-          new AlterMetalakeEvent(
-              PrincipalUtils.getCurrentUserName(), ident, changes, new MetalakeInfo(metalake)));
+          AlterMetalakeEvent.class,
+          () ->
+              new AlterMetalakeEvent(
+                  PrincipalUtils.getCurrentUserName(),
+                  ident,
+                  changes,
+                  () -> new MetalakeInfo(metalake)));
       return metalake;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new AlterMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
+          AlterMetalakeFailureEvent.class,
+          () ->
+              new AlterMetalakeFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, changes));
       throw e;
     }
   }
@@ -133,11 +152,13 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
     try {
       boolean isExists = dispatcher.dropMetalake(ident);
       eventBus.dispatchEvent(
-          new DropMetalakeEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
+          DropMetalakeEvent.class,
+          () -> new DropMetalakeEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          DropMetalakeFailureEvent.class,
+          () -> new DropMetalakeFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
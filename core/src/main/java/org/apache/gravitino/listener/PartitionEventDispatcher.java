@@ -69,14 +69,20 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     try {
       Partition newPartition = dispatcher.addPartition(ident, partition);
       eventBus.dispatchEvent(
-          new AddPartitionEvent(
-              PrincipalUtils.getCurrentUserName(), ident, PartitionInfo.of(newPartition)));
+          AddPartitionEvent.class,
+          () ->
+              new AddPartitionEvent(
+                  PrincipalUtils.getCurrentUserName(),
+                  ident,
+                  () -> PartitionInfo.of(newPartition)));
       return newPartition;
     } catch (Exception e) {
       PartitionInfo createdPartitionInfo = PartitionInfo.of(partition);
       eventBus.dispatchEvent(
-          new AddPartitionFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, createdPartitionInfo));
+          AddPartitionFailureEvent.class,
+          () ->
+              new AddPartitionFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, createdPartitionInfo));
       throw e;
     }
   }
@@ -87,13 +93,17 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     try {
       Partition partition = dispatcher.getPartition(ident, partitionName);
       eventBus.dispatchEvent(
-          new GetPartitionEvent(
-              PrincipalUtils.getCurrentUserName(), ident, PartitionInfo.of(partition)));
+          GetPartitionEvent.class,
+          () ->
+              new GetPartitionEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> PartitionInfo.of(partition)));
       return partition;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new GetPartitionFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
+          GetPartitionFailureEvent.class,
+          () ->
+              new GetPartitionFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
       throw e;
     }
   }
@@ -103,13 +113,17 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     try {
       boolean isExists = dispatcher.dropPartition(ident, partitionName);
       eventBus.dispatchEvent(
-          new DropPartitionEvent(
-              PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
+          DropPartitionEvent.class,
+          () ->
+              new DropPartitionEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropPartitionFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
+          DropPartitionFailureEvent.class,
+          () ->
+              new DropPartitionFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
       throw e;
     }
   }
@@ -118,11 +132,14 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
   public Partition[] listPartitions(NameIdentifier ident) {
     try {
       Partition[] listPartitions = dispatcher.listPartitions(ident);
-      eventBus.dispatchEvent(new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
+      eventBus.dispatchEvent(
+          ListPartitionEvent.class,
+          () -> new ListPartitionEvent(PrincipalUtils.getCurrentUserName(), ident));
       return listPartitions;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          ListPartitionFailureEvent.class,
+          () -> new ListPartitionFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -132,11 +149,13 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     try {
       String[] listPartitionNames = dispatcher.listPartitionNames(ident);
       eventBus.dispatchEvent(
-          new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
+          ListPartitionNamesEvent.class,
+          () -> new ListPartitionNamesEvent(PrincipalUtils.getCurrentUserName(), ident));
       return listPartitionNames;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          ListPartitionNamesFailureEvent.class,
+          () -> new ListPartitionNamesFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -146,13 +165,17 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     try {
       boolean isExists = dispatcher.partitionExists(ident, partitionName);
       eventBus.dispatchEvent(
-          new PartitionExistsEvent(
-              PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
+          PartitionExistsEvent.class,
+          () ->
+              new PartitionExistsEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new PartitionExistsFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
+          PartitionExistsFailureEvent.class,
+          () ->
+              new PartitionExistsFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
       throw e;
     }
   }
@@ -162,13 +185,17 @@ public class PartitionEventDispatcher implements PartitionDispatcher {
     try {
       boolean isExists = dispatcher.purgePartition(ident, partitionName);
       eventBus.dispatchEvent(
-          new PurgePartitionEvent(
-              PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
+          PurgePartitionEvent.class,
+          () ->
+              new PurgePartitionEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, isExists, partitionName));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new PurgePartitionFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
+          PurgePartitionFailureEvent.class,
+          () ->
+              new PurgePartitionFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, partitionName));
       throw e;
     }
   }
@@ -69,11 +69,30 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
   public NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException {
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listSchemas(namespace);
-      eventBus.dispatchEvent(new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListSchemaEvent.class,
+          () -> new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+          ListSchemaFailureEvent.class,
+          () -> new ListSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public Schema[] listSchemasInfo(Namespace namespace) throws NoSuchCatalogException {
+    try {
+      Schema[] schemas = dispatcher.listSchemasInfo(namespace);
+      eventBus.dispatchEvent(
+          ListSchemaEvent.class,
+          () -> new ListSchemaEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return schemas;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          ListSchemaFailureEvent.class,
+          () -> new ListSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
       throw e;
     }
   }
@@ -89,14 +108,18 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
     try {
       Schema schema = dispatcher.createSchema(ident, comment, properties);
       eventBus.dispatchEvent(
-          new CreateSchemaEvent(
-              PrincipalUtils.getCurrentUserName(), ident, new SchemaInfo(schema)));
+          CreateSchemaEvent.class,
+          () ->
+              new CreateSchemaEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new SchemaInfo(schema)));
       return schema;
     } catch (Exception e) {
       SchemaInfo createSchemaRequest = new SchemaInfo(ident.name(), comment, properties, null);
       eventBus.dispatchEvent(
-          new CreateSchemaFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, createSchemaRequest));
+          CreateSchemaFailureEvent.class,
+          () ->
+              new CreateSchemaFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, createSchemaRequest));
       throw e;
     }
   }
@@ -106,11 +129,15 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
     try {
       Schema schema = dispatcher.loadSchema(ident);
       eventBus.dispatchEvent(
-          new LoadSchemaEvent(PrincipalUtils.getCurrentUserName(), ident, new SchemaInfo(schema)));
+          LoadSchemaEvent.class,
+          () ->
+              new LoadSchemaEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new SchemaInfo(schema)));
       return schema;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new LoadSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          LoadSchemaFailureEvent.class,
+          () -> new LoadSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -121,12 +148,19 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
     try {
       Schema schema = dispatcher.alterSchema(ident, changes);
       eventBus.dispatchEvent(
-          new AlterSchemaEvent(
-              PrincipalUtils.getCurrentUserName(), ident, changes, new SchemaInfo(schema)));
+          AlterSchemaEvent.class,
+          () ->
+              new AlterSchemaEvent(
+                  PrincipalUtils.getCurrentUserName(),
+                  ident,
+                  changes,
+                  () -> new SchemaInfo(schema)));
       return schema;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new AlterSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
+          AlterSchemaFailureEvent.class,
+          () ->
+              new AlterSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
       throw e;
     }
   }
@@ -136,11 +170,13 @@ public class SchemaEventDispatcher implements SchemaDispatcher {
     try {
       boolean isExists = dispatcher.dropSchema(ident, cascade);
       eventBus.dispatchEvent(
-          new DropSchemaEvent(PrincipalUtils.getCurrentUserName(), ident, isExists, cascade));
+          DropSchemaEvent.class,
+          () -> new DropSchemaEvent(PrincipalUtils.getCurrentUserName(), ident, isExists, cascade));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, cascade));
+          DropSchemaFailureEvent.class,
+          () -> new DropSchemaFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, cascade));
       throw e;
     }
   }
@@ -75,11 +75,30 @@ public class TableEventDispatcher implements TableDispatcher {
   public NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException {
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listTables(namespace);
-      eventBus.dispatchEvent(new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListTableEvent.class,
+          () -> new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+          ListTableFailureEvent.class,
+          () -> new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public Table[] listTablesInfo(Namespace namespace) throws NoSuchSchemaException {
+    try {
+      Table[] tables = dispatcher.listTablesInfo(namespace);
+      eventBus.dispatchEvent(
+          ListTableEvent.class,
+          () -> new ListTableEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return tables;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          ListTableFailureEvent.class,
+          () -> new ListTableFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
       throw e;
     }
   }
@@ -89,11 +108,15 @@ public class TableEventDispatcher implements TableDispatcher {
     try {
       Table table = dispatcher.loadTable(ident);
       eventBus.dispatchEvent(
-          new LoadTableEvent(PrincipalUtils.getCurrentUserName(), ident, new TableInfo(table)));
+          LoadTableEvent.class,
+          () ->
+              new LoadTableEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new TableInfo(table)));
       return table;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new LoadTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          LoadTableFailureEvent.class,
+          () -> new LoadTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -114,7 +137,10 @@ public class TableEventDispatcher implements TableDispatcher {
           dispatcher.createTable(
               ident, columns, comment, properties, partitions, distribution, sortOrders, indexes);
       eventBus.dispatchEvent(
-          new CreateTableEvent(PrincipalUtils.getCurrentUserName(), ident, new TableInfo(table)));
+          CreateTableEvent.class,
+          () ->
+              new CreateTableEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new TableInfo(table)));
       return table;
     } catch (Exception e) {
       TableInfo createTableRequest =
@@ -129,8 +155,10 @@ public class TableEventDispatcher implements TableDispatcher {
               indexes,
               null);
       eventBus.dispatchEvent(
-          new CreateTableFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, createTableRequest));
+          CreateTableFailureEvent.class,
+          () ->
+              new CreateTableFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, createTableRequest));
       throw e;
     }
   }
@@ -141,12 +169,15 @@ public class TableEventDispatcher implements TableDispatcher {
     try {
       Table table = dispatcher.alterTable(ident, changes);
       eventBus.dispatchEvent(
-          new AlterTableEvent(
-              PrincipalUtils.getCurrentUserName(), ident, changes, new TableInfo(table)));
+          AlterTableEvent.class,
+          () ->
+              new AlterTableEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, changes, () -> new TableInfo(table)));
       return table;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new AlterTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
+          AlterTableFailureEvent.class,
+          () -> new AlterTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
       throw e;
     }
   }
@@ -156,11 +187,13 @@ public class TableEventDispatcher implements TableDispatcher {
     try {
       boolean isExists = dispatcher.dropTable(ident);
       eventBus.dispatchEvent(
-          new DropTableEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
+          DropTableEvent.class,
+          () -> new DropTableEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          DropTableFailureEvent.class,
+          () -> new DropTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -170,11 +203,13 @@ public class TableEventDispatcher implements TableDispatcher {
     try {
       boolean isExists = dispatcher.purgeTable(ident);
       eventBus.dispatchEvent(
-          new PurgeTableEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
+          PurgeTableEvent.class,
+          () -> new PurgeTableEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new PurgeTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          PurgeTableFailureEvent.class,
+          () -> new PurgeTableFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -23,6 +23,7 @@ import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.TopicDispatcher;
+import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.NoSuchTopicException;
 import org.apache.gravitino.exceptions.TopicAlreadyExistsException;
 import org.apache.gravitino.listener.api.event.AlterTopicEvent;
@@ -69,12 +70,15 @@ public class TopicEventDispatcher implements TopicDispatcher {
     try {
       Topic topic = dispatcher.alterTopic(ident, changes);
       eventBus.dispatchEvent(
-          new AlterTopicEvent(
-              PrincipalUtils.getCurrentUserName(), ident, changes, new TopicInfo(topic)));
+          AlterTopicEvent.class,
+          () ->
+              new AlterTopicEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, changes, () -> new TopicInfo(topic)));
       return topic;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new AlterTopicFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
+          AlterTopicFailureEvent.class,
+          () -> new AlterTopicFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e, changes));
       throw e;
     }
   }
@@ -84,11 +88,13 @@ public class TopicEventDispatcher implements TopicDispatcher {
     try {
       boolean isExists = dispatcher.dropTopic(ident);
       eventBus.dispatchEvent(
-          new DropTopicEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
+          DropTopicEvent.class,
+          () -> new DropTopicEvent(PrincipalUtils.getCurrentUserName(), ident, isExists));
       return isExists;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new DropTopicFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          DropTopicFailureEvent.class,
+          () -> new DropTopicFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -97,11 +103,30 @@ public class TopicEventDispatcher implements TopicDispatcher {
   public NameIdentifier[] listTopics(Namespace namespace) throws NoSuchTopicException {
     try {
       NameIdentifier[] nameIdentifiers = dispatcher.listTopics(namespace);
-      eventBus.dispatchEvent(new ListTopicEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      eventBus.dispatchEvent(
+          ListTopicEvent.class,
+          () -> new ListTopicEvent(PrincipalUtils.getCurrentUserName(), namespace));
       return nameIdentifiers;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new ListTopicFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+          ListTopicFailureEvent.class,
+          () -> new ListTopicFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
+      throw e;
+    }
+  }
+
+  @Override
+  public Topic[] listTopicsInfo(Namespace namespace) throws NoSuchSchemaException {
+    try {
+      Topic[] topics = dispatcher.listTopicsInfo(namespace);
+      eventBus.dispatchEvent(
+          ListTopicEvent.class,
+          () -> new ListTopicEvent(PrincipalUtils.getCurrentUserName(), namespace));
+      return topics;
+    } catch (Exception e) {
+      eventBus.dispatchEvent(
+          ListTopicFailureEvent.class,
+          () -> new ListTopicFailureEvent(PrincipalUtils.getCurrentUserName(), namespace, e));
       throw e;
     }
   }
@@ -111,11 +136,15 @@ public class TopicEventDispatcher implements TopicDispatcher {
     try {
       Topic topic = dispatcher.loadTopic(ident);
       eventBus.dispatchEvent(
-          new LoadTopicEvent(PrincipalUtils.getCurrentUserName(), ident, new TopicInfo(topic)));
+          LoadTopicEvent.class,
+          () ->
+              new LoadTopicEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new TopicInfo(topic)));
       return topic;
     } catch (Exception e) {
       eventBus.dispatchEvent(
-          new LoadTopicFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
+          LoadTopicFailureEvent.class,
+          () -> new LoadTopicFailureEvent(PrincipalUtils.getCurrentUserName(), ident, e));
       throw e;
     }
   }
@@ -132,13 +161,18 @@ public class TopicEventDispatcher implements TopicDispatcher {
     try {
       Topic topic = dispatcher.createTopic(ident, comment, dataLayout, properties);
       eventBus.dispatchEvent(
-          new CreateTopicEvent(PrincipalUtils.getCurrentUserName(), ident, new TopicInfo(topic)));
+          CreateTopicEvent.class,
+          () ->
+              new CreateTopicEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, () -> new TopicInfo(topic)));
       return topic;
     } catch (Exception e) {
       TopicInfo createTopicRequest = new TopicInfo(ident.name(), comment, properties, null);
       eventBus.dispatchEvent(
-          new CreateTopicFailureEvent(
-              PrincipalUtils.getCurrentUserName(), ident, e, createTopicRequest));
+          CreateTopicFailureEvent.class,
+          () ->
+              new CreateTopicFailureEvent(
+                  PrincipalUtils.getCurrentUserName(), ident, e, createTopicRequest));
       throw e;
     }
   }
@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.listener.api;
 
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.event.Event;
@@ -107,6 +108,43 @@ public interface EventListenerPlugin {
    */
   void onPostEvent(Event event) throws RuntimeException;
 
+  /**
+   * Handles a batch of events generated after the completion of operations, in the order they
+   * occurred. The async listeners receive the events in batches drained from their queues, so the
+   * plugins writing to external sinks can amortize the cost of each write over the batch, while the
+   * sync listeners receive the events one by one through {@link #onPostEvent(Event)}.
+   *
+   * <p>The default implementation calls {@link #onPostEvent(Event)} for each event.
+   *
+   * @param events The events to be processed, only containing the events the plugin is interested
+   *     in. The list is immutable and stays valid after the call, so the plugin may keep it, e.g.
+   *     to write it to a sink asynchronously.
+   * @throws RuntimeException Indicates issues encountered during event processing.
+   */
+  default void onPostEvents(List<Event> events) throws RuntimeException {
+    for (Event event : events) {
+      onPostEvent(event);
+    }
+  }
+
+  /**
+   * Specifies whether the plugin is interested in the events of the given class. The events the
+   * plugin isn't interested in aren't dispatched to it, and if no plugin is interested in an event
+   * class, the events of the class aren't even built. The default implementation is interested in
+   * all the events.
+   *
+   * <p>The result is cached per event class, so it should only depend on the class. A {@link
+   * org.apache.gravitino.listener.api.event.ReplayedEvent} restored from a durable queue is
+   * dispatched to the plugin if it is interested in the class of the original event, or in {@code
+   * ReplayedEvent} itself.
+   *
+   * @param eventClass The class of the events.
+   * @return True if the plugin is interested in the events of the class, false otherwise.
+   */
+  default boolean isInterestedIn(Class<? extends Event> eventClass) {
+    return true;
+  }
+
   /**
    * Specifies the default operational mode for event processing by the plugin. The default
    * implementation is synchronous, but implementers can override this to utilize asynchronous
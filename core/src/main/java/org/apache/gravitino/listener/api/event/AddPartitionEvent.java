@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.partitions.PartitionInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.partitions.PartitionInfo;
 /** Represents an event that is activated upon the successful creation of a partition. */
 @DeveloperApi
 public class AddPartitionEvent extends PartitionEvent {
-  private final PartitionInfo createdPartitionInfo;
+  private final Supplier<PartitionInfo> createdPartitionInfo;
 
   /**
    * Constructs an instance of {@code AddPartitionEvent}, capturing essential details about the
@@ -39,7 +41,21 @@ public class AddPartitionEvent extends PartitionEvent {
   public AddPartitionEvent(
       String user, NameIdentifier identifier, PartitionInfo createdPartitionInfo) {
     super(user, identifier);
-    this.createdPartitionInfo = createdPartitionInfo;
+    this.createdPartitionInfo = Suppliers.ofInstance(createdPartitionInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code AddPartitionEvent} whose info is built lazily, capturing
+   * essential details about the successful creation of a partition.
+   *
+   * @param user The username of the individual who initiated the add partition.
+   * @param identifier The unique identifier of the partition that was created.
+   * @param createdPartitionInfo The supplier of the info, only called when the info is first read.
+   */
+  public AddPartitionEvent(
+      String user, NameIdentifier identifier, Supplier<PartitionInfo> createdPartitionInfo) {
+    super(user, identifier);
+    this.createdPartitionInfo = Suppliers.memoize(createdPartitionInfo::get);
   }
 
   /**
@@ -50,6 +66,6 @@ public class AddPartitionEvent extends PartitionEvent {
    *     newly created partition.
    */
   public PartitionInfo createdPartitionInfo() {
-    return createdPartitionInfo;
+    return createdPartitionInfo.get();
   }
 }
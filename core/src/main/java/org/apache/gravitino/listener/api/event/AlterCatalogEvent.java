@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
@@ -27,7 +29,7 @@ import org.apache.gravitino.listener.api.info.CatalogInfo;
 /** Represents an event triggered upon the successful creation of a catalog. */
 @DeveloperApi
 public final class AlterCatalogEvent extends CatalogEvent {
-  private final CatalogInfo updatedCatalogInfo;
+  private final Supplier<CatalogInfo> updatedCatalogInfo;
   private final CatalogChange[] catalogChanges;
 
   /**
@@ -48,7 +50,28 @@ public final class AlterCatalogEvent extends CatalogEvent {
       CatalogInfo updatedCatalogInfo) {
     super(user, identifier);
     this.catalogChanges = catalogChanges.clone();
-    this.updatedCatalogInfo = updatedCatalogInfo;
+    this.updatedCatalogInfo = Suppliers.ofInstance(updatedCatalogInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code AlterCatalogEvent} whose info is built lazily, encapsulating
+   * the key details about the successful alteration of a catalog.
+   *
+   * @param user The username of the individual responsible for initiating the catalog alteration.
+   * @param identifier The unique identifier of the altered catalog, serving as a clear reference
+   *     point for the catalog in question.
+   * @param catalogChanges An array of {@link CatalogChange} objects representing the specific
+   *     changes applied to the catalog during the alteration process.
+   * @param updatedCatalogInfo The supplier of the info, only called when the info is first read.
+   */
+  public AlterCatalogEvent(
+      String user,
+      NameIdentifier identifier,
+      CatalogChange[] catalogChanges,
+      Supplier<CatalogInfo> updatedCatalogInfo) {
+    super(user, identifier);
+    this.catalogChanges = catalogChanges.clone();
+    this.updatedCatalogInfo = Suppliers.memoize(updatedCatalogInfo::get);
   }
 
   /**
@@ -59,7 +82,7 @@ public final class AlterCatalogEvent extends CatalogEvent {
    *     created catalog.
    */
   public CatalogInfo updatedCatalogInfo() {
-    return updatedCatalogInfo;
+    return updatedCatalogInfo.get();
   }
 
   /**
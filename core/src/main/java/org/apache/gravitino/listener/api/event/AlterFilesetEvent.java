@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.file.FilesetChange;
@@ -27,7 +29,7 @@ import org.apache.gravitino.listener.api.info.FilesetInfo;
 /** Represents an event that occurs when a fileset is altered. */
 @DeveloperApi
 public final class AlterFilesetEvent extends FilesetEvent {
-  private final FilesetInfo updatedFilesetInfo;
+  private final Supplier<FilesetInfo> updatedFilesetInfo;
   private final FilesetChange[] filesetChanges;
 
   /**
@@ -47,7 +49,26 @@ public final class AlterFilesetEvent extends FilesetEvent {
       FilesetInfo updatedFilesetInfo) {
     super(user, identifier);
     this.filesetChanges = filesetChanges.clone();
-    this.updatedFilesetInfo = updatedFilesetInfo;
+    this.updatedFilesetInfo = Suppliers.ofInstance(updatedFilesetInfo);
+  }
+
+  /**
+   * Constructs a new {@code AlterFilesetEvent} whose info is built lazily instance.
+   *
+   * @param user The username of the individual who initiated the fileset alteration.
+   * @param identifier The unique identifier of the fileset that was altered.
+   * @param filesetChanges An array of {@link FilesetChange} objects representing the specific
+   *     changes applied to the fileset.
+   * @param updatedFilesetInfo The supplier of the info, only called when the info is first read.
+   */
+  public AlterFilesetEvent(
+      String user,
+      NameIdentifier identifier,
+      FilesetChange[] filesetChanges,
+      Supplier<FilesetInfo> updatedFilesetInfo) {
+    super(user, identifier);
+    this.filesetChanges = filesetChanges.clone();
+    this.updatedFilesetInfo = Suppliers.memoize(updatedFilesetInfo::get);
   }
 
   /**
@@ -67,6 +88,6 @@ public final class AlterFilesetEvent extends FilesetEvent {
    *     post-alteration.
    */
   public FilesetInfo updatedFilesetInfo() {
-    return updatedFilesetInfo;
+    return updatedFilesetInfo.get();
   }
 }
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.MetalakeChange;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
@@ -27,7 +29,7 @@ import org.apache.gravitino.listener.api.info.MetalakeInfo;
 /** Represents an event fired when a metalake is successfully altered. */
 @DeveloperApi
 public final class AlterMetalakeEvent extends MetalakeEvent {
-  private final MetalakeInfo updatedMetalakeInfo;
+  private final Supplier<MetalakeInfo> updatedMetalakeInfo;
   private final MetalakeChange[] metalakeChanges;
 
   /**
@@ -48,7 +50,28 @@ public final class AlterMetalakeEvent extends MetalakeEvent {
       MetalakeInfo updatedMetalakeInfo) {
     super(user, identifier);
     this.metalakeChanges = metalakeChanges.clone();
-    this.updatedMetalakeInfo = updatedMetalakeInfo;
+    this.updatedMetalakeInfo = Suppliers.ofInstance(updatedMetalakeInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code AlterMetalakeEvent} whose info is built lazily, encapsulating
+   * the key details about the successful alteration of a metalake.
+   *
+   * @param user The username of the individual responsible for initiating the metalake alteration.
+   * @param identifier The unique identifier of the altered metalake, serving as a clear reference
+   *     point for the metalake in question.
+   * @param metalakeChanges An array of {@link MetalakeChange} objects representing the specific
+   *     changes applied to the metalake during the alteration process.
+   * @param updatedMetalakeInfo The supplier of the info, only called when the info is first read.
+   */
+  public AlterMetalakeEvent(
+      String user,
+      NameIdentifier identifier,
+      MetalakeChange[] metalakeChanges,
+      Supplier<MetalakeInfo> updatedMetalakeInfo) {
+    super(user, identifier);
+    this.metalakeChanges = metalakeChanges.clone();
+    this.updatedMetalakeInfo = Suppliers.memoize(updatedMetalakeInfo::get);
   }
 
   /**
@@ -57,7 +80,7 @@ public final class AlterMetalakeEvent extends MetalakeEvent {
    * @return A {@link MetalakeInfo} instance encapsulating the details of the altered metalake.
    */
   public MetalakeInfo updatedMetalakeInfo() {
-    return updatedMetalakeInfo;
+    return updatedMetalakeInfo.get();
   }
 
   /**
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.SchemaChange;
 import org.apache.gravitino.annotation.DeveloperApi;
@@ -28,7 +30,7 @@ import org.apache.gravitino.listener.api.info.SchemaInfo;
 @DeveloperApi
 public final class AlterSchemaEvent extends SchemaEvent {
   private final SchemaChange[] schemaChanges;
-  private final SchemaInfo updatedSchemaInfo;
+  private final Supplier<SchemaInfo> updatedSchemaInfo;
 
   public AlterSchemaEvent(
       String user,
@@ -37,7 +39,25 @@ public final class AlterSchemaEvent extends SchemaEvent {
       SchemaInfo updatedSchemaInfo) {
     super(user, identifier);
     this.schemaChanges = schemaChanges.clone();
-    this.updatedSchemaInfo = updatedSchemaInfo;
+    this.updatedSchemaInfo = Suppliers.ofInstance(updatedSchemaInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code AlterSchemaEvent} whose info is built lazily.
+   *
+   * @param user The user who triggered the event.
+   * @param identifier The identifier of the schema.
+   * @param schemaChanges The schemaChanges.
+   * @param updatedSchemaInfo The supplier of the info, only called when the info is first read.
+   */
+  public AlterSchemaEvent(
+      String user,
+      NameIdentifier identifier,
+      SchemaChange[] schemaChanges,
+      Supplier<SchemaInfo> updatedSchemaInfo) {
+    super(user, identifier);
+    this.schemaChanges = schemaChanges.clone();
+    this.updatedSchemaInfo = Suppliers.memoize(updatedSchemaInfo::get);
   }
 
   /**
@@ -46,7 +66,7 @@ public final class AlterSchemaEvent extends SchemaEvent {
    * @return A {@link SchemaInfo} instance encapsulating the details of the altered schema.
    */
   public SchemaInfo updatedSchemaInfo() {
-    return updatedSchemaInfo;
+    return updatedSchemaInfo.get();
   }
 
   /**
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.TableInfo;
@@ -27,7 +29,7 @@ import org.apache.gravitino.rel.TableChange;
 /** Represents an event fired when a table is successfully altered. */
 @DeveloperApi
 public final class AlterTableEvent extends TableEvent {
-  private final TableInfo updatedTableInfo;
+  private final Supplier<TableInfo> updatedTableInfo;
   private final TableChange[] tableChanges;
 
   /**
@@ -48,7 +50,28 @@ public final class AlterTableEvent extends TableEvent {
       TableInfo updatedTableInfo) {
     super(user, identifier);
     this.tableChanges = tableChanges.clone();
-    this.updatedTableInfo = updatedTableInfo;
+    this.updatedTableInfo = Suppliers.ofInstance(updatedTableInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code AlterTableEvent} whose info is built lazily, encapsulating the
+   * key details about the successful alteration of a table.
+   *
+   * @param user The username of the individual responsible for initiating the table alteration.
+   * @param identifier The unique identifier of the altered table, serving as a clear reference
+   *     point for the table in question.
+   * @param tableChanges An array of {@link TableChange} objects representing the specific changes
+   *     applied to the table during the alteration process.
+   * @param updatedTableInfo The supplier of the info, only called when the info is first read.
+   */
+  public AlterTableEvent(
+      String user,
+      NameIdentifier identifier,
+      TableChange[] tableChanges,
+      Supplier<TableInfo> updatedTableInfo) {
+    super(user, identifier);
+    this.tableChanges = tableChanges.clone();
+    this.updatedTableInfo = Suppliers.memoize(updatedTableInfo::get);
   }
 
   /**
@@ -57,7 +80,7 @@ public final class AlterTableEvent extends TableEvent {
    * @return A {@link TableInfo} instance encapsulating the details of the altered table.
    */
   public TableInfo updatedTableInfo() {
-    return updatedTableInfo;
+    return updatedTableInfo.get();
   }
 
   /**
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.TopicInfo;
@@ -27,7 +29,7 @@ import org.apache.gravitino.messaging.TopicChange;
 /** Represents an event fired when a topic is successfully altered. */
 @DeveloperApi
 public final class AlterTopicEvent extends TopicEvent {
-  private final TopicInfo updatedTopicInfo;
+  private final Supplier<TopicInfo> updatedTopicInfo;
   private final TopicChange[] topicChanges;
 
   /**
@@ -48,7 +50,28 @@ public final class AlterTopicEvent extends TopicEvent {
       TopicInfo updatedTopicInfo) {
     super(user, identifier);
     this.topicChanges = topicChanges.clone();
-    this.updatedTopicInfo = updatedTopicInfo;
+    this.updatedTopicInfo = Suppliers.ofInstance(updatedTopicInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code AlterTopicEvent} whose info is built lazily, encapsulating the
+   * key details about the successful alteration of a topic.
+   *
+   * @param user The username of the individual responsible for initiating the topic alteration.
+   * @param identifier The unique identifier of the altered topic, serving as a clear reference
+   *     point for the topic in question.
+   * @param topicChanges An array of {@link TopicChange} objects representing the specific changes
+   *     applied to the topic during the alteration process.
+   * @param updatedTopicInfo The supplier of the info, only called when the info is first read.
+   */
+  public AlterTopicEvent(
+      String user,
+      NameIdentifier identifier,
+      TopicChange[] topicChanges,
+      Supplier<TopicInfo> updatedTopicInfo) {
+    super(user, identifier);
+    this.topicChanges = topicChanges.clone();
+    this.updatedTopicInfo = Suppliers.memoize(updatedTopicInfo::get);
   }
 
   /**
@@ -57,7 +80,7 @@ public final class AlterTopicEvent extends TopicEvent {
    * @return A {@link TopicInfo} instance encapsulating the details of the altered topic.
    */
   public TopicInfo updatedTopicInfo() {
-    return updatedTopicInfo;
+    return updatedTopicInfo.get();
   }
 
   /**
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.CatalogInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.CatalogInfo;
 /** Represents an event that is activated upon the successful creation of a catalog. */
 @DeveloperApi
 public class CreateCatalogEvent extends CatalogEvent {
-  private final CatalogInfo createdCatalogInfo;
+  private final Supplier<CatalogInfo> createdCatalogInfo;
 
   /**
    * Constructs an instance of {@code CreateCatalogEvent}, capturing essential details about the
@@ -39,7 +41,21 @@ public class CreateCatalogEvent extends CatalogEvent {
   public CreateCatalogEvent(
       String user, NameIdentifier identifier, CatalogInfo createdCatalogInfo) {
     super(user, identifier);
-    this.createdCatalogInfo = createdCatalogInfo;
+    this.createdCatalogInfo = Suppliers.ofInstance(createdCatalogInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code CreateCatalogEvent} whose info is built lazily, capturing
+   * essential details about the successful creation of a catalog.
+   *
+   * @param user The username of the individual who initiated the catalog creation.
+   * @param identifier The unique identifier of the catalog that was created.
+   * @param createdCatalogInfo The supplier of the info, only called when the info is first read.
+   */
+  public CreateCatalogEvent(
+      String user, NameIdentifier identifier, Supplier<CatalogInfo> createdCatalogInfo) {
+    super(user, identifier);
+    this.createdCatalogInfo = Suppliers.memoize(createdCatalogInfo::get);
   }
 
   /**
@@ -50,6 +66,6 @@ public class CreateCatalogEvent extends CatalogEvent {
    *     newly created catalog.
    */
   public CatalogInfo createdCatalogInfo() {
-    return createdCatalogInfo;
+    return createdCatalogInfo.get();
   }
 }
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.FilesetInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.FilesetInfo;
 /** Represents an event that is triggered following the successful creation of a fileset. */
 @DeveloperApi
 public final class CreateFilesetEvent extends FilesetEvent {
-  private final FilesetInfo createdFilesetInfo;
+  private final Supplier<FilesetInfo> createdFilesetInfo;
 
   /**
    * Constructs a new {@code CreateFilesetEvent}, capturing the essential details surrounding the
@@ -40,7 +42,21 @@ public final class CreateFilesetEvent extends FilesetEvent {
   public CreateFilesetEvent(
       String user, NameIdentifier identifier, FilesetInfo createdFilesetInfo) {
     super(user, identifier);
-    this.createdFilesetInfo = createdFilesetInfo;
+    this.createdFilesetInfo = Suppliers.ofInstance(createdFilesetInfo);
+  }
+
+  /**
+   * Constructs a new {@code CreateFilesetEvent} whose info is built lazily, capturing the essential
+   * details surrounding the successful creation of a fileset.
+   *
+   * @param user The username of the person who initiated the creation of the fileset.
+   * @param identifier The unique identifier of the newly created fileset.
+   * @param createdFilesetInfo The supplier of the info, only called when the info is first read.
+   */
+  public CreateFilesetEvent(
+      String user, NameIdentifier identifier, Supplier<FilesetInfo> createdFilesetInfo) {
+    super(user, identifier);
+    this.createdFilesetInfo = Suppliers.memoize(createdFilesetInfo::get);
   }
 
   /**
@@ -50,6 +66,6 @@ public final class CreateFilesetEvent extends FilesetEvent {
    *     its creation.
    */
   public FilesetInfo createdFilesetInfo() {
-    return createdFilesetInfo;
+    return createdFilesetInfo.get();
   }
 }
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.MetalakeInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.MetalakeInfo;
 /** Represents an event triggered upon the successful creation of a Metalake. */
 @DeveloperApi
 public final class CreateMetalakeEvent extends MetalakeEvent {
-  private final MetalakeInfo createdMetalakeInfo;
+  private final Supplier<MetalakeInfo> createdMetalakeInfo;
   /**
    * Constructs an instance of {@code CreateMetalakeEvent}, capturing essential details about the
    * successful creation of a metalake.
@@ -38,7 +40,21 @@ public final class CreateMetalakeEvent extends MetalakeEvent {
   public CreateMetalakeEvent(
       String user, NameIdentifier identifier, MetalakeInfo createdMetalakeInfo) {
     super(user, identifier);
-    this.createdMetalakeInfo = createdMetalakeInfo;
+    this.createdMetalakeInfo = Suppliers.ofInstance(createdMetalakeInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code CreateMetalakeEvent} whose info is built lazily, capturing
+   * essential details about the successful creation of a metalake.
+   *
+   * @param user The username of the individual who initiated the metalake creation.
+   * @param identifier The unique identifier of the metalake that was created.
+   * @param createdMetalakeInfo The supplier of the info, only called when the info is first read.
+   */
+  public CreateMetalakeEvent(
+      String user, NameIdentifier identifier, Supplier<MetalakeInfo> createdMetalakeInfo) {
+    super(user, identifier);
+    this.createdMetalakeInfo = Suppliers.memoize(createdMetalakeInfo::get);
   }
 
   /**
@@ -49,6 +65,6 @@ public final class CreateMetalakeEvent extends MetalakeEvent {
    *     created Metalake.
    */
   public MetalakeInfo createdMetalakeInfo() {
-    return createdMetalakeInfo;
+    return createdMetalakeInfo.get();
   }
 }
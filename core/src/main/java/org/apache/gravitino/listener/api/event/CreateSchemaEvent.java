@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.SchemaInfo;
@@ -26,11 +28,24 @@ import org.apache.gravitino.listener.api.info.SchemaInfo;
 /** Represents an event triggered upon the successful creation of a schema. */
 @DeveloperApi
 public final class CreateSchemaEvent extends SchemaEvent {
-  private final SchemaInfo createdSchemaInfo;
+  private final Supplier<SchemaInfo> createdSchemaInfo;
 
   public CreateSchemaEvent(String user, NameIdentifier identifier, SchemaInfo schemaInfo) {
     super(user, identifier);
-    this.createdSchemaInfo = schemaInfo;
+    this.createdSchemaInfo = Suppliers.ofInstance(schemaInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code CreateSchemaEvent} whose info is built lazily.
+   *
+   * @param user The user who triggered the event.
+   * @param identifier The identifier of the schema.
+   * @param schemaInfo The supplier of the info, only called when the info is first read.
+   */
+  public CreateSchemaEvent(
+      String user, NameIdentifier identifier, Supplier<SchemaInfo> schemaInfo) {
+    super(user, identifier);
+    this.createdSchemaInfo = Suppliers.memoize(schemaInfo::get);
   }
 
   /**
@@ -41,6 +56,6 @@ public final class CreateSchemaEvent extends SchemaEvent {
    *     created schema.
    */
   public SchemaInfo createdSchemaInfo() {
-    return createdSchemaInfo;
+    return createdSchemaInfo.get();
   }
 }
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.TableInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.TableInfo;
 /** Represents an event triggered upon the successful creation of a table. */
 @DeveloperApi
 public final class CreateTableEvent extends TableEvent {
-  private final TableInfo createdTableInfo;
+  private final Supplier<TableInfo> createdTableInfo;
 
   /**
    * Constructs an instance of {@code CreateTableEvent}, capturing essential details about the
@@ -38,7 +40,21 @@ public final class CreateTableEvent extends TableEvent {
    */
   public CreateTableEvent(String user, NameIdentifier identifier, TableInfo createdTableInfo) {
     super(user, identifier);
-    this.createdTableInfo = createdTableInfo;
+    this.createdTableInfo = Suppliers.ofInstance(createdTableInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code CreateTableEvent} whose info is built lazily, capturing
+   * essential details about the successful creation of a table.
+   *
+   * @param user The username of the individual who initiated the table creation.
+   * @param identifier The unique identifier of the table that was created.
+   * @param createdTableInfo The supplier of the info, only called when the info is first read.
+   */
+  public CreateTableEvent(
+      String user, NameIdentifier identifier, Supplier<TableInfo> createdTableInfo) {
+    super(user, identifier);
+    this.createdTableInfo = Suppliers.memoize(createdTableInfo::get);
   }
 
   /**
@@ -49,6 +65,6 @@ public final class CreateTableEvent extends TableEvent {
    *     created table.
    */
   public TableInfo createdTableInfo() {
-    return createdTableInfo;
+    return createdTableInfo.get();
   }
 }
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.TopicInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.TopicInfo;
 /** Represents an event triggered upon the successful creation of a topic. */
 @DeveloperApi
 public final class CreateTopicEvent extends TopicEvent {
-  private final TopicInfo createdTopicInfo;
+  private final Supplier<TopicInfo> createdTopicInfo;
 
   /**
    * Constructs an instance of {@code CreateTopicEvent}, capturing essential details about the
@@ -38,7 +40,21 @@ public final class CreateTopicEvent extends TopicEvent {
    */
   public CreateTopicEvent(String user, NameIdentifier identifier, TopicInfo createdTopicInfo) {
     super(user, identifier);
-    this.createdTopicInfo = createdTopicInfo;
+    this.createdTopicInfo = Suppliers.ofInstance(createdTopicInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code CreateTopicEvent} whose info is built lazily, capturing
+   * essential details about the successful creation of a topic.
+   *
+   * @param user The username of the individual who initiated the topic creation.
+   * @param identifier The unique identifier of the topic that was created.
+   * @param createdTopicInfo The supplier of the info, only called when the info is first read.
+   */
+  public CreateTopicEvent(
+      String user, NameIdentifier identifier, Supplier<TopicInfo> createdTopicInfo) {
+    super(user, identifier);
+    this.createdTopicInfo = Suppliers.memoize(createdTopicInfo::get);
   }
 
   /**
@@ -49,6 +65,6 @@ public final class CreateTopicEvent extends TopicEvent {
    *     created topic.
    */
   public TopicInfo createdTopicInfo() {
-    return createdTopicInfo;
+    return createdTopicInfo.get();
   }
 }
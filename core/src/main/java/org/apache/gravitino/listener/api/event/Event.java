@@ -43,9 +43,21 @@ public abstract class Event {
    *     types of resources such as a metalake, catalog, schema, or table, etc.
    */
   protected Event(String user, NameIdentifier identifier) {
+    this(user, identifier, System.currentTimeMillis());
+  }
+
+  /**
+   * Constructs an Event instance with the specified user, resource identifier and event time, e.g.
+   * for an event restored from its persisted form.
+   *
+   * @param user The user associated with this event.
+   * @param identifier The resource identifier associated with this event.
+   * @param eventTime The time in milliseconds when the event was generated.
+   */
+  protected Event(String user, NameIdentifier identifier, long eventTime) {
     this.user = user;
     this.identifier = identifier;
-    this.eventTime = System.currentTimeMillis();
+    this.eventTime = eventTime;
   }
 
   /**
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.partitions.PartitionInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.partitions.PartitionInfo;
 /** Represents an event that is activated upon the successful get operation of a partition. */
 @DeveloperApi
 public class GetPartitionEvent extends PartitionEvent {
-  private final PartitionInfo partitionInfo;
+  private final Supplier<PartitionInfo> partitionInfo;
 
   /**
    * Constructs an instance of {@code GetPartitionEvent}, capturing essential details about the
@@ -38,7 +40,21 @@ public class GetPartitionEvent extends PartitionEvent {
    */
   public GetPartitionEvent(String user, NameIdentifier identifier, PartitionInfo partitionInfo) {
     super(user, identifier);
-    this.partitionInfo = partitionInfo;
+    this.partitionInfo = Suppliers.ofInstance(partitionInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code GetPartitionEvent} whose info is built lazily, capturing
+   * essential details about the successful get a partition.
+   *
+   * @param user The username of the individual who initiated the get partition.
+   * @param identifier The unique identifier of the partition that was gotten.
+   * @param partitionInfo The supplier of the info, only called when the info is first read.
+   */
+  public GetPartitionEvent(
+      String user, NameIdentifier identifier, Supplier<PartitionInfo> partitionInfo) {
+    super(user, identifier);
+    this.partitionInfo = Suppliers.memoize(partitionInfo::get);
   }
 
   /**
@@ -49,6 +65,6 @@ public class GetPartitionEvent extends PartitionEvent {
    *     newly gotten partition.
    */
   public PartitionInfo partitionInfo() {
-    return partitionInfo;
+    return partitionInfo.get();
   }
 }
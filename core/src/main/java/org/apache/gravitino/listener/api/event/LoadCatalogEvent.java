@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.CatalogInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.CatalogInfo;
 /** Represents an event triggered upon the successful loading of a catalog. */
 @DeveloperApi
 public final class LoadCatalogEvent extends CatalogEvent {
-  private final CatalogInfo loadedCatalogInfo;
+  private final Supplier<CatalogInfo> loadedCatalogInfo;
 
   /**
    * Constructs an instance of {@code LoadCatalogEvent}.
@@ -37,7 +39,20 @@ public final class LoadCatalogEvent extends CatalogEvent {
    */
   public LoadCatalogEvent(String user, NameIdentifier identifier, CatalogInfo loadedCatalogInfo) {
     super(user, identifier);
-    this.loadedCatalogInfo = loadedCatalogInfo;
+    this.loadedCatalogInfo = Suppliers.ofInstance(loadedCatalogInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code LoadCatalogEvent} whose info is built lazily.
+   *
+   * @param user The username of the individual who initiated the catalog loading.
+   * @param identifier The unique identifier of the catalog that was loaded.
+   * @param loadedCatalogInfo The supplier of the info, only called when the info is first read.
+   */
+  public LoadCatalogEvent(
+      String user, NameIdentifier identifier, Supplier<CatalogInfo> loadedCatalogInfo) {
+    super(user, identifier);
+    this.loadedCatalogInfo = Suppliers.memoize(loadedCatalogInfo::get);
   }
 
   /**
@@ -47,6 +62,6 @@ public final class LoadCatalogEvent extends CatalogEvent {
    * @return A {@link CatalogInfo} instance encapsulating the details of the catalog as loaded.
    */
   public CatalogInfo loadedCatalogInfo() {
-    return loadedCatalogInfo;
+    return loadedCatalogInfo.get();
   }
 }
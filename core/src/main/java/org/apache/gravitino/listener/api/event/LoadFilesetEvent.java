@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.FilesetInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.FilesetInfo;
 /** Represents an event that occurs when a fileset is loaded into the system. */
 @DeveloperApi
 public final class LoadFilesetEvent extends FilesetEvent {
-  private final FilesetInfo loadedFilesetInfo;
+  private final Supplier<FilesetInfo> loadedFilesetInfo;
   /**
    * Constructs a new {@code LoadFilesetEvent}.
    *
@@ -36,7 +38,20 @@ public final class LoadFilesetEvent extends FilesetEvent {
    */
   public LoadFilesetEvent(String user, NameIdentifier identifier, FilesetInfo loadedFilesetInfo) {
     super(user, identifier);
-    this.loadedFilesetInfo = loadedFilesetInfo;
+    this.loadedFilesetInfo = Suppliers.ofInstance(loadedFilesetInfo);
+  }
+
+  /**
+   * Constructs a new {@code LoadFilesetEvent} whose info is built lazily.
+   *
+   * @param user The user who initiated the loading of the fileset.
+   * @param identifier The unique identifier of the fileset being loaded.
+   * @param loadedFilesetInfo The supplier of the info, only called when the info is first read.
+   */
+  public LoadFilesetEvent(
+      String user, NameIdentifier identifier, Supplier<FilesetInfo> loadedFilesetInfo) {
+    super(user, identifier);
+    this.loadedFilesetInfo = Suppliers.memoize(loadedFilesetInfo::get);
   }
 
   /**
@@ -46,6 +61,6 @@ public final class LoadFilesetEvent extends FilesetEvent {
    * @return A {@link FilesetInfo} instance encapsulating the details of the fileset as loaded.
    */
   public FilesetInfo loadedFilesetInfo() {
-    return loadedFilesetInfo;
+    return loadedFilesetInfo.get();
   }
 }
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.MetalakeInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.MetalakeInfo;
 /** Represents an event that is generated when a Metalake is successfully loaded. */
 @DeveloperApi
 public final class LoadMetalakeEvent extends MetalakeEvent {
-  private final MetalakeInfo loadedMetalakeInfo;
+  private final Supplier<MetalakeInfo> loadedMetalakeInfo;
 
   /**
    * Constructs an instance of {@code LoadMetalakeEvent}.
@@ -37,7 +39,20 @@ public final class LoadMetalakeEvent extends MetalakeEvent {
    */
   public LoadMetalakeEvent(String user, NameIdentifier identifier, MetalakeInfo metalakeInfo) {
     super(user, identifier);
-    this.loadedMetalakeInfo = metalakeInfo;
+    this.loadedMetalakeInfo = Suppliers.ofInstance(metalakeInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code LoadMetalakeEvent} whose info is built lazily.
+   *
+   * @param user The username of the individual who initiated the metalake loading.
+   * @param identifier The unique identifier of the metalake that was loaded.
+   * @param metalakeInfo The supplier of the info, only called when the info is first read.
+   */
+  public LoadMetalakeEvent(
+      String user, NameIdentifier identifier, Supplier<MetalakeInfo> metalakeInfo) {
+    super(user, identifier);
+    this.loadedMetalakeInfo = Suppliers.memoize(metalakeInfo::get);
   }
 
   /**
@@ -47,6 +62,6 @@ public final class LoadMetalakeEvent extends MetalakeEvent {
    *     including its configuration, properties, and state at the time of loading.
    */
   public MetalakeInfo loadedMetalakeInfo() {
-    return loadedMetalakeInfo;
+    return loadedMetalakeInfo.get();
   }
 }
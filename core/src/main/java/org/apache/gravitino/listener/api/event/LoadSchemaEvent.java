@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.SchemaInfo;
@@ -26,11 +28,24 @@ import org.apache.gravitino.listener.api.info.SchemaInfo;
 /** Represents an event triggered upon the successful loading of a schema. */
 @DeveloperApi
 public final class LoadSchemaEvent extends SchemaEvent {
-  private final SchemaInfo loadedSchemaInfo;
+  private final Supplier<SchemaInfo> loadedSchemaInfo;
 
   public LoadSchemaEvent(String user, NameIdentifier identifier, SchemaInfo loadedSchemaInfo) {
     super(user, identifier);
-    this.loadedSchemaInfo = loadedSchemaInfo;
+    this.loadedSchemaInfo = Suppliers.ofInstance(loadedSchemaInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code LoadSchemaEvent} whose info is built lazily.
+   *
+   * @param user The user who triggered the event.
+   * @param identifier The identifier of the schema.
+   * @param loadedSchemaInfo The supplier of the info, only called when the info is first read.
+   */
+  public LoadSchemaEvent(
+      String user, NameIdentifier identifier, Supplier<SchemaInfo> loadedSchemaInfo) {
+    super(user, identifier);
+    this.loadedSchemaInfo = Suppliers.memoize(loadedSchemaInfo::get);
   }
 
   /**
@@ -40,6 +55,6 @@ public final class LoadSchemaEvent extends SchemaEvent {
    * @return A {@link SchemaInfo} instance encapsulating the details of the schema as loaded.
    */
   public SchemaInfo loadedSchemaInfo() {
-    return loadedSchemaInfo;
+    return loadedSchemaInfo.get();
   }
 }
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.TableInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.TableInfo;
 /** Represents an event triggered upon the successful loading of a table. */
 @DeveloperApi
 public final class LoadTableEvent extends TableEvent {
-  private final TableInfo loadedTableInfo;
+  private final Supplier<TableInfo> loadedTableInfo;
 
   /**
    * Constructs an instance of {@code LoadTableEvent}.
@@ -37,7 +39,19 @@ public final class LoadTableEvent extends TableEvent {
    */
   public LoadTableEvent(String user, NameIdentifier identifier, TableInfo tableInfo) {
     super(user, identifier);
-    this.loadedTableInfo = tableInfo;
+    this.loadedTableInfo = Suppliers.ofInstance(tableInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code LoadTableEvent} whose info is built lazily.
+   *
+   * @param user The username of the individual who initiated the table loading.
+   * @param identifier The unique identifier of the table that was loaded.
+   * @param tableInfo The supplier of the info, only called when the info is first read.
+   */
+  public LoadTableEvent(String user, NameIdentifier identifier, Supplier<TableInfo> tableInfo) {
+    super(user, identifier);
+    this.loadedTableInfo = Suppliers.memoize(tableInfo::get);
   }
 
   /**
@@ -46,6 +60,6 @@ public final class LoadTableEvent extends TableEvent {
    * @return A {@link TableInfo} instance encapsulating the details of the table as loaded.
    */
   public TableInfo loadedTableInfo() {
-    return loadedTableInfo;
+    return loadedTableInfo.get();
   }
 }
@@ -19,6 +19,8 @@
 
 package org.apache.gravitino.listener.api.event;
 
+import com.google.common.base.Suppliers;
+import java.util.function.Supplier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.annotation.DeveloperApi;
 import org.apache.gravitino.listener.api.info.TopicInfo;
@@ -26,7 +28,7 @@ import org.apache.gravitino.listener.api.info.TopicInfo;
 /** Represents an event triggered upon the successful loading of a topic. */
 @DeveloperApi
 public final class LoadTopicEvent extends TopicEvent {
-  private final TopicInfo loadedTopicInfo;
+  private final Supplier<TopicInfo> loadedTopicInfo;
 
   /**
    * Constructs an instance of {@code LoadTopicEvent}.
@@ -37,7 +39,19 @@ public final class LoadTopicEvent extends TopicEvent {
    */
   public LoadTopicEvent(String user, NameIdentifier identifier, TopicInfo topicInfo) {
     super(user, identifier);
-    this.loadedTopicInfo = topicInfo;
+    this.loadedTopicInfo = Suppliers.ofInstance(topicInfo);
+  }
+
+  /**
+   * Constructs an instance of {@code LoadTopicEvent} whose info is built lazily.
+   *
+   * @param user The username of the individual who initiated the topic loading.
+   * @param identifier The unique identifier of the topic that was loaded.
+   * @param topicInfo The supplier of the info, only called when the info is first read.
+   */
+  public LoadTopicEvent(String user, NameIdentifier identifier, Supplier<TopicInfo> topicInfo) {
+    super(user, identifier);
+    this.loadedTopicInfo = Suppliers.memoize(topicInfo::get);
   }
 
   /**
@@ -46,6 +60,6 @@ public final class LoadTopicEvent extends TopicEvent {
    * @return A {@link TopicInfo} instance encapsulating the details of the topic as loaded.
    */
   public TopicInfo loadedTopicInfo() {
-    return loadedTopicInfo;
+    return loadedTopicInfo.get();
   }
 }
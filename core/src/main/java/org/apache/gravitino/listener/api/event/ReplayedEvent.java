@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener.api.event;
+
+import javax.annotation.Nullable;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.annotation.DeveloperApi;
+
+/**
+ * Represents an event restored from the durable queue of an async listener, e.g. after the server
+ * restarts before the event is processed. Only the fields common to all events are persisted, so
+ * the event carries the type of the original event instead of its details.
+ */
+@DeveloperApi
+public final class ReplayedEvent extends Event {
+  private final String eventType;
+  @Nullable private final String failure;
+
+  /**
+   * Constructs an instance of {@code ReplayedEvent}.
+   *
+   * @param user The user who triggered the original event.
+   * @param identifier The identifier of the resource of the original event.
+   * @param eventTime The time in milliseconds when the original event was generated.
+   * @param eventType The class name of the original event.
+   * @param failure The exception of the original failure event, or null if it isn't a failure.
+   */
+  public ReplayedEvent(
+      String user,
+      NameIdentifier identifier,
+      long eventTime,
+      String eventType,
+      @Nullable String failure) {
+    super(user, identifier, eventTime);
+    this.eventType = eventType;
+    this.failure = failure;
+  }
+
+  /**
+   * Retrieves the type of the original event.
+   *
+   * @return The class name of the original event, e.g. {@code
+   *     org.apache.gravitino.listener.api.event.CreateTableEvent}.
+   */
+  public String eventType() {
+    return eventType;
+  }
+
+  /**
+   * Retrieves the exception of the original failure event.
+   *
+   * @return The class name and the message of the exception, or null if the original event isn't a
+   *     failure event.
+   */
+  @Nullable
+  public String failure() {
+    return failure;
+  }
+}
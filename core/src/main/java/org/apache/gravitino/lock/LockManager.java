@@ -53,6 +53,8 @@ public class LockManager {
 
   @VisibleForTesting TreeLockNode treeLockRootNode;
   final AtomicLong totalNodeCount = new AtomicLong(1);
+  private final TreeLockMetricsSource metricsSource =
+      new TreeLockMetricsSource(totalNodeCount::get);
 
   // The maximum number of tree lock nodes to keep in memory. If the total node count is greater
   // than this value, we will do the cleanup.
@@ -189,6 +191,15 @@ public class LockManager {
     startDeadLockChecker();
   }
 
+  /**
+   * Get the metrics source of the tree locks.
+   *
+   * @return The metrics source of the tree locks.
+   */
+  public TreeLockMetricsSource metricsSource() {
+    return metricsSource;
+  }
+
   /**
    * Evict the stale nodes from the tree lock node.
    *
@@ -246,7 +257,7 @@ public class LockManager {
       // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
       if (identifier == ROOT) {
         // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
+        return new TreeLock(treeLockNodes, identifier, metricsSource);
       }
 
       String[] levels = identifier.namespace().levels();
@@ -266,7 +277,7 @@ public class LockManager {
         lockNode = child;
       }
 
-      return new TreeLock(treeLockNodes, identifier);
+      return new TreeLock(treeLockNodes, identifier, metricsSource);
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
@@ -81,10 +81,20 @@ public class TreeLock {
   // TreeLockNode that has been locked along with its lock type.
   private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
   private LockType lockType;
+  // The metrics of the tree locks, it's null if the lock isn't created by the lock manager.
+  private final TreeLockMetricsSource metricsSource;
 
   TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+    this(lockNodes, identifier, null);
+  }
+
+  TreeLock(
+      List<TreeLockNode> lockNodes,
+      NameIdentifier identifier,
+      TreeLockMetricsSource metricsSource) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
+    this.metricsSource = metricsSource;
   }
 
   /**
@@ -96,6 +106,7 @@ public class TreeLock {
    */
   public void lock(LockType lockType) {
     this.lockType = lockType;
+    long startNanos = System.nanoTime();
 
     int length = lockNodes.size();
     for (int i = 0; i < length; i++) {
@@ -129,6 +140,10 @@ public class TreeLock {
       }
     }
 
+    if (metricsSource != null) {
+      metricsSource.onLockAcquired(lockType, System.nanoTime() - startNanos);
+    }
+
     if (LOG.isTraceEnabled()) {
       LOG.trace(
           "Locked the tree lock, ident: {}, lockNodes: [{}], lock type: {}",
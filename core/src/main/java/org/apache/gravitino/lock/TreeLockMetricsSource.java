@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import com.codahale.metrics.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+
+/**
+ * The metrics of the tree locks: the time waiting to acquire the read and the write tree locks,
+ * e.g. "write.wait-duration", and the number of the tree lock nodes in memory.
+ */
+public class TreeLockMetricsSource extends MetricsSource {
+
+  private final Timer readWaitDuration;
+  private final Timer writeWaitDuration;
+
+  public TreeLockMetricsSource(LongSupplier nodeCount) {
+    super(MetricsSource.TREE_LOCK_METRIC_NAME);
+    this.readWaitDuration = getTimer("read." + MetricNames.TREE_LOCK_WAIT_DURATION);
+    this.writeWaitDuration = getTimer("write." + MetricNames.TREE_LOCK_WAIT_DURATION);
+    registerGauge(MetricNames.TREE_LOCK_NODES, nodeCount::getAsLong);
+  }
+
+  void onLockAcquired(LockType lockType, long waitNanos) {
+    Timer timer = lockType == LockType.WRITE ? writeWaitDuration : readWaitDuration;
+    timer.update(waitNanos, TimeUnit.NANOSECONDS);
+  }
+}
@@ -21,6 +21,7 @@ package org.apache.gravitino.lock;
 
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.trace.RequestTrace;
 import org.apache.gravitino.utils.Executable;
 
 /** Utility class for tree locks. */
@@ -45,7 +46,9 @@ public class TreeLockUtils {
       NameIdentifier identifier, LockType lockType, Executable<R, E> executable) throws E {
     TreeLock lock = GravitinoEnv.getInstance().lockManager().createTreeLock(identifier);
     try {
-      lock.lock(lockType);
+      try (RequestTrace.Span ignored = RequestTrace.span(RequestTrace.Stage.LOCK)) {
+        lock.lock(lockType);
+      }
       return executable.execute();
     } finally {
       lock.unlock();
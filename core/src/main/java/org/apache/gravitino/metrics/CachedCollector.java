@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import io.prometheus.client.Collector;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the samples of a collector for a while, so the scrapes in the time share one walk of the
+ * metrics, and the concurrent scrapes wait for the same walk instead of repeating it.
+ */
+class CachedCollector extends Collector implements Collector.Describable {
+
+  private final Collector collector;
+  private final long cacheNanos;
+
+  private List<MetricFamilySamples> samples;
+  private long collectedAt;
+
+  CachedCollector(Collector collector, long cacheMs) {
+    this.collector = collector;
+    this.cacheNanos = TimeUnit.MILLISECONDS.toNanos(cacheMs);
+  }
+
+  @Override
+  public synchronized List<MetricFamilySamples> collect() {
+    long now = System.nanoTime();
+    if (samples == null || now - collectedAt >= cacheNanos) {
+      samples = Collections.unmodifiableList(collector.collect());
+      collectedAt = now;
+    }
+    return samples;
+  }
+
+  // The metrics change over time, so they are not described when registered, like
+  // DropwizardExports.
+  @Override
+  public List<MetricFamilySamples> describe() {
+    return Collections.emptyList();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricFilter;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Filters the metrics by the glob patterns of their names, where `*` matches any characters. A
+ * metric is reported if it matches none of the excludes, or any of the includes, so the high
+ * cardinality metrics, like the per catalog ones, can be excluded and enabled selectively.
+ */
+class MetricNameFilter implements MetricFilter {
+
+  private final Pattern includes;
+  private final Pattern excludes;
+
+  private MetricNameFilter(Pattern includes, Pattern excludes) {
+    this.includes = includes;
+    this.excludes = excludes;
+  }
+
+  static MetricFilter of(List<String> includes, List<String> excludes) {
+    if (excludes.isEmpty()) {
+      return MetricFilter.ALL;
+    }
+    return new MetricNameFilter(toPattern(includes), toPattern(excludes));
+  }
+
+  @Override
+  public boolean matches(String name, Metric metric) {
+    return !excludes.matcher(name).matches()
+        || (includes != null && includes.matcher(name).matches());
+  }
+
+  private static Pattern toPattern(List<String> globs) {
+    if (globs.isEmpty()) {
+      return null;
+    }
+    return Pattern.compile(
+        globs.stream().map(MetricNameFilter::globToRegex).collect(Collectors.joining("|")));
+  }
+
+  private static String globToRegex(String glob) {
+    StringBuilder regex = new StringBuilder("(?:");
+    int start = 0;
+    for (int i = glob.indexOf('*'); i >= 0; i = glob.indexOf('*', start)) {
+      if (i > start) {
+        regex.append(Pattern.quote(glob.substring(start, i)));
+      }
+      regex.append(".*");
+      start = i + 1;
+    }
+    if (start < glob.length()) {
+      regex.append(Pattern.quote(glob.substring(start)));
+    }
+    return regex.append(')').toString();
+  }
+}
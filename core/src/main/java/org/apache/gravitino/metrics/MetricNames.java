@@ -22,6 +22,30 @@ package org.apache.gravitino.metrics;
 public class MetricNames {
   public static final String HTTP_PROCESS_DURATION = "http-request-duration-seconds";
   public static final String SERVER_IDLE_THREAD_NUM = "http-server.idle-thread.num";
+  public static final String CRAWLER_LISTED_OBJECTS = "listed-objects";
+  public static final String CRAWLER_IMPORTED_OBJECTS = "imported-objects";
+  public static final String CRAWLER_DELETED_OBJECTS = "deleted-objects";
+  public static final String CRAWLER_VANISHED_ENTITIES = "vanished-entities";
+  public static final String CRAWLER_FAILED_CATALOGS = "failed-catalogs";
+  public static final String CRAWLER_CATALOG_CRAWL_DURATION = "catalog-crawl-duration";
+  public static final String CRAWLER_LAST_CRAWL_DURATION_MS = "last-crawl-duration-ms";
+  public static final String CRAWLER_LAG_MS = "lag-ms";
+  public static final String EVENT_LISTENER_QUEUE_DEPTH = "queue-depth";
+  public static final String EVENT_LISTENER_DROPPED_EVENTS = "dropped-events";
+  public static final String EVENT_LISTENER_DEGRADED_EVENTS = "degraded-events";
+  public static final String EVENT_LISTENER_PROCESS_DURATION = "process-duration";
+  public static final String EVENT_LISTENER_FAILED_EVENTS = "failed-events";
+  public static final String ENTITY_STORE_OPERATION_DURATION = "duration";
+  public static final String ENTITY_STORE_OPERATION_ROWS = "rows";
+  public static final String ENTITY_STORE_OPERATION_ERRORS = "errors";
+  public static final String CATALOG_CACHE_SIZE = "cache-size";
+  public static final String CATALOG_LOAD_DURATION = "load-duration";
+  public static final String CATALOG_LOAD_FAILURES = "load-failures";
+  public static final String CATALOG_EVICTIONS = "evictions";
+  public static final String CATALOG_CLASS_LOADERS = "class-loaders";
+  public static final String CONNECTOR_OPERATION_DURATION = "connector-duration";
+  public static final String TREE_LOCK_WAIT_DURATION = "wait-duration";
+  public static final String TREE_LOCK_NODES = "nodes";
 
   private MetricNames() {}
 }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reporter;
+import org.apache.gravitino.Config;
+
+/**
+ * Provides a metrics reporter exporting the metrics of {@link MetricsSystem}. The implementations
+ * are configured by their class names in `gravitino.metrics.reporters` and must have a public
+ * no-arg constructor.
+ */
+public interface MetricsReporterProvider {
+
+  /**
+   * Creates and starts a reporter.
+   *
+   * @param registry The registry of all the metrics of the metrics system.
+   * @param filter The filter of the metrics to report.
+   * @param config The configuration of the Gravitino server.
+   * @return The started reporter, it's closed when the metrics system is closed.
+   */
+  Reporter startReporter(MetricRegistry registry, MetricFilter filter, Config config);
+}
@@ -36,6 +36,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.metrics.source.MetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,8 +49,31 @@ import org.slf4j.LoggerFactory;
  */
 public class MetricsSystem implements Closeable {
   private static final Logger LOG = LoggerFactory.getLogger(MetricsSystem.class);
+  private static final ImmutableMap<String, MetricsReporterProvider> BUILTIN_REPORTERS =
+      ImmutableMap.of(
+          "jmx",
+          (registry, filter, config) -> {
+            JmxReporter reporter = JmxReporter.forRegistry(registry).filter(filter).build();
+            reporter.start();
+            return reporter;
+          },
+          "statsd",
+          (registry, filter, config) -> {
+            StatsdReporter reporter =
+                new StatsdReporter(
+                    registry,
+                    filter,
+                    config.get(Configs.METRICS_STATSD_HOST),
+                    config.get(Configs.METRICS_STATSD_PORT),
+                    config.get(Configs.METRICS_STATSD_PREFIX));
+            reporter.start(config.get(Configs.METRICS_STATSD_PERIOD_SECS), TimeUnit.SECONDS);
+            return reporter;
+          });
+
   private final String name;
+  private final Config config;
   private final MetricRegistry metricRegistry;
+  private final MetricFilter metricFilter;
   private HashMap<String, MetricsSource> metricSources = new HashMap<>();
   private List<Reporter> metricsReporters = new ArrayList<>();
   private CollectorRegistry prometheusRegistry;
@@ -57,8 +83,21 @@ public class MetricsSystem implements Closeable {
   }
 
   public MetricsSystem(String name) {
+    // Only the JMX reporter with the default configurations, mainly used for test.
+    this(name, new Config(false) {});
+  }
+
+  public MetricsSystem(Config config) {
+    this("", config);
+  }
+
+  public MetricsSystem(String name, Config config) {
     this.name = name;
+    this.config = config;
     this.metricRegistry = new MetricRegistry();
+    this.metricFilter =
+        MetricNameFilter.of(
+            config.get(Configs.METRICS_INCLUDES), config.get(Configs.METRICS_EXCLUDES));
     this.prometheusRegistry = new CollectorRegistry();
   }
 
@@ -110,11 +149,26 @@ public class MetricsSystem implements Closeable {
     LOG.info("Unregistered {} from metrics system {}", metricsSource.getMetricsSourceName(), name);
   }
 
-  // We support JMX reporter for now, todo: support more reporters
   private void initAndStartMetricsReporter() {
-    JmxReporter jmxReporter = JmxReporter.forRegistry(metricRegistry).build();
-    jmxReporter.start();
-    metricsReporters.add(jmxReporter);
+    for (String reporterName : config.get(Configs.METRICS_REPORTERS)) {
+      MetricsReporterProvider provider = BUILTIN_REPORTERS.get(reporterName);
+      if (provider == null) {
+        provider = createReporterProvider(reporterName);
+      }
+      metricsReporters.add(provider.startReporter(metricRegistry, metricFilter, config));
+      LOG.info("Started metrics reporter {} of metrics system {}", reporterName, name);
+    }
+  }
+
+  private static MetricsReporterProvider createReporterProvider(String className) {
+    try {
+      return (MetricsReporterProvider)
+          Class.forName(className).getDeclaredConstructor().newInstance();
+    } catch (Exception e) {
+      LOG.error("Failed to create metrics reporter provider by name '{}'.", className, e);
+      throw new RuntimeException(
+          "Failed to create metrics reporter provider by name: " + className, e);
+    }
   }
 
   public void start() {
@@ -126,6 +180,15 @@ public class MetricsSystem implements Closeable {
     return metricRegistry;
   }
 
+  /**
+   * Get the filter of the metrics reported by the reporters and the Prometheus servlet.
+   *
+   * @return the metric filter
+   */
+  public MetricFilter getMetricFilter() {
+    return metricFilter;
+  }
+
   @Override
   public void close() {
     this.metricsReporters.forEach(
@@ -177,14 +240,36 @@ public class MetricsSystem implements Closeable {
         new MapperConfig(
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + ".*.*",
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + "_${1}",
-            ImmutableMap.of("operation", "${0}")));
+            ImmutableMap.of("operation", "${0}")),
+        new MapperConfig(
+            MetricsSource.ENTITY_STORE_METRIC_NAME + ".*.*.*",
+            MetricsSource.ENTITY_STORE_METRIC_NAME + "_${2}",
+            ImmutableMap.of("entity_type", "${0}", "operation", "${1}")),
+        new MapperConfig(
+            MetricsSource.CATALOG_MANAGER_METRIC_NAME
+                + ".*.*.*."
+                + MetricNames.CONNECTOR_OPERATION_DURATION,
+            MetricsSource.CATALOG_MANAGER_METRIC_NAME
+                + "_"
+                + MetricNames.CONNECTOR_OPERATION_DURATION,
+            ImmutableMap.of("metalake", "${0}", "catalog", "${1}", "kind", "${2}")),
+        new MapperConfig(
+            MetricsSource.TREE_LOCK_METRIC_NAME + ".*.*",
+            MetricsSource.TREE_LOCK_METRIC_NAME + "_${1}",
+            ImmutableMap.of("lock_type", "${0}")));
   }
 
   private void registerMetricsToPrometheusRegistry() {
     CustomMappingSampleBuilder sampleBuilder =
         new CustomMappingSampleBuilder(getMetricNameAndLabelRules());
-    DropwizardExports dropwizardExports = new DropwizardExports(metricRegistry, sampleBuilder);
-    dropwizardExports.register(prometheusRegistry);
+    DropwizardExports dropwizardExports =
+        new DropwizardExports(metricRegistry, metricFilter, sampleBuilder);
+    long cacheMs = config.get(Configs.METRICS_PROMETHEUS_CACHE_MS);
+    if (cacheMs > 0) {
+      new CachedCollector(dropwizardExports, cacheMs).register(prometheusRegistry);
+    } else {
+      dropwizardExports.register(prometheusRegistry);
+    }
   }
 
   public MetricsServlet getPrometheusServlet() {
@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.ScheduledReporter;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pushes the metrics to a StatsD server over UDP periodically. The lines of a report are packed
+ * into as few datagrams as possible. The counters are sent as the increments since the last report,
+ * the other metrics are sent as gauges, e.g., "gravitino.tree-lock.nodes:12|g", and the timers are
+ * in milliseconds. A metric failing to give its values is skipped, and the increment of a counter
+ * is only taken as reported once the datagram carrying it is sent.
+ */
+public class StatsdReporter extends ScheduledReporter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StatsdReporter.class);
+
+  // Fits in the MTU of the common networks without fragmentation.
+  @VisibleForTesting static final int MAX_PACKET_BYTES = 1432;
+
+  private final String host;
+  private final int port;
+  private final String prefix;
+
+  // The counts of the counters sent to the server.
+  private final Map<String, Long> lastCounts = new HashMap<>();
+  // The counts of the counters whose increments are in the buffer.
+  private final Map<String, Long> bufferedCounts = new HashMap<>();
+  // The metrics failed in the last report, only the first failure of a metric is logged.
+  private final Set<String> failedMetrics = new HashSet<>();
+
+  private DatagramChannel channel;
+  private InetSocketAddress address;
+  private final ByteBuffer buffer = ByteBuffer.allocate(MAX_PACKET_BYTES);
+
+  public StatsdReporter(
+      MetricRegistry registry, MetricFilter filter, String host, int port, String prefix) {
+    super(registry, "statsd-reporter", filter, TimeUnit.SECONDS, TimeUnit.MILLISECONDS);
+    this.host = host;
+    this.port = port;
+    this.prefix = prefix.isEmpty() ? "" : prefix + ".";
+  }
+
+  @Override
+  @SuppressWarnings("rawtypes")
+  public synchronized void report(
+      SortedMap<String, Gauge> gauges,
+      SortedMap<String, Counter> counters,
+      SortedMap<String, Histogram> histograms,
+      SortedMap<String, Meter> meters,
+      SortedMap<String, Timer> timers) {
+    try {
+      if (channel == null) {
+        channel = DatagramChannel.open();
+      }
+      // Resolved for every report to follow the address changes of the server.
+      address = new InetSocketAddress(host, port);
+
+      gauges.forEach((name, gauge) -> reportMetric(name, lines -> gaugeLines(name, gauge, lines)));
+      counters.forEach(this::reportCounter);
+      histograms.forEach(
+          (name, histogram) -> reportMetric(name, lines -> histogramLines(name, histogram, lines)));
+      meters.forEach(
+          (name, meter) ->
+              reportMetric(
+                  name,
+                  lines -> {
+                    addGauge(lines, name + ".count", meter.getCount());
+                    addGauge(lines, name + ".m1_rate", convertRate(meter.getOneMinuteRate()));
+                  }));
+      timers.forEach((name, timer) -> reportMetric(name, lines -> timerLines(name, timer, lines)));
+      flush();
+      // The counters removed since the last report are forgotten.
+      lastCounts.keySet().retainAll(counters.keySet());
+    } catch (IOException | UncheckedIOException e) {
+      // The increments not sent yet are sent again in the next report.
+      LOG.warn("Failed to report the metrics to StatsD server {}:{}", host, port, e);
+      buffer.clear();
+      bufferedCounts.clear();
+    }
+  }
+
+  @Override
+  public void stop() {
+    super.stop();
+    synchronized (this) {
+      if (channel != null) {
+        try {
+          channel.close();
+        } catch (IOException e) {
+          LOG.warn("Failed to close the StatsD channel", e);
+        }
+        channel = null;
+      }
+    }
+  }
+
+  // The lines of a metric are built before any of them is sent, so a metric failing to give its
+  // values is skipped as a whole without affecting the others.
+  private void reportMetric(String name, Consumer<List<String>> lineBuilder) {
+    List<String> lines = new ArrayList<>();
+    try {
+      lineBuilder.accept(lines);
+    } catch (RuntimeException e) {
+      if (failedMetrics.add(name)) {
+        LOG.warn("Failed to get the values of metric {}, skip it in the reports", name, e);
+      }
+      return;
+    }
+    failedMetrics.remove(name);
+    lines.forEach(line -> sendLine(line, null, 0));
+  }
+
+  private void reportCounter(String name, Counter counter) {
+    long count = counter.getCount();
+    long delta = count - lastCounts.getOrDefault(name, 0L);
+    if (delta != 0) {
+      sendLine(sanitize(name) + ":" + delta + "|c", name, count);
+    }
+  }
+
+  @SuppressWarnings("rawtypes")
+  private void gaugeLines(String name, Gauge gauge, List<String> lines) {
+    Object value = gauge.getValue();
+    if (value instanceof Number) {
+      addGauge(lines, name, ((Number) value).doubleValue());
+    } else if (value instanceof Boolean) {
+      addGauge(lines, name, (Boolean) value ? 1 : 0);
+    }
+  }
+
+  private void histogramLines(String name, Histogram histogram, List<String> lines) {
+    Snapshot snapshot = histogram.getSnapshot();
+    addGauge(lines, name + ".count", histogram.getCount());
+    addGauge(lines, name + ".min", snapshot.getMin());
+    addGauge(lines, name + ".max", snapshot.getMax());
+    addGauge(lines, name + ".mean", snapshot.getMean());
+    addGauge(lines, name + ".p50", snapshot.getMedian());
+    addGauge(lines, name + ".p95", snapshot.get95thPercentile());
+    addGauge(lines, name + ".p99", snapshot.get99thPercentile());
+  }
+
+  private void timerLines(String name, Timer timer, List<String> lines) {
+    Snapshot snapshot = timer.getSnapshot();
+    addGauge(lines, name + ".count", timer.getCount());
+    addGauge(lines, name + ".m1_rate", convertRate(timer.getOneMinuteRate()));
+    addGauge(lines, name + ".min", convertDuration(snapshot.getMin()));
+    addGauge(lines, name + ".max", convertDuration(snapshot.getMax()));
+    addGauge(lines, name + ".mean", convertDuration(snapshot.getMean()));
+    addGauge(lines, name + ".p50", convertDuration(snapshot.getMedian()));
+    addGauge(lines, name + ".p95", convertDuration(snapshot.get95thPercentile()));
+    addGauge(lines, name + ".p99", convertDuration(snapshot.get99thPercentile()));
+  }
+
+  private void addGauge(List<String> lines, String name, double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      return;
+    }
+    String formatted =
+        value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+    lines.add(sanitize(name) + ":" + formatted + "|g");
+  }
+
+  /**
+   * Appends a line to the buffer, the buffer is sent first if the line doesn't fit in it.
+   *
+   * @param line The line to send.
+   * @param counterName The name of the counter whose increment the line carries, or null.
+   * @param count The count of the counter.
+   */
+  private void sendLine(String line, String counterName, long count) {
+    byte[] bytes = (line + "\n").getBytes(StandardCharsets.UTF_8);
+    try {
+      if (bytes.length > buffer.remaining()) {
+        flush();
+      }
+      if (bytes.length > buffer.capacity()) {
+        sendPacket(ByteBuffer.wrap(bytes));
+        if (counterName != null) {
+          lastCounts.put(counterName, count);
+        }
+      } else {
+        buffer.put(bytes);
+        if (counterName != null) {
+          bufferedCounts.put(counterName, count);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to send the metrics", e);
+    }
+  }
+
+  private void flush() throws IOException {
+    if (buffer.position() > 0) {
+      buffer.flip();
+      try {
+        sendPacket(buffer);
+        // The increments in the datagram are reported.
+        lastCounts.putAll(bufferedCounts);
+      } finally {
+        buffer.clear();
+        bufferedCounts.clear();
+      }
+    }
+  }
+
+  @VisibleForTesting
+  void sendPacket(ByteBuffer packet) throws IOException {
+    channel.send(packet, address);
+  }
+
+  // The characters reserved by the StatsD protocol are replaced.
+  private String sanitize(String name) {
+    StringBuilder sb = new StringBuilder(prefix.length() + name.length()).append(prefix);
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      sb.append(c == ':' || c == '|' || c == '@' || Character.isWhitespace(c) ? '_' : c);
+    }
+    return sb.toString();
+  }
+}
@@ -41,6 +41,11 @@ public abstract class MetricsSource {
   public static final String ICEBERG_REST_SERVER_METRIC_NAME = "iceberg-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String JVM_METRIC_NAME = "jvm";
+  public static final String CATALOG_CRAWLER_METRIC_NAME = "catalog-crawler";
+  public static final String EVENT_LISTENER_METRIC_NAME = "event-listener";
+  public static final String ENTITY_STORE_METRIC_NAME = "entity-store";
+  public static final String CATALOG_MANAGER_METRIC_NAME = "catalog-manager";
+  public static final String TREE_LOCK_METRIC_NAME = "tree-lock";
   private final MetricRegistry metricRegistry;
   private final String metricsSourceName;
   private final int timeSlidingWindowSeconds;
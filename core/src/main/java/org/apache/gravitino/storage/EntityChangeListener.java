@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * Listens to the entity changes in the storage, to invalidate the cached entities. The deletion of
+ * an entity with cascade isn't notified for its sub-entities, so the listener should invalidate the
+ * cached sub-entities of a changed entity.
+ */
+@FunctionalInterface
+public interface EntityChangeListener {
+
+  /**
+   * Called when an entity is inserted, updated or deleted.
+   *
+   * @param identifier The identifier of the changed entity.
+   * @param entityType The type of the changed entity.
+   */
+  void onEntityChange(NameIdentifier identifier, Entity.EntityType entityType);
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.utils.Executable;
+
+/**
+ * The metrics of the entity store: the duration, the returned rows and the errors of each operation
+ * on each entity type. The metrics are named after the entity type and the operation, e.g.
+ * "catalog.get.duration". The entities not found or already existing are expected results of the
+ * operations, so they are not counted as errors.
+ */
+public class EntityStoreMetricsSource extends MetricsSource {
+
+  // The resolved metrics of each operation on each entity type, so the metric names are not built
+  // and looked up in the registry on every operation.
+  private final Map<Entity.EntityType, Map<String, OperationMetrics>> operationMetrics;
+
+  public EntityStoreMetricsSource() {
+    super(MetricsSource.ENTITY_STORE_METRIC_NAME);
+    this.operationMetrics = new EnumMap<>(Entity.EntityType.class);
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      operationMetrics.put(entityType, new ConcurrentHashMap<>());
+    }
+  }
+
+  /**
+   * Executes an operation of the entity store and records its metrics.
+   *
+   * @param operation The name of the operation, e.g. "get".
+   * @param entityType The type of the entities operated.
+   * @param executable The operation to execute.
+   * @return The result of the operation.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception.
+   * @throws E If the operation throws an exception.
+   */
+  public <R, E extends Exception> R measure(
+      String operation, Entity.EntityType entityType, Executable<R, E> executable) throws E {
+    OperationMetrics metrics = operationMetrics(entityType, operation);
+    try (Timer.Context ignored = metrics.duration.time()) {
+      R result = executable.execute();
+      if (result instanceof Collection) {
+        metrics.rows().update(((Collection<?>) result).size());
+      }
+      return result;
+    } catch (NoSuchEntityException | EntityAlreadyExistsException e) {
+      throw e;
+    } catch (Exception e) {
+      metrics.errors().inc();
+      throw e;
+    }
+  }
+
+  private OperationMetrics operationMetrics(Entity.EntityType entityType, String operation) {
+    Map<String, OperationMetrics> metricsOfType = operationMetrics.get(entityType);
+    OperationMetrics metrics = metricsOfType.get(operation);
+    if (metrics != null) {
+      return metrics;
+    }
+    return metricsOfType.computeIfAbsent(
+        operation,
+        op -> new OperationMetrics(entityType.name().toLowerCase(Locale.ROOT) + "." + op));
+  }
+
+  // The rows and the errors are only registered once they happen, like the metrics looked up by
+  // name, so the operations never returning collections don't report empty histograms.
+  private class OperationMetrics {
+    private final Timer duration;
+    private final String prefix;
+    private volatile Histogram rows;
+    private volatile Counter errors;
+
+    private OperationMetrics(String prefix) {
+      this.prefix = prefix;
+      this.duration = getTimer(metricName(MetricNames.ENTITY_STORE_OPERATION_DURATION));
+    }
+
+    private Histogram rows() {
+      if (rows == null) {
+        rows = getHistogram(metricName(MetricNames.ENTITY_STORE_OPERATION_ROWS));
+      }
+      return rows;
+    }
+
+    private Counter errors() {
+      if (errors == null) {
+        errors = getCounter(metricName(MetricNames.ENTITY_STORE_OPERATION_ERRORS));
+      }
+      return errors;
+    }
+
+    private String metricName(String name) {
+      return prefix + "." + name;
+    }
+  }
+}
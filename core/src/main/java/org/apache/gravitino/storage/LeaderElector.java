@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+/**
+ * Elects the server running the singleton background jobs, such as the garbage collection of the
+ * store, among the servers sharing one store.
+ *
+ * <p>Every leadership has a fencing token, which is larger than the tokens of all the previous
+ * leaderships. A job can validate its token before each step, so a server that lost the leadership
+ * without noticing it, for example after a long GC pause, stops soon after the new leader starts.
+ */
+public interface LeaderElector {
+
+  /** The fencing token returned when the server isn't the leader. */
+  long NOT_LEADER = -1L;
+
+  /** The elector of a store not shared by servers, the only server is always the leader. */
+  LeaderElector ALWAYS_LEADER =
+      new LeaderElector() {
+        @Override
+        public boolean isLeader() {
+          return true;
+        }
+
+        @Override
+        public long fencingToken() {
+          return 0L;
+        }
+
+        @Override
+        public boolean validateFencingToken(long fencingToken) {
+          return true;
+        }
+      };
+
+  /**
+   * Checks whether this server is the leader now, without accessing the store.
+   *
+   * @return True if this server holds an unexpired leadership.
+   */
+  boolean isLeader();
+
+  /**
+   * Returns the fencing token of the current leadership of this server.
+   *
+   * @return The fencing token, or {@link #NOT_LEADER} if this server isn't the leader.
+   */
+  long fencingToken();
+
+  /**
+   * Checks in the store whether the leadership of the fencing token is still held by this server.
+   *
+   * @param fencingToken The fencing token got when the job started.
+   * @return True if the leadership is still valid, false if the job should stop.
+   */
+  boolean validateFencingToken(long fencingToken);
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.Closeable;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.storage.EntityChangeListener;
+import org.apache.gravitino.storage.relational.po.EntityChangePO;
+import org.apache.gravitino.storage.relational.service.EntityChangeLogService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tails the entity change log and notifies the listeners of the changes, so the caches of a server
+ * are invalidated after the changes made by the other servers sharing the database.
+ *
+ * <p>The ids of the changes are allocated when they are inserted, while the changes are visible
+ * when their transactions commit, so a change may be visible after the changes with greater ids.
+ * The poller remembers the ids skipped over for a while, and reads them again in the next polls.
+ */
+public class EntityChangePoller implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EntityChangePoller.class);
+
+  private static final int POLL_LIMIT = 1000;
+
+  // A transaction holding a skipped id is expected to commit or roll back in this time.
+  private static final long SKIPPED_ID_TIMEOUT_MS = 60 * 1000L;
+
+  // The ids skipped over at once beyond this are not remembered, they are not from in-flight
+  // transactions but from a gap in the log, e.g., the ids reserved by the rolled back inserts.
+  private static final long MAX_SKIPPED_IDS = 1000L;
+
+  private final long pollIntervalMs;
+
+  private final List<EntityChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+  // The skipped ids to the time they are skipped.
+  private final TreeMap<Long, Long> skippedIds = new TreeMap<>();
+
+  private long lastId;
+
+  @VisibleForTesting
+  final ScheduledExecutorService pollerPool =
+      new ScheduledThreadPoolExecutor(
+          1,
+          r -> {
+            Thread t = new Thread(r, "RelationalBackend-Change-Poller");
+            t.setDaemon(true);
+            return t;
+          });
+
+  public EntityChangePoller(long pollIntervalMs) {
+    this.pollIntervalMs = pollIntervalMs;
+  }
+
+  public void addListener(EntityChangeListener listener) {
+    listeners.add(listener);
+  }
+
+  public void start() {
+    // Nothing is cached before the server starts, so the changes before it are skipped.
+    this.lastId = EntityChangeLogService.getInstance().getMaxEntityChangeId();
+    pollerPool.scheduleWithFixedDelay(
+        this::pollQuietly, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  private void pollQuietly() {
+    try {
+      poll();
+    } catch (Exception e) {
+      LOG.warn("Failed to poll the entity changes after {}", lastId, e);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void poll() {
+    long now = System.currentTimeMillis();
+    skippedIds.values().removeIf(skippedAt -> now - skippedAt > SKIPPED_ID_TIMEOUT_MS);
+
+    long afterId = skippedIds.isEmpty() ? lastId : skippedIds.firstKey() - 1;
+    List<EntityChangePO> changes;
+    do {
+      changes = EntityChangeLogService.getInstance().listEntityChanges(afterId, POLL_LIMIT);
+      for (EntityChangePO change : changes) {
+        long id = change.getId();
+        afterId = id;
+        if (id <= lastId) {
+          if (skippedIds.remove(id) == null) {
+            // Notified already.
+            continue;
+          }
+        } else {
+          if (id - lastId - 1 <= MAX_SKIPPED_IDS) {
+            for (long skippedId = lastId + 1; skippedId < id; skippedId++) {
+              skippedIds.put(skippedId, now);
+            }
+          }
+          lastId = id;
+        }
+        notifyListeners(change);
+      }
+    } while (changes.size() == POLL_LIMIT);
+  }
+
+  private void notifyListeners(EntityChangePO change) {
+    NameIdentifier identifier = NameIdentifier.parse(change.getFullName());
+    Entity.EntityType entityType = Entity.EntityType.valueOf(change.getEntityType());
+    for (EntityChangeListener listener : listeners) {
+      try {
+        listener.onEntityChange(identifier, entityType);
+      } catch (Exception e) {
+        LOG.warn("Failed to notify the change of {} {}", entityType, identifier, e);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    pollerPool.shutdownNow();
+  }
+}
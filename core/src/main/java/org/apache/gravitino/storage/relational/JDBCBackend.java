@@ -51,6 +51,7 @@ import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import org.apache.gravitino.storage.relational.database.H2Database;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.EntityChangeLogService;
 import org.apache.gravitino.storage.relational.service.FilesetMetaService;
 import org.apache.gravitino.storage.relational.service.GroupMetaService;
 import org.apache.gravitino.storage.relational.service.MetalakeMetaService;
@@ -323,6 +324,13 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public int deleteEntityChangesByLegacyTimeline(long legacyTimeline) throws IOException {
+    return EntityChangeLogService.getInstance()
+        .deleteEntityChangesByLegacyTimeline(
+            legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+  }
+
   @Override
   public void close() throws IOException {
     SqlSessionFactoryHelper.getInstance().close();
@@ -137,4 +137,13 @@ public interface RelationalBackend
    */
   int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
       throws IOException;
+
+  /**
+   * Permanently deletes the entity changes in the change log created before the given timeline.
+   *
+   * @param legacyTimeline The time before which the changes have been created.
+   * @return The count of the deleted changes.
+   * @throws IOException If the store operation fails
+   */
+  int deleteEntityChangesByLegacyTimeline(long legacyTimeline) throws IOException;
 }
@@ -23,6 +23,7 @@ import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -37,7 +38,12 @@ import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.TagEntity;
+import org.apache.gravitino.metrics.source.MetricsSource;
+import org.apache.gravitino.storage.EntityChangeListener;
+import org.apache.gravitino.storage.EntityStoreMetricsSource;
+import org.apache.gravitino.storage.LeaderElector;
 import org.apache.gravitino.tag.SupportsTagOperations;
+import org.apache.gravitino.trace.RequestTrace;
 import org.apache.gravitino.utils.Executable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,12 +61,25 @@ public class RelationalEntityStore
           Configs.DEFAULT_ENTITY_RELATIONAL_STORE, JDBCBackend.class.getCanonicalName());
   private RelationalBackend backend;
   private RelationalGarbageCollector garbageCollector;
+  private EntityChangePoller changePoller;
+  private RelationalLeaderElector leaderElector;
+  private final EntityStoreMetricsSource metricsSource = new EntityStoreMetricsSource();
 
   @Override
   public void initialize(Config config) throws RuntimeException {
     this.backend = createRelationalEntityBackend(config);
-    this.garbageCollector = new RelationalGarbageCollector(backend, config);
+    if (config.get(Configs.ENTITY_RELATIONAL_LEADER_ELECTION_ENABLED)) {
+      this.leaderElector =
+          new RelationalLeaderElector(config.get(Configs.ENTITY_RELATIONAL_LEADER_LEASE_MS));
+      this.leaderElector.start();
+    }
+    this.garbageCollector = new RelationalGarbageCollector(backend, config, leaderElector());
     this.garbageCollector.start();
+    if (config.get(Configs.ENTITY_RELATIONAL_CHANGE_POLL_ENABLED)) {
+      this.changePoller =
+          new EntityChangePoller(config.get(Configs.ENTITY_RELATIONAL_CHANGE_POLL_INTERVAL_MS));
+      this.changePoller.start();
+    }
   }
 
   private static RelationalBackend createRelationalEntityBackend(Config config) {
@@ -89,52 +108,88 @@ public class RelationalEntityStore
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Class<E> type, Entity.EntityType entityType) throws IOException {
-    return backend.list(namespace, entityType);
+    return doWithMetrics("list", entityType, () -> backend.list(namespace, entityType));
   }
 
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
-    return backend.exists(ident, entityType);
+    return doWithMetrics("exists", entityType, () -> backend.exists(ident, entityType));
   }
 
   @Override
   public <E extends Entity & HasIdentifier> void put(E e, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
-    backend.insert(e, overwritten);
+    doWithMetrics(
+        "put",
+        e.type(),
+        () -> {
+          backend.insert(e, overwritten);
+          return null;
+        });
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
-    return backend.update(ident, entityType, updater);
+    return doWithMetrics("update", entityType, () -> backend.update(ident, entityType, updater));
   }
 
   @Override
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType, Class<E> e)
       throws NoSuchEntityException, IOException {
-    return backend.get(ident, entityType);
+    return doWithMetrics("get", entityType, () -> backend.get(ident, entityType));
   }
 
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
     try {
-      return backend.delete(ident, entityType, cascade);
+      return doWithMetrics("delete", entityType, () -> backend.delete(ident, entityType, cascade));
     } catch (NoSuchEntityException nse) {
       return false;
     }
   }
 
+  private <R, E extends Exception> R doWithMetrics(
+      String operation, Entity.EntityType entityType, Executable<R, E> executable) throws E {
+    try (RequestTrace.Span ignored = RequestTrace.span(RequestTrace.Stage.STORE)) {
+      return metricsSource.measure(operation, entityType, executable);
+    }
+  }
+
   @Override
   public <R, E extends Exception> R executeInTransaction(Executable<R, E> executable) {
     throw new UnsupportedOperationException("Unsupported operation in relational entity store.");
   }
 
+  @Override
+  public void addEntityChangeListener(EntityChangeListener listener) {
+    if (changePoller != null) {
+      changePoller.addListener(listener);
+    }
+  }
+
+  @Override
+  public Optional<MetricsSource> metricsSource() {
+    return Optional.of(metricsSource);
+  }
+
+  @Override
+  public LeaderElector leaderElector() {
+    return leaderElector != null ? leaderElector : LeaderElector.ALWAYS_LEADER;
+  }
+
   @Override
   public void close() throws IOException {
+    if (changePoller != null) {
+      changePoller.close();
+    }
     garbageCollector.close();
+    if (leaderElector != null) {
+      leaderElector.close();
+    }
     backend.close();
   }
 
@@ -151,21 +206,30 @@ public class RelationalEntityStore
   @Override
   public List<MetadataObject> listAssociatedMetadataObjectsForTag(NameIdentifier tagIdent)
       throws IOException {
-    return backend.listAssociatedMetadataObjectsForTag(tagIdent);
+    return doWithMetrics(
+        "list-tag-objects",
+        Entity.EntityType.TAG,
+        () -> backend.listAssociatedMetadataObjectsForTag(tagIdent));
   }
 
   @Override
   public List<TagEntity> listAssociatedTagsForMetadataObject(
       NameIdentifier objectIdent, Entity.EntityType objectType)
       throws NoSuchEntityException, IOException {
-    return backend.listAssociatedTagsForMetadataObject(objectIdent, objectType);
+    return doWithMetrics(
+        "list-object-tags",
+        Entity.EntityType.TAG,
+        () -> backend.listAssociatedTagsForMetadataObject(objectIdent, objectType));
   }
 
   @Override
   public TagEntity getTagForMetadataObject(
       NameIdentifier objectIdent, Entity.EntityType objectType, NameIdentifier tagIdent)
       throws NoSuchEntityException, IOException {
-    return backend.getTagForMetadataObject(objectIdent, objectType, tagIdent);
+    return doWithMetrics(
+        "get-object-tag",
+        Entity.EntityType.TAG,
+        () -> backend.getTagForMetadataObject(objectIdent, objectType, tagIdent));
   }
 
   @Override
@@ -175,8 +239,12 @@ public class RelationalEntityStore
       NameIdentifier[] tagsToAdd,
       NameIdentifier[] tagsToRemove)
       throws NoSuchEntityException, EntityAlreadyExistsException, IOException {
-    return backend.associateTagsWithMetadataObject(
-        objectIdent, objectType, tagsToAdd, tagsToRemove);
+    return doWithMetrics(
+        "associate-tags",
+        Entity.EntityType.TAG,
+        () ->
+            backend.associateTagsWithMetadataObject(
+                objectIdent, objectType, tagsToAdd, tagsToRemove));
   }
 
   @Override
@@ -185,7 +253,10 @@ public class RelationalEntityStore
       NameIdentifier nameIdentifier,
       Entity.EntityType identType)
       throws IOException {
-    return backend.listEntitiesByRelation(relType, nameIdentifier, identType);
+    return doWithMetrics(
+        "list-by-relation",
+        identType,
+        () -> backend.listEntitiesByRelation(relType, nameIdentifier, identType));
   }
 
   @Override
@@ -197,6 +268,12 @@ public class RelationalEntityStore
       Entity.EntityType dstType,
       boolean override)
       throws IOException {
-    backend.insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, true);
+    doWithMetrics(
+        "insert-relation",
+        srcType,
+        () -> {
+          backend.insertRelation(relType, srcIdentifier, srcType, dstIdentifier, dstType, true);
+          return null;
+        });
   }
 }
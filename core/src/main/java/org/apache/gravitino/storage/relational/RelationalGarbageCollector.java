@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.storage.relational;
 
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CHANGE_LOG_RETENTION_MS;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
 
@@ -31,6 +32,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.storage.LeaderElector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,9 +40,11 @@ public final class RelationalGarbageCollector implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(RelationalGarbageCollector.class);
   private final RelationalBackend backend;
+  private final LeaderElector leaderElector;
 
   private final long storeDeleteAfterTimeMillis;
   private final long versionRetentionCount;
+  private final long changeLogRetentionMillis;
 
   @VisibleForTesting
   final ScheduledExecutorService garbageCollectorPool =
@@ -53,10 +57,13 @@ public final class RelationalGarbageCollector implements Closeable {
           },
           new ThreadPoolExecutor.AbortPolicy());
 
-  public RelationalGarbageCollector(RelationalBackend backend, Config config) {
+  public RelationalGarbageCollector(
+      RelationalBackend backend, Config config, LeaderElector leaderElector) {
     this.backend = backend;
+    this.leaderElector = leaderElector;
     storeDeleteAfterTimeMillis = config.get(STORE_DELETE_AFTER_TIME);
     versionRetentionCount = config.get(VERSION_RETENTION_COUNT);
+    changeLogRetentionMillis = config.get(ENTITY_RELATIONAL_CHANGE_LOG_RETENTION_MS);
   }
 
   public void start() {
@@ -68,14 +75,24 @@ public final class RelationalGarbageCollector implements Closeable {
     garbageCollectorPool.scheduleAtFixedRate(this::collectAndClean, 5, frequency, TimeUnit.MINUTES);
   }
 
-  private void collectAndClean() {
+  @VisibleForTesting
+  void collectAndClean() {
     long threadId = Thread.currentThread().getId();
+    // Only the leader collects garbage if several servers share the database.
+    long fencingToken = leaderElector.fencingToken();
+    if (fencingToken == LeaderElector.NOT_LEADER) {
+      LOG.info("Thread {} skip collecting garbage, the server isn't the leader.", threadId);
+      return;
+    }
     LOG.info("Thread {} start to collect garbage...", threadId);
 
     try {
       LOG.info("Start to collect and delete legacy data by thread {}", threadId);
       long legacyTimeline = System.currentTimeMillis() - storeDeleteAfterTimeMillis;
       for (Entity.EntityType entityType : Entity.EntityType.values()) {
+        if (!isStillLeader(fencingToken, threadId)) {
+          return;
+        }
         long deletedCount = Long.MAX_VALUE;
         LOG.info(
             "Try to physically delete {} legacy data that has been marked deleted before {}",
@@ -92,6 +109,9 @@ public final class RelationalGarbageCollector implements Closeable {
 
       LOG.info("Start to collect and delete old version data by thread {}", threadId);
       for (Entity.EntityType entityType : Entity.EntityType.values()) {
+        if (!isStillLeader(fencingToken, threadId)) {
+          return;
+        }
         long deletedCount = Long.MAX_VALUE;
         LOG.info(
             "Try to softly delete {} old version data that has been over retention count {}",
@@ -105,6 +125,20 @@ public final class RelationalGarbageCollector implements Closeable {
           LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
         }
       }
+
+      if (!isStillLeader(fencingToken, threadId)) {
+        return;
+      }
+      LOG.info("Start to delete legacy entity changes by thread {}", threadId);
+      long changeLogTimeline = System.currentTimeMillis() - changeLogRetentionMillis;
+      try {
+        long deletedCount = Long.MAX_VALUE;
+        while (deletedCount > 0) {
+          deletedCount = backend.deleteEntityChangesByLegacyTimeline(changeLogTimeline);
+        }
+      } catch (RuntimeException e) {
+        LOG.error("Failed to delete the legacy entity changes: ", e);
+      }
     } catch (Exception e) {
       LOG.error("Thread {} failed to collect and clean garbage.", threadId, e);
     } finally {
@@ -112,6 +146,17 @@ public final class RelationalGarbageCollector implements Closeable {
     }
   }
 
+  private boolean isStillLeader(long fencingToken, long threadId) {
+    if (leaderElector.validateFencingToken(fencingToken)) {
+      return true;
+    }
+    LOG.warn(
+        "Thread {} stop collecting garbage, the leadership of fencing token {} is lost.",
+        threadId,
+        fencingToken);
+    return false;
+  }
+
   @Override
   public void close() throws IOException {
     this.garbageCollectorPool.shutdown();
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.storage.LeaderElector;
+import org.apache.gravitino.storage.relational.po.LeaderLeasePO;
+import org.apache.gravitino.storage.relational.service.LeaderLeaseService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Elects the leader among the servers sharing the database by a lease row. The leader renews the
+ * lease every third of the lease time, and the other servers try to acquire it after it expires.
+ *
+ * <p>The expiry time is compared with the clocks of the servers, so the lease time should be much
+ * larger than the clock skew between them. The leadership is regarded as lost locally at the expiry
+ * time counted from before the renewal, which is earlier than the expiry time seen by the others.
+ */
+public class RelationalLeaderElector implements LeaderElector, Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RelationalLeaderElector.class);
+
+  @VisibleForTesting static final String LEASE_NAME = "background-jobs";
+
+  private final String holderId;
+
+  private final long leaseMs;
+
+  private volatile long fencingToken = NOT_LEADER;
+
+  private volatile long leaderUntil;
+
+  @VisibleForTesting
+  final ScheduledExecutorService electorPool =
+      new ScheduledThreadPoolExecutor(
+          1,
+          r -> {
+            Thread t = new Thread(r, "RelationalBackend-Leader-Elector");
+            t.setDaemon(true);
+            return t;
+          });
+
+  public RelationalLeaderElector(long leaseMs) {
+    this(ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID(), leaseMs);
+  }
+
+  @VisibleForTesting
+  RelationalLeaderElector(String holderId, long leaseMs) {
+    this.holderId = holderId;
+    this.leaseMs = leaseMs;
+  }
+
+  public void start() {
+    long renewIntervalMs = Math.max(leaseMs / 3, 1);
+    electorPool.scheduleWithFixedDelay(
+        this::electQuietly, 0, renewIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  private void electQuietly() {
+    try {
+      elect();
+    } catch (Exception e) {
+      LOG.warn("Failed to renew or acquire the leader lease by {}", holderId, e);
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void elect() {
+    long now = System.currentTimeMillis();
+    long expireAt = now + leaseMs;
+    LeaderLeaseService leaseService = LeaderLeaseService.getInstance();
+
+    long currentToken = fencingToken;
+    if (currentToken != NOT_LEADER) {
+      if (leaseService.renewLeaderLease(LEASE_NAME, holderId, currentToken, expireAt)) {
+        leaderUntil = expireAt;
+        return;
+      }
+
+      LOG.warn("Server {} lost the leadership of fencing token {}", holderId, currentToken);
+      fencingToken = NOT_LEADER;
+    }
+
+    LeaderLeasePO leaderLeasePO =
+        leaseService.tryAcquireLeaderLease(LEASE_NAME, holderId, now, expireAt);
+    if (leaderLeasePO != null
+        && holderId.equals(leaderLeasePO.getHolderId())
+        && leaderLeasePO.getExpireAt() == expireAt) {
+      leaderUntil = expireAt;
+      fencingToken = leaderLeasePO.getFencingToken();
+      LOG.info("Server {} became the leader with fencing token {}", holderId, fencingToken);
+    }
+  }
+
+  @Override
+  public boolean isLeader() {
+    return fencingToken != NOT_LEADER && System.currentTimeMillis() < leaderUntil;
+  }
+
+  @Override
+  public long fencingToken() {
+    return isLeader() ? fencingToken : NOT_LEADER;
+  }
+
+  @Override
+  public boolean validateFencingToken(long token) {
+    if (token == NOT_LEADER || token != fencingToken()) {
+      return false;
+    }
+
+    LeaderLeasePO leaderLeasePO = LeaderLeaseService.getInstance().getLeaderLease(LEASE_NAME);
+    return leaderLeasePO != null
+        && holderId.equals(leaderLeasePO.getHolderId())
+        && leaderLeasePO.getFencingToken() == token;
+  }
+
+  @Override
+  public void close() {
+    electorPool.shutdownNow();
+    try {
+      electorPool.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    long currentToken = fencingToken;
+    fencingToken = NOT_LEADER;
+    if (currentToken != NOT_LEADER) {
+      // Release the lease, so another server takes over without waiting for the expiry.
+      try {
+        LeaderLeaseService.getInstance().releaseLeaderLease(LEASE_NAME, holderId, currentToken);
+      } catch (Exception e) {
+        LOG.warn("Failed to release the leader lease of fencing token {}", currentToken, e);
+      }
+    }
+  }
+}
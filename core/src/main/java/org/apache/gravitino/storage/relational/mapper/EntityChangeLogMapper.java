@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.EntityChangePO;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+/**
+ * A MyBatis Mapper for the entity change log operation SQLs.
+ *
+ * <p>This interface class is a specification defined by MyBatis. It requires this interface class
+ * to identify the corresponding SQLs for execution. We can write SQLs in an additional XML file, or
+ * write SQLs with annotations in this interface Mapper. See: <a
+ * href="https://mybatis.org/mybatis-3/getting-started.html"></a>
+ */
+public interface EntityChangeLogMapper {
+  String CHANGE_LOG_TABLE_NAME = "entity_change_log";
+
+  @Insert(
+      "INSERT INTO "
+          + CHANGE_LOG_TABLE_NAME
+          + "(metalake_name, entity_type, full_name, operate_type, created_at)"
+          + " VALUES("
+          + " #{entityChange.metalakeName},"
+          + " #{entityChange.entityType},"
+          + " #{entityChange.fullName},"
+          + " #{entityChange.operateType},"
+          + " #{entityChange.createdAt}"
+          + " )")
+  void insertEntityChange(@Param("entityChange") EntityChangePO entityChangePO);
+
+  @Select(
+      "SELECT id, metalake_name as metalakeName, entity_type as entityType,"
+          + " full_name as fullName, operate_type as operateType, created_at as createdAt"
+          + " FROM "
+          + CHANGE_LOG_TABLE_NAME
+          + " WHERE id > #{afterId} ORDER BY id LIMIT #{limit}")
+  List<EntityChangePO> selectEntityChanges(
+      @Param("afterId") Long afterId, @Param("limit") int limit);
+
+  @Select("SELECT COALESCE(MAX(id), 0) FROM " + CHANGE_LOG_TABLE_NAME)
+  Long selectMaxEntityChangeId();
+
+  @Delete(
+      "DELETE FROM "
+          + CHANGE_LOG_TABLE_NAME
+          + " WHERE created_at < #{legacyTimeline} LIMIT #{limit}")
+  Integer deleteEntityChangesByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import org.apache.gravitino.storage.relational.po.LeaderLeasePO;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+/**
+ * A MyBatis Mapper for the leader lease operation SQLs.
+ *
+ * <p>This interface class is a specification defined by MyBatis. It requires this interface class
+ * to identify the corresponding SQLs for execution. We can write SQLs in an additional XML file, or
+ * write SQLs with annotations in this interface Mapper. See: <a
+ * href="https://mybatis.org/mybatis-3/getting-started.html"></a>
+ */
+public interface LeaderLeaseMapper {
+  String LEADER_LEASE_TABLE_NAME = "leader_lease";
+
+  @Select(
+      "SELECT lease_name as leaseName, holder_id as holderId,"
+          + " fencing_token as fencingToken, expire_at as expireAt"
+          + " FROM "
+          + LEADER_LEASE_TABLE_NAME
+          + " WHERE lease_name = #{leaseName}")
+  LeaderLeasePO selectLeaderLease(@Param("leaseName") String leaseName);
+
+  @Insert(
+      "INSERT INTO "
+          + LEADER_LEASE_TABLE_NAME
+          + "(lease_name, holder_id, fencing_token, expire_at)"
+          + " VALUES("
+          + " #{leaderLease.leaseName},"
+          + " #{leaderLease.holderId},"
+          + " #{leaderLease.fencingToken},"
+          + " #{leaderLease.expireAt}"
+          + " )")
+  void insertLeaderLease(@Param("leaderLease") LeaderLeasePO leaderLeasePO);
+
+  @Update(
+      "UPDATE "
+          + LEADER_LEASE_TABLE_NAME
+          + " SET holder_id = #{holderId}, fencing_token = fencing_token + 1,"
+          + " expire_at = #{expireAt}"
+          + " WHERE lease_name = #{leaseName} AND expire_at < #{now}")
+  Integer acquireExpiredLeaderLease(
+      @Param("leaseName") String leaseName,
+      @Param("holderId") String holderId,
+      @Param("expireAt") Long expireAt,
+      @Param("now") Long now);
+
+  @Update(
+      "UPDATE "
+          + LEADER_LEASE_TABLE_NAME
+          + " SET expire_at = #{expireAt}"
+          + " WHERE lease_name = #{leaseName} AND holder_id = #{holderId}"
+          + " AND fencing_token = #{fencingToken}")
+  Integer renewLeaderLease(
+      @Param("leaseName") String leaseName,
+      @Param("holderId") String holderId,
+      @Param("fencingToken") Long fencingToken,
+      @Param("expireAt") Long expireAt);
+}
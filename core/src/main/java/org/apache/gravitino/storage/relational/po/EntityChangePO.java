@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+/** This class is the persistent object of an entity change in the change log. */
+@Getter
+public class EntityChangePO {
+
+  private Long id;
+  private String metalakeName;
+  private String entityType;
+  private String fullName;
+  private String operateType;
+  private Long createdAt;
+
+  private EntityChangePO() {}
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private final EntityChangePO entityChangePO;
+
+    private Builder() {
+      this.entityChangePO = new EntityChangePO();
+    }
+
+    public Builder withId(Long id) {
+      entityChangePO.id = id;
+      return this;
+    }
+
+    public Builder withMetalakeName(String metalakeName) {
+      entityChangePO.metalakeName = metalakeName;
+      return this;
+    }
+
+    public Builder withEntityType(String entityType) {
+      entityChangePO.entityType = entityType;
+      return this;
+    }
+
+    public Builder withFullName(String fullName) {
+      entityChangePO.fullName = fullName;
+      return this;
+    }
+
+    public Builder withOperateType(String operateType) {
+      entityChangePO.operateType = operateType;
+      return this;
+    }
+
+    public Builder withCreatedAt(Long createdAt) {
+      entityChangePO.createdAt = createdAt;
+      return this;
+    }
+
+    public EntityChangePO build() {
+      validate();
+      return entityChangePO;
+    }
+
+    private void validate() {
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(entityChangePO.metalakeName), "Metalake name is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(entityChangePO.entityType), "Entity type is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(entityChangePO.fullName), "Full name is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(entityChangePO.operateType), "Operate type is required");
+      Preconditions.checkArgument(entityChangePO.createdAt != null, "Created at is required");
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+/** This class is the persistent object of a leader lease. */
+@Getter
+public class LeaderLeasePO {
+
+  private String leaseName;
+  private String holderId;
+  private Long fencingToken;
+  private Long expireAt;
+
+  private LeaderLeasePO() {}
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private final LeaderLeasePO leaderLeasePO;
+
+    private Builder() {
+      this.leaderLeasePO = new LeaderLeasePO();
+    }
+
+    public Builder withLeaseName(String leaseName) {
+      leaderLeasePO.leaseName = leaseName;
+      return this;
+    }
+
+    public Builder withHolderId(String holderId) {
+      leaderLeasePO.holderId = holderId;
+      return this;
+    }
+
+    public Builder withFencingToken(Long fencingToken) {
+      leaderLeasePO.fencingToken = fencingToken;
+      return this;
+    }
+
+    public Builder withExpireAt(Long expireAt) {
+      leaderLeasePO.expireAt = expireAt;
+      return this;
+    }
+
+    public LeaderLeasePO build() {
+      validate();
+      return leaderLeasePO;
+    }
+
+    private void validate() {
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(leaderLeasePO.leaseName), "Lease name is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(leaderLeasePO.holderId), "Holder id is required");
+      Preconditions.checkArgument(leaderLeasePO.fencingToken != null, "Fencing token is required");
+      Preconditions.checkArgument(leaderLeasePO.expireAt != null, "Expire at is required");
+    }
+  }
+}
@@ -139,6 +139,11 @@ public class CatalogMetaService {
             } else {
               mapper.insertCatalogMeta(po);
             }
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    catalogEntity.nameIdentifier(),
+                    Entity.EntityType.CATALOG,
+                    EntityChangeLogService.OperateType.INSERT);
           });
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
@@ -171,10 +176,21 @@ public class CatalogMetaService {
       updateResult =
           SessionUtils.doWithCommitAndFetchResult(
               CatalogMetaMapper.class,
-              mapper ->
-                  mapper.updateCatalogMeta(
-                      POConverters.updateCatalogPOWithVersion(oldCatalogPO, newEntity, metalakeId),
-                      oldCatalogPO));
+              mapper -> {
+                Integer result =
+                    mapper.updateCatalogMeta(
+                        POConverters.updateCatalogPOWithVersion(
+                            oldCatalogPO, newEntity, metalakeId),
+                        oldCatalogPO);
+                if (result > 0) {
+                  EntityChangeLogService.getInstance()
+                      .insertEntityChange(
+                          identifier,
+                          Entity.EntityType.CATALOG,
+                          EntityChangeLogService.OperateType.UPDATE);
+                }
+                return result;
+              });
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.CATALOG, newEntity.nameIdentifier().toString());
@@ -225,8 +241,13 @@ public class CatalogMetaService {
                   mapper -> mapper.softDeleteTopicMetasByCatalogId(catalogId)),
           () ->
               SessionUtils.doWithoutCommit(
-                  OwnerMetaMapper.class,
-                  mapper -> mapper.softDeleteOwnerRelByCatalogId(catalogId)));
+                  OwnerMetaMapper.class, mapper -> mapper.softDeleteOwnerRelByCatalogId(catalogId)),
+          () ->
+              EntityChangeLogService.getInstance()
+                  .insertEntityChange(
+                      identifier,
+                      Entity.EntityType.CATALOG,
+                      EntityChangeLogService.OperateType.DELETE));
     } else {
       List<SchemaEntity> schemaEntities =
           SchemaMetaService.getInstance()
@@ -246,7 +267,13 @@ public class CatalogMetaService {
                   OwnerMetaMapper.class,
                   mapper ->
                       mapper.softDeleteOwnerRelByMetadataObjectIdAndType(
-                          catalogId, MetadataObject.Type.CATALOG.name())));
+                          catalogId, MetadataObject.Type.CATALOG.name())),
+          () ->
+              EntityChangeLogService.getInstance()
+                  .insertEntityChange(
+                      identifier,
+                      Entity.EntityType.CATALOG,
+                      EntityChangeLogService.OperateType.DELETE));
     }
 
     return true;
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.util.List;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper;
+import org.apache.gravitino.storage.relational.po.EntityChangePO;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+
+/**
+ * The service class for the entity change log. The changes are inserted in the transactions of the
+ * entity mutations, so the other servers sharing the database can tail the log to invalidate their
+ * caches.
+ */
+public class EntityChangeLogService {
+  private static final EntityChangeLogService INSTANCE = new EntityChangeLogService();
+
+  public static EntityChangeLogService getInstance() {
+    return INSTANCE;
+  }
+
+  private EntityChangeLogService() {}
+
+  /** The operate types of the entity changes. */
+  public enum OperateType {
+    INSERT,
+    UPDATE,
+    DELETE
+  }
+
+  /**
+   * Inserts a change to the log in the current session without committing it, so it's committed or
+   * rolled back together with the entity mutation.
+   *
+   * @param identifier The identifier of the changed entity.
+   * @param entityType The type of the changed entity.
+   * @param operateType The operation on the entity.
+   */
+  public void insertEntityChange(
+      NameIdentifier identifier, Entity.EntityType entityType, OperateType operateType) {
+    String metalakeName =
+        identifier.hasNamespace() ? identifier.namespace().level(0) : identifier.name();
+    EntityChangePO entityChangePO =
+        EntityChangePO.builder()
+            .withMetalakeName(metalakeName)
+            .withEntityType(entityType.name())
+            .withFullName(identifier.toString())
+            .withOperateType(operateType.name())
+            .withCreatedAt(System.currentTimeMillis())
+            .build();
+    SessionUtils.doWithoutCommit(
+        EntityChangeLogMapper.class, mapper -> mapper.insertEntityChange(entityChangePO));
+  }
+
+  public List<EntityChangePO> listEntityChanges(long afterId, int limit) {
+    return SessionUtils.getWithoutCommit(
+        EntityChangeLogMapper.class, mapper -> mapper.selectEntityChanges(afterId, limit));
+  }
+
+  public long getMaxEntityChangeId() {
+    return SessionUtils.getWithoutCommit(
+        EntityChangeLogMapper.class, EntityChangeLogMapper::selectMaxEntityChangeId);
+  }
+
+  public int deleteEntityChangesByLegacyTimeline(Long legacyTimeline, int limit) {
+    return SessionUtils.doWithCommitAndFetchResult(
+        EntityChangeLogMapper.class,
+        mapper -> mapper.deleteEntityChangesByLegacyTimeline(legacyTimeline, limit));
+  }
+}
@@ -151,7 +151,13 @@ public class FilesetMetaService {
                     } else {
                       mapper.insertFilesetVersion(po.getFilesetVersionPO());
                     }
-                  }));
+                  }),
+          () ->
+              EntityChangeLogService.getInstance()
+                  .insertEntityChange(
+                      filesetEntity.nameIdentifier(),
+                      Entity.EntityType.FILESET,
+                      EntityChangeLogService.OperateType.INSERT));
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.FILESET, filesetEntity.nameIdentifier().toString());
@@ -198,14 +204,30 @@ public class FilesetMetaService {
             () ->
                 SessionUtils.doWithoutCommit(
                     FilesetMetaMapper.class,
-                    mapper -> mapper.updateFilesetMeta(newFilesetPO, oldFilesetPO)));
+                    mapper -> mapper.updateFilesetMeta(newFilesetPO, oldFilesetPO)),
+            () ->
+                EntityChangeLogService.getInstance()
+                    .insertEntityChange(
+                        identifier,
+                        Entity.EntityType.FILESET,
+                        EntityChangeLogService.OperateType.UPDATE));
         // we set the updateResult to 1 to indicate that the update is successful
         updateResult = 1;
       } else {
         updateResult =
             SessionUtils.doWithCommitAndFetchResult(
                 FilesetMetaMapper.class,
-                mapper -> mapper.updateFilesetMeta(newFilesetPO, oldFilesetPO));
+                mapper -> {
+                  Integer result = mapper.updateFilesetMeta(newFilesetPO, oldFilesetPO);
+                  if (result > 0) {
+                    EntityChangeLogService.getInstance()
+                        .insertEntityChange(
+                            identifier,
+                            Entity.EntityType.FILESET,
+                            EntityChangeLogService.OperateType.UPDATE);
+                  }
+                  return result;
+                });
       }
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
@@ -245,7 +267,13 @@ public class FilesetMetaService {
                 OwnerMetaMapper.class,
                 mapper ->
                     mapper.softDeleteOwnerRelByMetadataObjectIdAndType(
-                        filesetId, MetadataObject.Type.FILESET.name())));
+                        filesetId, MetadataObject.Type.FILESET.name())),
+        () ->
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    identifier,
+                    Entity.EntityType.FILESET,
+                    EntityChangeLogService.OperateType.DELETE));
 
     return true;
   }
@@ -129,7 +129,13 @@ public class GroupMetaService {
                     mapper.batchInsertGroupRoleRel(groupRoleRelPOS);
                   }
                 });
-          });
+          },
+          () ->
+              EntityChangeLogService.getInstance()
+                  .insertEntityChange(
+                      groupEntity.nameIdentifier(),
+                      Entity.EntityType.GROUP,
+                      EntityChangeLogService.OperateType.INSERT));
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.GROUP, groupEntity.nameIdentifier().toString());
@@ -157,7 +163,13 @@ public class GroupMetaService {
                 OwnerMetaMapper.class,
                 mapper ->
                     mapper.softDeleteOwnerRelByOwnerIdAndType(
-                        groupId, Entity.EntityType.GROUP.name())));
+                        groupId, Entity.EntityType.GROUP.name())),
+        () ->
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    identifier,
+                    Entity.EntityType.GROUP,
+                    EntityChangeLogService.OperateType.DELETE));
     return true;
   }
 
@@ -222,7 +234,13 @@ public class GroupMetaService {
                 mapper ->
                     mapper.softDeleteGroupRoleRelByGroupAndRoles(
                         newEntity.id(), Lists.newArrayList(deleteRoleIds)));
-          });
+          },
+          () ->
+              EntityChangeLogService.getInstance()
+                  .insertEntityChange(
+                      identifier,
+                      Entity.EntityType.GROUP,
+                      EntityChangeLogService.OperateType.UPDATE));
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.GROUP, newEntity.nameIdentifier().toString());
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import org.apache.gravitino.storage.relational.mapper.LeaderLeaseMapper;
+import org.apache.gravitino.storage.relational.po.LeaderLeasePO;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The service class for the leader leases. A lease is a row in the database held by one server
+ * until it expires, the fencing token of the row is increased every time the lease changes hands.
+ */
+public class LeaderLeaseService {
+  private static final Logger LOG = LoggerFactory.getLogger(LeaderLeaseService.class);
+  private static final LeaderLeaseService INSTANCE = new LeaderLeaseService();
+
+  public static LeaderLeaseService getInstance() {
+    return INSTANCE;
+  }
+
+  private LeaderLeaseService() {}
+
+  public LeaderLeasePO getLeaderLease(String leaseName) {
+    return SessionUtils.getWithoutCommit(
+        LeaderLeaseMapper.class, mapper -> mapper.selectLeaderLease(leaseName));
+  }
+
+  /**
+   * Tries to acquire the lease if it doesn't exist or has expired.
+   *
+   * @param leaseName The name of the lease.
+   * @param holderId The id of the server acquiring the lease.
+   * @param now The current time in milliseconds.
+   * @param expireAt The time in milliseconds the lease expires at if it's acquired.
+   * @return The lease after the attempt, it's held by the holder if the attempt succeeded.
+   */
+  public LeaderLeasePO tryAcquireLeaderLease(
+      String leaseName, String holderId, long now, long expireAt) {
+    LeaderLeasePO leaderLeasePO = getLeaderLease(leaseName);
+    if (leaderLeasePO == null) {
+      LeaderLeasePO newLeaderLeasePO =
+          LeaderLeasePO.builder()
+              .withLeaseName(leaseName)
+              .withHolderId(holderId)
+              .withFencingToken(1L)
+              .withExpireAt(expireAt)
+              .build();
+      try {
+        SessionUtils.doWithCommit(
+            LeaderLeaseMapper.class, mapper -> mapper.insertLeaderLease(newLeaderLeasePO));
+        return newLeaderLeasePO;
+      } catch (RuntimeException e) {
+        // Another server may have inserted the lease at the same time.
+        LOG.debug("Failed to insert the leader lease {}", leaseName, e);
+        return getLeaderLease(leaseName);
+      }
+    }
+
+    if (leaderLeasePO.getExpireAt() >= now) {
+      return leaderLeasePO;
+    }
+
+    // The condition on the expiry time is checked again by the update, so only one of the servers
+    // acquiring the expired lease at the same time succeeds.
+    return SessionUtils.doWithCommitAndFetchResult(
+        LeaderLeaseMapper.class,
+        mapper -> {
+          mapper.acquireExpiredLeaderLease(leaseName, holderId, expireAt, now);
+          return mapper.selectLeaderLease(leaseName);
+        });
+  }
+
+  /**
+   * Renews the lease if it's still held by the holder with the fencing token.
+   *
+   * @param leaseName The name of the lease.
+   * @param holderId The id of the server holding the lease.
+   * @param fencingToken The fencing token of the holder.
+   * @param expireAt The new time in milliseconds the lease expires at.
+   * @return True if the lease is renewed.
+   */
+  public boolean renewLeaderLease(
+      String leaseName, String holderId, long fencingToken, long expireAt) {
+    Integer result =
+        SessionUtils.doWithCommitAndFetchResult(
+            LeaderLeaseMapper.class,
+            mapper -> mapper.renewLeaderLease(leaseName, holderId, fencingToken, expireAt));
+    return result != null && result > 0;
+  }
+
+  /**
+   * Releases the lease by expiring it, so another server acquires it without waiting.
+   *
+   * @param leaseName The name of the lease.
+   * @param holderId The id of the server holding the lease.
+   * @param fencingToken The fencing token of the holder.
+   */
+  public void releaseLeaderLease(String leaseName, String holderId, long fencingToken) {
+    renewLeaderLease(leaseName, holderId, fencingToken, 0L);
+  }
+}
@@ -120,6 +120,11 @@ public class MetalakeMetaService {
             } else {
               mapper.insertMetalakeMeta(po);
             }
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    baseMetalake.nameIdentifier(),
+                    Entity.EntityType.METALAKE,
+                    EntityChangeLogService.OperateType.INSERT);
           });
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
@@ -155,7 +160,17 @@ public class MetalakeMetaService {
       updateResult =
           SessionUtils.doWithCommitAndFetchResult(
               MetalakeMetaMapper.class,
-              mapper -> mapper.updateMetalakeMeta(newMetalakePO, oldMetalakePO));
+              mapper -> {
+                Integer result = mapper.updateMetalakeMeta(newMetalakePO, oldMetalakePO);
+                if (result > 0) {
+                  EntityChangeLogService.getInstance()
+                      .insertEntityChange(
+                          ident,
+                          Entity.EntityType.METALAKE,
+                          EntityChangeLogService.OperateType.UPDATE);
+                }
+                return result;
+              });
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.METALAKE, newMetalakeEntity.nameIdentifier().toString());
@@ -238,7 +253,13 @@ public class MetalakeMetaService {
             () ->
                 SessionUtils.doWithoutCommit(
                     OwnerMetaMapper.class,
-                    mapper -> mapper.softDeleteOwnerRelByMetalakeId(metalakeId)));
+                    mapper -> mapper.softDeleteOwnerRelByMetalakeId(metalakeId)),
+            () ->
+                EntityChangeLogService.getInstance()
+                    .insertEntityChange(
+                        ident,
+                        Entity.EntityType.METALAKE,
+                        EntityChangeLogService.OperateType.DELETE));
       } else {
         List<CatalogEntity> catalogEntities =
             CatalogMetaService.getInstance()
@@ -287,7 +308,13 @@ public class MetalakeMetaService {
             () ->
                 SessionUtils.doWithoutCommit(
                     OwnerMetaMapper.class,
-                    mapper -> mapper.softDeleteOwnerRelByMetalakeId(metalakeId)));
+                    mapper -> mapper.softDeleteOwnerRelByMetalakeId(metalakeId)),
+            () ->
+                EntityChangeLogService.getInstance()
+                    .insertEntityChange(
+                        ident,
+                        Entity.EntityType.METALAKE,
+                        EntityChangeLogService.OperateType.DELETE));
       }
     }
     return true;
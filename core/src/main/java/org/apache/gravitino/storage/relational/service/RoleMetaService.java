@@ -133,7 +133,13 @@ public class RoleMetaService {
                     } else {
                       mapper.insertRoleMeta(rolePO);
                     }
-                  }));
+                  }),
+          () ->
+              EntityChangeLogService.getInstance()
+                  .insertEntityChange(
+                      roleEntity.nameIdentifier(),
+                      Entity.EntityType.ROLE,
+                      EntityChangeLogService.OperateType.INSERT));
 
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
@@ -197,7 +203,11 @@ public class RoleMetaService {
                 OwnerMetaMapper.class,
                 mapper ->
                     mapper.softDeleteOwnerRelByMetadataObjectIdAndType(
-                        roleId, MetadataObject.Type.ROLE.name())));
+                        roleId, MetadataObject.Type.ROLE.name())),
+        () ->
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    identifier, Entity.EntityType.ROLE, EntityChangeLogService.OperateType.DELETE));
     return true;
   }
 
@@ -131,6 +131,11 @@ public class SchemaMetaService {
             } else {
               mapper.insertSchemaMeta(po);
             }
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    schemaEntity.nameIdentifier(),
+                    Entity.EntityType.SCHEMA,
+                    EntityChangeLogService.OperateType.INSERT);
           });
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
@@ -162,9 +167,20 @@ public class SchemaMetaService {
       updateResult =
           SessionUtils.doWithCommitAndFetchResult(
               SchemaMetaMapper.class,
-              mapper ->
-                  mapper.updateSchemaMeta(
-                      POConverters.updateSchemaPOWithVersion(oldSchemaPO, newEntity), oldSchemaPO));
+              mapper -> {
+                Integer result =
+                    mapper.updateSchemaMeta(
+                        POConverters.updateSchemaPOWithVersion(oldSchemaPO, newEntity),
+                        oldSchemaPO);
+                if (result > 0) {
+                  EntityChangeLogService.getInstance()
+                      .insertEntityChange(
+                          identifier,
+                          Entity.EntityType.SCHEMA,
+                          EntityChangeLogService.OperateType.UPDATE);
+                }
+                return result;
+              });
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.SCHEMA, newEntity.nameIdentifier().toString());
@@ -211,7 +227,13 @@ public class SchemaMetaService {
                     mapper -> mapper.softDeleteTopicMetasBySchemaId(schemaId)),
             () ->
                 SessionUtils.doWithoutCommit(
-                    OwnerMetaMapper.class, mapper -> mapper.sotDeleteOwnerRelBySchemaId(schemaId)));
+                    OwnerMetaMapper.class, mapper -> mapper.sotDeleteOwnerRelBySchemaId(schemaId)),
+            () ->
+                EntityChangeLogService.getInstance()
+                    .insertEntityChange(
+                        identifier,
+                        Entity.EntityType.SCHEMA,
+                        EntityChangeLogService.OperateType.DELETE));
       } else {
         List<TableEntity> tableEntities =
             TableMetaService.getInstance()
@@ -245,7 +267,13 @@ public class SchemaMetaService {
                     OwnerMetaMapper.class,
                     mapper ->
                         mapper.softDeleteOwnerRelByMetadataObjectIdAndType(
-                            schemaId, MetadataObject.Type.SCHEMA.name())));
+                            schemaId, MetadataObject.Type.SCHEMA.name())),
+            () ->
+                EntityChangeLogService.getInstance()
+                    .insertEntityChange(
+                        identifier,
+                        Entity.EntityType.SCHEMA,
+                        EntityChangeLogService.OperateType.DELETE));
       }
     }
     return true;
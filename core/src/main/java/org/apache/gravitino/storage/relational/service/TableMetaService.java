@@ -126,6 +126,11 @@ public class TableMetaService {
             } else {
               mapper.insertTableMeta(po);
             }
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    tableEntity.nameIdentifier(),
+                    Entity.EntityType.TABLE,
+                    EntityChangeLogService.OperateType.INSERT);
           });
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
@@ -157,9 +162,19 @@ public class TableMetaService {
       updateResult =
           SessionUtils.doWithCommitAndFetchResult(
               TableMetaMapper.class,
-              mapper ->
-                  mapper.updateTableMeta(
-                      POConverters.updateTablePOWithVersion(oldTablePO, newEntity), oldTablePO));
+              mapper -> {
+                Integer result =
+                    mapper.updateTableMeta(
+                        POConverters.updateTablePOWithVersion(oldTablePO, newEntity), oldTablePO);
+                if (result > 0) {
+                  EntityChangeLogService.getInstance()
+                      .insertEntityChange(
+                          identifier,
+                          Entity.EntityType.TABLE,
+                          EntityChangeLogService.OperateType.UPDATE);
+                }
+                return result;
+              });
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.TABLE, newEntity.nameIdentifier().toString());
@@ -192,7 +207,13 @@ public class TableMetaService {
                 OwnerMetaMapper.class,
                 mapper ->
                     mapper.softDeleteOwnerRelByMetadataObjectIdAndType(
-                        tableId, MetadataObject.Type.TABLE.name())));
+                        tableId, MetadataObject.Type.TABLE.name())),
+        () ->
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    identifier,
+                    Entity.EntityType.TABLE,
+                    EntityChangeLogService.OperateType.DELETE));
 
     return true;
   }
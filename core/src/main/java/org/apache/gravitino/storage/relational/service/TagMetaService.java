@@ -91,6 +91,11 @@ public class TagMetaService {
             } else {
               mapper.insertTagMeta(tagPO);
             }
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    tagEntity.nameIdentifier(),
+                    Entity.EntityType.TAG,
+                    EntityChangeLogService.OperateType.INSERT);
           });
     } catch (RuntimeException e) {
       ExceptionUtils.checkSQLException(e, Entity.EntityType.TAG, tagEntity.toString());
@@ -115,9 +120,17 @@ public class TagMetaService {
       Integer result =
           SessionUtils.doWithCommitAndFetchResult(
               TagMetaMapper.class,
-              mapper ->
-                  mapper.updateTagMeta(
-                      POConverters.updateTagPOWithVersion(tagPO, updatedTagEntity), tagPO));
+              mapper -> {
+                Integer updateResult =
+                    mapper.updateTagMeta(
+                        POConverters.updateTagPOWithVersion(tagPO, updatedTagEntity), tagPO);
+                if (updateResult != null && updateResult > 0) {
+                  EntityChangeLogService.getInstance()
+                      .insertEntityChange(
+                          ident, Entity.EntityType.TAG, EntityChangeLogService.OperateType.UPDATE);
+                }
+                return updateResult;
+              });
 
       if (result == null || result == 0) {
         throw new IOException("Failed to update the entity: " + ident);
@@ -149,7 +162,14 @@ public class TagMetaService {
                     TagMetadataObjectRelMapper.class,
                     mapper ->
                         mapper.softDeleteTagMetadataObjectRelsByMetalakeAndTagName(
-                            metalakeName, ident.name())));
+                            metalakeName, ident.name())),
+        () -> {
+          if (tagDeletedCount[0] > 0) {
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    ident, Entity.EntityType.TAG, EntityChangeLogService.OperateType.DELETE);
+          }
+        });
 
     return tagDeletedCount[0] + tagMetadataObjectRelDeletedCount[0] > 0;
   }
@@ -68,6 +68,11 @@ public class TopicMetaService {
             } else {
               mapper.insertTopicMeta(po);
             }
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    topicEntity.nameIdentifier(),
+                    Entity.EntityType.TOPIC,
+                    EntityChangeLogService.OperateType.INSERT);
           });
       // TODO: insert topic dataLayout version after supporting it
     } catch (RuntimeException re) {
@@ -111,9 +116,19 @@ public class TopicMetaService {
       updateResult =
           SessionUtils.doWithCommitAndFetchResult(
               TopicMetaMapper.class,
-              mapper ->
-                  mapper.updateTopicMeta(
-                      POConverters.updateTopicPOWithVersion(oldTopicPO, newEntity), oldTopicPO));
+              mapper -> {
+                Integer result =
+                    mapper.updateTopicMeta(
+                        POConverters.updateTopicPOWithVersion(oldTopicPO, newEntity), oldTopicPO);
+                if (result > 0) {
+                  EntityChangeLogService.getInstance()
+                      .insertEntityChange(
+                          ident,
+                          Entity.EntityType.TOPIC,
+                          EntityChangeLogService.OperateType.UPDATE);
+                }
+                return result;
+              });
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.TOPIC, newEntity.nameIdentifier().toString());
@@ -205,7 +220,13 @@ public class TopicMetaService {
                 OwnerMetaMapper.class,
                 mapper ->
                     mapper.softDeleteOwnerRelByMetadataObjectIdAndType(
-                        topicId, MetadataObject.Type.TOPIC.name())));
+                        topicId, MetadataObject.Type.TOPIC.name())),
+        () ->
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    identifier,
+                    Entity.EntityType.TOPIC,
+                    EntityChangeLogService.OperateType.DELETE));
 
     return true;
   }
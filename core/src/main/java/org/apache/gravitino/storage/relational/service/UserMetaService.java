@@ -129,7 +129,13 @@ public class UserMetaService {
                     mapper.batchInsertUserRoleRel(userRoleRelPOs);
                   }
                 });
-          });
+          },
+          () ->
+              EntityChangeLogService.getInstance()
+                  .insertEntityChange(
+                      userEntity.nameIdentifier(),
+                      Entity.EntityType.USER,
+                      EntityChangeLogService.OperateType.INSERT));
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.USER, userEntity.nameIdentifier().toString());
@@ -156,7 +162,11 @@ public class UserMetaService {
                 OwnerMetaMapper.class,
                 mapper ->
                     mapper.softDeleteOwnerRelByOwnerIdAndType(
-                        userId, Entity.EntityType.USER.name())));
+                        userId, Entity.EntityType.USER.name())),
+        () ->
+            EntityChangeLogService.getInstance()
+                .insertEntityChange(
+                    identifier, Entity.EntityType.USER, EntityChangeLogService.OperateType.DELETE));
     return true;
   }
 
@@ -219,7 +229,13 @@ public class UserMetaService {
                 mapper ->
                     mapper.softDeleteUserRoleRelByUserAndRoles(
                         newEntity.id(), Lists.newArrayList(deleteRoleIds)));
-          });
+          },
+          () ->
+              EntityChangeLogService.getInstance()
+                  .insertEntityChange(
+                      identifier,
+                      Entity.EntityType.USER,
+                      EntityChangeLogService.OperateType.UPDATE));
     } catch (RuntimeException re) {
       ExceptionUtils.checkSQLException(
           re, Entity.EntityType.USER, newEntity.nameIdentifier().toString());
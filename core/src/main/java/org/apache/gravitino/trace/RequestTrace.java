@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.trace;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lightweight trace of a single request, breaking down its time by the stages of the server, e.g.
+ * waiting on the tree lock, calling the entity store or the catalog connector.
+ *
+ * <p>A trace is attached to the thread serving the request with {@link #attach(RequestTrace)}, and
+ * the stages are measured with {@link #span(Stage)}. Spans may be nested, and each stage only
+ * records its own time, i.e. the time of the nested spans is excluded, so the stage times of a
+ * request sum up to at most its total time. The spans on a thread without an attached trace are
+ * no-ops, so the stages cost nothing unless the request is traced. The stages of operations
+ * executed in parallel for a request, e.g. a batch request, are added up.
+ */
+public final class RequestTrace {
+
+  /** The stages of a request. */
+  public enum Stage {
+    /** Waiting in the queue of the request executor. */
+    QUEUE,
+    /** Waiting to acquire the tree lock. */
+    LOCK,
+    /** Calling the entity store. */
+    STORE,
+    /** Loading the catalog from the catalog manager. */
+    CATALOG,
+    /** Switching to the isolated class loader of the catalog. */
+    CLASSLOADER,
+    /** Calling the catalog connector. */
+    CONNECTOR;
+
+    /**
+     * Returns the name of the stage in the trace outputs, e.g. the {@code Server-Timing} header.
+     *
+     * @return The lower case name of the stage.
+     */
+    public String metricName() {
+      return name().toLowerCase(Locale.ROOT);
+    }
+  }
+
+  /** A span measuring a stage, closing it records the time of the stage. */
+  public interface Span extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  /** The attachment of a trace to a thread, closing it restores the previous attachment. */
+  public interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  private static final Span NOOP_SPAN = () -> {};
+
+  private static final Scope NOOP_SCOPE = () -> {};
+
+  private static final ThreadLocal<ThreadState> CURRENT = new ThreadLocal<>();
+
+  private final long startNanos = System.nanoTime();
+
+  private final AtomicLongArray stageNanos = new AtomicLongArray(Stage.values().length);
+
+  private final AtomicIntegerArray stageCounts = new AtomicIntegerArray(Stage.values().length);
+
+  /**
+   * Returns the trace attached to the current thread.
+   *
+   * @return The attached trace, or null if the thread isn't serving a traced request.
+   */
+  public static RequestTrace current() {
+    ThreadState state = CURRENT.get();
+    return state == null ? null : state.trace;
+  }
+
+  /**
+   * Starts a span of the stage in the trace attached to the current thread. It should be closed in
+   * a try-with-resources statement on the same thread.
+   *
+   * @param stage The stage to measure.
+   * @return The started span, or a no-op span if no trace is attached to the current thread.
+   */
+  public static Span span(Stage stage) {
+    ThreadState state = CURRENT.get();
+    if (state == null) {
+      return NOOP_SPAN;
+    }
+
+    ThreadSpan span = new ThreadSpan(state, stage);
+    state.top = span;
+    return span;
+  }
+
+  /**
+   * Attaches the trace to the current thread until the returned scope is closed.
+   *
+   * @param trace The trace to attach, nothing is attached if it's null.
+   * @return The scope of the attachment.
+   */
+  public static Scope attach(RequestTrace trace) {
+    if (trace == null) {
+      return NOOP_SCOPE;
+    }
+
+    ThreadState previous = CURRENT.get();
+    CURRENT.set(new ThreadState(trace));
+    return () -> {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    };
+  }
+
+  /**
+   * Records the time of a stage measured without a span, e.g. the time waiting in a queue.
+   *
+   * @param stage The stage.
+   * @param nanos The time of the stage in nanoseconds.
+   */
+  public void record(Stage stage, long nanos) {
+    stageNanos.addAndGet(stage.ordinal(), nanos);
+    stageCounts.incrementAndGet(stage.ordinal());
+  }
+
+  /**
+   * Returns the time since the trace was created.
+   *
+   * @return The elapsed time in nanoseconds.
+   */
+  public long elapsedNanos() {
+    return System.nanoTime() - startNanos;
+  }
+
+  /**
+   * Returns the time recorded for the stage.
+   *
+   * @param stage The stage.
+   * @return The time of the stage in nanoseconds.
+   */
+  public long stageNanos(Stage stage) {
+    return stageNanos.get(stage.ordinal());
+  }
+
+  /**
+   * Returns the number of times the stage is recorded.
+   *
+   * @param stage The stage.
+   * @return The number of spans of the stage.
+   */
+  public int stageCount(Stage stage) {
+    return stageCounts.get(stage.ordinal());
+  }
+
+  /**
+   * Formats the recorded stages as a {@code Server-Timing} header value, e.g. {@code
+   * lock;dur=0.012, store;dur=2.345, total;dur=3.001}. The durations are in milliseconds.
+   *
+   * @return The header value.
+   */
+  public String toServerTiming() {
+    StringBuilder builder = new StringBuilder();
+    for (Stage stage : Stage.values()) {
+      if (stageCount(stage) > 0) {
+        builder
+            .append(stage.metricName())
+            .append(";dur=")
+            .append(formatMillis(stageNanos(stage)))
+            .append(", ");
+      }
+    }
+    return builder.append("total;dur=").append(formatMillis(elapsedNanos())).toString();
+  }
+
+  /**
+   * Formats the recorded stages for logging, e.g. {@code total=3.001ms, lock=0.012ms(1),
+   * store=2.345ms(2)} where the number of spans of each stage is in parentheses.
+   *
+   * @return The breakdown of the request time.
+   */
+  @Override
+  public String toString() {
+    StringBuilder builder =
+        new StringBuilder("total=").append(formatMillis(elapsedNanos())).append("ms");
+    for (Stage stage : Stage.values()) {
+      int count = stageCount(stage);
+      if (count > 0) {
+        builder
+            .append(", ")
+            .append(stage.metricName())
+            .append('=')
+            .append(formatMillis(stageNanos(stage)))
+            .append("ms(")
+            .append(count)
+            .append(')');
+      }
+    }
+    return builder.toString();
+  }
+
+  private static String formatMillis(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+  }
+
+  // The spans of a trace opened on a thread, the innermost one is on the top.
+  private static final class ThreadState {
+    private final RequestTrace trace;
+    private ThreadSpan top;
+
+    private ThreadState(RequestTrace trace) {
+      this.trace = trace;
+    }
+  }
+
+  private static final class ThreadSpan implements Span {
+    private final ThreadState state;
+    private final Stage stage;
+    private final ThreadSpan parent;
+    private final long startNanos = System.nanoTime();
+    private long childNanos;
+    private boolean closed;
+
+    private ThreadSpan(ThreadState state, Stage stage) {
+      this.state = state;
+      this.stage = stage;
+      this.parent = state.top;
+    }
+
+    @Override
+    public void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+
+      long elapsed = System.nanoTime() - startNanos;
+      state.trace.record(stage, elapsed - childNanos);
+      if (parent != null) {
+        parent.childNanos += elapsed;
+      }
+      state.top = parent;
+    }
+  }
+}
@@ -28,6 +28,7 @@ import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.JavaVersion;
 import org.apache.commons.lang3.SystemUtils;
@@ -45,6 +46,9 @@ public class IsolatedClassLoader implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(IsolatedClassLoader.class);
 
+  // The number of the class loaders created and not closed yet.
+  private static final AtomicInteger OPEN_CLASS_LOADERS = new AtomicInteger(0);
+
   private final List<URL> execJars;
 
   private final List<String> sharedClasses;
@@ -53,6 +57,8 @@ public class IsolatedClassLoader implements Closeable {
 
   private URLClassLoader classLoader;
 
+  private boolean closed;
+
   private final ClassLoader baseClassLoader;
 
   /**
@@ -145,11 +151,25 @@ public class IsolatedClassLoader implements Closeable {
         classPathContents, Collections.emptyList(), Collections.emptyList());
   }
 
+  /**
+   * Returns the number of the isolated class loaders created and not closed yet, the class loaders
+   * not closed are leaked with all their loaded classes.
+   *
+   * @return The number of the open class loaders.
+   */
+  public static int openClassLoaders() {
+    return OPEN_CLASS_LOADERS.get();
+  }
+
   /** Closes the class loader. */
   @Override
-  public void close() {
+  public synchronized void close() {
     try {
       if (classLoader != null) {
+        if (!closed) {
+          closed = true;
+          OPEN_CLASS_LOADERS.decrementAndGet();
+        }
         classLoader.close();
       }
     } catch (Exception e) {
@@ -214,6 +234,7 @@ public class IsolatedClassLoader implements Closeable {
     ClassLoader parent = Thread.currentThread().getContextClassLoader();
     this.classLoader =
         new CustomURLClassLoader(execJars.toArray(new URL[0]), parent, baseClassLoader);
+    OPEN_CLASS_LOADERS.incrementAndGet();
     return classLoader;
   }
 
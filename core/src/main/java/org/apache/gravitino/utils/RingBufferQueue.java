@@ -0,0 +1,443 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.utils;
+
+import com.google.common.base.Preconditions;
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * A bounded queue backed by a pre-allocated ring buffer, for many producers and one consumer. The
+ * producers and the consumer claim the slots by CAS on their positions, so they never lock, and the
+ * queue allocates nothing per element.
+ *
+ * <p>The {@link WaitStrategy} decides how a thread waits for the queue to become non-empty, or
+ * non-full. The {@link OverflowPolicy} decides what {@link #offer(Object)} does when the queue is
+ * full. The other methods of {@link BlockingQueue} behave as specified, except that the elements
+ * can only be removed from the head: {@link #remove(Object)}, {@link #removeAll(Collection)} and
+ * {@link #retainAll(Collection)} throw {@link UnsupportedOperationException}.
+ *
+ * <p>The capacity is rounded up to a power of two. The iterator is weakly consistent, like the one
+ * of {@link java.util.concurrent.ArrayBlockingQueue}: it returns the elements in the queue when it
+ * is created and not removed since then, except that the element it reads ahead is returned even if
+ * it is removed. It doesn't support {@link Iterator#remove()}.
+ *
+ * @param <E> The type of the elements.
+ */
+public class RingBufferQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+  /** How a thread waits for the queue. */
+  public enum WaitStrategy {
+    /** Parks the thread until it is signalled. Saves the CPU at the cost of the latency. */
+    BLOCKING,
+    /** Spins for a while, then yields the CPU to the other threads on each retry. */
+    YIELDING,
+    /** Spins without yielding the CPU. Has the lowest latency, but occupies a core. */
+    BUSY_SPIN
+  }
+
+  /** What {@link #offer(Object)} does when the queue is full. */
+  public enum OverflowPolicy {
+    /** Rejects the new element. */
+    DROP_NEWEST,
+    /** Drops the oldest element in the queue to make room for the new element. */
+    DROP_OLDEST,
+    /** Waits for the room until the block timeout, then rejects the new element. */
+    BLOCK
+  }
+
+  private static final int SPIN_TRIES = 100;
+
+  private final Object[] elements;
+  private final int mask;
+  // The sequence of each slot: the slot is writable at the position equal to its sequence, and
+  // readable at the position equal to its sequence minus one.
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  // The producers move the head too when they drop the oldest elements.
+  private final AtomicLong head = new AtomicLong();
+
+  private final WaitStrategy waitStrategy;
+  private final OverflowPolicy overflowPolicy;
+  private final long blockTimeoutNanos;
+  private final Consumer<? super E> dropListener;
+  private final Queue<Thread> notEmptyWaiters = new ConcurrentLinkedQueue<>();
+  private final Queue<Thread> notFullWaiters = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Creates a queue that blocks the waiting threads and rejects the new elements when it is full,
+   * like a {@link java.util.concurrent.LinkedBlockingQueue}.
+   *
+   * @param capacity The minimum capacity of the queue.
+   */
+  public RingBufferQueue(int capacity) {
+    this(capacity, WaitStrategy.BLOCKING, OverflowPolicy.DROP_NEWEST, 0, e -> {});
+  }
+
+  /**
+   * Creates a queue.
+   *
+   * @param capacity The minimum capacity of the queue.
+   * @param waitStrategy How a thread waits for the queue.
+   * @param overflowPolicy What {@link #offer(Object)} does when the queue is full.
+   * @param blockTimeoutMs How long {@link #offer(Object)} waits with {@link OverflowPolicy#BLOCK}.
+   * @param dropListener Called with the elements dropped by {@link OverflowPolicy#DROP_OLDEST}.
+   */
+  public RingBufferQueue(
+      int capacity,
+      WaitStrategy waitStrategy,
+      OverflowPolicy overflowPolicy,
+      long blockTimeoutMs,
+      Consumer<? super E> dropListener) {
+    Preconditions.checkArgument(capacity > 0, "The capacity must be positive");
+    Preconditions.checkArgument(capacity <= 1 << 30, "The capacity is too large: %s", capacity);
+    // The ring buffer needs at least two slots to tell a full slot from an empty one.
+    int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+    this.elements = new Object[size];
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+    this.mask = size - 1;
+    this.waitStrategy = waitStrategy;
+    this.overflowPolicy = overflowPolicy;
+    this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+    this.dropListener = dropListener;
+  }
+
+  /**
+   * Inserts the element, applying the overflow policy if the queue is full.
+   *
+   * @param e The element to insert.
+   * @return True if the element is inserted, false if it is rejected.
+   */
+  @Override
+  public boolean offer(E e) {
+    Preconditions.checkNotNull(e, "The element must not be null");
+    if (tryOffer(e)) {
+      return true;
+    }
+
+    switch (overflowPolicy) {
+      case DROP_OLDEST:
+        while (!tryOffer(e)) {
+          E dropped = tryPoll();
+          if (dropped != null) {
+            dropListener.accept(dropped);
+          }
+        }
+        return true;
+
+      case BLOCK:
+        try {
+          return offer(e, blockTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+
+      default:
+        return false;
+    }
+  }
+
+  @Override
+  public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+    Preconditions.checkNotNull(e, "The element must not be null");
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    while (!tryOffer(e)) {
+      if (!await(this::isNotFull, notFullWaiters, deadline, true)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void put(E e) throws InterruptedException {
+    Preconditions.checkNotNull(e, "The element must not be null");
+    while (!tryOffer(e)) {
+      await(this::isNotFull, notFullWaiters, 0, false);
+    }
+  }
+
+  @Override
+  public E poll() {
+    return tryPoll();
+  }
+
+  @Override
+  public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    E e;
+    while ((e = tryPoll()) == null) {
+      if (!await(this::isNotEmpty, notEmptyWaiters, deadline, true)) {
+        return null;
+      }
+    }
+    return e;
+  }
+
+  @Override
+  public E take() throws InterruptedException {
+    E e;
+    while ((e = tryPoll()) == null) {
+      await(this::isNotEmpty, notEmptyWaiters, 0, false);
+    }
+    return e;
+  }
+
+  /**
+   * Retrieves the head of the queue without removing it. The element may have been removed by the
+   * time it is returned.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public E peek() {
+    long pos = head.get();
+    int index = (int) (pos & mask);
+    return sequences.get(index) == pos + 1 ? (E) elements[index] : null;
+  }
+
+  @Override
+  public int drainTo(Collection<? super E> c) {
+    return drainTo(c, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public int drainTo(Collection<? super E> c, int maxElements) {
+    int drained = 0;
+    E e;
+    while (drained < maxElements && (e = tryPoll()) != null) {
+      c.add(e);
+      drained++;
+    }
+    return drained;
+  }
+
+  @Override
+  public int size() {
+    long currentHead = head.get();
+    long size = tail.get() - currentHead;
+    return (int) Math.max(0, Math.min(size, elements.length));
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return !isNotEmpty();
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return elements.length - size();
+  }
+
+  /** @return The capacity of the queue. */
+  public int capacity() {
+    return elements.length;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Itr();
+  }
+
+  /** Only the head of the queue can be removed, the slots behind it aren't removable. */
+  @Override
+  public boolean remove(Object o) {
+    throw new UnsupportedOperationException("RingBufferQueue only removes the head");
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw new UnsupportedOperationException("RingBufferQueue only removes the head");
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw new UnsupportedOperationException("RingBufferQueue only removes the head");
+  }
+
+  private boolean tryOffer(E e) {
+    long pos = tail.get();
+    while (true) {
+      int index = (int) (pos & mask);
+      long diff = sequences.get(index) - pos;
+      if (diff == 0) {
+        if (tail.compareAndSet(pos, pos + 1)) {
+          elements[index] = e;
+          sequences.set(index, pos + 1);
+          signal(notEmptyWaiters);
+          return true;
+        }
+        pos = tail.get();
+      } else if (diff < 0) {
+        return false;
+      } else {
+        pos = tail.get();
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private E tryPoll() {
+    long pos = head.get();
+    while (true) {
+      int index = (int) (pos & mask);
+      long diff = sequences.get(index) - (pos + 1);
+      if (diff == 0) {
+        if (head.compareAndSet(pos, pos + 1)) {
+          E e = (E) elements[index];
+          elements[index] = null;
+          sequences.set(index, pos + elements.length);
+          signal(notFullWaiters);
+          return e;
+        }
+        pos = head.get();
+      } else if (diff < 0) {
+        return null;
+      } else {
+        pos = head.get();
+      }
+    }
+  }
+
+  // Reads the slots from the head to the tail seen at the creation. A slot is read only if its
+  // sequence is the same before and after reading the element, so the element is neither polled
+  // nor replaced meanwhile.
+  private final class Itr implements Iterator<E> {
+    private final long end = tail.get();
+    private long pos = head.get();
+    private E next;
+
+    private Itr() {
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public E next() {
+      E e = next;
+      if (e == null) {
+        throw new NoSuchElementException();
+      }
+      advance();
+      return e;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void advance() {
+      next = null;
+      while (next == null && pos < end) {
+        // Skip the elements polled since the last read.
+        pos = Math.max(pos, head.get());
+        if (pos >= end) {
+          return;
+        }
+        int index = (int) (pos & mask);
+        long sequence = pos + 1;
+        pos++;
+        if (sequences.get(index) == sequence) {
+          E e = (E) elements[index];
+          if (e != null && sequences.get(index) == sequence) {
+            next = e;
+          }
+        }
+      }
+    }
+  }
+
+  private boolean isNotEmpty() {
+    long pos = head.get();
+    return sequences.get((int) (pos & mask)) == pos + 1;
+  }
+
+  private boolean isNotFull() {
+    long pos = tail.get();
+    return sequences.get((int) (pos & mask)) == pos;
+  }
+
+  private void signal(Queue<Thread> waiters) {
+    if (waitStrategy == WaitStrategy.BLOCKING && !waiters.isEmpty()) {
+      for (Thread waiter : waiters) {
+        LockSupport.unpark(waiter);
+      }
+    }
+  }
+
+  /**
+   * Waits until the condition may be true, or the deadline passes.
+   *
+   * @return False if the deadline passes.
+   */
+  private boolean await(
+      BooleanSupplier condition, Queue<Thread> waiters, long deadline, boolean timed)
+      throws InterruptedException {
+    int spins = 0;
+    while (!condition.getAsBoolean()) {
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+      long remainingNanos = timed ? deadline - System.nanoTime() : Long.MAX_VALUE;
+      if (remainingNanos <= 0) {
+        return false;
+      }
+
+      switch (waitStrategy) {
+        case BLOCKING:
+          Thread current = Thread.currentThread();
+          waiters.add(current);
+          try {
+            // Check again after registering, the signal may have been sent before.
+            if (!condition.getAsBoolean()) {
+              LockSupport.parkNanos(this, remainingNanos);
+            }
+          } finally {
+            waiters.remove(current);
+          }
+          break;
+
+        case YIELDING:
+          if (++spins > SPIN_TRIES) {
+            Thread.yield();
+          }
+          break;
+
+        default:
+          break;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.awaitility.Awaitility.await;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncEntityImporter {
+
+  @Test
+  public void testImportByParent() throws Exception {
+    CountDownLatch blocker = new CountDownLatch(1);
+    Map<NameIdentifier, List<String>> imported = new ConcurrentHashMap<>();
+    Map<NameIdentifier, String> importers = new ConcurrentHashMap<>();
+    NameIdentifier blockingTable = NameIdentifier.of("m", "c", "s0", "t0");
+
+    AsyncEntityImporter<String> importer =
+        new AsyncEntityImporter<>(
+            "test",
+            100,
+            (parent, idents) -> {
+              if (idents.containsKey(blockingTable)) {
+                try {
+                  blocker.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                return;
+              }
+              imported
+                  .computeIfAbsent(parent, k -> Lists.newCopyOnWriteArrayList())
+                  .addAll(idents.values());
+              idents.keySet().forEach(i -> importers.put(i, PrincipalUtils.getCurrentUserName()));
+            });
+
+    try {
+      // Block the import thread, so the following entities are imported in one batch
+      Assertions.assertTrue(importer.submit(blockingTable, "v0"));
+
+      NameIdentifier t1 = NameIdentifier.of("m", "c", "s1", "t1");
+      NameIdentifier t2 = NameIdentifier.of("m", "c", "s1", "t2");
+      NameIdentifier t3 = NameIdentifier.of("m", "c", "s2", "t3");
+      PrincipalUtils.doAs(
+          new UserPrincipal("user1"),
+          () -> {
+            Assertions.assertTrue(importer.submit(t1, "v1"));
+            Assertions.assertTrue(importer.submit(t2, "v2"));
+            // The duplicated entity is ignored
+            Assertions.assertTrue(importer.submit(t1, "v1-dup"));
+            Assertions.assertTrue(importer.submit(t3, "v3"));
+            return null;
+          });
+      Assertions.assertEquals(4, importer.pendingSize());
+
+      blocker.countDown();
+      await().atMost(5, TimeUnit.SECONDS).until(() -> importer.pendingSize() == 0);
+
+      NameIdentifier s1 = NameIdentifier.of("m", "c", "s1");
+      NameIdentifier s2 = NameIdentifier.of("m", "c", "s2");
+      // The loaded objects are handed over to the batch importer
+      Assertions.assertEquals(Lists.newArrayList("v1", "v2"), imported.get(s1));
+      Assertions.assertEquals(Lists.newArrayList("v3"), imported.get(s2));
+      Assertions.assertEquals("user1", importers.get(t1));
+      Assertions.assertEquals("user1", importers.get(t3));
+    } finally {
+      importer.close();
+    }
+
+    // The importer doesn't accept entities after it's closed
+    Assertions.assertFalse(importer.submit(NameIdentifier.of("m", "c", "s1", "t4"), "v4"));
+  }
+
+  @Test
+  public void testQueueFull() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch blocker = new CountDownLatch(1);
+    AsyncEntityImporter<String> importer =
+        new AsyncEntityImporter<>(
+            "test",
+            1,
+            (parent, idents) -> {
+              started.countDown();
+              try {
+                blocker.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+
+    try {
+      Assertions.assertTrue(importer.submit(NameIdentifier.of("m", "c", "s", "t1"), "v1"));
+      // Wait until the first entity is taken by the import thread
+      Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+      Assertions.assertTrue(importer.submit(NameIdentifier.of("m", "c", "s", "t2"), "v2"));
+      // The queue is full, the caller should import the entity by itself
+      Assertions.assertFalse(importer.submit(NameIdentifier.of("m", "c", "s", "t3"), "v3"));
+    } finally {
+      blocker.countDown();
+      importer.close();
+    }
+  }
+}
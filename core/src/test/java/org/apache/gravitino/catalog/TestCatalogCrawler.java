@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Entity.EntityType.CATALOG;
+import static org.apache.gravitino.Entity.EntityType.SCHEMA;
+import static org.apache.gravitino.Entity.EntityType.TABLE;
+import static org.apache.gravitino.Entity.EntityType.TOPIC;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.Map;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Catalog;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.expressions.distributions.Distributions;
+import org.apache.gravitino.rel.expressions.sorts.SortOrder;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.indexes.Indexes;
+import org.apache.gravitino.rel.types.Types;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestCatalogCrawler extends TestOperationDispatcher {
+  private static SchemaOperationDispatcher schemaOperationDispatcher;
+  private static TableOperationDispatcher tableOperationDispatcher;
+  private static TopicOperationDispatcher topicOperationDispatcher;
+  private static CatalogCrawler crawler;
+  private static CatalogCrawler noGracePeriodCrawler;
+
+  @BeforeAll
+  public static void initialize() throws IllegalAccessException {
+    schemaOperationDispatcher =
+        new SchemaOperationDispatcher(catalogManager, entityStore, idGenerator);
+    tableOperationDispatcher =
+        new TableOperationDispatcher(catalogManager, entityStore, idGenerator);
+    topicOperationDispatcher =
+        new TopicOperationDispatcher(catalogManager, entityStore, idGenerator);
+    crawler =
+        new CatalogCrawler(
+            new Config(false) {},
+            entityStore,
+            schemaOperationDispatcher,
+            tableOperationDispatcher,
+            topicOperationDispatcher);
+    Config noGracePeriodConfig = new Config(false) {};
+    noGracePeriodConfig.set(Configs.CATALOG_CRAWLER_DELETE_GRACE_PERIOD_MS, 0L);
+    noGracePeriodCrawler =
+        new CatalogCrawler(
+            noGracePeriodConfig,
+            entityStore,
+            schemaOperationDispatcher,
+            tableOperationDispatcher,
+            topicOperationDispatcher);
+
+    Config config = mock(Config.class);
+    doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+  }
+
+  @AfterAll
+  public static void close() {
+    crawler.close();
+    noGracePeriodCrawler.close();
+  }
+
+  @Test
+  public void testCrawlCatalog() throws Exception {
+    NameIdentifier schemaIdent = NameIdentifier.of(metalake, catalog, "crawler_schema");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(schemaIdent, "comment", props);
+
+    // Create a table in the underlying catalog directly
+    NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, "crawler_schema", "table1");
+    CatalogManager.CatalogWrapper wrapper =
+        catalogManager.loadCatalogAndWrap(NameIdentifier.of(metalake, catalog));
+    createTable(wrapper, tableIdent, props);
+    Assertions.assertFalse(entityStore.exists(tableIdent, TABLE));
+
+    CatalogEntity catalogEntity =
+        entityStore.get(NameIdentifier.of(metalake, catalog), CATALOG, CatalogEntity.class);
+    crawler.crawlCatalog(catalogEntity);
+    Assertions.assertTrue(entityStore.exists(schemaIdent, SCHEMA));
+    Assertions.assertTrue(entityStore.exists(tableIdent, TABLE));
+    long tableId = entityStore.get(tableIdent, TABLE, TableEntity.class).id();
+
+    // Drop the table in the underlying catalog directly, the entity is kept in the grace period
+    wrapper.doWithTableOps(t -> t.dropTable(tableIdent));
+    crawler.crawlCatalog(catalogEntity);
+    Assertions.assertTrue(entityStore.exists(tableIdent, TABLE));
+    Assertions.assertEquals(1, vanishedEntities(crawler));
+
+    // The table reappears in the grace period, so its entity is kept
+    createTable(wrapper, tableIdent, props);
+    crawler.crawlCatalog(catalogEntity);
+    Assertions.assertEquals(tableId, entityStore.get(tableIdent, TABLE, TableEntity.class).id());
+    Assertions.assertEquals(0, vanishedEntities(crawler));
+
+    // Drop the table again, the entity is deleted after the grace period
+    wrapper.doWithTableOps(t -> t.dropTable(tableIdent));
+    noGracePeriodCrawler.crawlCatalog(catalogEntity);
+    Assertions.assertFalse(entityStore.exists(tableIdent, TABLE));
+    Assertions.assertTrue(entityStore.exists(schemaIdent, SCHEMA));
+    Assertions.assertEquals(0, vanishedEntities(noGracePeriodCrawler));
+
+    Assertions.assertTrue(
+        crawler.metricsSource().getCounter(MetricNames.CRAWLER_IMPORTED_OBJECTS).getCount() >= 1);
+    Assertions.assertTrue(
+        noGracePeriodCrawler
+                .metricsSource()
+                .getCounter(MetricNames.CRAWLER_DELETED_OBJECTS)
+                .getCount()
+            >= 1);
+  }
+
+  @Test
+  public void testCrawlMessagingCatalog() throws Exception {
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, "crawler_messaging");
+    catalogManager.createCatalog(
+        catalogIdent,
+        Catalog.Type.MESSAGING,
+        "test",
+        "comment",
+        ImmutableMap.of("key1", "value1", "key2", "value2"));
+    NameIdentifier schemaIdent = NameIdentifier.of(metalake, "crawler_messaging", "schema");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(schemaIdent, "comment", props);
+
+    // Create a topic in the underlying catalog directly
+    NameIdentifier topicIdent = NameIdentifier.of(metalake, "crawler_messaging", "schema", "t1");
+    CatalogManager.CatalogWrapper wrapper = catalogManager.loadCatalogAndWrap(catalogIdent);
+    wrapper.doWithTopicOps(t -> t.createTopic(topicIdent, "comment", null, props));
+    Assertions.assertFalse(entityStore.exists(topicIdent, TOPIC));
+
+    CatalogEntity catalogEntity = entityStore.get(catalogIdent, CATALOG, CatalogEntity.class);
+    crawler.crawlCatalog(catalogEntity);
+    Assertions.assertTrue(entityStore.exists(topicIdent, TOPIC));
+
+    wrapper.doWithTopicOps(t -> t.dropTopic(topicIdent));
+    noGracePeriodCrawler.crawlCatalog(catalogEntity);
+    Assertions.assertFalse(entityStore.exists(topicIdent, TOPIC));
+  }
+
+  private static void createTable(
+      CatalogManager.CatalogWrapper wrapper, NameIdentifier ident, Map<String, String> props)
+      throws Exception {
+    wrapper.doWithTableOps(
+        t ->
+            t.createTable(
+                ident,
+                new Column[] {Column.of("col1", Types.StringType.get())},
+                "comment",
+                props,
+                new Transform[0],
+                Distributions.NONE,
+                new SortOrder[0],
+                Indexes.EMPTY_INDEXES));
+  }
+
+  private static long vanishedEntities(CatalogCrawler crawler) {
+    return ((Number)
+            crawler
+                .metricsSource()
+                .getMetricRegistry()
+                .getGauges()
+                .get(MetricNames.CRAWLER_VANISHED_ENTITIES)
+                .getValue())
+        .longValue();
+  }
+
+  @Test
+  public void testCrawlAll() throws IOException {
+    crawler.crawlAll();
+    Assertions.assertEquals(
+        0, crawler.metricsSource().getCounter(MetricNames.CRAWLER_FAILED_CATALOGS).getCount());
+  }
+}
@@ -20,6 +20,8 @@ package org.apache.gravitino.catalog;
 
 import static org.apache.gravitino.StringIdentifier.ID_KEY;
 
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -27,6 +29,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.Config;
@@ -43,6 +46,7 @@ import org.apache.gravitino.meta.SchemaVersion;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.storage.memory.TestMemoryEntityStore;
 import org.apache.gravitino.storage.memory.TestMemoryEntityStore.InMemoryEntityStore;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -465,6 +469,77 @@ public class TestCatalogManager {
     Assertions.assertNull(catalogManager.catalogCache.getIfPresent(ident));
   }
 
+  @Test
+  public void testCatalogMetrics() throws Exception {
+    NameIdentifier ident = NameIdentifier.of("metalake", "test51");
+    Map<String, String> props =
+        ImmutableMap.of("provider", "test", "key1", "value1", "key2", "value2");
+
+    CatalogManagerMetricsSource metricsSource = catalogManager.metricsSource();
+    long loads = metricsSource.loadDuration().getCount();
+    catalogManager.createCatalog(ident, Catalog.Type.RELATIONAL, provider, "comment", props);
+    Assertions.assertTrue(metricsSource.loadDuration().getCount() > loads);
+
+    catalogManager.loadCatalogAndWrap(ident).doWithSchemaOps(ops -> ops.listSchemas(null));
+    Assertions.assertEquals(1, connectorCount(metricsSource, ident));
+
+    // The metrics of the renamed catalog are removed, the new name gets its own metrics.
+    NameIdentifier renamed = NameIdentifier.of("metalake", "test52");
+    catalogManager.alterCatalog(ident, CatalogChange.rename(renamed.name()));
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .until(() -> !hasCatalogMetrics(metricsSource, ident));
+    catalogManager.loadCatalogAndWrap(renamed).doWithSchemaOps(ops -> ops.listSchemas(null));
+    Assertions.assertEquals(1, connectorCount(metricsSource, renamed));
+
+    // The metrics of the evicted catalog are removed.
+    catalogManager.catalogCache.invalidate(renamed);
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .until(() -> !hasCatalogMetrics(metricsSource, renamed));
+    catalogManager.loadCatalogAndWrap(renamed).doWithSchemaOps(ops -> ops.listSchemas(null));
+    Assertions.assertEquals(1, connectorCount(metricsSource, renamed));
+
+    // The metrics of the dropped catalog are removed.
+    catalogManager.dropCatalog(renamed);
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .until(() -> !hasCatalogMetrics(metricsSource, renamed));
+  }
+
+  @Test
+  public void testConnectorTimersHeldByWrappers() {
+    CatalogManagerMetricsSource metricsSource = new CatalogManagerMetricsSource(() -> 0L);
+    NameIdentifier ident = NameIdentifier.of("metalake", "test53");
+    String name = CatalogManagerMetricsSource.connectorDurationName(ident, "table");
+
+    Timer timer = metricsSource.acquireConnectorDuration(ident, "table");
+    // The reloaded wrapper gets the same timer before the former wrapper is closed
+    Assertions.assertSame(timer, metricsSource.acquireConnectorDuration(ident, "table"));
+
+    // Closing the former wrapper doesn't remove the timer held by the reloaded one
+    metricsSource.releaseConnectorDurations(ident, ImmutableList.of("table"));
+    Assertions.assertSame(timer, metricsSource.getMetricRegistry().getTimers().get(name));
+
+    metricsSource.releaseConnectorDurations(ident, ImmutableList.of("table"));
+    Assertions.assertFalse(metricsSource.getMetricRegistry().getNames().contains(name));
+  }
+
+  private static boolean hasCatalogMetrics(
+      CatalogManagerMetricsSource metricsSource, NameIdentifier ident) {
+    return metricsSource.getMetricRegistry().getNames().stream()
+        .anyMatch(name -> name.startsWith(ident + "."));
+  }
+
+  private static long connectorCount(
+      CatalogManagerMetricsSource metricsSource, NameIdentifier ident) {
+    return metricsSource
+        .getMetricRegistry()
+        .getTimers()
+        .get(CatalogManagerMetricsSource.connectorDurationName(ident, "schema"))
+        .getCount();
+  }
+
   @Test
   void testAlterMutableProperties() {
     NameIdentifier ident = NameIdentifier.of("metalake", "test41");
@@ -21,6 +21,7 @@ package org.apache.gravitino.catalog;
 import com.google.common.collect.Maps;
 import java.util.Arrays;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchTableException;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.expressions.literals.Literal;
 import org.apache.gravitino.rel.expressions.literals.Literals;
@@ -147,4 +148,21 @@ public class TestPartitionOperationDispatcher extends TestOperationDispatcher {
         UnsupportedOperationException.class,
         () -> partitionOperationDispatcher.purgePartition(TABLE_IDENT, PARTITION.name()));
   }
+
+  @Test
+  public void testPartitionOpsInvalidatedAfterDropTable() {
+    NameIdentifier tableIdent =
+        NameIdentifierUtil.ofTable(metalake, catalog, SCHEMA, "test_partition_table_drop");
+    Column[] columns = new Column[] {Column.of("col1", Types.StringType.get())};
+    tableOperationDispatcher.createTable(tableIdent, columns, "comment", null);
+
+    // The table handle is cached by the first partition operation
+    Assertions.assertNotNull(partitionOperationDispatcher.listPartitionNames(tableIdent));
+
+    // The cached table handle should be invalidated after the table is dropped
+    Assertions.assertTrue(tableOperationDispatcher.dropTable(tableIdent));
+    Assertions.assertThrows(
+        NoSuchTableException.class,
+        () -> partitionOperationDispatcher.listPartitionNames(tableIdent));
+  }
 }
@@ -25,13 +25,20 @@ import static org.apache.gravitino.Entity.EntityType.SCHEMA;
 import static org.apache.gravitino.Entity.EntityType.TABLE;
 import static org.apache.gravitino.StringIdentifier.ID_KEY;
 import static org.apache.gravitino.TestBasePropertiesMetadata.COMMENT_KEY;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.time.Instant;
@@ -39,6 +46,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.GravitinoEnv;
@@ -46,15 +54,19 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.TestColumn;
 import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.connector.capability.Capability;
+import org.apache.gravitino.connector.capability.CapabilityResult;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.rel.Column;
 import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.TableChange;
 import org.apache.gravitino.rel.expressions.transforms.Transform;
 import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.utils.ThrowableFunction;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -158,6 +170,59 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", table2.auditInfo().creator());
   }
 
+  @Test
+  public void testCreateAndListTablesInfo() throws IOException {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema42");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    Column[] columns =
+        new Column[] {
+          Column.of("col1", Types.StringType.get()), Column.of("col2", Types.StringType.get())
+        };
+    tableOperationDispatcher.createTable(
+        NameIdentifier.of(tableNs, "table1"), columns, "comment", props, new Transform[0]);
+    tableOperationDispatcher.createTable(
+        NameIdentifier.of(tableNs, "table2"), columns, "comment", props, new Transform[0]);
+
+    Table[] tables = tableOperationDispatcher.listTablesInfo(tableNs);
+    Assertions.assertEquals(2, tables.length);
+    for (Table table : tables) {
+      Assertions.assertTrue(table.name().equals("table1") || table.name().equals("table2"));
+      Assertions.assertEquals("comment", table.comment());
+      testProperties(props, table.properties());
+      Assertions.assertArrayEquals(columns, table.columns());
+      // Audit info is gotten from the entity store
+      Assertions.assertEquals(AuthConstants.ANONYMOUS_USER, table.auditInfo().creator());
+      Assertions.assertTrue(((EntityCombinedTable) table).imported());
+    }
+
+    // Test when the table entities are not matched
+    TableEntity unmatchedEntity =
+        TableEntity.builder()
+            .withId(1L)
+            .withName("table1")
+            .withNamespace(tableNs)
+            .withAuditInfo(
+                AuditInfo.builder().withCreator("gravitino").withCreateTime(Instant.now()).build())
+            .build();
+    doReturn(ImmutableList.of(unmatchedEntity)).when(entityStore).list(any(), any(), any());
+    for (Table table : tableOperationDispatcher.listTablesInfo(tableNs)) {
+      Assertions.assertEquals("test", table.auditInfo().creator());
+      Assertions.assertFalse(((EntityCombinedTable) table).imported());
+    }
+
+    // Test when the entity store failed to list the table entities
+    doThrow(new IOException()).when(entityStore).list(any(), any(), any());
+    Table[] tables1 = tableOperationDispatcher.listTablesInfo(tableNs);
+    Assertions.assertEquals(2, tables1.length);
+    for (Table table : tables1) {
+      // Audit info is gotten from the catalog, not from the entity store
+      Assertions.assertEquals("test", table.auditInfo().creator());
+      Assertions.assertFalse(((EntityCombinedTable) table).imported());
+    }
+  }
+
   @Test
   public void testCreateAndLoadTable() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema51");
@@ -227,6 +292,73 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", loadedTable4.auditInfo().creator());
   }
 
+  @Test
+  public void testLoadTableWithAsyncImport() throws Exception {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema52");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table12");
+    Column[] columns = new Column[] {Column.of("col1", Types.StringType.get())};
+    tableOperationDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+
+    // The table operations are spied to count the loads from the catalog.
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, catalog);
+    CatalogManager.CatalogWrapper wrapper = spy(catalogManager.loadCatalogAndWrap(catalogIdent));
+    TableCatalog tableOps = spy(wrapper.<TableCatalog>doWithTableOps(t -> t));
+    doAnswer(
+            invocation ->
+                invocation.<ThrowableFunction<TableCatalog, Object>>getArgument(0).apply(tableOps))
+        .when(wrapper)
+        .doWithTableOps(any());
+    CatalogManager spiedCatalogManager = spy(catalogManager);
+    doReturn(wrapper).when(spiedCatalogManager).loadCatalogAndWrap(catalogIdent);
+
+    TableOperationDispatcher asyncDispatcher =
+        new TableOperationDispatcher(spiedCatalogManager, entityStore, idGenerator, 100);
+    try {
+      reset(entityStore);
+      long tableId = entityStore.get(tableIdent, TABLE, TableEntity.class).id();
+      entityStore.delete(tableIdent, TABLE);
+      asyncDispatcher.loadTable(tableIdent);
+      // The table without any entity is imported before returning, so the entity is available to
+      // the following operations like setting tags or owners.
+      Assertions.assertEquals(tableId, entityStore.get(tableIdent, TABLE, TableEntity.class).id());
+      // The importer reuses the loaded table instead of loading it from the catalog again
+      verify(tableOps, times(1)).loadTable(tableIdent);
+
+      // The entity doesn't match the table, like it's renamed by the external system
+      TableEntity mismatchedEntity =
+          TableEntity.builder()
+              .withId(tableId + 1)
+              .withName("table12")
+              .withNamespace(tableNs)
+              .withAuditInfo(
+                  AuditInfo.builder()
+                      .withCreator("gravitino")
+                      .withCreateTime(Instant.now())
+                      .build())
+              .build();
+      entityStore.put(mismatchedEntity, true);
+      Table loadedTable = asyncDispatcher.loadTable(tableIdent);
+      Assertions.assertFalse(((EntityCombinedTable) loadedTable).imported());
+      Assertions.assertEquals("test", loadedTable.auditInfo().creator());
+
+      // The entity is corrected in background
+      await()
+          .atMost(5, TimeUnit.SECONDS)
+          .untilAsserted(
+              () ->
+                  Assertions.assertEquals(
+                      tableId, entityStore.get(tableIdent, TABLE, TableEntity.class).id()));
+      verify(tableOps, times(2)).loadTable(tableIdent);
+      Table reloadedTable = asyncDispatcher.loadTable(tableIdent);
+      Assertions.assertTrue(((EntityCombinedTable) reloadedTable).imported());
+    } finally {
+      asyncDispatcher.close();
+    }
+  }
+
   @Test
   public void testCreateAndAlterTable() throws IOException {
     Namespace tableNs = Namespace.of(metalake, catalog, "schema61");
@@ -296,6 +428,54 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", alteredTable4.auditInfo().lastModifier());
   }
 
+  @Test
+  public void testCreateAndAlterFullyPopulatedTable() throws Exception {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema62");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    // The catalog returns the fully populated tables on write, the table operations are spied.
+    NameIdentifier catalogIdent = NameIdentifier.of(metalake, catalog);
+    CatalogManager.CatalogWrapper wrapper = spy(catalogManager.loadCatalogAndWrap(catalogIdent));
+    TableCatalog tableOps = spy(wrapper.<TableCatalog>doWithTableOps(t -> t));
+    doAnswer(
+            invocation ->
+                invocation.<ThrowableFunction<TableCatalog, Object>>getArgument(0).apply(tableOps))
+        .when(wrapper)
+        .doWithTableOps(any());
+    doReturn(
+            new Capability() {
+              @Override
+              public CapabilityResult fullyPopulatedOnWrite(Scope scope) {
+                return scope == Scope.TABLE
+                    ? CapabilityResult.SUPPORTED
+                    : Capability.super.fullyPopulatedOnWrite(scope);
+              }
+            })
+        .when(wrapper)
+        .capabilities();
+    CatalogManager spiedCatalogManager = spy(catalogManager);
+    doReturn(wrapper).when(spiedCatalogManager).loadCatalogAndWrap(catalogIdent);
+    TableOperationDispatcher dispatcher =
+        new TableOperationDispatcher(spiedCatalogManager, entityStore, idGenerator);
+
+    NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table22");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder().withName("col1").withType(Types.StringType.get()).build(),
+          TestColumn.builder().withName("col2").withType(Types.StringType.get()).build()
+        };
+    Table table = dispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+    Assertions.assertEquals("table22", table.name());
+    testProperties(props, table.properties());
+
+    Table alteredTable = dispatcher.alterTable(tableIdent, TableChange.setProperty("k3", "v3"));
+    testProperties(ImmutableMap.of("k2", "v2", "k3", "v3"), alteredTable.properties());
+
+    // The created and the altered tables are not loaded again from the catalog.
+    verify(tableOps, never()).loadTable(any());
+  }
+
   @Test
   public void testCreateAndDropTable() throws IOException {
     NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, "schema71", "table31");
@@ -94,4 +94,13 @@ public class TestCapability {
       Assertions.assertTrue(result.unsupportedMessage().contains("is illegal"));
     }
   }
+
+  @Test
+  void testDefaultFullyPopulatedOnWrite() {
+    for (Capability.Scope scope : Capability.Scope.values()) {
+      CapabilityResult result = Capability.DEFAULT.fullyPopulatedOnWrite(scope);
+      Assertions.assertFalse(result.supported());
+      Assertions.assertTrue(result.unsupportedMessage().contains("not fully populated"));
+    }
+  }
 }
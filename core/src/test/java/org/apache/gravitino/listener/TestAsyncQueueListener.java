@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.TestEventListenerManager.DummyEvent;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.utils.RingBufferQueue;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAsyncQueueListener {
+
+  @Test
+  void testPartitionedDispatchKeepsOrderPerObject() {
+    Map<NameIdentifier, List<Event>> received = new ConcurrentHashMap<>();
+    Map<String, String> threads = new ConcurrentHashMap<>();
+    DummyEventListener listener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            received
+                .computeIfAbsent(
+                    event.identifier(), k -> Collections.synchronizedList(new ArrayList<>()))
+                .add(event);
+            threads.put(Thread.currentThread().getName(), "");
+          }
+        };
+    EventListenerMetricsSource metricsSource = new EventListenerMetricsSource();
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(new EventListenerPluginWrapper("test", listener, metricsSource)),
+            "test",
+            10000,
+            3,
+            4,
+            100,
+            0,
+            metricsSource);
+    asyncQueueListener.start();
+
+    List<Event> sent = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      Event event = new DummyEvent("user", NameIdentifier.of("metalake", "table" + (i % 16)));
+      sent.add(event);
+      asyncQueueListener.onPostEvent(event);
+    }
+
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> received.values().stream().mapToInt(List::size).sum() == sent.size());
+    for (Map.Entry<NameIdentifier, List<Event>> entry : received.entrySet()) {
+      List<Event> expected = new ArrayList<>();
+      sent.stream().filter(e -> e.identifier().equals(entry.getKey())).forEach(expected::add);
+      Assertions.assertEquals(expected, entry.getValue());
+    }
+    Assertions.assertTrue(threads.size() > 1);
+    long calls =
+        metricsSource
+            .getMetricRegistry()
+            .getTimers()
+            .get("test." + MetricNames.EVENT_LISTENER_PROCESS_DURATION)
+            .getCount();
+    Assertions.assertTrue(calls > 0 && calls <= sent.size());
+
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testBatchDispatch() {
+    List<List<Event>> batches = Collections.synchronizedList(new ArrayList<>());
+    DummyEventListener listener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvents(List<Event> events) {
+            // The batch stays valid after the call, so it can be kept without copying.
+            batches.add(events);
+          }
+
+          @Override
+          public boolean isInterestedIn(Class<? extends Event> eventClass) {
+            return eventClass == DummyEvent.class;
+          }
+        };
+    EventListenerMetricsSource metricsSource = new EventListenerMetricsSource();
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(new EventListenerPluginWrapper("batch", listener, metricsSource)),
+            "batch",
+            100,
+            3,
+            1,
+            10,
+            200,
+            metricsSource);
+    asyncQueueListener.start();
+
+    List<Event> sent = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      Event event = new DummyEvent("user", NameIdentifier.of("metalake", "table" + i));
+      sent.add(event);
+      asyncQueueListener.onPostEvent(event);
+      // The listener isn't interested in the other events.
+      asyncQueueListener.onPostEvent(new OtherEvent("user", NameIdentifier.of("metalake")));
+    }
+
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> batches.stream().mapToInt(List::size).sum() == sent.size());
+    List<Event> received = new ArrayList<>();
+    batches.forEach(received::addAll);
+    Assertions.assertEquals(sent, received);
+    Assertions.assertTrue(batches.stream().allMatch(batch -> batch.size() <= 10));
+    // The events arrive within the linger time, so they are batched.
+    Assertions.assertTrue(batches.size() < sent.size());
+
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testFailedEventInBatch() {
+    List<Event> received = new ArrayList<>();
+    DummyEventListener listener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            if (event.identifier().name().equals("table1")) {
+              throw new RuntimeException("Mock failure");
+            }
+            received.add(event);
+          }
+        };
+    EventListenerMetricsSource metricsSource = new EventListenerMetricsSource();
+    EventListenerPluginWrapper wrapper =
+        new EventListenerPluginWrapper("failed", listener, metricsSource);
+
+    List<Event> events = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      events.add(new DummyEvent("user", NameIdentifier.of("metalake", "table" + i)));
+    }
+    wrapper.onPostEvents(events);
+
+    // The event after the failed one is still delivered.
+    Assertions.assertEquals(ImmutableList.of(events.get(0), events.get(2)), received);
+    Assertions.assertEquals(
+        1,
+        metricsSource
+            .getMetricRegistry()
+            .getCounters()
+            .get("failed." + MetricNames.EVENT_LISTENER_FAILED_EVENTS)
+            .getCount());
+    Assertions.assertEquals(
+        3,
+        metricsSource
+            .getMetricRegistry()
+            .getTimers()
+            .get("failed." + MetricNames.EVENT_LISTENER_PROCESS_DURATION)
+            .getCount());
+  }
+
+  @Test
+  void testDroppedEventsMetrics() throws InterruptedException {
+    CountDownLatch blocked = new CountDownLatch(1);
+    DummyEventListener listener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            try {
+              blocked.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+        };
+    EventListenerMetricsSource metricsSource = new EventListenerMetricsSource();
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(new EventListenerPluginWrapper("slow", listener, metricsSource)),
+            "slow",
+            2,
+            3,
+            1,
+            1,
+            0,
+            metricsSource);
+    asyncQueueListener.start();
+
+    Event event = new DummyEvent("user", NameIdentifier.of("metalake"));
+    asyncQueueListener.onPostEvent(event);
+    // Wait for the dispatcher to block on the first event.
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> asyncQueueListener.queueDepth() == 0);
+    for (int i = 0; i < 5; i++) {
+      asyncQueueListener.onPostEvent(event);
+    }
+
+    String queueName = "async-queue-listener-slow.";
+    Assertions.assertEquals(
+        2,
+        metricsSource
+            .getMetricRegistry()
+            .getGauges()
+            .get(queueName + MetricNames.EVENT_LISTENER_QUEUE_DEPTH)
+            .getValue());
+    Assertions.assertEquals(
+        3,
+        metricsSource
+            .getMetricRegistry()
+            .getCounters()
+            .get(queueName + MetricNames.EVENT_LISTENER_DROPPED_EVENTS)
+            .getCount());
+
+    blocked.countDown();
+    asyncQueueListener.stop();
+  }
+
+  @Test
+  void testRingBufferDropsOldestEvents() {
+    CountDownLatch blocked = new CountDownLatch(1);
+    List<Event> received = Collections.synchronizedList(new ArrayList<>());
+    DummyEventListener listener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            try {
+              blocked.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            received.add(event);
+          }
+        };
+    EventListenerMetricsSource metricsSource = new EventListenerMetricsSource();
+    AsyncQueueListener asyncQueueListener =
+        new AsyncQueueListener(
+            ImmutableList.of(new EventListenerPluginWrapper("ring", listener, metricsSource)),
+            "ring",
+            2,
+            3,
+            1,
+            1,
+            0,
+            metricsSource,
+            new EventQueueFactory(
+                EventQueueFactory.QueueType.RING_BUFFER,
+                RingBufferQueue.WaitStrategy.BLOCKING,
+                RingBufferQueue.OverflowPolicy.DROP_OLDEST,
+                0));
+    asyncQueueListener.start();
+
+    asyncQueueListener.onPostEvent(new DummyEvent("user", NameIdentifier.of("metalake")));
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> asyncQueueListener.queueDepth() == 0);
+    List<Event> sent = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Event event = new DummyEvent("user", NameIdentifier.of("metalake", "table" + i));
+      sent.add(event);
+      asyncQueueListener.onPostEvent(event);
+    }
+
+    Assertions.assertEquals(
+        3,
+        metricsSource
+            .getMetricRegistry()
+            .getCounters()
+            .get("async-queue-listener-ring." + MetricNames.EVENT_LISTENER_DROPPED_EVENTS)
+            .getCount());
+    blocked.countDown();
+    // The newest events are kept.
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> received.size() == 3);
+    Assertions.assertEquals(sent.subList(3, 5), received.subList(1, 3));
+
+    asyncQueueListener.stop();
+  }
+
+  static class OtherEvent extends Event {
+    OtherEvent(String user, NameIdentifier identifier) {
+      super(user, identifier);
+    }
+  }
+}
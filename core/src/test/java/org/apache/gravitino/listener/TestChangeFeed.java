@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.api.event.AlterTableEvent;
+import org.apache.gravitino.listener.api.event.CreateMetalakeEvent;
+import org.apache.gravitino.listener.api.event.DropTableEvent;
+import org.apache.gravitino.listener.api.event.LoadTableEvent;
+import org.apache.gravitino.listener.api.info.MetalakeInfo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestChangeFeed {
+
+  @Test
+  void testReadChanges() {
+    ChangeFeed feed = new ChangeFeed(100);
+    feed.start();
+    Assertions.assertFalse(feed.isInterestedIn(LoadTableEvent.class));
+    Assertions.assertTrue(feed.isInterestedIn(AlterTableEvent.class));
+
+    feed.onPostEvent(new CreateMetalakeEvent("user", NameIdentifier.of("m1"), (MetalakeInfo) null));
+    feed.onPostEvent(new DropTableEvent("user", NameIdentifier.of("m2", "c", "s", "t"), true));
+    feed.onPostEvent(new DropTableEvent("user", NameIdentifier.of("m1", "c", "s", "t"), true));
+    // The drop of a table not existing isn't a change.
+    feed.onPostEvent(new DropTableEvent("user", NameIdentifier.of("m1", "c", "s", "t"), false));
+
+    ChangeFeed.Page latest = feed.read("m1", null, -1, 10);
+    Assertions.assertEquals(3, latest.latestSequence());
+    Assertions.assertTrue(latest.changes().isEmpty());
+
+    ChangeFeed.Page page = feed.read("m1", feed.epoch(), 0, 10);
+    Assertions.assertFalse(page.reset());
+    Assertions.assertEquals(3, page.latestSequence());
+    Assertions.assertEquals(2, page.changes().size());
+    ChangeFeed.Change create = page.changes().get(0);
+    Assertions.assertEquals(1, create.sequence());
+    Assertions.assertEquals(ChangeFeed.Operation.CREATE, create.operation());
+    Assertions.assertEquals(MetadataObject.Type.METALAKE, create.objectType());
+    ChangeFeed.Change drop = page.changes().get(1);
+    Assertions.assertEquals(3, drop.sequence());
+    Assertions.assertEquals(ChangeFeed.Operation.DROP, drop.operation());
+    Assertions.assertEquals(NameIdentifier.of("m1", "c", "s", "t"), drop.identifier());
+
+    // The limit applies to the changes of the metalake.
+    page = feed.read("m1", null, 0, 1);
+    Assertions.assertEquals(1, page.latestSequence());
+    Assertions.assertEquals(1, page.changes().size());
+  }
+
+  @Test
+  void testReset() {
+    ChangeFeed feed = new ChangeFeed(2);
+    feed.start();
+    for (int i = 0; i < 5; i++) {
+      feed.onPostEvent(
+          new DropTableEvent("user", NameIdentifier.of("m1", "c", "s", "t" + i), true));
+    }
+
+    // The changes 1 to 3 aren't kept.
+    Assertions.assertTrue(feed.read("m1", null, 2, 10).reset());
+    ChangeFeed.Page page = feed.read("m1", null, 3, 10);
+    Assertions.assertFalse(page.reset());
+    Assertions.assertEquals(2, page.changes().size());
+
+    // A sequence of another epoch, or beyond the latest sequence.
+    Assertions.assertTrue(feed.read("m1", "another-epoch", 4, 10).reset());
+    page = feed.read("m1", null, 10, 10);
+    Assertions.assertTrue(page.reset());
+    Assertions.assertEquals(5, page.latestSequence());
+  }
+
+  @Test
+  void testAwaitChange() {
+    ChangeFeed feed = new ChangeFeed(10);
+    AtomicInteger woken = new AtomicInteger();
+    Runnable waiter = woken::incrementAndGet;
+    // Nothing to wait for before the feed starts.
+    Assertions.assertFalse(feed.awaitChange(0, waiter));
+
+    feed.start();
+    Assertions.assertTrue(feed.awaitChange(0, waiter));
+    feed.onPostEvent(new CreateMetalakeEvent("user", NameIdentifier.of("m1"), (MetalakeInfo) null));
+    Assertions.assertEquals(1, woken.get());
+    // The waiter is only run once.
+    feed.onPostEvent(new CreateMetalakeEvent("user", NameIdentifier.of("m2"), (MetalakeInfo) null));
+    Assertions.assertEquals(1, woken.get());
+
+    Assertions.assertFalse(feed.awaitChange(1, waiter));
+    Assertions.assertTrue(feed.awaitChange(2, waiter));
+    feed.removeWaiter(waiter);
+    feed.onPostEvent(new CreateMetalakeEvent("user", NameIdentifier.of("m3"), (MetalakeInfo) null));
+    Assertions.assertEquals(1, woken.get());
+
+    Assertions.assertTrue(feed.awaitChange(3, waiter));
+    feed.stop();
+    Assertions.assertEquals(2, woken.get());
+  }
+}
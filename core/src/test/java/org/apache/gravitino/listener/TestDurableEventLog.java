@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestDurableEventLog {
+
+  @TempDir Path dir;
+
+  @Test
+  void testAppendAndRead() throws IOException {
+    try (DurableEventLog log = new DurableEventLog(dir, 1024, 1 << 20, 60000, "test")) {
+      long first = log.append(bytes("a"), offset -> {});
+      long second = log.append(bytes("bb"), offset -> {});
+      Assertions.assertEquals(0, first);
+      Assertions.assertEquals(9, second);
+      Assertions.assertEquals(19, log.endOffset());
+
+      List<DurableEventLog.Record> records = log.read(0, 10);
+      Assertions.assertEquals(2, records.size());
+      Assertions.assertEquals("a", string(records.get(0)));
+      Assertions.assertEquals(second, records.get(0).nextOffset());
+      Assertions.assertEquals("bb", string(records.get(1)));
+
+      Assertions.assertEquals(1, log.read(0, 1).size());
+      Assertions.assertTrue(log.read(log.endOffset(), 10).isEmpty());
+    }
+  }
+
+  @Test
+  void testRollAndRetention() throws IOException {
+    // Each record takes 108 bytes, so a segment of 256 bytes holds 2 records.
+    byte[] payload = new byte[100];
+    try (DurableEventLog log = new DurableEventLog(dir, 256, 512, 60000, "test")) {
+      for (int i = 0; i < 6; i++) {
+        log.append(payload, offset -> {});
+      }
+      Assertions.assertEquals(3, log.segmentCount());
+      List<DurableEventLog.Record> records = log.read(0, 10);
+      Assertions.assertEquals(6, records.size());
+      Assertions.assertEquals(256, records.get(2).offset());
+
+      // The first segment is consumed entirely, so it is deleted.
+      log.commit(records.get(2).offset());
+      log.flush();
+      Assertions.assertEquals(2, log.segmentCount());
+      // The records deleted are skipped.
+      Assertions.assertEquals(256, log.read(0, 10).get(0).offset());
+
+      // The log exceeds the retention size, so the oldest segment is deleted though not consumed.
+      for (int i = 0; i < 2; i++) {
+        log.append(payload, offset -> {});
+      }
+      log.flush();
+      Assertions.assertEquals(2, log.segmentCount());
+      Assertions.assertEquals(512, log.checkpoint());
+    }
+  }
+
+  @Test
+  void testRecoverAfterReopen() throws IOException {
+    long checkpoint;
+    try (DurableEventLog log = new DurableEventLog(dir, 256, 1 << 20, 60000, "test")) {
+      for (int i = 0; i < 5; i++) {
+        log.append(bytes("event-" + i), offset -> {});
+      }
+      checkpoint = log.read(0, 2).get(1).nextOffset();
+      log.commit(checkpoint);
+    }
+
+    try (DurableEventLog log = new DurableEventLog(dir, 256, 1 << 20, 60000, "test")) {
+      Assertions.assertEquals(checkpoint, log.checkpoint());
+      List<String> events =
+          log.read(log.checkpoint(), 10).stream()
+              .map(TestDurableEventLog::string)
+              .collect(Collectors.toList());
+      Assertions.assertEquals(Arrays.asList("event-2", "event-3", "event-4"), events);
+
+      // The new records are appended after the recovered ones.
+      long offset = log.append(bytes("event-5"), o -> {});
+      Assertions.assertEquals(offset + 15, log.endOffset());
+      Assertions.assertEquals(4, log.read(log.checkpoint(), 10).size());
+    }
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String string(DurableEventLog.Record record) {
+    return new String(record.payload(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.listener;
+
+import com.codahale.metrics.Counter;
+import com.google.common.collect.ImmutableList;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.listener.TestEventListenerManager.DummyEvent;
+import org.apache.gravitino.listener.api.EventListenerPlugin;
+import org.apache.gravitino.listener.api.event.Event;
+import org.apache.gravitino.listener.api.event.ReplayedEvent;
+import org.apache.gravitino.metrics.MetricNames;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TestDurableQueueListener {
+
+  @TempDir Path dir;
+
+  private EventListenerMetricsSource metricsSource;
+
+  @Test
+  void testDispatchOriginalEvents() {
+    List<Event> received = Collections.synchronizedList(new ArrayList<>());
+    DummyEventListener listener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            received.add(event);
+          }
+        };
+    DurableQueueListener durableQueueListener = createListener(listener);
+    durableQueueListener.start();
+
+    List<Event> sent = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      Event event = new DummyEvent("user", NameIdentifier.of("metalake", "table" + i));
+      sent.add(event);
+      durableQueueListener.onPostEvent(event);
+    }
+
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> received.size() == sent.size());
+    Assertions.assertEquals(sent, received);
+    durableQueueListener.stop();
+  }
+
+  @Test
+  void testResumeAfterRestart() throws InterruptedException {
+    CountDownLatch blocked = new CountDownLatch(1);
+    DummyEventListener blockedListener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            try {
+              blocked.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+        };
+    DurableQueueListener durableQueueListener = createListener(blockedListener);
+    durableQueueListener.start();
+    for (int i = 0; i < 5; i++) {
+      durableQueueListener.onPostEvent(
+          new DummyEvent("user", NameIdentifier.of("metalake", "table" + i)));
+    }
+    // The dispatcher is interrupted before it commits the events.
+    durableQueueListener.stop();
+
+    List<Event> received = Collections.synchronizedList(new ArrayList<>());
+    DummyEventListener listener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            received.add(event);
+          }
+        };
+    durableQueueListener = createListener(listener);
+    durableQueueListener.start();
+
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> received.size() == 5);
+    for (int i = 0; i < 5; i++) {
+      ReplayedEvent event = (ReplayedEvent) received.get(i);
+      Assertions.assertEquals(DummyEvent.class.getName(), event.eventType());
+      Assertions.assertEquals("user", event.user());
+      Assertions.assertEquals(NameIdentifier.of("metalake", "table" + i), event.identifier());
+      Assertions.assertNull(event.failure());
+    }
+    durableQueueListener.stop();
+  }
+
+  @Test
+  void testReplayToFilteringListener() {
+    CountDownLatch blocked = new CountDownLatch(1);
+    DummyEventListener blockedListener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            try {
+              blocked.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+        };
+    DurableQueueListener durableQueueListener = createListener(blockedListener);
+    durableQueueListener.start();
+    durableQueueListener.onPostEvent(new DummyEvent("user", NameIdentifier.of("metalake", "t1")));
+    durableQueueListener.stop();
+
+    // The listener is only interested in DummyEvent, but still gets its replays.
+    List<Event> received = Collections.synchronizedList(new ArrayList<>());
+    DummyEventListener filteringListener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            received.add(event);
+          }
+
+          @Override
+          public boolean isInterestedIn(Class<? extends Event> eventClass) {
+            return eventClass == DummyEvent.class;
+          }
+        };
+    durableQueueListener = createListener(filteringListener);
+    durableQueueListener.start();
+
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> received.size() == 1);
+    Assertions.assertEquals(
+        DummyEvent.class.getName(), ((ReplayedEvent) received.get(0)).eventType());
+    durableQueueListener.stop();
+  }
+
+  @Test
+  void testPendingEventsRemovedByRetention() {
+    CountDownLatch blocked = new CountDownLatch(1);
+    List<Event> received = Collections.synchronizedList(new ArrayList<>());
+    DummyEventListener listener =
+        new DummyEventListener() {
+          @Override
+          public void onPostEvent(Event event) {
+            try {
+              blocked.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            received.add(event);
+          }
+        };
+    DurableQueueListener durableQueueListener = createListener(listener, 1000, 2048);
+    durableQueueListener.start();
+
+    // The log exceeds the retention size while the dispatcher is blocked.
+    for (int i = 0; i < 200; i++) {
+      durableQueueListener.onPostEvent(
+          new DummyEvent("user", NameIdentifier.of("metalake", "table" + i)));
+    }
+    Assertions.assertTrue(durableQueueListener.pendingEventCount() > 100);
+    // The flusher applies the retention asynchronously, wait for it before unblocking.
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> durableQueueListener.eventLogStartOffset() > 0);
+    blocked.countDown();
+
+    Awaitility.await()
+        .atMost(20, TimeUnit.SECONDS)
+        .until(() -> durableQueueListener.pendingEventCount() == 0);
+    Assertions.assertTrue(received.size() < 200);
+
+    // The original events are kept again.
+    received.clear();
+    Event event = new DummyEvent("user", NameIdentifier.of("metalake", "table"));
+    durableQueueListener.onPostEvent(event);
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> received.contains(event));
+    Assertions.assertEquals(0, durableQueueListener.pendingEventCount());
+    durableQueueListener.stop();
+  }
+
+  @Test
+  void testWaitForCapacity() throws InterruptedException {
+    CountDownLatch blocked = new CountDownLatch(1);
+    List<Event> received = Collections.synchronizedList(new ArrayList<>());
+    DummyEventListener listener = createBlockedListener(blocked, received);
+    DurableQueueListener durableQueueListener = createListener(listener, 1, 1 << 20, 20000);
+    durableQueueListener.start();
+
+    // The dispatcher is blocked by the first event, and the second one fills the queue.
+    durableQueueListener.onPostEvent(new DummyEvent("user", NameIdentifier.of("metalake", "t1")));
+    durableQueueListener.onPostEvent(new DummyEvent("user", NameIdentifier.of("metalake", "t2")));
+    Thread producer =
+        new Thread(
+            () ->
+                durableQueueListener.onPostEvent(
+                    new DummyEvent("user", NameIdentifier.of("metalake", "t3"))));
+    producer.start();
+    producer.join(500);
+    Assertions.assertTrue(producer.isAlive());
+
+    blocked.countDown();
+    producer.join(20000);
+    Assertions.assertFalse(producer.isAlive());
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> received.size() == 3);
+    Assertions.assertTrue(received.stream().allMatch(e -> e instanceof DummyEvent));
+    Assertions.assertEquals(0, degradedEvents().getCount());
+    durableQueueListener.stop();
+  }
+
+  @Test
+  void testDegradedEventsCounted() {
+    CountDownLatch blocked = new CountDownLatch(1);
+    List<Event> received = Collections.synchronizedList(new ArrayList<>());
+    DummyEventListener listener = createBlockedListener(blocked, received);
+    DurableQueueListener durableQueueListener = createListener(listener, 1, 1 << 20, 0);
+    durableQueueListener.start();
+
+    for (int i = 0; i < 3; i++) {
+      durableQueueListener.onPostEvent(
+          new DummyEvent("user", NameIdentifier.of("metalake", "table" + i)));
+    }
+    long degraded = degradedEvents().getCount();
+    Assertions.assertTrue(degraded >= 1);
+    blocked.countDown();
+
+    Awaitility.await().atMost(20, TimeUnit.SECONDS).until(() -> received.size() == 3);
+    Assertions.assertEquals(
+        degraded, received.stream().filter(e -> e instanceof ReplayedEvent).count());
+    durableQueueListener.stop();
+  }
+
+  private DummyEventListener createBlockedListener(CountDownLatch blocked, List<Event> received) {
+    return new DummyEventListener() {
+      @Override
+      public void onPostEvent(Event event) {
+        try {
+          blocked.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        received.add(event);
+      }
+    };
+  }
+
+  private Counter degradedEvents() {
+    return metricsSource.getCounter(
+        "durable-queue-listener-durable." + MetricNames.EVENT_LISTENER_DEGRADED_EVENTS);
+  }
+
+  private DurableQueueListener createListener(EventListenerPlugin listener) {
+    return createListener(listener, 100, 1 << 20);
+  }
+
+  private DurableQueueListener createListener(
+      EventListenerPlugin listener, int queueCapacity, long retentionBytes) {
+    return createListener(listener, queueCapacity, retentionBytes, 0);
+  }
+
+  private DurableQueueListener createListener(
+      EventListenerPlugin listener, int queueCapacity, long retentionBytes, long blockTimeoutMs) {
+    metricsSource = new EventListenerMetricsSource();
+    return new DurableQueueListener(
+        ImmutableList.of(new EventListenerPluginWrapper("durable", listener, metricsSource)),
+        "durable",
+        dir,
+        queueCapacity,
+        1,
+        10,
+        1024,
+        retentionBytes,
+        10,
+        blockTimeoutMs,
+        metricsSource);
+  }
+}
@@ -150,6 +150,24 @@ public class TestEventListenerManager {
     eventListenerManager.stop();
   }
 
+  @Test
+  void testInMemoryQueueSettingsRejectedWithDurableQueue() {
+    Map<String, String> properties = createIsolatedAsyncEventListenerConfig("async1", "async2");
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_DURABLE_QUEUE_ENABLED, "true");
+    properties.put(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS, "4");
+    IllegalArgumentException e =
+        Assertions.assertThrows(
+            IllegalArgumentException.class, () -> new EventListenerManager().init(properties));
+    Assertions.assertTrue(e.getMessage().contains("gravitino.eventListener.dispatcherThreads"));
+
+    properties.remove(EventListenerManager.GRAVITINO_EVENT_LISTENER_DISPATCHER_THREADS);
+    properties.put("async1." + EventListenerManager.GRAVITINO_EVENT_LISTENER_QUEUE_TYPE, "linked");
+    e =
+        Assertions.assertThrows(
+            IllegalArgumentException.class, () -> new EventListenerManager().init(properties));
+    Assertions.assertTrue(e.getMessage().contains("gravitino.eventListener.async1.queueType"));
+  }
+
   private Map<String, String> createIsolatedAsyncEventListenerConfig(String async1, String async2) {
     Map<String, String> config = new HashMap<>();
 
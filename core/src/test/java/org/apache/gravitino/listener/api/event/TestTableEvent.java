@@ -21,6 +21,9 @@ package org.apache.gravitino.listener.api.event;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
@@ -116,6 +119,40 @@ public class TestTableEvent {
     Assertions.assertEquals(change, ((AlterTableEvent) event).tableChanges()[0]);
   }
 
+  @Test
+  void testUninterestedEventsNotBuilt() {
+    DummyEventListener alterListener =
+        new DummyEventListener() {
+          @Override
+          public boolean isInterestedIn(Class<? extends Event> eventClass) {
+            return eventClass == AlterTableEvent.class;
+          }
+        };
+    EventBus eventBus = new EventBus(Arrays.asList(alterListener));
+    Assertions.assertFalse(eventBus.isInterestedIn(LoadTableEvent.class));
+    Assertions.assertTrue(eventBus.isInterestedIn(AlterTableEvent.class));
+
+    Table lazyTable = mockTable();
+    TableDispatcher tableDispatcher = mock(TableDispatcher.class);
+    when(tableDispatcher.loadTable(any(NameIdentifier.class))).thenReturn(lazyTable);
+    when(tableDispatcher.alterTable(any(NameIdentifier.class), any(TableChange.class)))
+        .thenReturn(lazyTable);
+    TableEventDispatcher interestedDispatcher = new TableEventDispatcher(eventBus, tableDispatcher);
+
+    NameIdentifier identifier = NameIdentifier.of("metalake", "catalog", lazyTable.name());
+    interestedDispatcher.loadTable(identifier);
+    Assertions.assertTrue(alterListener.getEvents().isEmpty());
+
+    // The table info isn't built until the listener reads it.
+    interestedDispatcher.alterTable(identifier, TableChange.setProperty("a", "b"));
+    verify(lazyTable, never()).columns();
+    Event event = alterListener.popEvent();
+    TableInfo tableInfo = ((AlterTableEvent) event).updatedTableInfo();
+    Assertions.assertSame(tableInfo, ((AlterTableEvent) event).updatedTableInfo());
+    verify(lazyTable, times(1)).columns();
+    checkTableInfo(tableInfo, lazyTable);
+  }
+
   @Test
   void testDropTableEvent() {
     NameIdentifier identifier = NameIdentifier.of("metalake", "catalog", table.name());
@@ -24,8 +24,14 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 
+import com.codahale.metrics.Snapshot;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.metrics.MetricNames;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -78,6 +84,35 @@ class TestTreeLock {
         });
   }
 
+  @Test
+  void testLockWaitMetrics() throws Exception {
+    TreeLockMetricsSource metricsSource = lockManager.metricsSource();
+    String readWait = "read." + MetricNames.TREE_LOCK_WAIT_DURATION;
+    String writeWait = "write." + MetricNames.TREE_LOCK_WAIT_DURATION;
+    long reads = metricsSource.getTimer(readWait).getCount();
+    long writes = metricsSource.getTimer(writeWait).getCount();
+
+    NameIdentifier identifier = TestLockManager.randomNameIdentifier();
+    TreeLock holder = lockManager.createTreeLock(identifier);
+    holder.lock(LockType.WRITE);
+    CompletableFuture<Void> waiter =
+        CompletableFuture.runAsync(
+            () -> {
+              TreeLock treeLock = lockManager.createTreeLock(identifier);
+              treeLock.lock(LockType.READ);
+              treeLock.unlock();
+            });
+    Thread.sleep(200);
+    holder.unlock();
+    waiter.get(10, TimeUnit.SECONDS);
+
+    // The read lock waits for the write lock to be released.
+    Assertions.assertEquals(writes + 1, metricsSource.getTimer(writeWait).getCount());
+    Assertions.assertEquals(reads + 1, metricsSource.getTimer(readWait).getCount());
+    Snapshot snapshot = metricsSource.getTimer(readWait).getSnapshot();
+    Assertions.assertTrue(snapshot.getMax() >= TimeUnit.MILLISECONDS.toNanos(150));
+  }
+
   @Test
   void testLockFailureAndUnlock() {
     TreeLockNode mockNode1 = Mockito.mock(TreeLockNode.class);
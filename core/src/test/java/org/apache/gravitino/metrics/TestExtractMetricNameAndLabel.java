@@ -79,5 +79,37 @@ public class TestExtractMetricNameAndLabel {
             + "_"
             + Collector.sanitizeMetricName(MetricNames.HTTP_PROCESS_DURATION),
         ImmutableMap.of("operation", "update-table"));
+
+    checkResult(
+        MetricsSource.ENTITY_STORE_METRIC_NAME
+            + ".table.get."
+            + MetricNames.ENTITY_STORE_OPERATION_DURATION,
+        Collector.sanitizeMetricName(MetricsSource.ENTITY_STORE_METRIC_NAME)
+            + "_"
+            + MetricNames.ENTITY_STORE_OPERATION_DURATION,
+        ImmutableMap.of("entity_type", "table", "operation", "get"));
+
+    checkResult(
+        MetricsSource.CATALOG_MANAGER_METRIC_NAME
+            + ".metalake.catalog.table."
+            + MetricNames.CONNECTOR_OPERATION_DURATION,
+        Collector.sanitizeMetricName(
+            MetricsSource.CATALOG_MANAGER_METRIC_NAME
+                + "_"
+                + MetricNames.CONNECTOR_OPERATION_DURATION),
+        ImmutableMap.of("metalake", "metalake", "catalog", "catalog", "kind", "table"));
+
+    // The metrics of the catalog manager itself have no labels
+    checkResult(
+        MetricsSource.CATALOG_MANAGER_METRIC_NAME + "." + MetricNames.CATALOG_LOAD_DURATION,
+        Collector.sanitizeMetricName(
+            MetricsSource.CATALOG_MANAGER_METRIC_NAME + "_" + MetricNames.CATALOG_LOAD_DURATION),
+        ImmutableMap.of());
+
+    checkResult(
+        MetricsSource.TREE_LOCK_METRIC_NAME + ".read." + MetricNames.TREE_LOCK_WAIT_DURATION,
+        Collector.sanitizeMetricName(
+            MetricsSource.TREE_LOCK_METRIC_NAME + "_" + MetricNames.TREE_LOCK_WAIT_DURATION),
+        ImmutableMap.of("lock_type", "read"));
   }
 }
@@ -19,6 +19,13 @@
 
 package org.apache.gravitino.metrics;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.MetricFilter;
+import io.prometheus.client.Collector;
+import io.prometheus.client.dropwizard.DropwizardExports;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.apache.gravitino.metrics.source.TestMetricsSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -64,6 +71,42 @@ public class TestMetricsSystem {
             .containsKey(metricsSource.getMetricsSourceName() + "a.b"));
   }
 
+  @Test
+  void testMetricFilter() {
+    MetricFilter filter =
+        MetricNameFilter.of(
+            Arrays.asList("catalog-manager.metalake.hot.*"),
+            Arrays.asList("catalog-manager.*.connector-duration", "tree-lock.nodes"));
+    Counter counter = new Counter();
+    Assertions.assertTrue(filter.matches("catalog-manager.cache-size", counter));
+    Assertions.assertFalse(
+        filter.matches("catalog-manager.metalake.cold.table.connector-duration", counter));
+    Assertions.assertTrue(
+        filter.matches("catalog-manager.metalake.hot.table.connector-duration", counter));
+    Assertions.assertFalse(filter.matches("tree-lock.nodes", counter));
+    Assertions.assertTrue(filter.matches("tree-lock.nodes1", counter));
+
+    Assertions.assertSame(
+        MetricFilter.ALL, MetricNameFilter.of(Collections.emptyList(), Collections.emptyList()));
+  }
+
+  @Test
+  void testCachedCollector() {
+    TestMetricsSource metricsSource = new TestMetricsSource();
+    metricsSystem.register(metricsSource);
+    metricsSource.incCounter("cached");
+    DropwizardExports exports = new DropwizardExports(metricsSystem.getMetricRegistry());
+
+    CachedCollector collector = new CachedCollector(exports, Long.MAX_VALUE / 2);
+    List<Collector.MetricFamilySamples> samples = collector.collect();
+    metricsSource.incCounter("cached");
+    Assertions.assertSame(samples, collector.collect());
+
+    CachedCollector expiredCollector = new CachedCollector(exports, 0);
+    Assertions.assertNotSame(expiredCollector.collect(), expiredCollector.collect());
+    metricsSystem.unregister(metricsSource);
+  }
+
   private long getCounterValue(String metricsSourceName, String name) {
     return metricsSystem.getMetricRegistry().counter(metricsSourceName + "." + name).getCount();
   }
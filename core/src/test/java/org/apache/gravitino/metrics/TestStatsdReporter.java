@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricFilter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestStatsdReporter {
+
+  private DatagramChannel server;
+  private MetricRegistry registry;
+  private StatsdReporter reporter;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = DatagramChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+    server.socket().setSoTimeout(5000);
+    registry = new MetricRegistry();
+    reporter =
+        new StatsdReporter(
+            registry,
+            MetricFilter.ALL,
+            "127.0.0.1",
+            ((InetSocketAddress) server.getLocalAddress()).getPort(),
+            "gravitino");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    reporter.close();
+    server.close();
+  }
+
+  @Test
+  void testReport() throws IOException {
+    registry.counter("a.counter").inc(3);
+    registry.register("a.gauge", (Gauge<Integer>) () -> 12);
+    registry.timer("a timer").update(5, TimeUnit.MILLISECONDS);
+
+    reporter.report();
+    List<String> lines = receive();
+    Assertions.assertTrue(lines.contains("gravitino.a.counter:3|c"));
+    Assertions.assertTrue(lines.contains("gravitino.a.gauge:12|g"));
+    Assertions.assertTrue(lines.contains("gravitino.a_timer.count:1|g"));
+    Assertions.assertTrue(lines.contains("gravitino.a_timer.max:5|g"));
+
+    // The counters are sent as the increments.
+    registry.counter("a.counter").inc(2);
+    reporter.report();
+    lines = receive();
+    Assertions.assertTrue(lines.contains("gravitino.a.counter:2|c"));
+  }
+
+  @Test
+  void testReportFailure() throws IOException {
+    registry.counter("a.counter").inc(3);
+    registry.register("a.gauge", (Gauge<Integer>) () -> 12);
+    registry.register(
+        "a.timer",
+        new Timer() {
+          @Override
+          public Snapshot getSnapshot() {
+            throw new IllegalStateException("Failed to get the snapshot");
+          }
+        });
+
+    // The failing timer is skipped, the other metrics are still reported.
+    reporter.report();
+    List<String> lines = receive();
+    Assertions.assertTrue(lines.contains("gravitino.a.counter:3|c"));
+    Assertions.assertTrue(lines.contains("gravitino.a.gauge:12|g"));
+    Assertions.assertTrue(lines.stream().noneMatch(line -> line.startsWith("gravitino.a.timer")));
+
+    registry.counter("a.counter").inc(2);
+    reporter.report();
+    Assertions.assertTrue(receive().contains("gravitino.a.counter:2|c"));
+  }
+
+  @Test
+  void testReportFailureInPackets() throws IOException {
+    reporter.close();
+    AtomicInteger packets = new AtomicInteger();
+    reporter =
+        new StatsdReporter(
+            registry,
+            MetricFilter.ALL,
+            "127.0.0.1",
+            ((InetSocketAddress) server.getLocalAddress()).getPort(),
+            "gravitino") {
+          @Override
+          void sendPacket(ByteBuffer packet) throws IOException {
+            // The second datagram of the first report fails.
+            if (packets.incrementAndGet() == 2) {
+              throw new IOException("Failed to send the packet");
+            }
+            super.sendPacket(packet);
+          }
+        };
+    for (int i = 0; i < 200; i++) {
+      registry.counter("counter-" + i).inc();
+    }
+
+    // The first datagram is sent before the report fails.
+    reporter.report();
+    List<String> lines = new ArrayList<>(receive());
+    Assertions.assertTrue(lines.size() < 200);
+
+    // Only the increments not sent are sent in the next report.
+    reporter.report();
+    while (lines.size() < 200) {
+      lines.addAll(receive());
+    }
+    Assertions.assertEquals(200, lines.size());
+    Assertions.assertEquals(200, new HashSet<>(lines).size());
+    Assertions.assertTrue(lines.stream().allMatch(line -> line.endsWith(":1|c")));
+
+    server.socket().setSoTimeout(200);
+    Assertions.assertThrows(
+        SocketTimeoutException.class,
+        () -> server.socket().receive(new DatagramPacket(new byte[65536], 65536)));
+  }
+
+  @Test
+  void testReportInPackets() throws IOException {
+    for (int i = 0; i < 200; i++) {
+      registry.counter("counter-" + i).inc();
+    }
+    reporter.report();
+
+    List<String> lines = new ArrayList<>();
+    int packets = 0;
+    while (lines.size() < 200) {
+      lines.addAll(receive());
+      packets++;
+    }
+    Assertions.assertEquals(200, lines.size());
+    Assertions.assertTrue(packets > 1);
+  }
+
+  private List<String> receive() throws IOException {
+    DatagramPacket packet = new DatagramPacket(new byte[65536], 65536);
+    try {
+      server.socket().receive(packet);
+    } catch (SocketTimeoutException e) {
+      Assertions.fail("No metrics received");
+    }
+    Assertions.assertTrue(packet.getLength() <= StatsdReporter.MAX_PACKET_BYTES);
+    String content = new String(packet.getData(), 0, packet.getLength(), StandardCharsets.UTF_8);
+    return Arrays.asList(content.split("\n"));
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.util.List;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.metrics.MetricNames;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityStoreMetricsSource {
+
+  @Test
+  public void testMeasure() throws IOException {
+    EntityStoreMetricsSource metricsSource = new EntityStoreMetricsSource();
+
+    List<String> rows =
+        metricsSource.measure("list", Entity.EntityType.TABLE, () -> ImmutableList.of("t1", "t2"));
+    Assertions.assertEquals(2, rows.size());
+    Assertions.assertEquals(
+        1,
+        metricsSource
+            .getTimer(metricName("table.list", MetricNames.ENTITY_STORE_OPERATION_DURATION))
+            .getCount());
+    Assertions.assertEquals(
+        2,
+        metricsSource
+            .getHistogram(metricName("table.list", MetricNames.ENTITY_STORE_OPERATION_ROWS))
+            .getSnapshot()
+            .getMax());
+
+    // The entities not found or already existing are not errors.
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () ->
+            metricsSource.measure(
+                "get",
+                Entity.EntityType.TABLE,
+                () -> {
+                  throw new NoSuchEntityException("Table %s does not exist", "t3");
+                }));
+    Assertions.assertThrows(
+        EntityAlreadyExistsException.class,
+        () ->
+            metricsSource.measure(
+                "put",
+                Entity.EntityType.TABLE,
+                () -> {
+                  throw new EntityAlreadyExistsException("Table %s already exists", "t1");
+                }));
+    Assertions.assertEquals(0, errors(metricsSource, "table.get"));
+    Assertions.assertEquals(0, errors(metricsSource, "table.put"));
+    Assertions.assertEquals(
+        1,
+        metricsSource
+            .getTimer(metricName("table.get", MetricNames.ENTITY_STORE_OPERATION_DURATION))
+            .getCount());
+
+    Assertions.assertThrows(
+        IOException.class,
+        () ->
+            metricsSource.measure(
+                "get",
+                Entity.EntityType.TABLE,
+                () -> {
+                  throw new IOException("Failed to get table t4");
+                }));
+    Assertions.assertEquals(1, errors(metricsSource, "table.get"));
+    Assertions.assertEquals(
+        2,
+        metricsSource
+            .getTimer(metricName("table.get", MetricNames.ENTITY_STORE_OPERATION_DURATION))
+            .getCount());
+  }
+
+  private static long errors(EntityStoreMetricsSource metricsSource, String prefix) {
+    return metricsSource
+        .getCounter(metricName(prefix, MetricNames.ENTITY_STORE_OPERATION_ERRORS))
+        .getCount();
+  }
+
+  private static String metricName(String prefix, String name) {
+    return prefix + "." + name;
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.po.EntityChangePO;
+import org.apache.gravitino.storage.relational.service.EntityChangeLogService;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityChangePoller extends TestJDBCBackend {
+
+  private final AuditInfo auditInfo =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @Test
+  public void testEntityChangesLogged() throws IOException {
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+    CatalogEntity catalog =
+        createCatalog(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofCatalog("metalake"),
+            "catalog",
+            auditInfo);
+    backend.insert(catalog, false);
+    backend.update(catalog.nameIdentifier(), Entity.EntityType.CATALOG, e -> e);
+    backend.delete(catalog.nameIdentifier(), Entity.EntityType.CATALOG, false);
+
+    List<EntityChangePO> changes = EntityChangeLogService.getInstance().listEntityChanges(0, 10);
+    Assertions.assertEquals(4, changes.size());
+    Assertions.assertEquals("METALAKE", changes.get(0).getEntityType());
+    Assertions.assertEquals("metalake", changes.get(0).getFullName());
+    for (int i = 1; i < 4; i++) {
+      Assertions.assertEquals("metalake", changes.get(i).getMetalakeName());
+      Assertions.assertEquals("CATALOG", changes.get(i).getEntityType());
+      Assertions.assertEquals("metalake.catalog", changes.get(i).getFullName());
+    }
+    Assertions.assertEquals("INSERT", changes.get(1).getOperateType());
+    Assertions.assertEquals("UPDATE", changes.get(2).getOperateType());
+    Assertions.assertEquals("DELETE", changes.get(3).getOperateType());
+
+    // A failed mutation doesn't log the change.
+    Assertions.assertThrows(
+        EntityAlreadyExistsException.class, () -> backend.insert(metalake, false));
+    Assertions.assertEquals(
+        changes.get(3).getId(), EntityChangeLogService.getInstance().getMaxEntityChangeId());
+
+    // The garbage collector trims the changes.
+    Assertions.assertEquals(
+        0, backend.deleteEntityChangesByLegacyTimeline(changes.get(0).getCreatedAt()));
+    Assertions.assertEquals(
+        4, backend.deleteEntityChangesByLegacyTimeline(System.currentTimeMillis() + 1));
+    Assertions.assertTrue(EntityChangeLogService.getInstance().listEntityChanges(0, 10).isEmpty());
+  }
+
+  @Test
+  public void testPollEntityChanges() throws IOException {
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+
+    EntityChangePoller poller = new EntityChangePoller(Long.MAX_VALUE);
+    List<NameIdentifier> changed = new ArrayList<>();
+    poller.addListener(
+        (ident, type) -> {
+          Assertions.assertEquals(Entity.EntityType.CATALOG, type);
+          changed.add(ident);
+        });
+    try {
+      // The changes before the start are skipped.
+      poller.start();
+      poller.poll();
+      Assertions.assertTrue(changed.isEmpty());
+
+      CatalogEntity catalog =
+          createCatalog(
+              RandomIdGenerator.INSTANCE.nextId(),
+              NamespaceUtil.ofCatalog("metalake"),
+              "catalog",
+              auditInfo);
+      backend.insert(catalog, false);
+      backend.update(catalog.nameIdentifier(), Entity.EntityType.CATALOG, e -> e);
+      poller.poll();
+      Assertions.assertEquals(2, changed.size());
+      Assertions.assertEquals(NameIdentifier.of("metalake", "catalog"), changed.get(0));
+
+      // The changes are notified once.
+      poller.poll();
+      Assertions.assertEquals(2, changed.size());
+    } finally {
+      poller.close();
+    }
+  }
+}
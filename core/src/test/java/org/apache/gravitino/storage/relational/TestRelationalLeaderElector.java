@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_CHANGE_LOG_RETENTION_MS;
+import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
+
+import java.io.IOException;
+import java.time.Instant;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.storage.LeaderElector;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.po.LeaderLeasePO;
+import org.apache.gravitino.storage.relational.service.EntityChangeLogService;
+import org.apache.gravitino.storage.relational.service.LeaderLeaseService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestRelationalLeaderElector extends TestJDBCBackend {
+
+  @Test
+  public void testElectLeader() {
+    RelationalLeaderElector elector1 = new RelationalLeaderElector("server1", 60 * 1000L);
+    RelationalLeaderElector elector2 = new RelationalLeaderElector("server2", 60 * 1000L);
+
+    elector1.elect();
+    elector2.elect();
+    Assertions.assertTrue(elector1.isLeader());
+    Assertions.assertEquals(1L, elector1.fencingToken());
+    Assertions.assertTrue(elector1.validateFencingToken(1L));
+    Assertions.assertFalse(elector2.isLeader());
+    Assertions.assertEquals(LeaderElector.NOT_LEADER, elector2.fencingToken());
+    Assertions.assertFalse(elector2.validateFencingToken(1L));
+
+    // The leader renews the lease with the same fencing token.
+    elector1.elect();
+    elector2.elect();
+    Assertions.assertEquals(1L, elector1.fencingToken());
+    Assertions.assertFalse(elector2.isLeader());
+
+    // The leader releases the lease when it's closed, the other server takes over at once.
+    elector1.close();
+    Assertions.assertFalse(elector1.isLeader());
+    elector2.elect();
+    Assertions.assertTrue(elector2.isLeader());
+    Assertions.assertEquals(2L, elector2.fencingToken());
+    Assertions.assertFalse(elector1.validateFencingToken(1L));
+    elector2.close();
+  }
+
+  @Test
+  public void testLeaseExpired() throws InterruptedException {
+    RelationalLeaderElector elector1 = new RelationalLeaderElector("server1", 200L);
+    RelationalLeaderElector elector2 = new RelationalLeaderElector("server2", 60 * 1000L);
+
+    elector1.elect();
+    Assertions.assertTrue(elector1.isLeader());
+    long fencingToken = elector1.fencingToken();
+
+    // The leader pauses longer than the lease, e.g., in a long GC.
+    Thread.sleep(400L);
+    Assertions.assertFalse(elector1.isLeader());
+    elector2.elect();
+    Assertions.assertTrue(elector2.isLeader());
+    Assertions.assertEquals(fencingToken + 1, elector2.fencingToken());
+
+    // The old leader can't renew the lease taken over.
+    elector1.elect();
+    Assertions.assertFalse(elector1.isLeader());
+    Assertions.assertFalse(elector1.validateFencingToken(fencingToken));
+    LeaderLeasePO leaderLeasePO =
+        LeaderLeaseService.getInstance().getLeaderLease(RelationalLeaderElector.LEASE_NAME);
+    Assertions.assertEquals("server2", leaderLeasePO.getHolderId());
+
+    elector1.close();
+    elector2.close();
+  }
+
+  @Test
+  public void testGarbageCollectedByLeader() throws IOException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+    BaseMetalake metalake =
+        createBaseMakeLake(RandomIdGenerator.INSTANCE.nextId(), "metalake", auditInfo);
+    backend.insert(metalake, false);
+
+    Config gcConfig = Mockito.mock(Config.class);
+    Mockito.when(gcConfig.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(gcConfig.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    // All the entity changes are legacy.
+    Mockito.when(gcConfig.get(ENTITY_RELATIONAL_CHANGE_LOG_RETENTION_MS)).thenReturn(-1000L);
+
+    RelationalLeaderElector elector1 = new RelationalLeaderElector("server1", 60 * 1000L);
+    RelationalLeaderElector elector2 = new RelationalLeaderElector("server2", 60 * 1000L);
+    elector1.elect();
+    elector2.elect();
+
+    try (RelationalGarbageCollector follower =
+        new RelationalGarbageCollector(backend, gcConfig, elector2)) {
+      follower.collectAndClean();
+    }
+    Assertions.assertEquals(
+        1, EntityChangeLogService.getInstance().listEntityChanges(0, 10).size());
+
+    try (RelationalGarbageCollector leader =
+        new RelationalGarbageCollector(backend, gcConfig, elector1)) {
+      leader.collectAndClean();
+    }
+    Assertions.assertTrue(EntityChangeLogService.getInstance().listEntityChanges(0, 10).isEmpty());
+
+    elector1.close();
+    elector2.close();
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.trace;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestRequestTrace {
+
+  @Test
+  public void testSpanWithoutTrace() {
+    Assertions.assertNull(RequestTrace.current());
+    // The span is a no-op if no trace is attached
+    try (RequestTrace.Span ignored = RequestTrace.span(RequestTrace.Stage.STORE)) {
+      Assertions.assertNull(RequestTrace.current());
+    }
+    try (RequestTrace.Scope ignored = RequestTrace.attach(null)) {
+      Assertions.assertNull(RequestTrace.current());
+    }
+  }
+
+  @Test
+  public void testNestedSpans() throws InterruptedException {
+    RequestTrace trace = new RequestTrace();
+    try (RequestTrace.Scope ignored = RequestTrace.attach(trace)) {
+      Assertions.assertSame(trace, RequestTrace.current());
+      try (RequestTrace.Span classLoader = RequestTrace.span(RequestTrace.Stage.CLASSLOADER)) {
+        try (RequestTrace.Span connector = RequestTrace.span(RequestTrace.Stage.CONNECTOR)) {
+          Thread.sleep(50);
+        }
+      }
+      try (RequestTrace.Span store = RequestTrace.span(RequestTrace.Stage.STORE)) {
+        Thread.sleep(10);
+      }
+    }
+    Assertions.assertNull(RequestTrace.current());
+
+    Assertions.assertEquals(1, trace.stageCount(RequestTrace.Stage.CLASSLOADER));
+    Assertions.assertEquals(1, trace.stageCount(RequestTrace.Stage.CONNECTOR));
+    Assertions.assertEquals(1, trace.stageCount(RequestTrace.Stage.STORE));
+    Assertions.assertEquals(0, trace.stageCount(RequestTrace.Stage.LOCK));
+    Assertions.assertTrue(
+        trace.stageNanos(RequestTrace.Stage.CONNECTOR) >= TimeUnit.MILLISECONDS.toNanos(50));
+    Assertions.assertTrue(
+        trace.stageNanos(RequestTrace.Stage.STORE) >= TimeUnit.MILLISECONDS.toNanos(10));
+    // The time of the nested span is excluded from the outer one
+    Assertions.assertTrue(
+        trace.stageNanos(RequestTrace.Stage.CLASSLOADER)
+            < trace.stageNanos(RequestTrace.Stage.CONNECTOR));
+    Assertions.assertTrue(
+        trace.elapsedNanos()
+            >= trace.stageNanos(RequestTrace.Stage.CLASSLOADER)
+                + trace.stageNanos(RequestTrace.Stage.CONNECTOR)
+                + trace.stageNanos(RequestTrace.Stage.STORE));
+  }
+
+  @Test
+  public void testAttachRestoresPreviousTrace() {
+    RequestTrace outer = new RequestTrace();
+    RequestTrace inner = new RequestTrace();
+    try (RequestTrace.Scope ignored = RequestTrace.attach(outer)) {
+      try (RequestTrace.Scope nested = RequestTrace.attach(inner)) {
+        Assertions.assertSame(inner, RequestTrace.current());
+      }
+      Assertions.assertSame(outer, RequestTrace.current());
+    }
+    Assertions.assertNull(RequestTrace.current());
+  }
+
+  @Test
+  public void testFormat() {
+    RequestTrace trace = new RequestTrace();
+    trace.record(RequestTrace.Stage.QUEUE, TimeUnit.MILLISECONDS.toNanos(2));
+    trace.record(RequestTrace.Stage.LOCK, TimeUnit.MICROSECONDS.toNanos(1500));
+    trace.record(RequestTrace.Stage.LOCK, TimeUnit.MICROSECONDS.toNanos(500));
+
+    String serverTiming = trace.toServerTiming();
+    Assertions.assertTrue(serverTiming.startsWith("queue;dur=2.000, lock;dur=2.000, total;dur="));
+    String log = trace.toString();
+    Assertions.assertTrue(log.startsWith("total="));
+    Assertions.assertTrue(log.endsWith(", queue=2.000ms(1), lock=2.000ms(2)"));
+  }
+}
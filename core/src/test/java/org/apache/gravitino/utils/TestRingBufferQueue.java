@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.utils;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.utils.RingBufferQueue.OverflowPolicy;
+import org.apache.gravitino.utils.RingBufferQueue.WaitStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+public class TestRingBufferQueue {
+
+  @Test
+  void testIteration() {
+    RingBufferQueue<Integer> queue = new RingBufferQueue<>(4);
+    Assertions.assertEquals("[]", queue.toString());
+    Assertions.assertFalse(queue.iterator().hasNext());
+
+    for (int i = 0; i < 4; i++) {
+      queue.offer(i);
+    }
+    queue.poll();
+    queue.offer(4);
+    Assertions.assertEquals("[1, 2, 3, 4]", queue.toString());
+    Assertions.assertTrue(queue.contains(4));
+    Assertions.assertFalse(queue.contains(0));
+    Assertions.assertArrayEquals(new Object[] {1, 2, 3, 4}, queue.toArray());
+    Assertions.assertArrayEquals(new Integer[] {1, 2, 3, 4}, queue.toArray(new Integer[0]));
+
+    // The elements polled while iterating are skipped, except the one read ahead.
+    Iterator<Integer> it = queue.iterator();
+    queue.poll();
+    queue.poll();
+    Assertions.assertEquals(1, it.next());
+    Assertions.assertEquals(3, it.next());
+    Assertions.assertEquals(4, it.next());
+    Assertions.assertFalse(it.hasNext());
+    Assertions.assertThrows(NoSuchElementException.class, it::next);
+
+    Assertions.assertThrows(UnsupportedOperationException.class, () -> queue.remove(3));
+  }
+
+  @Test
+  void testOverflowPolicies() throws InterruptedException {
+    RingBufferQueue<Integer> dropNewest = new RingBufferQueue<>(3);
+    Assertions.assertEquals(4, dropNewest.capacity());
+    for (int i = 0; i < 4; i++) {
+      Assertions.assertTrue(dropNewest.offer(i));
+    }
+    Assertions.assertFalse(dropNewest.offer(4));
+    Assertions.assertEquals(4, dropNewest.size());
+    Assertions.assertEquals(0, dropNewest.poll());
+
+    List<Integer> dropped = new ArrayList<>();
+    RingBufferQueue<Integer> dropOldest =
+        new RingBufferQueue<>(
+            2, WaitStrategy.BLOCKING, OverflowPolicy.DROP_OLDEST, 0, dropped::add);
+    for (int i = 0; i < 5; i++) {
+      Assertions.assertTrue(dropOldest.offer(i));
+    }
+    Assertions.assertEquals(ImmutableList.of(0, 1, 2), dropped);
+    List<Integer> remaining = new ArrayList<>();
+    Assertions.assertEquals(2, dropOldest.drainTo(remaining));
+    Assertions.assertEquals(ImmutableList.of(3, 4), remaining);
+
+    RingBufferQueue<Integer> block =
+        new RingBufferQueue<>(2, WaitStrategy.BLOCKING, OverflowPolicy.BLOCK, 50, e -> {});
+    Assertions.assertTrue(block.offer(0));
+    Assertions.assertTrue(block.offer(1));
+    long start = System.nanoTime();
+    Assertions.assertFalse(block.offer(2));
+    Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+
+    // The blocked producer gets the room freed by the consumer.
+    CountDownLatch offered = new CountDownLatch(1);
+    Thread producer =
+        new Thread(
+            () -> {
+              try {
+                block.put(2);
+                offered.countDown();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            });
+    producer.start();
+    Assertions.assertEquals(0, block.take());
+    Assertions.assertTrue(offered.await(10, TimeUnit.SECONDS));
+    producer.join();
+  }
+
+  @ParameterizedTest
+  @EnumSource(WaitStrategy.class)
+  void testProducersAndConsumer(WaitStrategy waitStrategy) throws InterruptedException {
+    RingBufferQueue<Long> queue =
+        new RingBufferQueue<>(64, waitStrategy, OverflowPolicy.BLOCK, 60000, e -> {});
+    int producers = 4;
+    int perProducer = 20000;
+    List<Thread> threads = new ArrayList<>();
+    for (int p = 0; p < producers; p++) {
+      long base = (long) p * perProducer;
+      Thread thread =
+          new Thread(
+              () -> {
+                for (int i = 0; i < perProducer; i++) {
+                  Assertions.assertTrue(queue.offer(base + i));
+                }
+              });
+      threads.add(thread);
+      thread.start();
+    }
+
+    long[] lastOfProducer = new long[producers];
+    Arrays.fill(lastOfProducer, -1);
+    long sum = 0;
+    for (int i = 0; i < producers * perProducer; i++) {
+      Long value = queue.poll(10, TimeUnit.SECONDS);
+      Assertions.assertNotNull(value);
+      // The elements of each producer are consumed in order.
+      int producer = (int) (value / perProducer);
+      Assertions.assertTrue(value > lastOfProducer[producer]);
+      lastOfProducer[producer] = value;
+      sum += value;
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    long total = (long) producers * perProducer;
+    Assertions.assertEquals(total * (total - 1) / 2, sum);
+    Assertions.assertTrue(queue.isEmpty());
+    Assertions.assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+  }
+}
@@ -67,7 +67,8 @@ public class RESTService implements GravitinoAuxiliaryService {
     metricsSystem.register(httpServerMetricsSource);
 
     icebergTableOps = new IcebergTableOps(icebergConfig);
-    icebergMetricsManager = new IcebergMetricsManager(icebergConfig);
+    icebergMetricsManager =
+        new IcebergMetricsManager(icebergConfig, GravitinoEnv.getInstance().leaderElector());
     config.register(
         new AbstractBinder() {
           @Override
@@ -25,13 +25,14 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.iceberg.common.IcebergConfig;
 import org.apache.gravitino.iceberg.common.ops.IcebergTableOps;
 import org.apache.gravitino.iceberg.service.IcebergRestUtils;
+import org.apache.gravitino.storage.LeaderElector;
+import org.apache.gravitino.utils.RingBufferQueue;
 import org.apache.iceberg.metrics.MetricsReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +51,7 @@ public class IcebergMetricsManager {
   private final IcebergMetricsFormatter icebergMetricsFormatter;
   private final IcebergMetricsStore icebergMetricsStore;
   private final int retainDays;
+  private final LeaderElector leaderElector;
 
   private BlockingQueue<MetricsReport> queue;
   private Thread metricsWriterThread;
@@ -57,6 +59,18 @@ public class IcebergMetricsManager {
   private Optional<ScheduledExecutorService> metricsCleanerExecutor = Optional.empty();
 
   public IcebergMetricsManager(IcebergConfig icebergConfig) {
+    this(icebergConfig, LeaderElector.ALWAYS_LEADER);
+  }
+
+  /**
+   * Creates the metrics manager cleaning the expired metrics only on the leader, the metrics store
+   * is shared by the servers electing the leader.
+   *
+   * @param icebergConfig The Iceberg configuration.
+   * @param leaderElector The elector of the server cleaning the expired metrics.
+   */
+  public IcebergMetricsManager(IcebergConfig icebergConfig, LeaderElector leaderElector) {
+    this.leaderElector = leaderElector;
     icebergMetricsFormatter = new IcebergMetricsFormatter();
     icebergMetricsStore =
         loadIcebergMetricsStore(icebergConfig.get(IcebergConfig.ICEBERG_METRICS_STORE));
@@ -82,7 +96,7 @@ public class IcebergMetricsManager {
     }
 
     int queueCapacity = icebergConfig.get(IcebergConfig.ICEBERG_METRICS_QUEUE_CAPACITY);
-    queue = new LinkedBlockingQueue(queueCapacity);
+    queue = new RingBufferQueue<>(queueCapacity);
     metricsWriterThread = new Thread(() -> writeMetrics());
     metricsWriterThread.setName("Iceberg-metrics-writer");
     metricsWriterThread.setDaemon(true);
@@ -94,6 +108,11 @@ public class IcebergMetricsManager {
         executorService ->
             executorService.scheduleAtFixedRate(
                 () -> {
+                  if (!leaderElector.isLeader()) {
+                    LOG.debug(
+                        "Skip cleaning Iceberg expired metrics, the server isn't the leader.");
+                    return;
+                  }
                   Instant now = Instant.now();
                   Instant expireTime =
                       IcebergRestUtils.calculateNewTimestamp(now, -24 * retainDays);
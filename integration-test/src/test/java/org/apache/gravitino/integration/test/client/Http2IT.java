@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.integration.test.client;
+
+import static org.apache.gravitino.server.GravitinoServer.WEBSERVER_CONF_PREFIX;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.Collections;
+import org.apache.gravitino.client.ErrorHandlers;
+import org.apache.gravitino.client.HTTPClient;
+import org.apache.gravitino.dto.responses.VersionResponse;
+import org.apache.gravitino.integration.test.util.AbstractIT;
+import org.apache.gravitino.server.web.JettyServerConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("gravitino-docker-test")
+public class Http2IT extends AbstractIT {
+
+  @BeforeAll
+  public static void startIntegrationTest() throws Exception {
+    registerCustomConfigs(
+        ImmutableMap.of(WEBSERVER_CONF_PREFIX + JettyServerConfig.ENABLE_HTTP2.getKey(), "true"));
+    AbstractIT.startIntegrationTest();
+  }
+
+  @Test
+  public void testRequestOverHttp2() throws IOException {
+    // The HTTP/2 transport speaks h2c with prior knowledge, so the request only succeeds if the
+    // http connector serves HTTP/2.
+    try (HTTPClient http2Client =
+        HTTPClient.builder(Collections.emptyMap()).uri(serverUri).withHttp2(true).build()) {
+      VersionResponse response =
+          http2Client.get(
+              "api/version",
+              VersionResponse.class,
+              Collections.emptyMap(),
+              ErrorHandlers.restErrorHandler());
+      response.validate();
+      Assertions.assertEquals(client.serverVersion().version(), response.getVersion().version());
+    }
+  }
+}
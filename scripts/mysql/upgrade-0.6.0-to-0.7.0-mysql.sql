@@ -0,0 +1,36 @@
+--
+-- Licensed to the Apache Software Foundation (ASF) under one
+-- or more contributor license agreements.  See the NOTICE file--
+--  distributed with this work for additional information
+-- regarding copyright ownership.  The ASF licenses this file
+-- to you under the Apache License, Version 2.0 (the
+-- "License"). You may not use this file except in compliance
+-- with the License.  You may obtain a copy of the License at
+--
+--  http://www.apache.org/licenses/LICENSE-2.0
+--
+-- Unless required by applicable law or agreed to in writing,
+-- software distributed under the License is distributed on an
+-- "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+-- KIND, either express or implied.  See the License for the
+-- specific language governing permissions and limitations
+-- under the License.
+--
+CREATE TABLE IF NOT EXISTS `entity_change_log` (
+    `id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT 'auto increment id',
+    `metalake_name` VARCHAR(128) NOT NULL COMMENT 'metalake name',
+    `entity_type` VARCHAR(32) NOT NULL COMMENT 'entity type',
+    `full_name` VARCHAR(512) NOT NULL COMMENT 'entity full name',
+    `operate_type` VARCHAR(32) NOT NULL COMMENT 'operate type',
+    `created_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'entity change created at',
+    PRIMARY KEY (`id`),
+    KEY `idx_cha` (`created_at`)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'entity change log';
+
+CREATE TABLE IF NOT EXISTS `leader_lease` (
+    `lease_name` VARCHAR(128) NOT NULL COMMENT 'lease name',
+    `holder_id` VARCHAR(256) NOT NULL COMMENT 'the id of the server holding the lease',
+    `fencing_token` BIGINT(20) UNSIGNED NOT NULL COMMENT 'fencing token, increased when the lease changes hands',
+    `expire_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'lease expire at',
+    PRIMARY KEY (`lease_name`)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'leader lease';
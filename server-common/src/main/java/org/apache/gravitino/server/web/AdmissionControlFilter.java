@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Splitter;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.server.web.AdmissionController.Permit;
+import org.apache.gravitino.server.web.AdmissionController.Priority;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Admits the requests through {@link AdmissionController}, the overloaded requests are rejected
+ * with {@code 429 Too Many Requests} and a {@code Retry-After} header. The requests are classified
+ * by the method and path: the reads of a single entity are interactive, the reads ending with a
+ * collection name (e.g. {@code /metalakes/m1/catalogs}) are bulk, and the others are writes.
+ *
+ * <p>The waiting requests don't hold a server thread: they are suspended with {@link
+ * ServletRequest#startAsync()} and dispatched again once admitted, or rejected when they wait
+ * longer than the max queue time.
+ */
+public class AdmissionControlFilter implements Filter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+  static final int SC_TOO_MANY_REQUESTS = 429;
+
+  // The permit granted to a waiting request, it's taken by the async dispatch resuming the request.
+  private static final String PERMIT_ATTRIBUTE = AdmissionControlFilter.class.getName() + ".permit";
+
+  private static final String METALAKES_SEGMENT = "metalakes";
+  private static final String ANONYMOUS_PRINCIPAL = "anonymous";
+  private static final Splitter PATH_SPLITTER = Splitter.on('/').omitEmptyStrings();
+
+  private final AdmissionController controller;
+  private final Set<String> bulkPathSegments;
+  private final int retryAfterSecs;
+
+  public AdmissionControlFilter(JettyServerConfig serverConfig) {
+    this(
+        new AdmissionController(serverConfig),
+        serverConfig.getAdmissionBulkPathSegments(),
+        serverConfig.getAdmissionRetryAfterSecs());
+  }
+
+  @VisibleForTesting
+  AdmissionControlFilter(
+      AdmissionController controller, Set<String> bulkPathSegments, int retryAfterSecs) {
+    this.controller = controller;
+    this.bulkPathSegments = bulkPathSegments;
+    this.retryAfterSecs = retryAfterSecs;
+  }
+
+  @Override
+  public void init(FilterConfig filterConfig) throws ServletException {}
+
+  @Override
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    Object granted = request.getAttribute(PERMIT_ATTRIBUTE);
+    if (request.getDispatcherType() == DispatcherType.ASYNC && granted instanceof Permit) {
+      // A waiting request is resumed after being admitted.
+      request.removeAttribute(PERMIT_ATTRIBUTE);
+      doFilterAdmitted((Permit) granted, request, response, chain);
+      return;
+    }
+
+    // The other async and error dispatches belong to a request that is already admitted.
+    if (request.getDispatcherType() != DispatcherType.REQUEST) {
+      chain.doFilter(request, response);
+      return;
+    }
+
+    HttpServletRequest req = (HttpServletRequest) request;
+    List<String> segments = PATH_SPLITTER.splitToList(req.getRequestURI());
+    Priority priority = classify(req.getMethod(), segments);
+    String principal = principalName(req);
+    String metalake = metalakeName(segments);
+
+    CompletableFuture<Permit> admission = controller.acquire(priority, principal, metalake);
+    if (!admission.isDone()) {
+      if (request.isAsyncSupported()) {
+        AsyncContext asyncContext = request.startAsync(request, response);
+        // The async timeout 0 means no timeout, the zero queue time is the shortest one instead.
+        asyncContext.setTimeout(Math.max(1, controller.maxQueueTimeMs()));
+        QueuedRequest queued = new QueuedRequest(admission, asyncContext);
+        asyncContext.addListener(queued);
+        admission.thenAccept(queued::resume);
+        return;
+      }
+      controller.cancel(admission);
+    }
+
+    Permit permit = admission.getNow(null);
+    if (permit == null) {
+      LOG.debug(
+          "Rejected {} request {} {} of principal {}",
+          priority,
+          req.getMethod(),
+          req.getRequestURI(),
+          principal);
+      reject((HttpServletResponse) response);
+      return;
+    }
+
+    doFilterAdmitted(permit, request, response, chain);
+  }
+
+  @Override
+  public void destroy() {}
+
+  private void doFilterAdmitted(
+      Permit permit, ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    boolean async = false;
+    try {
+      chain.doFilter(request, response);
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new ReleaseListener(permit));
+        async = true;
+      }
+    } finally {
+      if (!async) {
+        permit.release();
+      }
+    }
+  }
+
+  private void reject(HttpServletResponse response) throws IOException {
+    response.setHeader("Retry-After", String.valueOf(retryAfterSecs));
+    response.sendError(SC_TOO_MANY_REQUESTS, "The server is overloaded, please retry later");
+  }
+
+  @VisibleForTesting
+  Priority classify(String method, List<String> segments) {
+    if (!"GET".equals(method) && !"HEAD".equals(method)) {
+      return Priority.WRITE;
+    }
+    if (!segments.isEmpty() && bulkPathSegments.contains(segments.get(segments.size() - 1))) {
+      return Priority.BULK;
+    }
+    return Priority.INTERACTIVE;
+  }
+
+  private static String principalName(HttpServletRequest request) {
+    Object principal = request.getAttribute(AuthConstants.AUTHENTICATED_PRINCIPAL_ATTRIBUTE_NAME);
+    return principal instanceof Principal ? ((Principal) principal).getName() : ANONYMOUS_PRINCIPAL;
+  }
+
+  @VisibleForTesting
+  static String metalakeName(List<String> segments) {
+    int index = segments.indexOf(METALAKES_SEGMENT);
+    return index >= 0 && index + 1 < segments.size() ? segments.get(index + 1) : null;
+  }
+
+  /**
+   * A request suspended while waiting in the queue. It's resumed exactly once: dispatched when
+   * admitted, rejected when timed out, or abandoned when the async cycle fails.
+   */
+  private final class QueuedRequest implements AsyncListener {
+    private final CompletableFuture<Permit> admission;
+    private final AsyncContext asyncContext;
+    private final AtomicBoolean resumed = new AtomicBoolean();
+
+    private QueuedRequest(CompletableFuture<Permit> admission, AsyncContext asyncContext) {
+      this.admission = admission;
+      this.asyncContext = asyncContext;
+    }
+
+    private void resume(Permit permit) {
+      if (permit != null && resumed.compareAndSet(false, true)) {
+        asyncContext.getRequest().setAttribute(PERMIT_ATTRIBUTE, permit);
+        asyncContext.dispatch();
+      }
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) throws IOException {
+      if (controller.cancel(admission)) {
+        HttpServletRequest req = (HttpServletRequest) asyncContext.getRequest();
+        LOG.debug("Rejected request {} {} waiting too long", req.getMethod(), req.getRequestURI());
+        reject((HttpServletResponse) asyncContext.getResponse());
+        asyncContext.complete();
+      } else {
+        // The slot is granted right before the timeout.
+        resume(admission.join());
+      }
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      abandon();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      // Completed after the dispatch as well, when the resumed request doesn't go async again.
+      abandon();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {}
+
+    private void abandon() {
+      if (!controller.cancel(admission)) {
+        Permit permit = admission.join();
+        if (permit != null && resumed.compareAndSet(false, true)) {
+          permit.release();
+        }
+      }
+    }
+  }
+
+  private static final class ReleaseListener implements AsyncListener {
+    private final Permit permit;
+
+    private ReleaseListener(Permit permit) {
+      this.permit = permit;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      permit.release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      permit.release();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      permit.release();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // A new async cycle of the same request, keep listening on it.
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits the requests by priority within the limits of concurrency. A request runs if there's a
+ * free slot for its priority, otherwise it waits in a queue where the higher priorities are served
+ * first. Some slots are reserved for the interactive requests, so they are served even if the lower
+ * priority requests saturate the server. The requests of a single principal or metalake, running or
+ * waiting, are limited as well, so one tenant cannot fill the queue.
+ *
+ * <p>The controller never blocks, a waiting request gets a pending admission which is completed
+ * when a slot is granted to it. The caller bounds the waiting time with {@link #cancel}.
+ */
+class AdmissionController {
+
+  /** The priority classes of the requests, from the highest to the lowest. */
+  enum Priority {
+    /** Metadata reads, e.g. loading a table, usually on the critical path of queries. */
+    INTERACTIVE,
+    /** Writes, e.g. creating or altering entities. */
+    WRITE,
+    /** Bulk reads, e.g. listing entities. */
+    BULK
+  }
+
+  /** A slot admitted to a request, it must be released when the request is done. */
+  interface Permit {
+    /** Releases the slot, releasing it more than once has no effect. */
+    void release();
+  }
+
+  private final int maxConcurrentRequests;
+  private final int reservedInteractiveRequests;
+  private final int maxRequestsPerPrincipal;
+  private final int maxRequestsPerMetalake;
+  private final int maxQueuedRequests;
+  private final long maxQueueTimeMs;
+
+  // The following fields are guarded by this.
+  private int running;
+  private long sequence;
+  private final Map<String, Integer> admittedByPrincipal = new HashMap<>();
+  private final Map<String, Integer> admittedByMetalake = new HashMap<>();
+  private final PriorityQueue<Waiter> waiters =
+      new PriorityQueue<>(
+          Comparator.comparing((Waiter w) -> w.priority).thenComparingLong(w -> w.sequence));
+
+  AdmissionController(
+      int maxConcurrentRequests,
+      int reservedInteractiveRequests,
+      int maxRequestsPerPrincipal,
+      int maxRequestsPerMetalake,
+      int maxQueuedRequests,
+      long maxQueueTimeMs) {
+    Preconditions.checkArgument(
+        reservedInteractiveRequests < maxConcurrentRequests,
+        "The reserved interactive requests must be less than the max concurrent requests");
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.reservedInteractiveRequests = reservedInteractiveRequests;
+    this.maxRequestsPerPrincipal = maxRequestsPerPrincipal;
+    this.maxRequestsPerMetalake = maxRequestsPerMetalake;
+    this.maxQueuedRequests = maxQueuedRequests;
+    this.maxQueueTimeMs = maxQueueTimeMs;
+  }
+
+  AdmissionController(JettyServerConfig config) {
+    this(
+        config.getAdmissionMaxConcurrentRequests(),
+        config.getAdmissionReservedInteractiveRequests(),
+        config.getAdmissionMaxRequestsPerPrincipal(),
+        config.getAdmissionMaxRequestsPerMetalake(),
+        config.getAdmissionMaxQueuedRequests(),
+        config.getAdmissionMaxQueueTimeMs());
+  }
+
+  /**
+   * Admits a request without blocking. The admission is completed right away if the request runs or
+   * is rejected, otherwise the request waits in the queue and the admission is completed with the
+   * permit on the thread releasing a slot, or with null if it's cancelled.
+   *
+   * @param priority The priority of the request.
+   * @param principal The principal of the request.
+   * @param metalake The metalake of the request, null if the request isn't on a metalake.
+   * @return The admission of the request, completed with its permit, or with null if it's rejected
+   *     because of its principal or metalake exceeding the limit or the queue being full.
+   */
+  CompletableFuture<Permit> acquire(Priority priority, String principal, String metalake) {
+    synchronized (this) {
+      if (exceedsLimit(admittedByPrincipal, principal, maxRequestsPerPrincipal)
+          || exceedsLimit(admittedByMetalake, metalake, maxRequestsPerMetalake)) {
+        return CompletableFuture.completedFuture(null);
+      }
+
+      // A request never overtakes the waiting requests of the same or a higher priority.
+      boolean overtakes = waiters.isEmpty() || waiters.peek().priority.compareTo(priority) > 0;
+      if (overtakes && hasFreeSlot(priority)) {
+        running++;
+        increment(admittedByPrincipal, principal);
+        increment(admittedByMetalake, metalake);
+        return CompletableFuture.completedFuture(new AdmittedPermit(principal, metalake));
+      }
+
+      if (waiters.size() >= maxQueuedRequests) {
+        return CompletableFuture.completedFuture(null);
+      }
+      Waiter waiter = new Waiter(priority, sequence++, principal, metalake);
+      waiters.add(waiter);
+      increment(admittedByPrincipal, principal);
+      increment(admittedByMetalake, metalake);
+      return waiter.admission;
+    }
+  }
+
+  /**
+   * Cancels a waiting admission, completing it with null.
+   *
+   * @param admission The admission returned by {@link #acquire}.
+   * @return True if the admission is cancelled, false if it's already completed, in which case a
+   *     granted permit must still be released.
+   */
+  boolean cancel(CompletableFuture<Permit> admission) {
+    synchronized (this) {
+      // The slot may be granted right before the cancellation.
+      Waiter waiter =
+          waiters.stream().filter(w -> w.admission == admission).findFirst().orElse(null);
+      if (waiter == null) {
+        return false;
+      }
+      waiters.remove(waiter);
+      decrement(admittedByPrincipal, waiter.principal);
+      decrement(admittedByMetalake, waiter.metalake);
+    }
+    admission.complete(null);
+    return true;
+  }
+
+  /**
+   * Returns the maximum time in milliseconds a request waits in the queue.
+   *
+   * @return The maximum time in milliseconds a request waits in the queue.
+   */
+  long maxQueueTimeMs() {
+    return maxQueueTimeMs;
+  }
+
+  /**
+   * Returns the number of the running requests.
+   *
+   * @return The number of the running requests.
+   */
+  synchronized int running() {
+    return running;
+  }
+
+  /**
+   * Returns the number of the waiting requests.
+   *
+   * @return The number of the waiting requests.
+   */
+  synchronized int queued() {
+    return waiters.size();
+  }
+
+  private void release(String principal, String metalake) {
+    List<Waiter> granted = new ArrayList<>();
+    synchronized (this) {
+      running--;
+      decrement(admittedByPrincipal, principal);
+      decrement(admittedByMetalake, metalake);
+
+      // The head of the queue has the highest priority, if it cannot run, no waiter can.
+      while (!waiters.isEmpty() && hasFreeSlot(waiters.peek().priority)) {
+        running++;
+        granted.add(waiters.poll());
+      }
+    }
+
+    // The waiters resume outside the lock, as their requests may be dispatched in place.
+    for (Waiter waiter : granted) {
+      waiter.admission.complete(new AdmittedPermit(waiter.principal, waiter.metalake));
+    }
+  }
+
+  private boolean hasFreeSlot(Priority priority) {
+    int limit =
+        priority == Priority.INTERACTIVE
+            ? maxConcurrentRequests
+            : maxConcurrentRequests - reservedInteractiveRequests;
+    return running < limit;
+  }
+
+  private static boolean exceedsLimit(Map<String, Integer> admitted, String key, int limit) {
+    return key != null && limit > 0 && admitted.getOrDefault(key, 0) >= limit;
+  }
+
+  private static void increment(Map<String, Integer> admitted, String key) {
+    if (key != null) {
+      admitted.merge(key, 1, Integer::sum);
+    }
+  }
+
+  private static void decrement(Map<String, Integer> admitted, String key) {
+    if (key != null) {
+      admitted.computeIfPresent(key, (k, v) -> v > 1 ? v - 1 : null);
+    }
+  }
+
+  private static final class Waiter {
+    private final Priority priority;
+    private final long sequence;
+    private final String principal;
+    private final String metalake;
+    private final CompletableFuture<Permit> admission = new CompletableFuture<>();
+
+    private Waiter(Priority priority, long sequence, String principal, String metalake) {
+      this.priority = priority;
+      this.sequence = sequence;
+      this.principal = principal;
+      this.metalake = metalake;
+    }
+  }
+
+  private final class AdmittedPermit implements Permit {
+    private final String principal;
+    private final String metalake;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private AdmittedPermit(String principal, String metalake) {
+      this.principal = principal;
+      this.metalake = metalake;
+    }
+
+    @Override
+    public void release() {
+      if (released.compareAndSet(false, true)) {
+        AdmissionController.this.release(principal, metalake);
+      }
+    }
+  }
+}
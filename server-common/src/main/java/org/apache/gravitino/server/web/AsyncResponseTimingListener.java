@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.annotation.Timed;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+/**
+ * Wraps the listener recording the resource method metrics, so the {@link Timed} resource methods
+ * suspending their responses with {@link javax.ws.rs.container.AsyncResponse} are timed until the
+ * responses are written. The wrapped listener times the methods until they return, which is only
+ * the time handing the requests over to the other threads for these methods.
+ */
+class AsyncResponseTimingListener implements ApplicationEventListener {
+
+  private final ApplicationEventListener listener;
+  private final MetricRegistry registry;
+  private final Clock clock;
+  private final Supplier<Reservoir> reservoirSupplier;
+  private final Map<Method, Optional<Timer>> timers = new ConcurrentHashMap<>();
+
+  AsyncResponseTimingListener(
+      ApplicationEventListener listener,
+      MetricRegistry registry,
+      Clock clock,
+      Supplier<Reservoir> reservoirSupplier) {
+    this.listener = listener;
+    this.registry = registry;
+    this.clock = clock;
+    this.reservoirSupplier = reservoirSupplier;
+  }
+
+  @Override
+  public void onEvent(ApplicationEvent event) {
+    listener.onEvent(event);
+  }
+
+  @Override
+  public RequestEventListener onRequest(RequestEvent requestEvent) {
+    RequestEventListener requestListener = listener.onRequest(requestEvent);
+    return new RequestEventListener() {
+      private Timer timer;
+      private long startTick;
+
+      @Override
+      public void onEvent(RequestEvent event) {
+        switch (event.getType()) {
+          case RESOURCE_METHOD_START:
+            timer = suspendedMethodTimer(event.getUriInfo().getMatchedResourceMethod());
+            if (timer != null) {
+              // The wrapped listener doesn't time the method.
+              startTick = clock.getTick();
+              return;
+            }
+            break;
+
+          case FINISHED:
+            if (timer != null) {
+              timer.update(clock.getTick() - startTick, TimeUnit.NANOSECONDS);
+            }
+            break;
+
+          default:
+            break;
+        }
+
+        if (requestListener != null) {
+          requestListener.onEvent(event);
+        }
+      }
+    };
+  }
+
+  private Timer suspendedMethodTimer(ResourceMethod resourceMethod) {
+    if (resourceMethod == null || !resourceMethod.isSuspendDeclared()) {
+      return null;
+    }
+
+    Method method = resourceMethod.getInvocable().getDefinitionMethod();
+    return timers
+        .computeIfAbsent(
+            method,
+            m -> {
+              Timed timed = m.getAnnotation(Timed.class);
+              if (timed == null) {
+                return Optional.empty();
+              }
+              // The same timer as the one registered by the wrapped listener.
+              String name =
+                  timed.absolute()
+                      ? timed.name()
+                      : MetricRegistry.name(
+                          m.getDeclaringClass(),
+                          timed.name().isEmpty() ? m.getName() : timed.name());
+              return Optional.of(
+                  registry.timer(name, () -> new Timer(reservoirSupplier.get(), clock)));
+            })
+        .orElse(null);
+  }
+}
@@ -20,9 +20,11 @@
 package org.apache.gravitino.server.web;
 
 import com.codahale.metrics.Clock;
+import com.codahale.metrics.Reservoir;
 import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
 import com.codahale.metrics.jersey2.InstrumentedResourceMethodApplicationListener;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.metrics.source.MetricsSource;
 import org.glassfish.jersey.server.ResourceConfig;
@@ -30,14 +32,15 @@ import org.glassfish.jersey.server.ResourceConfig;
 public class HttpServerMetricsSource extends MetricsSource {
   public HttpServerMetricsSource(String name, ResourceConfig resourceConfig, JettyServer server) {
     super(name);
+    Supplier<Reservoir> reservoirSupplier =
+        () -> new SlidingTimeWindowArrayReservoir(getTimeSlidingWindowSeconds(), TimeUnit.SECONDS);
     resourceConfig.register(
-        new InstrumentedResourceMethodApplicationListener(
+        new AsyncResponseTimingListener(
+            new InstrumentedResourceMethodApplicationListener(
+                getMetricRegistry(), Clock.defaultClock(), false, reservoirSupplier),
             getMetricRegistry(),
             Clock.defaultClock(),
-            false,
-            () ->
-                new SlidingTimeWindowArrayReservoir(
-                    getTimeSlidingWindowSeconds(), TimeUnit.SECONDS)));
+            reservoirSupplier));
     registerGauge(
         MetricNames.SERVER_IDLE_THREAD_NUM, () -> server.getThreadPool().getIdleThreads());
   }
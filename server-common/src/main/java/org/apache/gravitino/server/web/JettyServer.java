@@ -41,7 +41,13 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.server.authentication.AuthenticationFilter;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
 import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
@@ -50,6 +56,7 @@ import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.ErrorHandler;
 import org.eclipse.jetty.server.handler.HandlerCollection;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.servlet.DefaultServlet;
 import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
@@ -70,6 +77,7 @@ public final class JettyServer {
 
   private static final String HTTPS = "https";
   private static final String HTTP_PROTOCOL = "http/1.1";
+  private static final int INFLATE_BUFFER_SIZE = 8192;
 
   private Server server;
 
@@ -139,7 +147,9 @@ public final class JettyServer {
               serverConfig.isEnableClientAuth(),
               serverConfig.getTrustStorePath(),
               serverConfig.getTrustStorePassword(),
-              serverConfig.getTrustStoreType());
+              serverConfig.getTrustStoreType(),
+              serverConfig.isEnableHttp2(),
+              serverConfig.getHttp2MaxConcurrentStreams());
       server.addConnector(httpsConnector);
     } else {
       // Create and set Http ServerConnector
@@ -150,7 +160,9 @@ public final class JettyServer {
               serverConfig.getResponseHeaderSize(),
               serverConfig.getHost(),
               serverConfig.getHttpPort(),
-              serverConfig.getIdleTimeout());
+              serverConfig.getIdleTimeout(),
+              serverConfig.isEnableHttp2(),
+              serverConfig.getHttp2MaxConcurrentStreams());
       server.addConnector(httpConnector);
     }
 
@@ -167,6 +179,10 @@ public final class JettyServer {
       MetricRegistry metricRegistry = metricsSystem.getMetricRegistry();
       servletContextHandler.setAttribute(
           "com.codahale.metrics.servlets.MetricsServlet.registry", metricRegistry);
+      // The JSON metrics apply the same excludes and includes as the reporters and Prometheus.
+      servletContextHandler.setAttribute(
+          "com.codahale.metrics.servlets.MetricsServlet.metricFilter",
+          metricsSystem.getMetricFilter());
       servletContextHandler.addServlet(MetricsServlet.class, "/metrics");
 
       servletContextHandler.addServlet(
@@ -175,7 +191,11 @@ public final class JettyServer {
 
     HandlerCollection handlers = new HandlerCollection();
     handlers.addHandler(servletContextHandler);
-    server.setHandler(handlers);
+    if (serverConfig.isEnableCompression()) {
+      server.setHandler(createGzipHandler(handlers, serverConfig));
+    } else {
+      server.setHandler(handlers);
+    }
   }
 
   public synchronized void start() throws RuntimeException {
@@ -241,6 +261,21 @@ public final class JettyServer {
     }
   }
 
+  private GzipHandler createGzipHandler(Handler handler, JettyServerConfig serverConfig) {
+    GzipHandler gzipHandler = new GzipHandler();
+    gzipHandler.setMinGzipSize(serverConfig.getCompressionMinSize());
+    gzipHandler.setIncludedMimeTypes(serverConfig.getCompressionMimeTypes().toArray(new String[0]));
+    gzipHandler.setCompressionLevel(serverConfig.getCompressionLevel());
+    // GET is the only method compressed by default, the other methods may also return large bodies.
+    gzipHandler.setIncludedMethods(
+        HttpMethod.GET.asString(), HttpMethod.POST.asString(), HttpMethod.PUT.asString());
+    if (serverConfig.isEnableRequestDecompression()) {
+      gzipHandler.setInflateBufferSize(INFLATE_BUFFER_SIZE);
+    }
+    gzipHandler.setHandler(handler);
+    return gzipHandler;
+  }
+
   public void addServlet(Servlet servlet, String pathSpec) {
     servletContextHandler.addServlet(new ServletHolder(servlet), pathSpec);
   }
@@ -320,7 +355,9 @@ public final class JettyServer {
       int respHeaderSize,
       String host,
       int port,
-      int idleTimeout) {
+      int idleTimeout,
+      boolean enableHttp2,
+      int http2MaxConcurrentStreams) {
     HttpConfiguration httpConfig = new HttpConfiguration();
     httpConfig.setRequestHeaderSize(reqHeaderSize);
     httpConfig.setResponseHeaderSize(respHeaderSize);
@@ -328,8 +365,18 @@ public final class JettyServer {
     httpConfig.setIdleTimeout(idleTimeout);
 
     HttpConnectionFactory httpConnectionFactory = new HttpConnectionFactory(httpConfig);
-    ServerConnector connector =
-        createServerConnector(server, new ConnectionFactory[] {httpConnectionFactory});
+    ConnectionFactory[] connectionFactories;
+    if (enableHttp2) {
+      // The h2c connection factory serves both the clients with prior knowledge of HTTP/2 and
+      // the clients upgrading from HTTP/1.1.
+      HTTP2CServerConnectionFactory http2ConnectionFactory =
+          new HTTP2CServerConnectionFactory(httpConfig);
+      http2ConnectionFactory.setMaxConcurrentStreams(http2MaxConcurrentStreams);
+      connectionFactories = new ConnectionFactory[] {httpConnectionFactory, http2ConnectionFactory};
+    } else {
+      connectionFactories = new ConnectionFactory[] {httpConnectionFactory};
+    }
+    ServerConnector connector = createServerConnector(server, connectionFactories);
     connector.setHost(host);
     connector.setPort(port);
     connector.setReuseAddress(true);
@@ -362,7 +409,9 @@ public final class JettyServer {
       boolean isEnableClientAuth,
       String trustStorePath,
       String trustStorePassword,
-      String trustStoreType) {
+      String trustStoreType,
+      boolean enableHttp2,
+      int http2MaxConcurrentStreams) {
     HttpConfiguration httpConfig = new HttpConfiguration();
     httpConfig.setSecureScheme(HTTPS);
     httpConfig.setRequestHeaderSize(reqHeaderSize);
@@ -389,11 +438,31 @@ public final class JettyServer {
     SecureRequestCustomizer src = new SecureRequestCustomizer();
     httpConfig.addCustomizer(src);
     HttpConnectionFactory httpConnectionFactory = new HttpConnectionFactory(httpConfig);
-    SslConnectionFactory sslConnectionFactory =
-        new SslConnectionFactory(sslContextFactory, HTTP_PROTOCOL);
-    ServerConnector connector =
-        createServerConnector(
-            server, new ConnectionFactory[] {sslConnectionFactory, httpConnectionFactory});
+    ConnectionFactory[] connectionFactories;
+    if (enableHttp2) {
+      // HTTP/2 over TLS is negotiated by ALPN, and the clients not supporting it fall back to
+      // HTTP/1.1.
+      sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+      HTTP2ServerConnectionFactory http2ConnectionFactory =
+          new HTTP2ServerConnectionFactory(httpConfig);
+      http2ConnectionFactory.setMaxConcurrentStreams(http2MaxConcurrentStreams);
+      ALPNServerConnectionFactory alpnConnectionFactory = new ALPNServerConnectionFactory();
+      alpnConnectionFactory.setDefaultProtocol(httpConnectionFactory.getProtocol());
+      SslConnectionFactory sslConnectionFactory =
+          new SslConnectionFactory(sslContextFactory, alpnConnectionFactory.getProtocol());
+      connectionFactories =
+          new ConnectionFactory[] {
+            sslConnectionFactory,
+            alpnConnectionFactory,
+            http2ConnectionFactory,
+            httpConnectionFactory
+          };
+    } else {
+      SslConnectionFactory sslConnectionFactory =
+          new SslConnectionFactory(sslContextFactory, HTTP_PROTOCOL);
+      connectionFactories = new ConnectionFactory[] {sslConnectionFactory, httpConnectionFactory};
+    }
+    ServerConnector connector = createServerConnector(server, connectionFactories);
     connector.setHost(host);
     connector.setPort(port);
     connector.setReuseAddress(true);
@@ -471,5 +540,8 @@ public final class JettyServer {
           CorsFilterHolder.create(serverConfig), pathSpec, EnumSet.allOf(DispatcherType.class));
     }
     addFilter(new AuthenticationFilter(), pathSpec);
+    if (serverConfig.isEnableAdmissionControl()) {
+      addFilter(new AdmissionControlFilter(serverConfig), pathSpec);
+    }
   }
 }
@@ -23,11 +23,13 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.net.ssl.SSLContext;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
@@ -294,6 +296,149 @@ public final class JettyServerConfig {
           .booleanConf()
           .createWithDefault(true);
 
+  public static final ConfigEntry<Boolean> ENABLE_COMPRESSION =
+      new ConfigBuilder("enableCompression")
+          .doc("Enable the gzip compression of the responses for the clients accepting it")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(true);
+
+  public static final ConfigEntry<Integer> COMPRESSION_MIN_SIZE =
+      new ConfigBuilder("compressionMinSize")
+          .doc("The minimum size in bytes of the responses to be compressed")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1024);
+
+  public static final ConfigEntry<String> COMPRESSION_MIME_TYPES =
+      new ConfigBuilder("compressionMimeTypes")
+          .doc("A comma separated list of the MIME types of the responses to be compressed")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(
+              "application/json,application/vnd.gravitino.v1+json,text/html,text/plain,text/css,"
+                  + "application/javascript");
+
+  public static final ConfigEntry<Integer> COMPRESSION_LEVEL =
+      new ConfigBuilder("compressionLevel")
+          .doc(
+              "The gzip compression level from 1 (fastest) to 9 (smallest), -1 means the default"
+                  + " level of the deflater")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(
+              value -> value == -1 || (value >= 1 && value <= 9),
+              "The value must be -1 or between 1 and 9")
+          .createWithDefault(-1);
+
+  public static final ConfigEntry<Boolean> ENABLE_REQUEST_DECOMPRESSION =
+      new ConfigBuilder("enableRequestDecompression")
+          .doc("Enable the decompression of the gzip compressed request bodies")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Boolean> ENABLE_HTTP2 =
+      new ConfigBuilder("enableHttp2")
+          .doc(
+              "Enable HTTP/2 in addition to HTTP/1.1, using h2c for http and h2 negotiated by ALPN"
+                  + " for https")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> HTTP2_MAX_CONCURRENT_STREAMS =
+      new ConfigBuilder("http2MaxConcurrentStreams")
+          .doc("The maximum number of concurrent streams allowed on one HTTP/2 connection")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(128);
+
+  public static final ConfigEntry<Boolean> ENABLE_ADMISSION_CONTROL =
+      new ConfigBuilder("enableAdmissionControl")
+          .doc(
+              "Enable the admission control of the requests, which limits the concurrent requests"
+                  + " and schedules the waiting ones by priority")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> ADMISSION_MAX_CONCURRENT_REQUESTS =
+      new ConfigBuilder("admissionMaxConcurrentRequests")
+          .doc("The maximum number of requests served concurrently")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(128);
+
+  public static final ConfigEntry<Integer> ADMISSION_RESERVED_INTERACTIVE_REQUESTS =
+      new ConfigBuilder("admissionReservedInteractiveRequests")
+          .doc(
+              "The number of the concurrent requests reserved for the interactive metadata reads,"
+                  + " which the list and write requests cannot use")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(32);
+
+  public static final ConfigEntry<Integer> ADMISSION_MAX_REQUESTS_PER_PRINCIPAL =
+      new ConfigBuilder("admissionMaxRequestsPerPrincipal")
+          .doc(
+              "The maximum number of the admitted requests, served or waiting, of a single"
+                  + " principal, 0 means no limit")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(64);
+
+  public static final ConfigEntry<Integer> ADMISSION_MAX_REQUESTS_PER_METALAKE =
+      new ConfigBuilder("admissionMaxRequestsPerMetalake")
+          .doc(
+              "The maximum number of the admitted requests, served or waiting, of a single"
+                  + " metalake, 0 means no limit")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(0);
+
+  public static final ConfigEntry<Integer> ADMISSION_MAX_QUEUED_REQUESTS =
+      new ConfigBuilder("admissionMaxQueuedRequests")
+          .doc("The maximum number of the requests waiting to be served")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(256);
+
+  public static final ConfigEntry<Long> ADMISSION_MAX_QUEUE_TIME_MS =
+      new ConfigBuilder("admissionMaxQueueTimeMs")
+          .doc("The maximum time in milliseconds a request waits to be served")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Integer> ADMISSION_RETRY_AFTER_SECS =
+      new ConfigBuilder("admissionRetryAfterSecs")
+          .doc("The seconds in the Retry-After header of the rejected requests")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1);
+
+  public static final ConfigEntry<String> ADMISSION_BULK_PATH_SEGMENTS =
+      new ConfigBuilder("admissionBulkPathSegments")
+          .doc(
+              "A comma separated list of the last path segments of the GET requests listing"
+                  + " entities, which have a lower priority than the other reads")
+          .version(ConfigConstants.VERSION_0_7_0)
+          .stringConf()
+          .createWithDefault(
+              "metalakes,catalogs,schemas,tables,filesets,topics,partitions,tags,objects,users,"
+                  + "groups,roles,namespaces,views");
+
   private final String host;
 
   private final int httpPort;
@@ -334,6 +479,22 @@ public final class JettyServerConfig {
   private final boolean allowCredentials;
   private final String exposedHeaders;
   private final boolean chainPreflight;
+  private final boolean enableCompression;
+  private final int compressionMinSize;
+  private final Set<String> compressionMimeTypes;
+  private final int compressionLevel;
+  private final boolean enableRequestDecompression;
+  private final boolean enableHttp2;
+  private final int http2MaxConcurrentStreams;
+  private final boolean enableAdmissionControl;
+  private final int admissionMaxConcurrentRequests;
+  private final int admissionReservedInteractiveRequests;
+  private final int admissionMaxRequestsPerPrincipal;
+  private final int admissionMaxRequestsPerMetalake;
+  private final int admissionMaxQueuedRequests;
+  private final long admissionMaxQueueTimeMs;
+  private final int admissionRetryAfterSecs;
+  private final Set<String> admissionBulkPathSegments;
 
   private final Config internalConfig;
 
@@ -410,6 +571,43 @@ public final class JettyServerConfig {
     this.allowCredentials = internalConfig.get(ALLOW_CREDENTIALS);
     this.exposedHeaders = internalConfig.get(EXPOSED_HEADERS);
     this.chainPreflight = internalConfig.get(CHAIN_PREFLIGHT);
+
+    this.enableCompression = internalConfig.get(ENABLE_COMPRESSION);
+    this.compressionMinSize = internalConfig.get(COMPRESSION_MIN_SIZE);
+    this.compressionMimeTypes =
+        Collections.unmodifiableSet(
+            Arrays.stream(internalConfig.get(COMPRESSION_MIME_TYPES).split(SPLITTER))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .collect(Collectors.toSet()));
+    this.compressionLevel = internalConfig.get(COMPRESSION_LEVEL);
+    this.enableRequestDecompression = internalConfig.get(ENABLE_REQUEST_DECOMPRESSION);
+
+    this.enableHttp2 = internalConfig.get(ENABLE_HTTP2);
+    this.http2MaxConcurrentStreams = internalConfig.get(HTTP2_MAX_CONCURRENT_STREAMS);
+
+    this.enableAdmissionControl = internalConfig.get(ENABLE_ADMISSION_CONTROL);
+    this.admissionMaxConcurrentRequests = internalConfig.get(ADMISSION_MAX_CONCURRENT_REQUESTS);
+    this.admissionReservedInteractiveRequests =
+        internalConfig.get(ADMISSION_RESERVED_INTERACTIVE_REQUESTS);
+    Preconditions.checkArgument(
+        !enableAdmissionControl
+            || admissionReservedInteractiveRequests < admissionMaxConcurrentRequests,
+        "The reserved interactive requests %s must be less than the max concurrent requests %s",
+        admissionReservedInteractiveRequests,
+        admissionMaxConcurrentRequests);
+    this.admissionMaxRequestsPerPrincipal =
+        internalConfig.get(ADMISSION_MAX_REQUESTS_PER_PRINCIPAL);
+    this.admissionMaxRequestsPerMetalake = internalConfig.get(ADMISSION_MAX_REQUESTS_PER_METALAKE);
+    this.admissionMaxQueuedRequests = internalConfig.get(ADMISSION_MAX_QUEUED_REQUESTS);
+    this.admissionMaxQueueTimeMs = internalConfig.get(ADMISSION_MAX_QUEUE_TIME_MS);
+    this.admissionRetryAfterSecs = internalConfig.get(ADMISSION_RETRY_AFTER_SECS);
+    this.admissionBulkPathSegments =
+        Collections.unmodifiableSet(
+            Arrays.stream(internalConfig.get(ADMISSION_BULK_PATH_SEGMENTS).split(SPLITTER))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .collect(Collectors.toSet()));
   }
 
   public static JettyServerConfig fromConfig(Config config, String prefix) {
@@ -558,6 +756,70 @@ public final class JettyServerConfig {
     return allowedHeaders;
   }
 
+  public boolean isEnableCompression() {
+    return enableCompression;
+  }
+
+  public int getCompressionMinSize() {
+    return compressionMinSize;
+  }
+
+  public Set<String> getCompressionMimeTypes() {
+    return compressionMimeTypes;
+  }
+
+  public int getCompressionLevel() {
+    return compressionLevel;
+  }
+
+  public boolean isEnableRequestDecompression() {
+    return enableRequestDecompression;
+  }
+
+  public boolean isEnableHttp2() {
+    return enableHttp2;
+  }
+
+  public int getHttp2MaxConcurrentStreams() {
+    return http2MaxConcurrentStreams;
+  }
+
+  public boolean isEnableAdmissionControl() {
+    return enableAdmissionControl;
+  }
+
+  public int getAdmissionMaxConcurrentRequests() {
+    return admissionMaxConcurrentRequests;
+  }
+
+  public int getAdmissionReservedInteractiveRequests() {
+    return admissionReservedInteractiveRequests;
+  }
+
+  public int getAdmissionMaxRequestsPerPrincipal() {
+    return admissionMaxRequestsPerPrincipal;
+  }
+
+  public int getAdmissionMaxRequestsPerMetalake() {
+    return admissionMaxRequestsPerMetalake;
+  }
+
+  public int getAdmissionMaxQueuedRequests() {
+    return admissionMaxQueuedRequests;
+  }
+
+  public long getAdmissionMaxQueueTimeMs() {
+    return admissionMaxQueueTimeMs;
+  }
+
+  public int getAdmissionRetryAfterSecs() {
+    return admissionRetryAfterSecs;
+  }
+
+  public Set<String> getAdmissionBulkPathSegments() {
+    return admissionBulkPathSegments;
+  }
+
   private SSLContext getDefaultSSLContext() {
     try {
       return SSLContext.getDefault();
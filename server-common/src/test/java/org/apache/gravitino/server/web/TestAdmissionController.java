@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.gravitino.server.web.AdmissionController.Permit;
+import org.apache.gravitino.server.web.AdmissionController.Priority;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TestAdmissionController {
+
+  @Test
+  public void testReservedInteractiveRequests() {
+    AdmissionController controller = new AdmissionController(2, 1, 0, 0, 0, 10);
+
+    Permit bulk = admit(controller, Priority.BULK, "user1", null);
+    Assertions.assertNotNull(bulk);
+    // The last slot is reserved for the interactive requests, the queue is disabled.
+    Assertions.assertNull(admit(controller, Priority.WRITE, "user1", null));
+    Permit interactive = admit(controller, Priority.INTERACTIVE, "user1", null);
+    Assertions.assertNotNull(interactive);
+    Assertions.assertNull(admit(controller, Priority.INTERACTIVE, "user1", null));
+    Assertions.assertEquals(2, controller.running());
+
+    bulk.release();
+    bulk.release();
+    Assertions.assertEquals(1, controller.running());
+    interactive.release();
+    Assertions.assertEquals(0, controller.running());
+  }
+
+  @Test
+  public void testPriorityOrder() {
+    AdmissionController controller = new AdmissionController(1, 0, 0, 0, 10, 10_000);
+    Permit running = admit(controller, Priority.WRITE, "user1", null);
+
+    CompletableFuture<Permit> bulk = controller.acquire(Priority.BULK, "user2", null);
+    CompletableFuture<Permit> interactive = controller.acquire(Priority.INTERACTIVE, "user3", null);
+    Assertions.assertFalse(bulk.isDone());
+    Assertions.assertFalse(interactive.isDone());
+    Assertions.assertEquals(2, controller.queued());
+
+    running.release();
+    Permit permit = interactive.getNow(null);
+    Assertions.assertNotNull(permit);
+    Assertions.assertFalse(bulk.isDone());
+    permit.release();
+    bulk.getNow(null).release();
+    Assertions.assertEquals(0, controller.running());
+    Assertions.assertEquals(0, controller.queued());
+  }
+
+  @Test
+  public void testTenantLimits() {
+    AdmissionController controller = new AdmissionController(10, 0, 2, 3, 10, 10);
+
+    Permit p1 = admit(controller, Priority.INTERACTIVE, "user1", "m1");
+    Permit p2 = admit(controller, Priority.INTERACTIVE, "user1", "m1");
+    Assertions.assertNull(admit(controller, Priority.INTERACTIVE, "user1", "m2"));
+    Permit p3 = admit(controller, Priority.INTERACTIVE, "user2", "m1");
+    Assertions.assertNull(admit(controller, Priority.INTERACTIVE, "user3", "m1"));
+    Permit p4 = admit(controller, Priority.INTERACTIVE, "user3", null);
+    Assertions.assertNotNull(p4);
+
+    p1.release();
+    Assertions.assertNotNull(admit(controller, Priority.INTERACTIVE, "user1", "m2"));
+    p2.release();
+    p3.release();
+  }
+
+  @Test
+  public void testCancel() {
+    AdmissionController controller = new AdmissionController(1, 0, 1, 0, 10, 10);
+    Permit running = admit(controller, Priority.WRITE, "user1", null);
+
+    CompletableFuture<Permit> waiting = controller.acquire(Priority.WRITE, "user2", null);
+    Assertions.assertFalse(waiting.isDone());
+    Assertions.assertTrue(controller.cancel(waiting));
+    Assertions.assertNull(waiting.getNow(null));
+    Assertions.assertEquals(0, controller.queued());
+    Assertions.assertFalse(controller.cancel(waiting));
+    running.release();
+
+    // The limits of the principal are released after the cancellation.
+    Permit permit = admit(controller, Priority.WRITE, "user2", null);
+    Assertions.assertNotNull(permit);
+    permit.release();
+  }
+
+  @Test
+  public void testQueuedRequestDispatched() throws Exception {
+    AdmissionController controller = new AdmissionController(1, 0, 0, 0, 10, 10_000);
+    AdmissionControlFilter filter =
+        new AdmissionControlFilter(controller, ImmutableSet.of("catalogs"), 1);
+    Permit running = admit(controller, Priority.WRITE, "user1", null);
+
+    HttpServletRequest request = mockRequest(DispatcherType.REQUEST);
+    HttpServletResponse response = mock(HttpServletResponse.class);
+    AsyncContext asyncContext = mockAsyncContext(request, response);
+    FilterChain chain = mock(FilterChain.class);
+
+    // The request waits without holding the thread.
+    filter.doFilter(request, response, chain);
+    verify(request).startAsync(request, response);
+    verify(asyncContext).setTimeout(10_000);
+    verify(asyncContext, never()).dispatch();
+    verify(chain, never()).doFilter(any(), any());
+    Assertions.assertEquals(1, controller.queued());
+
+    running.release();
+    verify(asyncContext).dispatch();
+    ArgumentCaptor<Object> permit = ArgumentCaptor.forClass(Object.class);
+    verify(request).setAttribute(anyString(), permit.capture());
+    Assertions.assertEquals(1, controller.running());
+
+    // The async dispatch runs the request with the granted permit, then releases it.
+    when(request.getDispatcherType()).thenReturn(DispatcherType.ASYNC);
+    when(request.getAttribute(anyString())).thenReturn(permit.getValue());
+    filter.doFilter(request, response, chain);
+    verify(chain).doFilter(request, response);
+    Assertions.assertEquals(0, controller.running());
+  }
+
+  @Test
+  public void testQueuedRequestTimeout() throws Exception {
+    AdmissionController controller = new AdmissionController(1, 0, 0, 0, 10, 10);
+    AdmissionControlFilter filter =
+        new AdmissionControlFilter(controller, ImmutableSet.of("catalogs"), 3);
+    Permit running = admit(controller, Priority.WRITE, "user1", null);
+
+    HttpServletRequest request = mockRequest(DispatcherType.REQUEST);
+    HttpServletResponse response = mock(HttpServletResponse.class);
+    AsyncContext asyncContext = mockAsyncContext(request, response);
+    filter.doFilter(request, response, mock(FilterChain.class));
+
+    ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass(AsyncListener.class);
+    verify(asyncContext).addListener(listener.capture());
+    listener.getValue().onTimeout(new AsyncEvent(asyncContext));
+    verify(response).setHeader("Retry-After", "3");
+    verify(response).sendError(eq(AdmissionControlFilter.SC_TOO_MANY_REQUESTS), anyString());
+    verify(asyncContext).complete();
+    Assertions.assertEquals(0, controller.queued());
+
+    // The rejected request is never dispatched.
+    running.release();
+    listener.getValue().onComplete(new AsyncEvent(asyncContext));
+    verify(asyncContext, never()).dispatch();
+    Assertions.assertEquals(0, controller.running());
+  }
+
+  @Test
+  public void testClassify() {
+    AdmissionControlFilter filter =
+        new AdmissionControlFilter(
+            new AdmissionController(1, 0, 0, 0, 0, 0), ImmutableSet.of("catalogs"), 1);
+    Splitter splitter = Splitter.on('/').omitEmptyStrings();
+
+    List<String> list = splitter.splitToList("/api/metalakes/m1/catalogs");
+    List<String> load = splitter.splitToList("/api/metalakes/m1/catalogs/c1");
+    Assertions.assertEquals(Priority.BULK, filter.classify("GET", list));
+    Assertions.assertEquals(Priority.INTERACTIVE, filter.classify("GET", load));
+    Assertions.assertEquals(Priority.WRITE, filter.classify("POST", list));
+    Assertions.assertEquals(Priority.WRITE, filter.classify("DELETE", load));
+
+    Assertions.assertEquals("m1", AdmissionControlFilter.metalakeName(load));
+    Assertions.assertNull(
+        AdmissionControlFilter.metalakeName(splitter.splitToList("/api/metalakes")));
+  }
+
+  private static Permit admit(
+      AdmissionController controller, Priority priority, String principal, String metalake) {
+    CompletableFuture<Permit> admission = controller.acquire(priority, principal, metalake);
+    Assertions.assertTrue(admission.isDone());
+    return admission.getNow(null);
+  }
+
+  private static HttpServletRequest mockRequest(DispatcherType dispatcherType) {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    when(request.getDispatcherType()).thenReturn(dispatcherType);
+    when(request.getMethod()).thenReturn("POST");
+    when(request.getRequestURI()).thenReturn("/api/metalakes/m1/catalogs");
+    when(request.isAsyncSupported()).thenReturn(true);
+    return request;
+  }
+
+  private static AsyncContext mockAsyncContext(
+      HttpServletRequest request, HttpServletResponse response) {
+    AsyncContext asyncContext = mock(AsyncContext.class);
+    when(request.startAsync(request, response)).thenReturn(asyncContext);
+    when(asyncContext.getRequest()).thenReturn(request);
+    when(asyncContext.getResponse()).thenReturn(response);
+    return asyncContext;
+  }
+}
@@ -23,11 +23,22 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 import javax.servlet.Filter;
 import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.rest.RESTUtils;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -86,6 +97,46 @@ public class TestJettyServer {
     jettyServer.stop();
   }
 
+  @Test
+  public void testResponseCompression() throws Exception {
+    Config config = new Config(false) {};
+    int port = RESTUtils.findAvailablePort(5000, 6000);
+    config.set(JettyServerConfig.WEBSERVER_HTTP_PORT, port);
+    JettyServerConfig serverConfig = JettyServerConfig.fromConfig(config);
+    jettyServer.initialize(serverConfig, "test", false);
+
+    String body = StringUtils.repeat("{\"name\":\"gravitino\"}", 1000);
+    jettyServer.addServlet(
+        new HttpServlet() {
+          @Override
+          protected void doGet(HttpServletRequest req, HttpServletResponse resp)
+              throws IOException {
+            resp.setContentType("application/json");
+            resp.getWriter().write(body);
+          }
+        },
+        "/json");
+    jettyServer.start();
+
+    HttpURLConnection connection =
+        (HttpURLConnection) new URL("http://localhost:" + port + "/json").openConnection();
+    connection.setRequestProperty("Accept-Encoding", "gzip");
+    Assertions.assertEquals(200, connection.getResponseCode());
+    Assertions.assertEquals("gzip", connection.getHeaderField("Content-Encoding"));
+    try (InputStream in = new GZIPInputStream(connection.getInputStream())) {
+      Assertions.assertEquals(body, IOUtils.toString(in, StandardCharsets.UTF_8));
+    }
+
+    // The response is not compressed for the clients not accepting it
+    HttpURLConnection connection1 =
+        (HttpURLConnection) new URL("http://localhost:" + port + "/json").openConnection();
+    Assertions.assertEquals(200, connection1.getResponseCode());
+    Assertions.assertNull(connection1.getHeaderField("Content-Encoding"));
+    try (InputStream in = connection1.getInputStream()) {
+      Assertions.assertEquals(body, IOUtils.toString(in, StandardCharsets.UTF_8));
+    }
+  }
+
   @Test
   public void testStopWithNullServer() {
     assertDoesNotThrow(() -> jettyServer.stop());
@@ -76,4 +76,44 @@ public class TestJettyServerConfig {
     Assertions.assertTrue(jettyServerConfig.getAllWithPrefix("2.").isEmpty());
     Assertions.assertEquals(2, jettyServerConfig.getAllWithPrefix("1.").size());
   }
+
+  @Test
+  public void testCompression() {
+    Config emptyConfig = new Config() {};
+    JettyServerConfig jettyServerConfig = JettyServerConfig.fromConfig(emptyConfig, "");
+    Assertions.assertTrue(jettyServerConfig.isEnableCompression());
+    Assertions.assertFalse(jettyServerConfig.isEnableRequestDecompression());
+    Assertions.assertTrue(jettyServerConfig.getCompressionMimeTypes().contains("application/json"));
+
+    Config config = new Config() {};
+    config.set(JettyServerConfig.COMPRESSION_MIME_TYPES, "application/json, text/plain");
+    config.set(JettyServerConfig.COMPRESSION_MIN_SIZE, 2048);
+    config.set(JettyServerConfig.COMPRESSION_LEVEL, 1);
+    jettyServerConfig = JettyServerConfig.fromConfig(config, "");
+    Assertions.assertEquals(
+        Sets.newHashSet("application/json", "text/plain"),
+        jettyServerConfig.getCompressionMimeTypes());
+    Assertions.assertEquals(2048, jettyServerConfig.getCompressionMinSize());
+    Assertions.assertEquals(1, jettyServerConfig.getCompressionLevel());
+
+    Config invalidConfig = new Config() {};
+    invalidConfig.set(new ConfigBuilder("compressionLevel").stringConf(), "10");
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> JettyServerConfig.fromConfig(invalidConfig, ""));
+  }
+
+  @Test
+  public void testHttp2() {
+    Config emptyConfig = new Config() {};
+    JettyServerConfig jettyServerConfig = JettyServerConfig.fromConfig(emptyConfig, "");
+    Assertions.assertFalse(jettyServerConfig.isEnableHttp2());
+    Assertions.assertEquals(128, jettyServerConfig.getHttp2MaxConcurrentStreams());
+
+    Config config = new Config() {};
+    config.set(JettyServerConfig.ENABLE_HTTP2, true);
+    config.set(JettyServerConfig.HTTP2_MAX_CONCURRENT_STREAMS, 256);
+    jettyServerConfig = JettyServerConfig.fromConfig(config, "");
+    Assertions.assertTrue(jettyServerConfig.isEnableHttp2());
+    Assertions.assertEquals(256, jettyServerConfig.getHttp2MaxConcurrentStreams());
+  }
 }
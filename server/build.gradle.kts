@@ -21,6 +21,7 @@ plugins {
   `maven-publish`
   id("java")
   id("idea")
+  alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -37,6 +38,7 @@ dependencies {
   implementation(libs.jackson.datatype.jdk8)
   implementation(libs.jackson.datatype.jsr310)
   implementation(libs.jackson.databind)
+  implementation(libs.jackson.dataformat.smile)
   implementation(libs.metrics.jersey2)
 
   // As of Java 9 or newer, the javax.activation package (needed by the jetty server) is no longer part of the JDK. It was removed because it was part of the
@@ -83,6 +85,10 @@ fun getGitCommitId(): String {
   return gitCommitId
 }
 
+jmh {
+  jmhVersion.set(libs.versions.jmh.get())
+}
+
 tasks {
   test {
     environment("GRAVITINO_HOME", rootDir.path)
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.dto.AuditDTO;
+import org.apache.gravitino.dto.rel.ColumnDTO;
+import org.apache.gravitino.dto.rel.TableDTO;
+import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.rel.types.Type;
+import org.apache.gravitino.rel.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the cost of encoding and decoding a wide table response in JSON and in Smile. The
+ * payload sizes of both formats are logged when the trial is set up. Run it with {@code ./gradlew
+ * :server:jmh}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TableSerializationBenchmark {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TableSerializationBenchmark.class);
+
+  private static final ObjectMapper JSON_MAPPER = ObjectMapperProvider.objectMapper();
+
+  private static final ObjectMapper SMILE_MAPPER = ObjectMapperProvider.smileMapper();
+
+  @Param({"100", "1000"})
+  private int columns;
+
+  private TableResponse response;
+
+  private byte[] json;
+
+  private byte[] smile;
+
+  @Setup
+  public void setup() throws IOException {
+    response = new TableResponse(wideTable(columns));
+    json = JSON_MAPPER.writeValueAsBytes(response);
+    smile = SMILE_MAPPER.writeValueAsBytes(response);
+    LOG.info(
+        "{} columns: JSON {} bytes, Smile {} bytes ({}%)",
+        columns,
+        json.length,
+        smile.length,
+        String.format("%.1f", 100.0 * smile.length / json.length));
+  }
+
+  @Benchmark
+  public byte[] encodeJson() throws IOException {
+    return JSON_MAPPER.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public byte[] encodeSmile() throws IOException {
+    return SMILE_MAPPER.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public TableResponse decodeJson() throws IOException {
+    return JSON_MAPPER.readValue(json, TableResponse.class);
+  }
+
+  @Benchmark
+  public TableResponse decodeSmile() throws IOException {
+    return SMILE_MAPPER.readValue(smile, TableResponse.class);
+  }
+
+  private static TableDTO wideTable(int columnCount) {
+    // Mixes the primitive and the nested types, as the wide tables of the lakehouse catalogs do.
+    Type[] types = {
+      Types.LongType.get(),
+      Types.StringType.get(),
+      Types.DecimalType.of(20, 4),
+      Types.TimestampType.withTimeZone(),
+      Types.ListType.of(Types.StringType.get(), true),
+      Types.MapType.of(Types.StringType.get(), Types.DoubleType.get(), true),
+      Types.StructType.of(
+          Types.StructType.Field.of("id", Types.IntegerType.get(), false, "id of the item"),
+          Types.StructType.Field.of(
+              "tags", Types.ListType.of(Types.VarCharType.of(64), false), true, null))
+    };
+    ColumnDTO[] columnDTOs = new ColumnDTO[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      columnDTOs[i] =
+          ColumnDTO.builder()
+              .withName("column_" + i)
+              .withDataType(types[i % types.length])
+              .withComment("comment of column " + i)
+              .withNullable(i % 3 != 0)
+              .build();
+    }
+
+    return TableDTO.builder()
+        .withName("wide_table")
+        .withComment("a wide table")
+        .withColumns(columnDTOs)
+        .withProperties(ImmutableMap.of("format", "parquet", "location", "s3://bucket/wide_table"))
+        .withAudit(
+            AuditDTO.builder().withCreator("gravitino").withCreateTime(Instant.now()).build())
+        .build();
+  }
+}
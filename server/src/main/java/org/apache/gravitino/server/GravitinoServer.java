@@ -35,16 +35,22 @@ import org.apache.gravitino.metalake.MetalakeDispatcher;
 import org.apache.gravitino.metrics.MetricsSystem;
 import org.apache.gravitino.metrics.source.MetricsSource;
 import org.apache.gravitino.server.authentication.ServerAuthenticator;
+import org.apache.gravitino.server.web.AccessLogWriter;
 import org.apache.gravitino.server.web.ConfigServlet;
 import org.apache.gravitino.server.web.HttpServerMetricsSource;
 import org.apache.gravitino.server.web.JettyServer;
 import org.apache.gravitino.server.web.JettyServerConfig;
 import org.apache.gravitino.server.web.ObjectMapperProvider;
+import org.apache.gravitino.server.web.SmileMessageBodyProvider;
 import org.apache.gravitino.server.web.VersioningFilter;
 import org.apache.gravitino.server.web.filter.AccessControlNotAllowedFilter;
+import org.apache.gravitino.server.web.filter.AccessLogFilter;
+import org.apache.gravitino.server.web.filter.RequestTraceFilter;
+import org.apache.gravitino.server.web.filter.SmileContentNegotiationFilter;
 import org.apache.gravitino.server.web.mapper.JsonMappingExceptionMapper;
 import org.apache.gravitino.server.web.mapper.JsonParseExceptionMapper;
 import org.apache.gravitino.server.web.mapper.JsonProcessingExceptionMapper;
+import org.apache.gravitino.server.web.rest.AsyncRequestExecutors;
 import org.apache.gravitino.server.web.ui.WebUIFilter;
 import org.apache.gravitino.tag.TagManager;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
@@ -72,6 +78,10 @@ public class GravitinoServer extends ResourceConfig {
 
   private final GravitinoEnv gravitinoEnv;
 
+  private AsyncRequestExecutors asyncRequestExecutors;
+
+  private AccessLogWriter accessLogWriter;
+
   public GravitinoServer(ServerConfig config, GravitinoEnv gravitinoEnv) {
     serverConfig = config;
     server = new JettyServer();
@@ -88,19 +98,21 @@ public class GravitinoServer extends ResourceConfig {
     ServerAuthenticator.getInstance().initialize(serverConfig);
 
     // initialize Jersey REST API resources.
-    initializeRestApi();
+    initializeRestApi(jettyServerConfig);
   }
 
   public ServerConfig serverConfig() {
     return serverConfig;
   }
 
-  private void initializeRestApi() {
+  private void initializeRestApi(JettyServerConfig jettyServerConfig) {
     List<String> restApiPackages = Lists.newArrayList("org.apache.gravitino.server.web.rest");
     restApiPackages.addAll(serverConfig.get(Configs.REST_API_EXTENSION_PACKAGES));
     packages(restApiPackages.toArray(new String[0]));
 
     boolean enableAuthorization = serverConfig.get(Configs.ENABLE_AUTHORIZATION);
+    asyncRequestExecutors =
+        new AsyncRequestExecutors(serverConfig, jettyServerConfig.getMaxThreads());
     register(
         new AbstractBinder() {
           @Override
@@ -113,12 +125,27 @@ public class GravitinoServer extends ResourceConfig {
             bind(gravitinoEnv.filesetDispatcher()).to(FilesetDispatcher.class).ranked(1);
             bind(gravitinoEnv.topicDispatcher()).to(TopicDispatcher.class).ranked(1);
             bind(gravitinoEnv.tagManager()).to(TagManager.class).ranked(1);
+            bind(asyncRequestExecutors).to(AsyncRequestExecutors.class).ranked(1);
           }
         });
     register(JsonProcessingExceptionMapper.class);
     register(JsonParseExceptionMapper.class);
     register(JsonMappingExceptionMapper.class);
     register(ObjectMapperProvider.class).register(JacksonFeature.class);
+    register(SmileMessageBodyProvider.class);
+    register(SmileContentNegotiationFilter.class);
+
+    // The requests are only traced if the traces are used.
+    long slowRequestThresholdMs = serverConfig.get(Configs.REST_SLOW_REQUEST_THRESHOLD_MS);
+    boolean serverTimingEnabled = serverConfig.get(Configs.REST_SERVER_TIMING_ENABLED);
+    if (slowRequestThresholdMs > 0 || serverTimingEnabled) {
+      register(new RequestTraceFilter(slowRequestThresholdMs, serverTimingEnabled));
+    }
+
+    if (serverConfig.get(Configs.REST_ACCESS_LOG_ENABLED)) {
+      accessLogWriter = new AccessLogWriter(serverConfig);
+      register(new AccessLogFilter(accessLogWriter));
+    }
 
     if (!enableAuthorization) {
       register(AccessControlNotAllowedFilter.class);
@@ -152,6 +179,12 @@ public class GravitinoServer extends ResourceConfig {
 
   public void stop() {
     server.stop();
+    if (asyncRequestExecutors != null) {
+      asyncRequestExecutors.close();
+    }
+    if (accessLogWriter != null) {
+      accessLogWriter.close();
+    }
     gravitinoEnv.shutdown();
   }
 
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.Closeable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes a record of each REST request to the access log. The request threads put the records into
+ * a bounded lock-free ring buffer, and a background thread drains them to the {@value
+ * #ACCESS_LOGGER_NAME} logger, so the request threads neither format the records nor wait for the
+ * appenders. When the buffer is full, the records are dropped, or written by the request threads if
+ * dropping is disabled.
+ */
+public class AccessLogWriter implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AccessLogWriter.class);
+
+  /** The name of the logger the access log records are written to. */
+  public static final String ACCESS_LOGGER_NAME = "org.apache.gravitino.server.web.AccessLog";
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final Entry[] entries;
+  private final int mask;
+  // The sequence of each slot: the slot is writable at the position equal to its sequence, and
+  // readable at the position equal to its sequence minus one.
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  // Only accessed by the writer thread.
+  private long head;
+  private final StringBuilder builder = new StringBuilder(256);
+  private long lastDropReportNanos = System.nanoTime();
+
+  private final int sampleRatio;
+  private final boolean dropOnOverflow;
+  private final Consumer<String> sink;
+  private final LongAdder dropped = new LongAdder();
+
+  private final Thread writerThread;
+  private volatile boolean closed;
+
+  public AccessLogWriter(Config config) {
+    this(
+        config.get(Configs.REST_ACCESS_LOG_BUFFER_SIZE),
+        config.get(Configs.REST_ACCESS_LOG_SAMPLE_RATIO),
+        config.get(Configs.REST_ACCESS_LOG_DROP_ON_OVERFLOW),
+        LoggerFactory.getLogger(ACCESS_LOGGER_NAME)::info,
+        true);
+  }
+
+  @VisibleForTesting
+  AccessLogWriter(
+      int bufferSize,
+      int sampleRatio,
+      boolean dropOnOverflow,
+      Consumer<String> sink,
+      boolean startWriter) {
+    // The ring buffer needs at least two slots to tell a full slot from an empty one.
+    int capacity = Integer.highestOneBit(Math.max(bufferSize - 1, 1)) << 1;
+    this.entries = new Entry[capacity];
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      entries[i] = new Entry();
+      sequences.set(i, i);
+    }
+    this.mask = capacity - 1;
+    this.sampleRatio = sampleRatio;
+    this.dropOnOverflow = dropOnOverflow;
+    this.sink = sink;
+
+    this.writerThread = new Thread(this::run, "access-log-writer");
+    writerThread.setDaemon(true);
+    if (startWriter) {
+      writerThread.start();
+    }
+  }
+
+  /**
+   * Logs a request.
+   *
+   * @param method The HTTP method of the request.
+   * @param path The path of the request.
+   * @param status The status of the response.
+   * @param durationNanos The time of serving the request in nanoseconds.
+   * @param principal The principal of the request, or null if not authenticated.
+   */
+  public void log(String method, String path, int status, long durationNanos, String principal) {
+    if (status < 400 && sampleRatio > 1 && ThreadLocalRandom.current().nextInt(sampleRatio) != 0) {
+      return;
+    }
+
+    long pos = tail.get();
+    while (true) {
+      int index = (int) (pos & mask);
+      long diff = sequences.get(index) - pos;
+      if (diff == 0) {
+        if (tail.compareAndSet(pos, pos + 1)) {
+          entries[index].set(method, path, status, durationNanos, principal);
+          sequences.lazySet(index, pos + 1);
+          return;
+        }
+        pos = tail.get();
+      } else if (diff < 0) {
+        // The buffer is full.
+        break;
+      } else {
+        pos = tail.get();
+      }
+    }
+
+    if (dropOnOverflow) {
+      dropped.increment();
+    } else {
+      Entry entry = new Entry();
+      entry.set(method, path, status, durationNanos, principal);
+      sink.accept(format(entry, new StringBuilder(128)));
+    }
+  }
+
+  /**
+   * Returns the number of the records dropped since the last report.
+   *
+   * @return The number of the dropped records.
+   */
+  @VisibleForTesting
+  long dropped() {
+    return dropped.sum();
+  }
+
+  /**
+   * Writes the buffered records, only called by the writer thread or in tests.
+   *
+   * @return The number of the written records.
+   */
+  @VisibleForTesting
+  int drain() {
+    int count = 0;
+    while (true) {
+      int index = (int) (head & mask);
+      if (sequences.get(index) != head + 1) {
+        break;
+      }
+
+      Entry entry = entries[index];
+      builder.setLength(0);
+      String record = format(entry, builder);
+      entry.clear();
+      sequences.lazySet(index, head + entries.length);
+      head++;
+      count++;
+
+      try {
+        sink.accept(record);
+      } catch (RuntimeException e) {
+        LOG.warn("Failed to write the access log record: {}", record, e);
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    if (writerThread.isAlive()) {
+      LockSupport.unpark(writerThread);
+      try {
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void run() {
+    while (!closed) {
+      if (drain() == 0) {
+        reportDropped(false);
+        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+      }
+    }
+    drain();
+    reportDropped(true);
+  }
+
+  private void reportDropped(boolean force) {
+    long now = System.nanoTime();
+    if (!force && now - lastDropReportNanos < DROP_REPORT_INTERVAL_NANOS) {
+      return;
+    }
+    lastDropReportNanos = now;
+    long count = dropped.sumThenReset();
+    if (count > 0) {
+      LOG.warn("Dropped {} access log records since the buffer is full", count);
+    }
+  }
+
+  private static String format(Entry entry, StringBuilder sb) {
+    sb.append("method=")
+        .append(entry.method)
+        .append(" path=")
+        .append(entry.path)
+        .append(" status=")
+        .append(entry.status)
+        .append(" durationMs=")
+        .append(entry.durationNanos / 1_000_000)
+        .append('.');
+    long micros = (entry.durationNanos / 1_000) % 1_000;
+    if (micros < 100) {
+      sb.append(micros < 10 ? "00" : "0");
+    }
+    sb.append(micros).append(" principal=").append(entry.principal);
+    return sb.toString();
+  }
+
+  private static final class Entry {
+    private String method;
+    private String path;
+    private int status;
+    private long durationNanos;
+    private String principal;
+
+    private void set(String method, String path, int status, long durationNanos, String principal) {
+      this.method = method;
+      this.path = path;
+      this.status = status;
+      this.durationNanos = durationNanos;
+      this.principal = principal;
+    }
+
+    private void clear() {
+      this.method = null;
+      this.path = null;
+      this.principal = null;
+    }
+  }
+}
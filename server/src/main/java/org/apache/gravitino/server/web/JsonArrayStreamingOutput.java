@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Writes a list response, i.e. {"code": 0, "field": [...]}, by serializing the elements one by one
+ * as they are pulled from an iterator. The serialized body is not materialized, so the memory used
+ * by a request doesn't grow with the size of the response body. The output is written after the
+ * resource method returns, i.e. outside of its locks, so the iterator must not do any lazy work
+ * beyond yielding the prepared elements. The output is written in the format of the mapper, JSON by
+ * default or Smile, see {@link #withMapper(ObjectMapper)}.
+ *
+ * @param <T> The type of the elements.
+ */
+public class JsonArrayStreamingOutput<T> implements StreamingOutput {
+
+  /**
+   * Writes a single element of the array.
+   *
+   * @param <T> The type of the element.
+   */
+  @FunctionalInterface
+  public interface ElementWriter<T> {
+    /**
+     * Writes the element with the generator.
+     *
+     * @param element The element to write.
+     * @param generator The generator to write with.
+     * @throws IOException If failed to write the element.
+     */
+    void write(T element, JsonGenerator generator) throws IOException;
+  }
+
+  private final String field;
+
+  private final Iterator<T> elements;
+
+  // Null to serialize the elements with the mapper.
+  private final ElementWriter<T> elementWriter;
+
+  private final ObjectMapper mapper;
+
+  /**
+   * Creates an output serializing the elements with the shared {@link ObjectMapper}.
+   *
+   * @param field The name of the array field.
+   * @param elements The elements of the array.
+   */
+  public JsonArrayStreamingOutput(String field, Iterator<T> elements) {
+    this(field, elements, null, ObjectMapperProvider.objectMapper());
+  }
+
+  /**
+   * Creates an output serializing the elements with the given writer.
+   *
+   * @param field The name of the array field.
+   * @param elements The elements of the array.
+   * @param elementWriter The writer of each element.
+   */
+  public JsonArrayStreamingOutput(
+      String field, Iterator<T> elements, ElementWriter<T> elementWriter) {
+    this(field, elements, elementWriter, ObjectMapperProvider.objectMapper());
+  }
+
+  private JsonArrayStreamingOutput(
+      String field, Iterator<T> elements, ElementWriter<T> elementWriter, ObjectMapper mapper) {
+    this.field = field;
+    this.elements = elements;
+    this.elementWriter = elementWriter;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Returns an output writing the same elements in the format of the given mapper, e.g. {@link
+   * ObjectMapperProvider#smileMapper()}.
+   *
+   * @param mapper The mapper whose factory creates the generator.
+   * @return The output written with the mapper.
+   */
+  public JsonArrayStreamingOutput<T> withMapper(ObjectMapper mapper) {
+    return new JsonArrayStreamingOutput<>(field, elements, elementWriter, mapper);
+  }
+
+  @Override
+  public void write(OutputStream output) throws IOException {
+    // The output stream is owned by the container, so it must not be closed by the generator.
+    try (JsonGenerator generator =
+        mapper
+            .getFactory()
+            .createGenerator(output)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      generator.writeStartObject();
+      generator.writeNumberField("code", 0);
+      generator.writeArrayFieldStart(field);
+      ElementWriter<T> writer =
+          elementWriter != null ? elementWriter : defaultElementWriter(mapper);
+      while (elements.hasNext()) {
+        writer.write(elements.next(), generator);
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+  }
+
+  private static <T> ElementWriter<T> defaultElementWriter(ObjectMapper mapper) {
+    // Flushing after each element would turn every element into a separate write to the client.
+    ObjectWriter writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    return (element, generator) -> writer.writeValue(generator, element);
+  }
+}
@@ -23,7 +23,9 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.cfg.EnumFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import javax.ws.rs.ext.ContextResolver;
@@ -33,15 +35,23 @@ import javax.ws.rs.ext.Provider;
 public class ObjectMapperProvider implements ContextResolver<ObjectMapper> {
 
   private static class ObjectMapperHolder {
-    private static final ObjectMapper INSTANCE =
-        JsonMapper.builder()
-            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
-            .configure(EnumFeature.WRITE_ENUMS_TO_LOWERCASE, true)
-            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
-            .build()
-            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
-            .registerModule(new JavaTimeModule())
-            .registerModule(new Jdk8Module());
+    private static final ObjectMapper INSTANCE = configure(JsonMapper.builder());
+  }
+
+  private static class SmileMapperHolder {
+    private static final ObjectMapper INSTANCE = configure(SmileMapper.builder());
+  }
+
+  private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> ObjectMapper configure(
+      B builder) {
+    return builder
+        .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+        .configure(EnumFeature.WRITE_ENUMS_TO_LOWERCASE, true)
+        .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
+        .build()
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+        .registerModule(new JavaTimeModule())
+        .registerModule(new Jdk8Module());
   }
 
   /**
@@ -58,6 +68,17 @@ public class ObjectMapperProvider implements ContextResolver<ObjectMapper> {
     return ObjectMapperHolder.INSTANCE;
   }
 
+  /**
+   * Retrieves a globally shared {@link ObjectMapper} instance for the binary Smile format. It has
+   * the same configuration as {@link #objectMapper()}, so the same serializers produce the same
+   * data model in both formats.
+   *
+   * @return the globally shared Smile {@link ObjectMapper} instance
+   */
+  public static ObjectMapper smileMapper() {
+    return SmileMapperHolder.INSTANCE;
+  }
+
   @Override
   public ObjectMapper getContext(Class<?> type) {
     return ObjectMapperHolder.INSTANCE;
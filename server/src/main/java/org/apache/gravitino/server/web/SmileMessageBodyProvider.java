@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Reads and writes the entities in the binary Smile format with {@link
+ * ObjectMapperProvider#smileMapper()}. Smile encodes the same data model as JSON, so the entities
+ * are serialized with the same serializers in both formats.
+ */
+@Provider
+@Consumes(SmileMessageBodyProvider.APPLICATION_SMILE)
+@Produces(SmileMessageBodyProvider.APPLICATION_SMILE)
+public class SmileMessageBodyProvider
+    implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+
+  /** The media type of the Smile format. */
+  public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+  /** The media type of the Smile format. */
+  public static final MediaType APPLICATION_SMILE_TYPE = MediaType.valueOf(APPLICATION_SMILE);
+
+  @Override
+  public boolean isReadable(
+      Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return isSmile(mediaType);
+  }
+
+  @Override
+  public Object readFrom(
+      Class<Object> type,
+      Type genericType,
+      Annotation[] annotations,
+      MediaType mediaType,
+      MultivaluedMap<String, String> httpHeaders,
+      InputStream entityStream)
+      throws IOException {
+    ObjectMapper mapper = ObjectMapperProvider.smileMapper();
+    // The entity stream is owned by the container, so it must not be closed by the parser.
+    try (JsonParser parser =
+        mapper
+            .getFactory()
+            .createParser(entityStream)
+            .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)) {
+      return mapper.readValue(parser, mapper.constructType(genericType));
+    }
+  }
+
+  @Override
+  public boolean isWriteable(
+      Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return isSmile(mediaType);
+  }
+
+  @Override
+  public void writeTo(
+      Object o,
+      Class<?> type,
+      Type genericType,
+      Annotation[] annotations,
+      MediaType mediaType,
+      MultivaluedMap<String, Object> httpHeaders,
+      OutputStream entityStream)
+      throws IOException {
+    ObjectMapper mapper = ObjectMapperProvider.smileMapper();
+    try (JsonGenerator generator =
+        mapper
+            .getFactory()
+            .createGenerator(entityStream)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      mapper.writeValue(generator, o);
+    }
+  }
+
+  /**
+   * Checks whether the media type is the Smile format, wildcards are not considered as Smile.
+   *
+   * @param mediaType The media type to check.
+   * @return True if the media type is the Smile format.
+   */
+  public static boolean isSmile(MediaType mediaType) {
+    return mediaType != null
+        && APPLICATION_SMILE_TYPE.getType().equalsIgnoreCase(mediaType.getType())
+        && APPLICATION_SMILE_TYPE.getSubtype().equalsIgnoreCase(mediaType.getSubtype());
+  }
+}
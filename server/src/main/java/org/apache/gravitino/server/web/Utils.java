@@ -18,20 +18,47 @@
  */
 package org.apache.gravitino.server.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.Iterators;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
 import java.security.PrivilegedExceptionAction;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Variant;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.Auditable;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.UserPrincipal;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.trace.RequestTrace;
 import org.apache.gravitino.utils.PrincipalUtils;
 
 public class Utils {
 
   private static final String REMOTE_USER = "gravitino";
 
+  /** The attribute of the HTTP request holding its {@link RequestTrace}. */
+  public static final String REQUEST_TRACE_ATTRIBUTE = RequestTrace.class.getName();
+
+  // The formats of the responses serialized in advance, JSON is preferred if both are acceptable.
+  private static final List<Variant> RESPONSE_VARIANTS =
+      Variant.mediaTypes(
+              MediaType.APPLICATION_JSON_TYPE, SmileMessageBodyProvider.APPLICATION_SMILE_TYPE)
+          .build();
+
   private Utils() {}
 
   public static String remoteUser(HttpServletRequest httpRequest) {
@@ -42,6 +69,152 @@ public class Utils {
     return Response.status(Response.Status.OK).entity(t).type(MediaType.APPLICATION_JSON).build();
   }
 
+  /**
+   * Builds a successful response with an {@code ETag} computed from the serialized entity. If the
+   * {@code If-None-Match} header of the request matches the tag, a {@code 304 Not Modified}
+   * response without body is returned instead. The entity is serialized in Smile if the request
+   * prefers it to JSON, and the tag differs between the formats.
+   *
+   * <p>The entity must be loaded to compute the tag, so this is only for the objects which may be
+   * changed by external systems without touching the entity store, like tables and schemas. The
+   * objects fully managed by Gravitino use {@link #okWithVersionETag} instead.
+   *
+   * @param request The JAX-RS request used to evaluate the preconditions.
+   * @param t The entity of the response.
+   * @return The response.
+   * @param <T> The type of the entity.
+   * @throws JsonProcessingException If the entity fails to be serialized.
+   */
+  public static <T> Response okWithETag(Request request, T t) throws JsonProcessingException {
+    boolean smile = prefersSmile(request);
+    byte[] body =
+        (smile ? ObjectMapperProvider.smileMapper() : ObjectMapperProvider.objectMapper())
+            .writeValueAsBytes(t);
+    EntityTag eTag = new EntityTag(Hashing.murmur3_128().hashBytes(body).toString());
+    Response.ResponseBuilder notModified = request.evaluatePreconditions(eTag);
+    if (notModified != null) {
+      return notModified.build();
+    }
+
+    return Response.status(Response.Status.OK)
+        .entity(body)
+        .type(
+            smile
+                ? SmileMessageBodyProvider.APPLICATION_SMILE_TYPE
+                : MediaType.APPLICATION_JSON_TYPE)
+        .tag(eTag)
+        .build();
+  }
+
+  /**
+   * Returns the version of an entity in the store, derived from its id and audit times, which
+   * change whenever the entity is altered through Gravitino.
+   *
+   * @param ident The identifier of the entity.
+   * @param type The type of the entity.
+   * @param clazz The class of the entity.
+   * @return The version, or empty if the entity store is unavailable or doesn't have the entity.
+   * @param <E> The class of the entity.
+   */
+  public static <E extends Entity & HasIdentifier & Auditable> Optional<String> entityVersion(
+      NameIdentifier ident, Entity.EntityType type, Class<E> clazz) {
+    try {
+      EntityStore store = GravitinoEnv.getInstance().entityStore();
+      E entity = store.get(ident, type, clazz);
+      Audit audit = entity.auditInfo();
+      return Optional.of(entity.id() + ":" + audit.createTime() + ":" + audit.lastModifiedTime());
+    } catch (Exception e) {
+      // Let the load report the failure, e.g. the entity doesn't exist or the store isn't
+      // initialized.
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Builds a successful response with an {@code ETag} derived from the version of the entity, which
+   * is checked before the entity is loaded. If the {@code If-None-Match} header of the request
+   * matches the tag, a {@code 304 Not Modified} response is returned without loading or serializing
+   * the entity. The response has no tag if the version is unknown.
+   *
+   * <p>The version is read before the entity is loaded, so the loaded entity is never older than
+   * the tag; a concurrent change only causes the next request to get the full response again.
+   *
+   * @param request The JAX-RS request used to evaluate the preconditions.
+   * @param version The version of the entity, see {@link #entityVersion}.
+   * @param loader The function to load the entity of the response.
+   * @return The response.
+   * @param <T> The type of the entity.
+   * @throws Exception If the entity fails to be loaded.
+   */
+  public static <T> Response okWithVersionETag(
+      Request request, Optional<String> version, Callable<T> loader) throws Exception {
+    if (!version.isPresent()) {
+      return ok(loader.call());
+    }
+
+    // The representation differs by the format.
+    String tag = version.get() + ":" + (prefersSmile(request) ? "smile" : "json");
+    EntityTag eTag =
+        new EntityTag(Hashing.murmur3_128().hashString(tag, StandardCharsets.UTF_8).toString());
+    Response.ResponseBuilder notModified = request.evaluatePreconditions(eTag);
+    if (notModified != null) {
+      return notModified.build();
+    }
+
+    return Response.status(Response.Status.OK)
+        .entity(loader.call())
+        .type(MediaType.APPLICATION_JSON)
+        .tag(eTag)
+        .build();
+  }
+
+  private static boolean prefersSmile(Request request) {
+    Variant variant = request.selectVariant(RESPONSE_VARIANTS);
+    return variant != null && SmileMessageBodyProvider.isSmile(variant.getMediaType());
+  }
+
+  /**
+   * Returns a list response whose array field is serialized while iterating the elements, see
+   * {@link JsonArrayStreamingOutput}. The elements are written after the response status is
+   * committed and the locks of the request are released, so they must be fully built DTOs; only
+   * their serialization is streamed.
+   *
+   * @param field The name of the array field, e.g. "tables".
+   * @param elements The elements of the array.
+   * @param <T> The type of the elements.
+   * @return The streaming response.
+   */
+  public static <T> Response okStreaming(String field, T[] elements) {
+    return Response.status(Response.Status.OK)
+        .entity(new JsonArrayStreamingOutput<>(field, Iterators.forArray(elements)))
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
+  /**
+   * Returns a list response of identifiers in the same format as {@link
+   * org.apache.gravitino.dto.responses.EntityListResponse}, serialized while iterating the
+   * identifiers.
+   *
+   * @param idents The identifiers.
+   * @return The streaming response.
+   */
+  public static Response okStreaming(NameIdentifier[] idents) {
+    JsonUtils.NameIdentifierSerializer serializer = new JsonUtils.NameIdentifierSerializer();
+    return Response.status(Response.Status.OK)
+        .entity(
+            new JsonArrayStreamingOutput<>(
+                "identifiers",
+                Iterators.forArray(idents),
+                (ident, generator) ->
+                    serializer.serialize(
+                        ident,
+                        generator,
+                        ObjectMapperProvider.objectMapper().getSerializerProviderInstance())))
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
   public static Response ok() {
     return Response.status(Response.Status.NO_CONTENT).type(MediaType.APPLICATION_JSON).build();
   }
@@ -138,14 +311,38 @@ public class Utils {
         .build();
   }
 
+  public static Response serviceUnavailable(String message) {
+    return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+        .entity(ErrorResponse.restError(message))
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
   public static Response doAs(
       HttpServletRequest httpRequest, PrivilegedExceptionAction<Response> action) throws Exception {
+    try (RequestTrace.Scope ignored = RequestTrace.attach(requestTrace(httpRequest))) {
+      return PrincipalUtils.doAs(principal(httpRequest), action);
+    }
+  }
+
+  /**
+   * Returns the trace of the request, see {@link
+   * org.apache.gravitino.server.web.filter.RequestTraceFilter}.
+   *
+   * @param httpRequest The HTTP request.
+   * @return The trace of the request, or null if the request isn't traced.
+   */
+  public static RequestTrace requestTrace(HttpServletRequest httpRequest) {
+    return (RequestTrace) httpRequest.getAttribute(REQUEST_TRACE_ATTRIBUTE);
+  }
+
+  public static UserPrincipal principal(HttpServletRequest httpRequest) {
     UserPrincipal principal =
         (UserPrincipal)
             httpRequest.getAttribute(AuthConstants.AUTHENTICATED_PRINCIPAL_ATTRIBUTE_NAME);
     if (principal == null) {
       principal = new UserPrincipal(AuthConstants.ANONYMOUS_USER);
     }
-    return PrincipalUtils.doAs(principal, action);
+    return principal;
   }
 }
@@ -97,9 +97,11 @@ public class VersioningFilter implements Filter {
     while (acceptHeader.hasMoreElements()) {
       String value = acceptHeader.nextElement();
 
-      // If version accept header is set, then we need to check if it is supported.
+      // If version accept header is set, then we need to check if it is supported. The version
+      // may be listed with other media types, e.g. "application/x-jackson-smile,
+      // application/vnd.gravitino.v1+json;q=0.9".
       Matcher m = ACCEPT_VERSION_REGEX.matcher(value);
-      if (m.matches()) {
+      if (m.find()) {
         int version = Integer.parseInt(m.group(1));
 
         if (!ApiVersion.isSupportedVersion(version)) {
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.filter;
+
+import java.security.Principal;
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.server.web.AccessLogWriter;
+
+/**
+ * Writes a record of each REST request to the access log through {@link AccessLogWriter}. The
+ * filter runs first on the request and last on the response, so the duration covers the other
+ * filters, but not writing the response body.
+ */
+@Priority(Priorities.AUTHENTICATION - 200)
+public class AccessLogFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private static final String START_NANOS_PROPERTY = AccessLogFilter.class.getName() + ".start";
+
+  private final AccessLogWriter writer;
+
+  public AccessLogFilter(AccessLogWriter writer) {
+    this.writer = writer;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    requestContext.setProperty(START_NANOS_PROPERTY, System.nanoTime());
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    Object start = requestContext.getProperty(START_NANOS_PROPERTY);
+    long durationNanos = start instanceof Long ? System.nanoTime() - (Long) start : 0L;
+    Object principal =
+        requestContext.getProperty(AuthConstants.AUTHENTICATED_PRINCIPAL_ATTRIBUTE_NAME);
+
+    writer.log(
+        requestContext.getMethod(),
+        requestContext.getUriInfo().getRequestUri().getRawPath(),
+        responseContext.getStatus(),
+        durationNanos,
+        principal instanceof Principal ? ((Principal) principal).getName() : null);
+  }
+}
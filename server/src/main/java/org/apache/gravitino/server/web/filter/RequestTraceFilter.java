@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.filter;
+
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Priority;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.trace.RequestTrace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Traces the REST requests with {@link RequestTrace}. A request taking longer than the threshold is
+ * logged with the breakdown of its time by stage, and the breakdown is optionally returned in the
+ * {@code Server-Timing} header. The time of writing the response body isn't included.
+ */
+@Priority(Priorities.AUTHENTICATION - 100)
+public class RequestTraceFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RequestTraceFilter.class);
+
+  private static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+  private final long slowRequestThresholdNanos;
+
+  private final boolean serverTimingEnabled;
+
+  /**
+   * Creates a filter tracing the requests.
+   *
+   * @param slowRequestThresholdMs The time in milliseconds beyond which a request is logged, 0 to
+   *     not log the slow requests.
+   * @param serverTimingEnabled Whether to return the breakdown in the {@code Server-Timing} header.
+   */
+  public RequestTraceFilter(long slowRequestThresholdMs, boolean serverTimingEnabled) {
+    this.slowRequestThresholdNanos =
+        slowRequestThresholdMs > 0 ? TimeUnit.MILLISECONDS.toNanos(slowRequestThresholdMs) : 0L;
+    this.serverTimingEnabled = serverTimingEnabled;
+  }
+
+  @Override
+  public void filter(ContainerRequestContext requestContext) {
+    requestContext.setProperty(Utils.REQUEST_TRACE_ATTRIBUTE, new RequestTrace());
+  }
+
+  @Override
+  public void filter(
+      ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    Object property = requestContext.getProperty(Utils.REQUEST_TRACE_ATTRIBUTE);
+    if (!(property instanceof RequestTrace)) {
+      return;
+    }
+
+    RequestTrace trace = (RequestTrace) property;
+    if (serverTimingEnabled) {
+      responseContext.getHeaders().putSingle(SERVER_TIMING_HEADER, trace.toServerTiming());
+    }
+
+    if (slowRequestThresholdNanos > 0 && trace.elapsedNanos() > slowRequestThresholdNanos) {
+      LOG.warn(
+          "Slow request {} {} returned {}: {}",
+          requestContext.getMethod(),
+          requestContext.getUriInfo().getRequestUri().getPath(),
+          responseContext.getStatus(),
+          trace);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.filter;
+
+import java.util.List;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import org.apache.gravitino.server.web.JsonArrayStreamingOutput;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
+import org.apache.gravitino.server.web.SmileMessageBodyProvider;
+
+/**
+ * Switches the successful JSON responses to the binary Smile format if the client prefers it, i.e.
+ * the most acceptable media type of the request is Smile. The error responses stay in JSON, and the
+ * responses already serialized to bytes, e.g. the ones with a content ETag, negotiate the format
+ * themselves.
+ */
+@Provider
+public class SmileContentNegotiationFilter implements ContainerResponseFilter {
+
+  @Override
+  public void filter(
+      ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    Object entity = responseContext.getEntity();
+    if (entity == null
+        || responseContext.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL
+        || !MediaType.APPLICATION_JSON_TYPE.isCompatible(responseContext.getMediaType())) {
+      return;
+    }
+
+    // The response may differ by the Accept header of the request, so caches must not mix them.
+    responseContext.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    if (entity instanceof byte[] || !prefersSmile(requestContext)) {
+      return;
+    }
+
+    // A streamed list response is written with the Smile generator rather than buffered.
+    Object smileEntity =
+        entity instanceof JsonArrayStreamingOutput
+            ? ((JsonArrayStreamingOutput<?>) entity).withMapper(ObjectMapperProvider.smileMapper())
+            : entity;
+    responseContext.setEntity(
+        smileEntity,
+        responseContext.getEntityAnnotations(),
+        SmileMessageBodyProvider.APPLICATION_SMILE_TYPE);
+  }
+
+  private static boolean prefersSmile(ContainerRequestContext requestContext) {
+    // The acceptable media types are sorted by the quality factor.
+    List<MediaType> acceptableMediaTypes = requestContext.getAcceptableMediaTypes();
+    return !acceptableMediaTypes.isEmpty()
+        && SmileMessageBodyProvider.isSmile(acceptableMediaTypes.get(0));
+  }
+}
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.security.PrivilegedExceptionAction;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.trace.RequestTrace;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executors serving the REST requests which are suspended with {@link AsyncResponse}. Reads and
+ * writes run on separate bounded pools, so slow connector calls of one kind cannot starve the other
+ * one or the web server threads. A request is rejected with 503 when its pool is saturated.
+ */
+public class AsyncRequestExecutors implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncRequestExecutors.class);
+
+  private static final long SHUTDOWN_TIMEOUT_MS = 5000L;
+
+  // The idle threads are released, so a pool sized for the bursts doesn't keep its threads.
+  private static final long THREAD_KEEP_ALIVE_MS = 60_000L;
+
+  private final ExecutorService readExecutor;
+
+  private final ExecutorService writeExecutor;
+
+  private final ExecutorService batchExecutor;
+
+  private final int batchParallelism;
+
+  private final int batchMaxOperations;
+
+  /**
+   * Creates the executors from the configuration.
+   *
+   * @param config The configuration of the server.
+   * @param webServerMaxThreads The maximum threads of the web server, the default number of the
+   *     read threads. The reads are offloaded from the web server threads, so a smaller read pool
+   *     would cap the concurrent reads below what the web server could serve by itself.
+   */
+  public AsyncRequestExecutors(Config config, int webServerMaxThreads) {
+    this(
+        config.get(Configs.REST_READ_THREADS).orElse(webServerMaxThreads),
+        config.get(Configs.REST_WRITE_THREADS),
+        config.get(Configs.REST_QUEUE_SIZE),
+        config.get(Configs.REST_BATCH_THREADS),
+        config.get(Configs.REST_BATCH_PARALLELISM),
+        config.get(Configs.REST_BATCH_MAX_OPERATIONS));
+  }
+
+  @VisibleForTesting
+  AsyncRequestExecutors(int readThreads, int writeThreads, int queueSize) {
+    this(readThreads, writeThreads, queueSize, 0, 1, Integer.MAX_VALUE);
+  }
+
+  @VisibleForTesting
+  AsyncRequestExecutors(
+      int readThreads,
+      int writeThreads,
+      int queueSize,
+      int batchThreads,
+      int batchParallelism,
+      int batchMaxOperations) {
+    this.readExecutor = newExecutor("rest-read", readThreads, queueSize);
+    this.writeExecutor = newExecutor("rest-write", writeThreads, queueSize);
+    this.batchExecutor = newExecutor("rest-batch", batchThreads, queueSize);
+    this.batchParallelism = batchParallelism;
+    this.batchMaxOperations = batchMaxOperations;
+  }
+
+  /**
+   * Runs the action as the principal of the request on the executor of the operation type, and
+   * resumes the suspended response with its result.
+   *
+   * @param type The type of the operation, which decides the executor to run on.
+   * @param httpRequest The HTTP request carrying the authenticated principal.
+   * @param asyncResponse The suspended response to resume.
+   * @param action The action producing the response.
+   * @param exceptionHandler The handler converting the exception thrown by the action to a
+   *     response.
+   */
+  public void execute(
+      OperationType type,
+      HttpServletRequest httpRequest,
+      AsyncResponse asyncResponse,
+      PrivilegedExceptionAction<Response> action,
+      Function<Exception, Response> exceptionHandler) {
+    // The principal and the trace must be read on the web server thread, the request may be
+    // recycled later.
+    UserPrincipal principal = Utils.principal(httpRequest);
+    RequestTrace trace = Utils.requestTrace(httpRequest);
+    long submitNanos = System.nanoTime();
+    Runnable task =
+        () -> {
+          Response response;
+          try (RequestTrace.Scope ignored = RequestTrace.attach(trace)) {
+            if (trace != null) {
+              trace.record(RequestTrace.Stage.QUEUE, System.nanoTime() - submitNanos);
+            }
+            response = PrincipalUtils.doAs(principal, action);
+          } catch (Exception e) {
+            response = exceptionHandler.apply(e);
+          }
+          asyncResponse.resume(response);
+        };
+
+    try {
+      executor(type).execute(task);
+    } catch (RejectedExecutionException e) {
+      LOG.warn("Rejected {} request, the executor is saturated", type);
+      asyncResponse.resume(
+          Utils.serviceUnavailable("Server is busy, please retry the request later"));
+    }
+  }
+
+  /**
+   * Runs a task resuming a suspended read request on the read executor, e.g. when a waiting request
+   * is woken up by another thread. The task runs on the calling thread if the executor is
+   * saturated.
+   *
+   * @param task The task to run, it must not throw.
+   */
+  public void executeRead(Runnable task) {
+    try {
+      readExecutor.execute(task);
+    } catch (RejectedExecutionException e) {
+      task.run();
+    }
+  }
+
+  /**
+   * Executes the operations of a batch request with bounded parallelism. The calling thread takes
+   * part in the execution, so the batch always makes progress even when the batch executor is
+   * saturated.
+   *
+   * @param operations The operations to execute, they must not throw.
+   * @param <T> The type of the operation results.
+   * @return The results of the operations, in the same order as the operations.
+   * @throws IllegalArgumentException If there are more operations than allowed in a batch.
+   * @throws InterruptedException If interrupted while waiting for the operations.
+   * @throws ExecutionException If an operation throws.
+   */
+  public <T> List<T> executeBatch(List<Supplier<T>> operations)
+      throws InterruptedException, ExecutionException {
+    Preconditions.checkArgument(
+        operations.size() <= batchMaxOperations,
+        "The batch request has %s operations, exceeding the limit %s",
+        operations.size(),
+        batchMaxOperations);
+
+    AtomicReferenceArray<T> results = new AtomicReferenceArray<>(operations.size());
+    AtomicInteger next = new AtomicInteger();
+    // The operations executed by the batch executor are traced as part of the batch request.
+    RequestTrace trace = RequestTrace.current();
+    Runnable worker =
+        () -> {
+          try (RequestTrace.Scope ignored = RequestTrace.attach(trace)) {
+            int i;
+            while ((i = next.getAndIncrement()) < operations.size()) {
+              results.set(i, operations.get(i).get());
+            }
+          }
+        };
+
+    int workers = Math.min(batchParallelism, operations.size());
+    List<Future<?>> futures = Lists.newArrayListWithCapacity(workers);
+    try {
+      for (int i = 1; i < workers; i++) {
+        futures.add(batchExecutor.submit(worker));
+      }
+    } catch (RejectedExecutionException e) {
+      LOG.debug("Batch executor is saturated, running the batch with {} workers", futures.size());
+    }
+    worker.run();
+    for (Future<?> future : futures) {
+      future.get();
+    }
+
+    List<T> resultList = Lists.newArrayListWithCapacity(operations.size());
+    for (int i = 0; i < operations.size(); i++) {
+      resultList.add(results.get(i));
+    }
+    return resultList;
+  }
+
+  @Override
+  public void close() {
+    shutdown(readExecutor);
+    shutdown(writeExecutor);
+    shutdown(batchExecutor);
+  }
+
+  private ExecutorService executor(OperationType type) {
+    switch (type) {
+      case LIST:
+      case LOAD:
+      case GET:
+        return readExecutor;
+      default:
+        return writeExecutor;
+    }
+  }
+
+  private static ExecutorService newExecutor(String name, int threads, int queueSize) {
+    if (threads == 0) {
+      return MoreExecutors.newDirectExecutorService();
+    }
+
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            THREAD_KEEP_ALIVE_MS,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueSize),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat(name + "-%d").build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static void shutdown(ExecutorService executor) {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
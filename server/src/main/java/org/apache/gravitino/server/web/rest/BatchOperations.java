@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.apache.gravitino.dto.util.DTOConverters.fromDTO;
+import static org.apache.gravitino.dto.util.DTOConverters.fromDTOs;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Preconditions;
+import java.security.Principal;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.SchemaChange;
+import org.apache.gravitino.catalog.SchemaDispatcher;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.dto.requests.BatchOperationRequest;
+import org.apache.gravitino.dto.requests.BatchRequest;
+import org.apache.gravitino.dto.requests.SchemaCreateRequest;
+import org.apache.gravitino.dto.requests.SchemaUpdateRequest;
+import org.apache.gravitino.dto.requests.SchemaUpdatesRequest;
+import org.apache.gravitino.dto.requests.TableCreateRequest;
+import org.apache.gravitino.dto.requests.TableUpdateRequest;
+import org.apache.gravitino.dto.requests.TableUpdatesRequest;
+import org.apache.gravitino.dto.responses.BatchResponse;
+import org.apache.gravitino.dto.responses.DropResponse;
+import org.apache.gravitino.dto.responses.SchemaResponse;
+import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.dto.util.DTOConverters;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rest.RESTRequest;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.apache.gravitino.utils.PrincipalUtils;
+
+/**
+ * Executes several independent schema and table operations in a single request. The operations run
+ * in parallel through the same dispatchers as the REST APIs of schemas and tables, and each of them
+ * gets its own result, so a failed operation does not fail the others.
+ */
+@Path("/metalakes/{metalake}/batch")
+public class BatchOperations {
+
+  private final SchemaDispatcher schemaDispatcher;
+
+  private final TableDispatcher tableDispatcher;
+
+  private final AsyncRequestExecutors executors;
+
+  @Context private HttpServletRequest httpRequest;
+
+  @Inject
+  public BatchOperations(
+      SchemaDispatcher schemaDispatcher,
+      TableDispatcher tableDispatcher,
+      AsyncRequestExecutors executors) {
+    this.schemaDispatcher = schemaDispatcher;
+    this.tableDispatcher = tableDispatcher;
+    this.executors = executors;
+  }
+
+  @POST
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "batch." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "batch", absolute = true)
+  public void batch(
+      @PathParam("metalake") String metalake,
+      BatchRequest request,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.BATCH,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          request.validate();
+          Principal principal = PrincipalUtils.getCurrentPrincipal();
+          List<Supplier<JsonNode>> operations =
+              request.getOperations().stream()
+                  .map(op -> (Supplier<JsonNode>) () -> execute(principal, metalake, op))
+                  .collect(Collectors.toList());
+          List<JsonNode> results = executors.executeBatch(operations);
+          return Utils.ok(new BatchResponse(results.toArray(new JsonNode[0])));
+        },
+        ExceptionHandlers::handleBatchException);
+  }
+
+  private JsonNode execute(Principal principal, String metalake, BatchOperationRequest op) {
+    Response response;
+    try {
+      response =
+          PrincipalUtils.doAs(
+              principal,
+              () ->
+                  op.getType() == MetadataObject.Type.SCHEMA
+                      ? executeSchemaOperation(metalake, op)
+                      : executeTableOperation(metalake, op));
+    } catch (Exception e) {
+      String[] levels = op.getIdentifier();
+      OperationType type = OperationType.valueOf(op.getOperation().name());
+      response =
+          op.getType() == MetadataObject.Type.SCHEMA
+              ? ExceptionHandlers.handleSchemaException(type, levels[1], levels[0], e)
+              : ExceptionHandlers.handleTableException(type, levels[2], levels[1], e);
+    }
+    return ObjectMapperProvider.objectMapper().valueToTree(response.getEntity());
+  }
+
+  private Response executeSchemaOperation(String metalake, BatchOperationRequest op)
+      throws Exception {
+    String catalog = op.getIdentifier()[0];
+    NameIdentifier ident = NameIdentifierUtil.ofSchema(metalake, catalog, op.getIdentifier()[1]);
+    NameIdentifier lockIdent = NameIdentifierUtil.ofCatalog(metalake, catalog);
+    switch (op.getOperation()) {
+      case CREATE:
+        SchemaCreateRequest createRequest = readRequest(op, SchemaCreateRequest.class);
+        checkName(ident, createRequest.getName());
+        Schema created =
+            TreeLockUtils.doWithTreeLock(
+                lockIdent,
+                LockType.WRITE,
+                () ->
+                    schemaDispatcher.createSchema(
+                        ident, createRequest.getComment(), createRequest.getProperties()));
+        return Utils.ok(new SchemaResponse(DTOConverters.toDTO(created)));
+
+      case LOAD:
+        return Utils.ok(
+            new SchemaResponse(DTOConverters.toDTO(schemaDispatcher.loadSchema(ident))));
+
+      case ALTER:
+        SchemaChange[] changes =
+            readRequest(op, SchemaUpdatesRequest.class).getUpdates().stream()
+                .map(SchemaUpdateRequest::schemaChange)
+                .toArray(SchemaChange[]::new);
+        Schema altered =
+            TreeLockUtils.doWithTreeLock(
+                lockIdent, LockType.WRITE, () -> schemaDispatcher.alterSchema(ident, changes));
+        return Utils.ok(new SchemaResponse(DTOConverters.toDTO(altered)));
+
+      case DROP:
+        boolean dropped =
+            TreeLockUtils.doWithTreeLock(
+                lockIdent, LockType.WRITE, () -> schemaDispatcher.dropSchema(ident, false));
+        return Utils.ok(new DropResponse(dropped));
+
+      default:
+        throw new IllegalArgumentException("Unsupported batch operation " + op.getOperation());
+    }
+  }
+
+  private Response executeTableOperation(String metalake, BatchOperationRequest op)
+      throws Exception {
+    String[] levels = op.getIdentifier();
+    NameIdentifier ident = NameIdentifierUtil.ofTable(metalake, levels[0], levels[1], levels[2]);
+    NameIdentifier lockIdent = NameIdentifierUtil.ofSchema(metalake, levels[0], levels[1]);
+    switch (op.getOperation()) {
+      case CREATE:
+        TableCreateRequest createRequest = readRequest(op, TableCreateRequest.class);
+        checkName(ident, createRequest.getName());
+        Table created =
+            TreeLockUtils.doWithTreeLock(
+                lockIdent,
+                LockType.WRITE,
+                () ->
+                    tableDispatcher.createTable(
+                        ident,
+                        fromDTOs(createRequest.getColumns()),
+                        createRequest.getComment(),
+                        createRequest.getProperties(),
+                        fromDTOs(createRequest.getPartitioning()),
+                        fromDTO(createRequest.getDistribution()),
+                        fromDTOs(createRequest.getSortOrders()),
+                        fromDTOs(createRequest.getIndexes())));
+        return Utils.ok(new TableResponse(DTOConverters.toDTO(created)));
+
+      case LOAD:
+        return Utils.ok(new TableResponse(DTOConverters.toDTO(tableDispatcher.loadTable(ident))));
+
+      case ALTER:
+        TableChange[] changes =
+            readRequest(op, TableUpdatesRequest.class).getUpdates().stream()
+                .map(TableUpdateRequest::tableChange)
+                .toArray(TableChange[]::new);
+        Table altered =
+            TreeLockUtils.doWithTreeLock(
+                lockIdent, LockType.WRITE, () -> tableDispatcher.alterTable(ident, changes));
+        return Utils.ok(new TableResponse(DTOConverters.toDTO(altered)));
+
+      case DROP:
+        boolean dropped =
+            TreeLockUtils.doWithTreeLock(
+                lockIdent, LockType.WRITE, () -> tableDispatcher.dropTable(ident));
+        return Utils.ok(new DropResponse(dropped));
+
+      default:
+        throw new IllegalArgumentException("Unsupported batch operation " + op.getOperation());
+    }
+  }
+
+  private static <T extends RESTRequest> T readRequest(
+      BatchOperationRequest op, Class<T> requestClass) {
+    T request;
+    try {
+      request = ObjectMapperProvider.objectMapper().treeToValue(op.getRequest(), requestClass);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Malformed request of %s %s operation: %s",
+              op.getType(), op.getOperation(), e.getOriginalMessage()),
+          e);
+    }
+    request.validate();
+    return request;
+  }
+
+  private static void checkName(NameIdentifier ident, String name) {
+    Preconditions.checkArgument(
+        ident.name().equals(name),
+        "The name %s in the request does not match the identifier %s",
+        name,
+        ident);
+  }
+}
@@ -34,9 +34,11 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogChange;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.CatalogDispatcher;
@@ -44,13 +46,12 @@ import org.apache.gravitino.dto.requests.CatalogCreateRequest;
 import org.apache.gravitino.dto.requests.CatalogUpdateRequest;
 import org.apache.gravitino.dto.requests.CatalogUpdatesRequest;
 import org.apache.gravitino.dto.responses.BaseResponse;
-import org.apache.gravitino.dto.responses.CatalogListResponse;
 import org.apache.gravitino.dto.responses.CatalogResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
-import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
@@ -69,6 +70,8 @@ public class CatalogOperations {
 
   @Context private HttpServletRequest httpRequest;
 
+  @Context private Request restRequest;
+
   @Inject
   public CatalogOperations(CatalogDispatcher catalogDispatcher) {
     this.catalogDispatcher = catalogDispatcher;
@@ -81,10 +84,6 @@ public class CatalogOperations {
   public Response listCatalogs(
       @PathParam("metalake") String metalake,
       @QueryParam("details") @DefaultValue("false") boolean verbose) {
-    LOG.info(
-        "Received list catalog {} request for metalake: {}, ",
-        verbose ? "infos" : "names",
-        metalake);
     try {
       return Utils.doAs(
           httpRequest,
@@ -97,15 +96,10 @@ public class CatalogOperations {
                 () -> {
                   if (verbose) {
                     Catalog[] catalogs = catalogDispatcher.listCatalogsInfo(catalogNS);
-                    Response response =
-                        Utils.ok(new CatalogListResponse(DTOConverters.toDTOs(catalogs)));
-                    LOG.info("List {} catalogs info under metalake: {}", catalogs.length, metalake);
-                    return response;
+                    return Utils.okStreaming("catalogs", DTOConverters.toDTOs(catalogs));
                   } else {
                     NameIdentifier[] idents = catalogDispatcher.listCatalogs(catalogNS);
-                    Response response = Utils.ok(new EntityListResponse(idents));
-                    LOG.info("List {} catalogs under metalake: {}", idents.length, metalake);
-                    return response;
+                    return Utils.okStreaming(idents);
                   }
                 });
           });
@@ -120,7 +114,6 @@ public class CatalogOperations {
   @ResponseMetered(name = "create-catalog", absolute = true)
   public Response createCatalog(
       @PathParam("metalake") String metalake, CatalogCreateRequest request) {
-    LOG.info("Received create catalog request for metalake: {}", metalake);
     try {
       return Utils.doAs(
           httpRequest,
@@ -138,9 +131,7 @@ public class CatalogOperations {
                             request.getProvider(),
                             request.getComment(),
                             request.getProperties()));
-            Response response = Utils.ok(new CatalogResponse(DTOConverters.toDTO(catalog)));
-            LOG.info("Catalog created: {}.{}", metalake, catalog.name());
-            return response;
+            return Utils.ok(new CatalogResponse(DTOConverters.toDTO(catalog)));
           });
 
     } catch (Exception e) {
@@ -156,7 +147,6 @@ public class CatalogOperations {
   @ResponseMetered(name = "test-connection", absolute = true)
   public Response testConnection(
       @PathParam("metalake") String metalake, CatalogCreateRequest request) {
-    LOG.info("Received test connection request for catalog: {}.{}", metalake, request.getName());
     try {
       return Utils.doAs(
           httpRequest,
@@ -175,14 +165,10 @@ public class CatalogOperations {
                       request.getProperties());
                   return null;
                 });
-            Response response = Utils.ok(new BaseResponse());
-            LOG.info(
-                "Successfully test connection for catalog: {}.{}", metalake, request.getName());
-            return response;
+            return Utils.ok(new BaseResponse());
           });
 
     } catch (Exception e) {
-      LOG.info("Failed to test connection for catalog: {}.{}", metalake, request.getName());
       return ExceptionHandlers.handleTestConnectionException(e);
     }
   }
@@ -194,15 +180,19 @@ public class CatalogOperations {
   @ResponseMetered(name = "load-catalog", absolute = true)
   public Response loadCatalog(
       @PathParam("metalake") String metalakeName, @PathParam("catalog") String catalogName) {
-    LOG.info("Received load catalog request for catalog: {}.{}", metalakeName, catalogName);
     try {
       NameIdentifier ident = NameIdentifierUtil.ofCatalog(metalakeName, catalogName);
-      Catalog catalog =
-          TreeLockUtils.doWithTreeLock(
-              ident, LockType.READ, () -> catalogDispatcher.loadCatalog(ident));
-      Response response = Utils.ok(new CatalogResponse(DTOConverters.toDTO(catalog)));
-      LOG.info("Catalog loaded: {}.{}", metalakeName, catalogName);
-      return response;
+      // The catalogs are only changed through Gravitino, so the stored version identifies them
+      // and an unchanged catalog isn't loaded at all.
+      return Utils.okWithVersionETag(
+          restRequest,
+          Utils.entityVersion(ident, Entity.EntityType.CATALOG, CatalogEntity.class),
+          () -> {
+            Catalog catalog =
+                TreeLockUtils.doWithTreeLock(
+                    ident, LockType.READ, () -> catalogDispatcher.loadCatalog(ident));
+            return new CatalogResponse(DTOConverters.toDTO(catalog));
+          });
 
     } catch (Exception e) {
       return ExceptionHandlers.handleCatalogException(
@@ -219,7 +209,6 @@ public class CatalogOperations {
       @PathParam("metalake") String metalakeName,
       @PathParam("catalog") String catalogName,
       CatalogUpdatesRequest request) {
-    LOG.info("Received alter catalog request for catalog: {}.{}", metalakeName, catalogName);
     try {
       return Utils.doAs(
           httpRequest,
@@ -235,9 +224,7 @@ public class CatalogOperations {
                     NameIdentifierUtil.ofMetalake(metalakeName),
                     LockType.WRITE,
                     () -> catalogDispatcher.alterCatalog(ident, changes));
-            Response response = Utils.ok(new CatalogResponse(DTOConverters.toDTO(catalog)));
-            LOG.info("Catalog altered: {}.{}", metalakeName, catalog.name());
-            return response;
+            return Utils.ok(new CatalogResponse(DTOConverters.toDTO(catalog)));
           });
 
     } catch (Exception e) {
@@ -253,7 +240,6 @@ public class CatalogOperations {
   @ResponseMetered(name = "drop-catalog", absolute = true)
   public Response dropCatalog(
       @PathParam("metalake") String metalakeName, @PathParam("catalog") String catalogName) {
-    LOG.info("Received drop catalog request for catalog: {}.{}", metalakeName, catalogName);
     try {
       return Utils.doAs(
           httpRequest,
@@ -268,9 +254,7 @@ public class CatalogOperations {
               LOG.warn("Failed to drop catalog {} under metalake {}", catalogName, metalakeName);
             }
 
-            Response response = Utils.ok(new DropResponse(dropped));
-            LOG.info("Catalog dropped: {}.{}", metalakeName, catalogName);
-            return response;
+            return Utils.ok(new DropResponse(dropped));
           });
     } catch (Exception e) {
       return ExceptionHandlers.handleCatalogException(
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.dto.ChangeDTO;
+import org.apache.gravitino.dto.responses.ChangeFeedResponse;
+import org.apache.gravitino.listener.ChangeFeed;
+import org.apache.gravitino.metalake.MetalakeDispatcher;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+
+/**
+ * Serves the changes of the metadata objects of a metalake, so the clients can invalidate their
+ * caches by the changes. A request without {@code after} returns the latest sequence to read from.
+ * A request with {@code waitMs} is a long polling request, which waits until there is a change
+ * after the sequence or the time is up.
+ */
+@Path("metalakes/{metalake}/changes")
+public class ChangeFeedOperations {
+
+  private final ChangeFeed changeFeed;
+
+  private final MetalakeDispatcher metalakeDispatcher;
+
+  private final AsyncRequestExecutors executors;
+
+  private final long maxWaitMs;
+
+  @Inject
+  public ChangeFeedOperations(
+      MetalakeDispatcher metalakeDispatcher, AsyncRequestExecutors executors) {
+    this.metalakeDispatcher = metalakeDispatcher;
+    this.executors = executors;
+    this.changeFeed = GravitinoEnv.getInstance().changeFeed();
+    this.maxWaitMs = GravitinoEnv.getInstance().config().get(Configs.CHANGE_FEED_MAX_WAIT_MS);
+  }
+
+  @GET
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "list-change." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "list-change", absolute = true)
+  public void listChanges(
+      @PathParam("metalake") String metalake,
+      @QueryParam("epoch") String epoch,
+      @QueryParam("after") @DefaultValue("-1") long after,
+      @QueryParam("limit") @DefaultValue("1000") int limit,
+      @QueryParam("waitMs") @DefaultValue("0") long waitMs,
+      @Suspended AsyncResponse asyncResponse) {
+    if (!changeFeed.isRunning()) {
+      asyncResponse.resume(Utils.unsupportedOperation("The change feed is disabled"));
+      return;
+    }
+    if (limit <= 0 || waitMs < 0) {
+      asyncResponse.resume(
+          Utils.illegalArguments("The limit must be positive and waitMs must be non-negative"));
+      return;
+    }
+
+    try {
+      if (!metalakeDispatcher.metalakeExists(NameIdentifierUtil.ofMetalake(metalake))) {
+        asyncResponse.resume(
+            Utils.notFound("NoSuchMetalakeException", "Metalake " + metalake + " does not exist"));
+        return;
+      }
+    } catch (Exception e) {
+      asyncResponse.resume(
+          ExceptionHandlers.handleMetalakeException(OperationType.LIST, metalake, e));
+      return;
+    }
+
+    long timeoutMs = Math.min(waitMs, maxWaitMs);
+    boolean waiting = timeoutMs > 0 && after >= 0;
+    ChangePoll poll = new ChangePoll(metalake, epoch, after, limit, waiting, asyncResponse);
+    if (waiting) {
+      asyncResponse.setTimeoutHandler(response -> poll.timeout());
+      asyncResponse.setTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+    poll.run();
+  }
+
+  /** Reads the changes, and waits for them if there is none yet. */
+  private final class ChangePoll implements Runnable {
+    private final String metalake;
+    private final String epoch;
+    private final int limit;
+    private final AsyncResponse asyncResponse;
+    // The waiter is run by the thread adding the change, so the response is resumed on another
+    // thread.
+    private final Runnable wakeUp = () -> executors.executeRead(this);
+    private volatile long after;
+    private volatile boolean waiting;
+
+    private ChangePoll(
+        String metalake,
+        String epoch,
+        long after,
+        int limit,
+        boolean waiting,
+        AsyncResponse asyncResponse) {
+      this.metalake = metalake;
+      this.epoch = epoch;
+      this.after = after;
+      this.limit = limit;
+      this.waiting = waiting;
+      this.asyncResponse = asyncResponse;
+    }
+
+    @Override
+    public void run() {
+      while (!asyncResponse.isDone()) {
+        ChangeFeed.Page page = changeFeed.read(metalake, epoch, after, limit);
+        if (!waiting || page.reset() || !page.changes().isEmpty()) {
+          asyncResponse.resume(toResponse(page));
+          return;
+        }
+
+        // Skip the changes of the other metalakes.
+        after = page.latestSequence();
+        if (changeFeed.awaitChange(after, wakeUp)) {
+          return;
+        }
+        if (!changeFeed.isRunning()) {
+          asyncResponse.resume(toResponse(page));
+          return;
+        }
+      }
+    }
+
+    private void timeout() {
+      waiting = false;
+      changeFeed.removeWaiter(wakeUp);
+      run();
+    }
+  }
+
+  private Response toResponse(ChangeFeed.Page page) {
+    List<ChangeFeed.Change> changes = page.changes();
+    ChangeDTO[] changeDTOs = new ChangeDTO[changes.size()];
+    for (int i = 0; i < changeDTOs.length; i++) {
+      ChangeFeed.Change change = changes.get(i);
+      changeDTOs[i] =
+          new ChangeDTO(
+              change.sequence(),
+              ChangeDTO.Operation.valueOf(change.operation().name()),
+              change.objectType(),
+              change.identifier(),
+              change.eventTime());
+    }
+    return Utils.ok(
+        new ChangeFeedResponse(
+            changeFeed.epoch(), page.latestSequence(), page.reset(), changeDTOs));
+  }
+}
@@ -138,6 +138,15 @@ public class ExceptionHandlers {
         .build();
   }
 
+  public static Response handleBatchException(Exception e) {
+    if (e instanceof IllegalArgumentException) {
+      return Utils.illegalArguments(e.getMessage(), e);
+    }
+
+    LOG.error("Failed to execute the batch request", e);
+    return Utils.internalError(e.getMessage(), e);
+  }
+
   public static Response handleOwnerException(
       OperationType type, String name, String metalake, Exception e) {
     return OwnerExceptionHandler.INSTANCE.handle(type, name, metalake, e);
@@ -24,14 +24,19 @@ import java.util.Optional;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
-import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Request;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.FilesetDispatcher;
@@ -39,13 +44,13 @@ import org.apache.gravitino.dto.requests.FilesetCreateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdateRequest;
 import org.apache.gravitino.dto.requests.FilesetUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
-import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.lock.LockType;
 import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.metrics.MetricNames;
 import org.apache.gravitino.server.web.Utils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
@@ -60,90 +65,85 @@ public class FilesetOperations {
 
   private final FilesetDispatcher dispatcher;
 
+  private final AsyncRequestExecutors executors;
+
   @Context private HttpServletRequest httpRequest;
 
+  @Context private Request restRequest;
+
   @Inject
-  public FilesetOperations(FilesetDispatcher dispatcher) {
+  public FilesetOperations(FilesetDispatcher dispatcher, AsyncRequestExecutors executors) {
     this.dispatcher = dispatcher;
+    this.executors = executors;
   }
 
   @GET
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "list-fileset." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-fileset", absolute = true)
-  public Response listFilesets(
+  public void listFilesets(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
-    try {
-      LOG.info("Received list filesets request for schema: {}.{}.{}", metalake, catalog, schema);
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            Namespace filesetNS = NamespaceUtil.ofFileset(metalake, catalog, schema);
-            NameIdentifier[] idents =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.READ,
-                    () -> dispatcher.listFilesets(filesetNS));
-            Response response = Utils.ok(new EntityListResponse(idents));
-            LOG.info(
-                "List {} filesets under schema: {}.{}.{}",
-                idents.length,
-                metalake,
-                catalog,
-                schema);
-            return response;
-          });
-
-    } catch (Exception e) {
-      return ExceptionHandlers.handleFilesetException(OperationType.LIST, "", schema, e);
-    }
+      @PathParam("schema") String schema,
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.LIST,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          Namespace filesetNS = NamespaceUtil.ofFileset(metalake, catalog, schema);
+          return TreeLockUtils.doWithTreeLock(
+              NameIdentifier.of(metalake, catalog, schema),
+              LockType.READ,
+              () -> {
+                if (verbose) {
+                  Fileset[] filesets = dispatcher.listFilesetsInfo(filesetNS);
+                  return Utils.okStreaming("filesets", DTOConverters.toDTOs(filesets));
+                } else {
+                  NameIdentifier[] idents = dispatcher.listFilesets(filesetNS);
+                  return Utils.okStreaming(idents);
+                }
+              });
+        },
+        e -> ExceptionHandlers.handleFilesetException(OperationType.LIST, "", schema, e));
   }
 
   @POST
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "create-fileset." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "create-fileset", absolute = true)
-  public Response createFileset(
+  public void createFileset(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      FilesetCreateRequest request) {
-    LOG.info(
-        "Received create fileset request: {}.{}.{}.{}",
-        metalake,
-        catalog,
-        schema,
-        request.getName());
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            request.validate();
-            NameIdentifier ident =
-                NameIdentifierUtil.ofFileset(metalake, catalog, schema, request.getName());
-
-            Fileset fileset =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifierUtil.ofSchema(metalake, catalog, schema),
-                    LockType.WRITE,
-                    () ->
-                        dispatcher.createFileset(
-                            ident,
-                            request.getComment(),
-                            Optional.ofNullable(request.getType()).orElse(Fileset.Type.MANAGED),
-                            request.getStorageLocation(),
-                            request.getProperties()));
-            Response response = Utils.ok(new FilesetResponse(DTOConverters.toDTO(fileset)));
-            LOG.info("Fileset created: {}.{}.{}.{}", metalake, catalog, schema, request.getName());
-            return response;
-          });
-
-    } catch (Exception e) {
-      return ExceptionHandlers.handleFilesetException(
-          OperationType.CREATE, request.getName(), schema, e);
-    }
+      FilesetCreateRequest request,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.CREATE,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          request.validate();
+          NameIdentifier ident =
+              NameIdentifierUtil.ofFileset(metalake, catalog, schema, request.getName());
+
+          Fileset fileset =
+              TreeLockUtils.doWithTreeLock(
+                  NameIdentifierUtil.ofSchema(metalake, catalog, schema),
+                  LockType.WRITE,
+                  () ->
+                      dispatcher.createFileset(
+                          ident,
+                          request.getComment(),
+                          Optional.ofNullable(request.getType()).orElse(Fileset.Type.MANAGED),
+                          request.getStorageLocation(),
+                          request.getProperties()));
+          return Utils.ok(new FilesetResponse(DTOConverters.toDTO(fileset)));
+        },
+        e ->
+            ExceptionHandlers.handleFilesetException(
+                OperationType.CREATE, request.getName(), schema, e));
   }
 
   @GET
@@ -151,27 +151,31 @@ public class FilesetOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "load-fileset." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "load-fileset", absolute = true)
-  public Response loadFileset(
+  public void loadFileset(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      @PathParam("fileset") String fileset) {
-    LOG.info("Received load fileset request: {}.{}.{}.{}", metalake, catalog, schema, fileset);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
-            Fileset t =
-                TreeLockUtils.doWithTreeLock(
-                    ident, LockType.READ, () -> dispatcher.loadFileset(ident));
-            Response response = Utils.ok(new FilesetResponse(DTOConverters.toDTO(t)));
-            LOG.info("Fileset loaded: {}.{}.{}.{}", metalake, catalog, schema, fileset);
-            return response;
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handleFilesetException(OperationType.LOAD, fileset, schema, e);
-    }
+      @PathParam("fileset") String fileset,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.LOAD,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
+          // The filesets are managed by Gravitino, so the stored version identifies them and an
+          // unchanged fileset isn't loaded at all.
+          return Utils.okWithVersionETag(
+              restRequest,
+              Utils.entityVersion(ident, Entity.EntityType.FILESET, FilesetEntity.class),
+              () -> {
+                Fileset t =
+                    TreeLockUtils.doWithTreeLock(
+                        ident, LockType.READ, () -> dispatcher.loadFileset(ident));
+                return new FilesetResponse(DTOConverters.toDTO(t));
+              });
+        },
+        e -> ExceptionHandlers.handleFilesetException(OperationType.LOAD, fileset, schema, e));
   }
 
   @PUT
@@ -179,36 +183,32 @@ public class FilesetOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "alter-fileset." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "alter-fileset", absolute = true)
-  public Response alterFileset(
+  public void alterFileset(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("fileset") String fileset,
-      FilesetUpdatesRequest request) {
-    LOG.info("Received alter fileset request: {}.{}.{}.{}", metalake, catalog, schema, fileset);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            request.validate();
-            NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
-            FilesetChange[] changes =
-                request.getUpdates().stream()
-                    .map(FilesetUpdateRequest::filesetChange)
-                    .toArray(FilesetChange[]::new);
-            Fileset t =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifierUtil.ofSchema(metalake, catalog, schema),
-                    LockType.WRITE,
-                    () -> dispatcher.alterFileset(ident, changes));
-            Response response = Utils.ok(new FilesetResponse(DTOConverters.toDTO(t)));
-            LOG.info("Fileset altered: {}.{}.{}.{}", metalake, catalog, schema, t.name());
-            return response;
-          });
-
-    } catch (Exception e) {
-      return ExceptionHandlers.handleFilesetException(OperationType.ALTER, fileset, schema, e);
-    }
+      FilesetUpdatesRequest request,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.ALTER,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          request.validate();
+          NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
+          FilesetChange[] changes =
+              request.getUpdates().stream()
+                  .map(FilesetUpdateRequest::filesetChange)
+                  .toArray(FilesetChange[]::new);
+          Fileset t =
+              TreeLockUtils.doWithTreeLock(
+                  NameIdentifierUtil.ofSchema(metalake, catalog, schema),
+                  LockType.WRITE,
+                  () -> dispatcher.alterFileset(ident, changes));
+          return Utils.ok(new FilesetResponse(DTOConverters.toDTO(t)));
+        },
+        e -> ExceptionHandlers.handleFilesetException(OperationType.ALTER, fileset, schema, e));
   }
 
   @DELETE
@@ -216,33 +216,29 @@ public class FilesetOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "drop-fileset." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "drop-fileset", absolute = true)
-  public Response dropFileset(
+  public void dropFileset(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      @PathParam("fileset") String fileset) {
-    LOG.info("Received drop fileset request: {}.{}.{}.{}", metalake, catalog, schema, fileset);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
-            boolean dropped =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifierUtil.ofSchema(metalake, catalog, schema),
-                    LockType.WRITE,
-                    () -> dispatcher.dropFileset(ident));
-            if (!dropped) {
-              LOG.warn("Failed to drop fileset {} under schema {}", fileset, schema);
-            }
-
-            Response response = Utils.ok(new DropResponse(dropped));
-            LOG.info("Fileset dropped: {}.{}.{}.{}", metalake, catalog, schema, fileset);
-            return response;
-          });
-
-    } catch (Exception e) {
-      return ExceptionHandlers.handleFilesetException(OperationType.DROP, fileset, schema, e);
-    }
+      @PathParam("fileset") String fileset,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.DROP,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          NameIdentifier ident = NameIdentifierUtil.ofFileset(metalake, catalog, schema, fileset);
+          boolean dropped =
+              TreeLockUtils.doWithTreeLock(
+                  NameIdentifierUtil.ofSchema(metalake, catalog, schema),
+                  LockType.WRITE,
+                  () -> dispatcher.dropFileset(ident));
+          if (!dropped) {
+            LOG.warn("Failed to drop fileset {} under schema {}", fileset, schema);
+          }
+
+          return Utils.ok(new DropResponse(dropped));
+        },
+        e -> ExceptionHandlers.handleFilesetException(OperationType.DROP, fileset, schema, e));
   }
 }
@@ -76,7 +76,6 @@ public class MetalakeOperations {
   @Timed(name = "list-metalake." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-metalake", absolute = true)
   public Response listMetalakes() {
-    LOG.info("Received list metalakes request.");
     try {
       return Utils.doAs(
           httpRequest,
@@ -85,9 +84,7 @@ public class MetalakeOperations {
                 TreeLockUtils.doWithRootTreeLock(LockType.READ, metalakeDispatcher::listMetalakes);
             MetalakeDTO[] metalakeDTOs =
                 Arrays.stream(metalakes).map(DTOConverters::toDTO).toArray(MetalakeDTO[]::new);
-            Response response = Utils.ok(new MetalakeListResponse(metalakeDTOs));
-            LOG.info("List {} metalakes in Gravitino", metalakeDTOs.length);
-            return response;
+            return Utils.ok(new MetalakeListResponse(metalakeDTOs));
           });
 
     } catch (Exception e) {
@@ -101,7 +98,6 @@ public class MetalakeOperations {
   @Timed(name = "create-metalake." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "create-metalake", absolute = true)
   public Response createMetalake(MetalakeCreateRequest request) {
-    LOG.info("Received create metalake request for {}", request.getName());
     try {
       return Utils.doAs(
           httpRequest,
@@ -114,9 +110,7 @@ public class MetalakeOperations {
                     () ->
                         metalakeDispatcher.createMetalake(
                             ident, request.getComment(), request.getProperties()));
-            Response response = Utils.ok(new MetalakeResponse(DTOConverters.toDTO(metalake)));
-            LOG.info("Metalake created: {}", metalake.name());
-            return response;
+            return Utils.ok(new MetalakeResponse(DTOConverters.toDTO(metalake)));
           });
 
     } catch (Exception e) {
@@ -130,7 +124,6 @@ public class MetalakeOperations {
   @Timed(name = "load-metalake." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "load-metalake", absolute = true)
   public Response loadMetalake(@PathParam("name") String metalakeName) {
-    LOG.info("Received load metalake request for metalake: {}", metalakeName);
     try {
       return Utils.doAs(
           httpRequest,
@@ -139,9 +132,7 @@ public class MetalakeOperations {
             Metalake metalake =
                 TreeLockUtils.doWithTreeLock(
                     identifier, LockType.READ, () -> metalakeDispatcher.loadMetalake(identifier));
-            Response response = Utils.ok(new MetalakeResponse(DTOConverters.toDTO(metalake)));
-            LOG.info("Metalake loaded: {}", metalake.name());
-            return response;
+            return Utils.ok(new MetalakeResponse(DTOConverters.toDTO(metalake)));
           });
 
     } catch (Exception e) {
@@ -156,7 +147,6 @@ public class MetalakeOperations {
   @ResponseMetered(name = "alter-metalake", absolute = true)
   public Response alterMetalake(
       @PathParam("name") String metalakeName, MetalakeUpdatesRequest updatesRequest) {
-    LOG.info("Received alter metalake request for metalake: {}", metalakeName);
     try {
       return Utils.doAs(
           httpRequest,
@@ -170,10 +160,7 @@ public class MetalakeOperations {
             Metalake updatedMetalake =
                 TreeLockUtils.doWithRootTreeLock(
                     LockType.WRITE, () -> metalakeDispatcher.alterMetalake(identifier, changes));
-            Response response =
-                Utils.ok(new MetalakeResponse(DTOConverters.toDTO(updatedMetalake)));
-            LOG.info("Metalake altered: {}", updatedMetalake.name());
-            return response;
+            return Utils.ok(new MetalakeResponse(DTOConverters.toDTO(updatedMetalake)));
           });
 
     } catch (Exception e) {
@@ -187,7 +174,6 @@ public class MetalakeOperations {
   @Timed(name = "drop-metalake." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "drop-metalake", absolute = true)
   public Response dropMetalake(@PathParam("name") String metalakeName) {
-    LOG.info("Received drop metalake request for metalake: {}", metalakeName);
     try {
       return Utils.doAs(
           httpRequest,
@@ -200,9 +186,7 @@ public class MetalakeOperations {
               LOG.warn("Failed to drop metalake by name {}", metalakeName);
             }
 
-            Response response = Utils.ok(new DropResponse(dropped));
-            LOG.info("Metalake dropped: {}", metalakeName);
-            return response;
+            return Utils.ok(new DropResponse(dropped));
           });
 
     } catch (Exception e) {
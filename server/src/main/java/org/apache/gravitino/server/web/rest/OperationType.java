@@ -33,4 +33,5 @@ public enum OperationType {
   REVOKE,
   ASSOCIATE,
   SET,
+  BATCH,
 }
@@ -34,8 +34,9 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
-import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.catalog.PartitionDispatcher;
 import org.apache.gravitino.dto.rel.partitions.PartitionDTO;
@@ -58,67 +59,47 @@ public class PartitionOperations {
   private static final Logger LOG = LoggerFactory.getLogger(PartitionOperations.class);
 
   private final PartitionDispatcher dispatcher;
+
+  private final AsyncRequestExecutors executors;
   @Context private HttpServletRequest httpRequest;
 
   @Inject
-  public PartitionOperations(PartitionDispatcher dispatcher) {
+  public PartitionOperations(PartitionDispatcher dispatcher, AsyncRequestExecutors executors) {
     this.dispatcher = dispatcher;
+    this.executors = executors;
   }
 
   @GET
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "list-partition-name." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-partition-name", absolute = true)
-  public Response listPartitionNames(
+  public void listPartitionNames(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
-    LOG.info(
-        "Received list partition {} request for table: {}.{}.{}.{}",
-        verbose ? "infos" : "names",
-        metalake,
-        catalog,
-        schema,
-        table);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
-            return TreeLockUtils.doWithTreeLock(
-                tableIdent,
-                LockType.READ,
-                () -> {
-                  if (verbose) {
-                    Partition[] partitions = dispatcher.listPartitions(tableIdent);
-                    Response response = Utils.ok(new PartitionListResponse(toDTOs(partitions)));
-                    LOG.info(
-                        "List {} partitions in table {}.{}.{}.{}",
-                        partitions.length,
-                        metalake,
-                        catalog,
-                        schema,
-                        table);
-                    return response;
-                  } else {
-                    String[] partitionNames = dispatcher.listPartitionNames(tableIdent);
-                    Response response = Utils.ok(new PartitionNameListResponse((partitionNames)));
-                    LOG.info(
-                        "List {} partition names in table {}.{}.{}.{}",
-                        partitionNames.length,
-                        metalake,
-                        catalog,
-                        schema,
-                        table);
-                    return response;
-                  }
-                });
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handlePartitionException(OperationType.LIST, "", table, e);
-    }
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.LIST,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+          return TreeLockUtils.doWithTreeLock(
+              tableIdent,
+              LockType.READ,
+              () -> {
+                if (verbose) {
+                  Partition[] partitions = dispatcher.listPartitions(tableIdent);
+                  return Utils.ok(new PartitionListResponse(toDTOs(partitions)));
+                } else {
+                  String[] partitionNames = dispatcher.listPartitionNames(tableIdent);
+                  return Utils.ok(new PartitionNameListResponse((partitionNames)));
+                }
+              });
+        },
+        e -> ExceptionHandlers.handlePartitionException(OperationType.LIST, "", table, e));
   }
 
   @GET
@@ -126,92 +107,61 @@ public class PartitionOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "get-partition." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "get-partition", absolute = true)
-  public Response getPartition(
+  public void getPartition(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @PathParam("partition") String partition) {
-    LOG.info(
-        "Received get partition request for partition[{}] of table[{}.{}.{}.{}]",
-        partition,
-        metalake,
-        catalog,
-        schema,
-        table);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
-            return TreeLockUtils.doWithTreeLock(
-                tableIdent,
-                LockType.READ,
-                () -> {
-                  Partition p = dispatcher.getPartition(tableIdent, partition);
-                  Response response = Utils.ok(new PartitionResponse(DTOConverters.toDTO(p)));
-                  LOG.info(
-                      "Got partition[{}] in table[{}.{}.{}.{}]",
-                      partition,
-                      metalake,
-                      catalog,
-                      schema,
-                      table);
-                  return response;
-                });
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handlePartitionException(OperationType.GET, "", table, e);
-    }
+      @PathParam("partition") String partition,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.GET,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+          return TreeLockUtils.doWithTreeLock(
+              tableIdent,
+              LockType.READ,
+              () -> {
+                Partition p = dispatcher.getPartition(tableIdent, partition);
+                return Utils.ok(new PartitionResponse(DTOConverters.toDTO(p)));
+              });
+        },
+        e -> ExceptionHandlers.handlePartitionException(OperationType.GET, "", table, e));
   }
 
   @POST
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "add-partitions." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "add-partitions", absolute = true)
-  public Response addPartitions(
+  public void addPartitions(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      AddPartitionsRequest request) {
-    LOG.info(
-        "Received add {} partition(s) request for table {}.{}.{}.{} ",
-        request.getPartitions().length,
-        metalake,
-        catalog,
-        schema,
-        table);
+      AddPartitionsRequest request,
+      @Suspended AsyncResponse asyncResponse) {
     Preconditions.checkArgument(
         request.getPartitions().length == 1, "Only one partition is supported");
 
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
-            return TreeLockUtils.doWithTreeLock(
-                tableIdent,
-                LockType.WRITE,
-                () -> {
-                  Partition p =
-                      dispatcher.addPartition(tableIdent, fromDTO(request.getPartitions()[0]));
-                  Response response =
-                      Utils.ok(
-                          new PartitionListResponse(new PartitionDTO[] {DTOConverters.toDTO(p)}));
-                  LOG.info(
-                      "Added {} partition(s) to table {}.{}.{}.{} ",
-                      1,
-                      metalake,
-                      catalog,
-                      schema,
-                      table);
-                  return response;
-                });
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handlePartitionException(OperationType.CREATE, "", table, e);
-    }
+    executors.execute(
+        OperationType.CREATE,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+          return TreeLockUtils.doWithTreeLock(
+              tableIdent,
+              LockType.WRITE,
+              () -> {
+                Partition p =
+                    dispatcher.addPartition(tableIdent, fromDTO(request.getPartitions()[0]));
+                return Utils.ok(
+                    new PartitionListResponse(new PartitionDTO[] {DTOConverters.toDTO(p)}));
+              });
+        },
+        e -> ExceptionHandlers.handlePartitionException(OperationType.CREATE, "", table, e));
   }
 
   @DELETE
@@ -219,55 +169,38 @@ public class PartitionOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "drop-partition." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "drop-partition", absolute = true)
-  public Response dropPartition(
+  public void dropPartition(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
       @PathParam("partition") String partition,
-      @QueryParam("purge") @DefaultValue("false") boolean purge) {
-    LOG.info(
-        "Received {} partition request for partition[{}] of table[{}.{}.{}.{}]",
-        purge ? "purge" : "drop",
-        partition,
-        metalake,
-        catalog,
-        schema,
-        table);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
-            return TreeLockUtils.doWithTreeLock(
-                tableIdent,
-                LockType.WRITE,
-                () -> {
-                  boolean dropped =
-                      purge
-                          ? dispatcher.purgePartition(tableIdent, partition)
-                          : dispatcher.dropPartition(tableIdent, partition);
-                  if (!dropped) {
-                    LOG.warn(
-                        "Failed to drop partition {} under table {} under schema {}",
-                        partition,
-                        table,
-                        schema);
-                  }
-                  Response response = Utils.ok(new DropResponse(dropped));
-                  LOG.info(
-                      "Partition {} {} in table {}.{}.{}.{}",
+      @QueryParam("purge") @DefaultValue("false") boolean purge,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.DROP,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, schema, table);
+          return TreeLockUtils.doWithTreeLock(
+              tableIdent,
+              LockType.WRITE,
+              () -> {
+                boolean dropped =
+                    purge
+                        ? dispatcher.purgePartition(tableIdent, partition)
+                        : dispatcher.dropPartition(tableIdent, partition);
+                if (!dropped) {
+                  LOG.warn(
+                      "Failed to drop partition {} under table {} under schema {}",
                       partition,
-                      purge ? "purged" : "dropped",
-                      metalake,
-                      catalog,
-                      schema,
-                      table);
-                  return response;
-                });
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handlePartitionException(OperationType.DROP, "", table, e);
-    }
+                      table,
+                      schema);
+                }
+                return Utils.ok(new DropResponse(dropped));
+              });
+        },
+        e -> ExceptionHandlers.handlePartitionException(OperationType.DROP, "", table, e));
   }
 }
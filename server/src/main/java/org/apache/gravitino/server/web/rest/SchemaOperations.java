@@ -32,9 +32,11 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
-import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Request;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
@@ -44,7 +46,6 @@ import org.apache.gravitino.dto.requests.SchemaCreateRequest;
 import org.apache.gravitino.dto.requests.SchemaUpdateRequest;
 import org.apache.gravitino.dto.requests.SchemaUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
-import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.lock.LockType;
@@ -65,71 +66,77 @@ public class SchemaOperations {
 
   private final SchemaDispatcher dispatcher;
 
+  private final AsyncRequestExecutors executors;
+
   @Context private HttpServletRequest httpRequest;
 
+  @Context private Request restRequest;
+
   @Inject
-  public SchemaOperations(SchemaDispatcher dispatcher) {
+  public SchemaOperations(SchemaDispatcher dispatcher, AsyncRequestExecutors executors) {
     this.dispatcher = dispatcher;
+    this.executors = executors;
   }
 
   @GET
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "list-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-schema", absolute = true)
-  public Response listSchemas(
-      @PathParam("metalake") String metalake, @PathParam("catalog") String catalog) {
-    LOG.info("Received list schema request for catalog: {}.{}", metalake, catalog);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            Namespace schemaNS = NamespaceUtil.ofSchema(metalake, catalog);
-            NameIdentifier[] idents =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog),
-                    LockType.READ,
-                    () -> dispatcher.listSchemas(schemaNS));
-            Response response = Utils.ok(new EntityListResponse(idents));
-            LOG.info("List {} schemas in catalog {}.{}", idents.length, metalake, catalog);
-            return response;
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handleSchemaException(OperationType.LIST, "", catalog, e);
-    }
+  public void listSchemas(
+      @PathParam("metalake") String metalake,
+      @PathParam("catalog") String catalog,
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.LIST,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          Namespace schemaNS = NamespaceUtil.ofSchema(metalake, catalog);
+          return TreeLockUtils.doWithTreeLock(
+              NameIdentifier.of(metalake, catalog),
+              LockType.READ,
+              () -> {
+                if (verbose) {
+                  Schema[] schemas = dispatcher.listSchemasInfo(schemaNS);
+                  return Utils.okStreaming("schemas", DTOConverters.toDTOs(schemas));
+                } else {
+                  NameIdentifier[] idents = dispatcher.listSchemas(schemaNS);
+                  return Utils.okStreaming(idents);
+                }
+              });
+        },
+        e -> ExceptionHandlers.handleSchemaException(OperationType.LIST, "", catalog, e));
   }
 
   @POST
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "create-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "create-schema", absolute = true)
-  public Response createSchema(
+  public void createSchema(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      SchemaCreateRequest request) {
-    LOG.info("Received create schema request: {}.{}.{}", metalake, catalog, request.getName());
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            request.validate();
-            NameIdentifier ident =
-                NameIdentifierUtil.ofSchema(metalake, catalog, request.getName());
-            Schema schema =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifierUtil.ofCatalog(metalake, catalog),
-                    LockType.WRITE,
-                    () ->
-                        dispatcher.createSchema(
-                            ident, request.getComment(), request.getProperties()));
-            Response response = Utils.ok(new SchemaResponse(DTOConverters.toDTO(schema)));
-            LOG.info("Schema created: {}.{}.{}", metalake, catalog, schema.name());
-            return response;
-          });
-
-    } catch (Exception e) {
-      return ExceptionHandlers.handleSchemaException(
-          OperationType.CREATE, request.getName(), catalog, e);
-    }
+      SchemaCreateRequest request,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.CREATE,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          request.validate();
+          NameIdentifier ident = NameIdentifierUtil.ofSchema(metalake, catalog, request.getName());
+          Schema schema =
+              TreeLockUtils.doWithTreeLock(
+                  NameIdentifierUtil.ofCatalog(metalake, catalog),
+                  LockType.WRITE,
+                  () ->
+                      dispatcher.createSchema(
+                          ident, request.getComment(), request.getProperties()));
+          return Utils.ok(new SchemaResponse(DTOConverters.toDTO(schema)));
+        },
+        e ->
+            ExceptionHandlers.handleSchemaException(
+                OperationType.CREATE, request.getName(), catalog, e));
   }
 
   @GET
@@ -137,25 +144,21 @@ public class SchemaOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "load-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "load-schema", absolute = true)
-  public Response loadSchema(
+  public void loadSchema(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
-    LOG.info("Received load schema request for schema: {}.{}.{}", metalake, catalog, schema);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            NameIdentifier ident = NameIdentifierUtil.ofSchema(metalake, catalog, schema);
-            Schema s = dispatcher.loadSchema(ident);
-            Response response = Utils.ok(new SchemaResponse(DTOConverters.toDTO(s)));
-            LOG.info("Schema loaded: {}.{}.{}", metalake, catalog, s.name());
-            return response;
-          });
-
-    } catch (Exception e) {
-      return ExceptionHandlers.handleSchemaException(OperationType.LOAD, schema, catalog, e);
-    }
+      @PathParam("schema") String schema,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.LOAD,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          NameIdentifier ident = NameIdentifierUtil.ofSchema(metalake, catalog, schema);
+          Schema s = dispatcher.loadSchema(ident);
+          return Utils.okWithETag(restRequest, new SchemaResponse(DTOConverters.toDTO(s)));
+        },
+        e -> ExceptionHandlers.handleSchemaException(OperationType.LOAD, schema, catalog, e));
   }
 
   @PUT
@@ -163,35 +166,31 @@ public class SchemaOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "alter-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "alter-schema", absolute = true)
-  public Response alterSchema(
+  public void alterSchema(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      SchemaUpdatesRequest request) {
-    LOG.info("Received alter schema request: {}.{}.{}", metalake, catalog, schema);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            request.validate();
-            NameIdentifier ident = NameIdentifierUtil.ofSchema(metalake, catalog, schema);
-            SchemaChange[] changes =
-                request.getUpdates().stream()
-                    .map(SchemaUpdateRequest::schemaChange)
-                    .toArray(SchemaChange[]::new);
-            Schema s =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifierUtil.ofCatalog(metalake, catalog),
-                    LockType.WRITE,
-                    () -> dispatcher.alterSchema(ident, changes));
-            Response response = Utils.ok(new SchemaResponse(DTOConverters.toDTO(s)));
-            LOG.info("Schema altered: {}.{}.{}", metalake, catalog, s.name());
-            return response;
-          });
-
-    } catch (Exception e) {
-      return ExceptionHandlers.handleSchemaException(OperationType.ALTER, schema, catalog, e);
-    }
+      SchemaUpdatesRequest request,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.ALTER,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          request.validate();
+          NameIdentifier ident = NameIdentifierUtil.ofSchema(metalake, catalog, schema);
+          SchemaChange[] changes =
+              request.getUpdates().stream()
+                  .map(SchemaUpdateRequest::schemaChange)
+                  .toArray(SchemaChange[]::new);
+          Schema s =
+              TreeLockUtils.doWithTreeLock(
+                  NameIdentifierUtil.ofCatalog(metalake, catalog),
+                  LockType.WRITE,
+                  () -> dispatcher.alterSchema(ident, changes));
+          return Utils.ok(new SchemaResponse(DTOConverters.toDTO(s)));
+        },
+        e -> ExceptionHandlers.handleSchemaException(OperationType.ALTER, schema, catalog, e));
   }
 
   @DELETE
@@ -199,32 +198,29 @@ public class SchemaOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "drop-schema." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "drop-schema", absolute = true)
-  public Response dropSchema(
+  public void dropSchema(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      @DefaultValue("false") @QueryParam("cascade") boolean cascade) {
-    LOG.info("Received drop schema request: {}.{}.{}", metalake, catalog, schema);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            NameIdentifier ident = NameIdentifierUtil.ofSchema(metalake, catalog, schema);
-            boolean dropped =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifierUtil.ofCatalog(metalake, catalog),
-                    LockType.WRITE,
-                    () -> dispatcher.dropSchema(ident, cascade));
-            if (!dropped) {
-              LOG.warn("Fail to drop schema {} under namespace {}", schema, ident.namespace());
-            }
+      @DefaultValue("false") @QueryParam("cascade") boolean cascade,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.DROP,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          NameIdentifier ident = NameIdentifierUtil.ofSchema(metalake, catalog, schema);
+          boolean dropped =
+              TreeLockUtils.doWithTreeLock(
+                  NameIdentifierUtil.ofCatalog(metalake, catalog),
+                  LockType.WRITE,
+                  () -> dispatcher.dropSchema(ident, cascade));
+          if (!dropped) {
+            LOG.warn("Fail to drop schema {} under namespace {}", schema, ident.namespace());
+          }
 
-            Response response = Utils.ok(new DropResponse(dropped));
-            LOG.info("Schema dropped: {}.{}.{}", metalake, catalog, schema);
-            return response;
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handleSchemaException(OperationType.DROP, schema, catalog, e);
-    }
+          return Utils.ok(new DropResponse(dropped));
+        },
+        e -> ExceptionHandlers.handleSchemaException(OperationType.DROP, schema, catalog, e));
   }
 }
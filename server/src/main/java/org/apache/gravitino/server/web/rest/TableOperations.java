@@ -34,8 +34,10 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
-import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Request;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.TableDispatcher;
@@ -43,7 +45,6 @@ import org.apache.gravitino.dto.requests.TableCreateRequest;
 import org.apache.gravitino.dto.requests.TableUpdateRequest;
 import org.apache.gravitino.dto.requests.TableUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
-import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.lock.LockType;
@@ -64,85 +65,88 @@ public class TableOperations {
 
   private final TableDispatcher dispatcher;
 
+  private final AsyncRequestExecutors executors;
+
   @Context private HttpServletRequest httpRequest;
 
+  @Context private Request restRequest;
+
   @Inject
-  public TableOperations(TableDispatcher dispatcher) {
+  public TableOperations(TableDispatcher dispatcher, AsyncRequestExecutors executors) {
     this.dispatcher = dispatcher;
+    this.executors = executors;
   }
 
   @GET
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "list-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "list-table", absolute = true)
-  public Response listTables(
+  public void listTables(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
-    LOG.info("Received list tables request for schema: {}.{}.{}", metalake, catalog, schema);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
-            NameIdentifier[] idents =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.READ,
-                    () -> dispatcher.listTables(tableNS));
-            Response response = Utils.ok(new EntityListResponse(idents));
-            LOG.info(
-                "List {} tables under schema: {}.{}.{}", idents.length, metalake, catalog, schema);
-            return response;
-          });
-
-    } catch (Exception e) {
-      return ExceptionHandlers.handleTableException(OperationType.LIST, "", schema, e);
-    }
+      @PathParam("schema") String schema,
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.LIST,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
+          return TreeLockUtils.doWithTreeLock(
+              NameIdentifier.of(metalake, catalog, schema),
+              LockType.READ,
+              () -> {
+                if (verbose) {
+                  Table[] tables = dispatcher.listTablesInfo(tableNS);
+                  return Utils.okStreaming("tables", DTOConverters.toDTOs(tables));
+                } else {
+                  NameIdentifier[] idents = dispatcher.listTables(tableNS);
+                  return Utils.okStreaming(idents);
+                }
+              });
+        },
+        e -> ExceptionHandlers.handleTableException(OperationType.LIST, "", schema, e));
   }
 
   @POST
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "create-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "create-table", absolute = true)
-  public Response createTable(
+  public void createTable(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      TableCreateRequest request) {
-    LOG.info(
-        "Received create table request: {}.{}.{}.{}", metalake, catalog, schema, request.getName());
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            request.validate();
-            NameIdentifier ident =
-                NameIdentifierUtil.ofTable(metalake, catalog, schema, request.getName());
-
-            Table table =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.WRITE,
-                    () ->
-                        dispatcher.createTable(
-                            ident,
-                            fromDTOs(request.getColumns()),
-                            request.getComment(),
-                            request.getProperties(),
-                            fromDTOs(request.getPartitioning()),
-                            fromDTO(request.getDistribution()),
-                            fromDTOs(request.getSortOrders()),
-                            fromDTOs(request.getIndexes())));
-            Response response = Utils.ok(new TableResponse(DTOConverters.toDTO(table)));
-            LOG.info("Table created: {}.{}.{}.{}", metalake, catalog, schema, request.getName());
-            return response;
-          });
-
-    } catch (Exception e) {
-      return ExceptionHandlers.handleTableException(
-          OperationType.CREATE, request.getName(), schema, e);
-    }
+      TableCreateRequest request,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.CREATE,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          request.validate();
+          NameIdentifier ident =
+              NameIdentifierUtil.ofTable(metalake, catalog, schema, request.getName());
+
+          Table table =
+              TreeLockUtils.doWithTreeLock(
+                  NameIdentifier.of(metalake, catalog, schema),
+                  LockType.WRITE,
+                  () ->
+                      dispatcher.createTable(
+                          ident,
+                          fromDTOs(request.getColumns()),
+                          request.getComment(),
+                          request.getProperties(),
+                          fromDTOs(request.getPartitioning()),
+                          fromDTO(request.getDistribution()),
+                          fromDTOs(request.getSortOrders()),
+                          fromDTOs(request.getIndexes())));
+          return Utils.ok(new TableResponse(DTOConverters.toDTO(table)));
+        },
+        e ->
+            ExceptionHandlers.handleTableException(
+                OperationType.CREATE, request.getName(), schema, e));
   }
 
   @GET
@@ -150,26 +154,22 @@ public class TableOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "load-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "load-table", absolute = true)
-  public Response loadTable(
+  public void loadTable(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      @PathParam("table") String table) {
-    LOG.info(
-        "Received load table request for table: {}.{}.{}.{}", metalake, catalog, schema, table);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            NameIdentifier ident = NameIdentifierUtil.ofTable(metalake, catalog, schema, table);
-            Table t = dispatcher.loadTable(ident);
-            Response response = Utils.ok(new TableResponse(DTOConverters.toDTO(t)));
-            LOG.info("Table loaded: {}.{}.{}.{}", metalake, catalog, schema, table);
-            return response;
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handleTableException(OperationType.LOAD, table, schema, e);
-    }
+      @PathParam("table") String table,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.LOAD,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          NameIdentifier ident = NameIdentifierUtil.ofTable(metalake, catalog, schema, table);
+          Table t = dispatcher.loadTable(ident);
+          return Utils.okWithETag(restRequest, new TableResponse(DTOConverters.toDTO(t)));
+        },
+        e -> ExceptionHandlers.handleTableException(OperationType.LOAD, table, schema, e));
   }
 
   @PUT
@@ -177,36 +177,32 @@ public class TableOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "alter-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "alter-table", absolute = true)
-  public Response alterTable(
+  public void alterTable(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      TableUpdatesRequest request) {
-    LOG.info("Received alter table request: {}.{}.{}.{}", metalake, catalog, schema, table);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            request.validate();
-            NameIdentifier ident = NameIdentifierUtil.ofTable(metalake, catalog, schema, table);
-            TableChange[] changes =
-                request.getUpdates().stream()
-                    .map(TableUpdateRequest::tableChange)
-                    .toArray(TableChange[]::new);
-            Table t =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.WRITE,
-                    () -> dispatcher.alterTable(ident, changes));
-            Response response = Utils.ok(new TableResponse(DTOConverters.toDTO(t)));
-            LOG.info("Table altered: {}.{}.{}.{}", metalake, catalog, schema, t.name());
-            return response;
-          });
-
-    } catch (Exception e) {
-      return ExceptionHandlers.handleTableException(OperationType.ALTER, table, schema, e);
-    }
+      TableUpdatesRequest request,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.ALTER,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          request.validate();
+          NameIdentifier ident = NameIdentifierUtil.ofTable(metalake, catalog, schema, table);
+          TableChange[] changes =
+              request.getUpdates().stream()
+                  .map(TableUpdateRequest::tableChange)
+                  .toArray(TableChange[]::new);
+          Table t =
+              TreeLockUtils.doWithTreeLock(
+                  NameIdentifier.of(metalake, catalog, schema),
+                  LockType.WRITE,
+                  () -> dispatcher.alterTable(ident, changes));
+          return Utils.ok(new TableResponse(DTOConverters.toDTO(t)));
+        },
+        e -> ExceptionHandlers.handleTableException(OperationType.ALTER, table, schema, e));
   }
 
   @DELETE
@@ -214,46 +210,30 @@ public class TableOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "drop-table." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "drop-table", absolute = true)
-  public Response dropTable(
+  public void dropTable(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("table") String table,
-      @QueryParam("purge") @DefaultValue("false") boolean purge) {
-    LOG.info(
-        "Received {} table request: {}.{}.{}.{}",
-        purge ? "purge" : "drop",
-        metalake,
-        catalog,
-        schema,
-        table);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            NameIdentifier ident = NameIdentifierUtil.ofTable(metalake, catalog, schema, table);
-            boolean dropped =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.WRITE,
-                    () -> purge ? dispatcher.purgeTable(ident) : dispatcher.dropTable(ident));
-            if (!dropped) {
-              LOG.warn("Failed to drop table {} under schema {}", table, schema);
-            }
-
-            Response response = Utils.ok(new DropResponse(dropped));
-            LOG.info(
-                "Table {}: {}.{}.{}.{}",
-                purge ? "purge" : "drop",
-                metalake,
-                catalog,
-                schema,
-                table);
-            return response;
-          });
-
-    } catch (Exception e) {
-      return ExceptionHandlers.handleTableException(OperationType.DROP, table, schema, e);
-    }
+      @QueryParam("purge") @DefaultValue("false") boolean purge,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.DROP,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          NameIdentifier ident = NameIdentifierUtil.ofTable(metalake, catalog, schema, table);
+          boolean dropped =
+              TreeLockUtils.doWithTreeLock(
+                  NameIdentifier.of(metalake, catalog, schema),
+                  LockType.WRITE,
+                  () -> purge ? dispatcher.purgeTable(ident) : dispatcher.dropTable(ident));
+          if (!dropped) {
+            LOG.warn("Failed to drop table {} under schema {}", table, schema);
+          }
+
+          return Utils.ok(new DropResponse(dropped));
+        },
+        e -> ExceptionHandlers.handleTableException(OperationType.DROP, table, schema, e));
   }
 }
@@ -84,8 +84,6 @@ public class TagOperations {
   public Response listTags(
       @PathParam("metalake") String metalake,
       @QueryParam("details") @DefaultValue("false") boolean verbose) {
-    LOG.info(
-        "Received list tag {} request for metalake: {}", verbose ? "infos" : "names", metalake);
 
     try {
       return Utils.doAs(
@@ -93,25 +91,19 @@ public class TagOperations {
           () -> {
             if (verbose) {
               Tag[] tags = tagManager.listTagsInfo(metalake);
-              TagDTO[] tagDTOs;
-              if (ArrayUtils.isEmpty(tags)) {
-                tagDTOs = new TagDTO[0];
-              } else {
-                tagDTOs =
-                    Arrays.stream(tags)
-                        .map(t -> DTOConverters.toDTO(t, Optional.empty()))
-                        .toArray(TagDTO[]::new);
-              }
+              tags = tags == null ? new Tag[0] : tags;
 
-              LOG.info("List {} tags info under metalake: {}", tagDTOs.length, metalake);
-              return Utils.ok(new TagListResponse(tagDTOs));
+              return Utils.okStreaming(
+                  "tags",
+                  Arrays.stream(tags)
+                      .map(t -> DTOConverters.toDTO(t, Optional.empty()))
+                      .toArray(TagDTO[]::new));
 
             } else {
               String[] tagNames = tagManager.listTags(metalake);
               tagNames = tagNames == null ? new String[0] : tagNames;
 
-              LOG.info("List {} tags under metalake: {}", tagNames.length, metalake);
-              return Utils.ok(new NameListResponse(tagNames));
+              return Utils.okStreaming("names", tagNames);
             }
           });
     } catch (Exception e) {
@@ -124,7 +116,6 @@ public class TagOperations {
   @Timed(name = "create-tag." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "create-tag", absolute = true)
   public Response createTag(@PathParam("metalake") String metalake, TagCreateRequest request) {
-    LOG.info("Received create tag request under metalake: {}", metalake);
 
     try {
       return Utils.doAs(
@@ -135,7 +126,6 @@ public class TagOperations {
                 tagManager.createTag(
                     metalake, request.getName(), request.getComment(), request.getProperties());
 
-            LOG.info("Created tag: {} under metalake: {}", tag.name(), metalake);
             return Utils.ok(new TagResponse(DTOConverters.toDTO(tag, Optional.empty())));
           });
     } catch (Exception e) {
@@ -150,14 +140,12 @@ public class TagOperations {
   @Timed(name = "get-tag." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "get-tag", absolute = true)
   public Response getTag(@PathParam("metalake") String metalake, @PathParam("tag") String name) {
-    LOG.info("Received get tag request for tag: {} under metalake: {}", name, metalake);
 
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Tag tag = tagManager.getTag(metalake, name);
-            LOG.info("Get tag: {} under metalake: {}", name, metalake);
             return Utils.ok(new TagResponse(DTOConverters.toDTO(tag, Optional.empty())));
           });
     } catch (Exception e) {
@@ -174,7 +162,6 @@ public class TagOperations {
       @PathParam("metalake") String metalake,
       @PathParam("tag") String name,
       TagUpdatesRequest request) {
-    LOG.info("Received alter tag request for tag: {} under metalake: {}", name, metalake);
 
     try {
       return Utils.doAs(
@@ -188,7 +175,6 @@ public class TagOperations {
                     .toArray(TagChange[]::new);
             Tag tag = tagManager.alterTag(metalake, name, changes);
 
-            LOG.info("Altered tag: {} under metalake: {}", name, metalake);
             return Utils.ok(new TagResponse(DTOConverters.toDTO(tag, Optional.empty())));
           });
     } catch (Exception e) {
@@ -202,7 +188,6 @@ public class TagOperations {
   @Timed(name = "delete-tag." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "delete-tag", absolute = true)
   public Response deleteTag(@PathParam("metalake") String metalake, @PathParam("tag") String name) {
-    LOG.info("Received delete tag request for tag: {} under metalake: {}", name, metalake);
 
     try {
       return Utils.doAs(
@@ -212,7 +197,6 @@ public class TagOperations {
             if (!deleted) {
               LOG.warn("Failed to delete tag {} under metalake {}", name, metalake);
             } else {
-              LOG.info("Deleted tag: {} under metalake: {}", name, metalake);
             }
 
             return Utils.ok(new DropResponse(deleted));
@@ -232,12 +216,6 @@ public class TagOperations {
       @PathParam("type") String type,
       @PathParam("fullName") String fullName,
       @QueryParam("details") @DefaultValue("false") boolean verbose) {
-    LOG.info(
-        "Received list tag {} request for object type: {}, full name: {} under metalake: {}",
-        verbose ? "infos" : "names",
-        type,
-        fullName,
-        metalake);
 
     try {
       return Utils.doAs(
@@ -272,12 +250,6 @@ public class TagOperations {
             }
 
             if (verbose) {
-              LOG.info(
-                  "List {} tags info for object type: {}, full name: {} under metalake: {}",
-                  tags.size(),
-                  type,
-                  fullName,
-                  metalake);
               return Utils.ok(new TagListResponse(tags.toArray(new TagDTO[0])));
 
             } else {
@@ -285,12 +257,6 @@ public class TagOperations {
               // need to deduplicate the tag names.
               String[] tagNames = tags.stream().map(TagDTO::name).distinct().toArray(String[]::new);
 
-              LOG.info(
-                  "List {} tags for object type: {}, full name: {} under metalake: {}",
-                  tagNames.length,
-                  type,
-                  fullName,
-                  metalake);
               return Utils.ok(new NameListResponse(tagNames));
             }
           });
@@ -310,12 +276,6 @@ public class TagOperations {
       @PathParam("type") String type,
       @PathParam("fullName") String fullName,
       @PathParam("tag") String tagName) {
-    LOG.info(
-        "Received get tag {} request for object type: {}, full name: {} under metalake: {}",
-        tagName,
-        type,
-        fullName,
-        metalake);
 
     try {
       return Utils.doAs(
@@ -352,12 +312,6 @@ public class TagOperations {
                       + " under metalake: "
                       + metalake);
             } else {
-              LOG.info(
-                  "Get tag: {} for object type: {}, full name: {} under metalake: {}",
-                  tagName,
-                  type,
-                  fullName,
-                  metalake);
               return Utils.ok(new TagResponse(tagDTO.get()));
             }
           });
@@ -374,7 +328,6 @@ public class TagOperations {
   @ResponseMetered(name = "list-objects-for-tag", absolute = true)
   public Response listMetadataObjectsForTag(
       @PathParam("metalake") String metalake, @PathParam("tag") String tagName) {
-    LOG.info("Received list objects for tag: {} under metalake: {}", tagName, metalake);
 
     try {
       return Utils.doAs(
@@ -383,12 +336,6 @@ public class TagOperations {
             MetadataObject[] objects = tagManager.listMetadataObjectsForTag(metalake, tagName);
             objects = objects == null ? new MetadataObject[0] : objects;
 
-            LOG.info(
-                "List {} objects for tag: {} under metalake: {}",
-                objects.length,
-                tagName,
-                metalake);
-
             MetadataObjectDTO[] objectDTOs =
                 Arrays.stream(objects).map(DTOConverters::toDTO).toArray(MetadataObjectDTO[]::new);
             return Utils.ok(new MetadataObjectListResponse(objectDTOs));
@@ -409,11 +356,6 @@ public class TagOperations {
       @PathParam("type") String type,
       @PathParam("fullName") String fullName,
       TagsAssociateRequest request) {
-    LOG.info(
-        "Received associate tags request for object type: {}, full name: {} under metalake: {}",
-        type,
-        fullName,
-        metalake);
 
     try {
       return Utils.doAs(
@@ -428,12 +370,6 @@ public class TagOperations {
                     metalake, object, request.getTagsToAdd(), request.getTagsToRemove());
             tagNames = tagNames == null ? new String[0] : tagNames;
 
-            LOG.info(
-                "Associated tags: {} for object type: {}, full name: {} under metalake: {}",
-                Arrays.toString(tagNames),
-                type,
-                fullName,
-                metalake);
             return Utils.ok(new NameListResponse(tagNames));
           });
 
@@ -446,7 +382,6 @@ public class TagOperations {
     try {
       return Optional.ofNullable(tagManager.getTagForMetadataObject(metalake, object, tagName));
     } catch (NoSuchTagException e) {
-      LOG.info("Tag {} not found for object: {}", tagName, object);
       return Optional.empty();
     }
   }
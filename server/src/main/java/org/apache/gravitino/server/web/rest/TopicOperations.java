@@ -23,14 +23,17 @@ import com.codahale.metrics.annotation.Timed;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
-import javax.ws.rs.core.Response;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.TopicDispatcher;
@@ -38,7 +41,6 @@ import org.apache.gravitino.dto.requests.TopicCreateRequest;
 import org.apache.gravitino.dto.requests.TopicUpdateRequest;
 import org.apache.gravitino.dto.requests.TopicUpdatesRequest;
 import org.apache.gravitino.dto.responses.DropResponse;
-import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.TopicResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.lock.LockType;
@@ -58,84 +60,81 @@ public class TopicOperations {
 
   private final TopicDispatcher dispatcher;
 
+  private final AsyncRequestExecutors executors;
+
   @Context private HttpServletRequest httpRequest;
 
   @Inject
-  public TopicOperations(TopicDispatcher dispatcher) {
+  public TopicOperations(TopicDispatcher dispatcher, AsyncRequestExecutors executors) {
     this.dispatcher = dispatcher;
+    this.executors = executors;
   }
 
   @GET
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "list-topic." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
-  public Response listTopics(
+  public void listTopics(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
-      @PathParam("schema") String schema) {
-    try {
-      LOG.info("Received list topics request for schema: {}.{}.{}", metalake, catalog, schema);
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            LOG.info("Listing topics under schema: {}.{}.{}", metalake, catalog, schema);
-            Namespace topicNS = NamespaceUtil.ofTopic(metalake, catalog, schema);
-            NameIdentifier[] topics =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifier.of(metalake, catalog, schema),
-                    LockType.READ,
-                    () -> dispatcher.listTopics(topicNS));
-            Response response = Utils.ok(new EntityListResponse(topics));
-            LOG.info(
-                "List {} topics under schema: {}.{}.{}", topics.length, metalake, catalog, schema);
-            return response;
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handleFilesetException(OperationType.LIST, "", schema, e);
-    }
+      @PathParam("schema") String schema,
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.LIST,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          Namespace topicNS = NamespaceUtil.ofTopic(metalake, catalog, schema);
+          return TreeLockUtils.doWithTreeLock(
+              NameIdentifier.of(metalake, catalog, schema),
+              LockType.READ,
+              () -> {
+                if (verbose) {
+                  Topic[] topics = dispatcher.listTopicsInfo(topicNS);
+                  return Utils.okStreaming("topics", DTOConverters.toDTOs(topics));
+                } else {
+                  NameIdentifier[] topics = dispatcher.listTopics(topicNS);
+                  return Utils.okStreaming(topics);
+                }
+              });
+        },
+        e -> ExceptionHandlers.handleFilesetException(OperationType.LIST, "", schema, e));
   }
 
   @POST
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "create-topic." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "create-topic", absolute = true)
-  public Response createTopic(
+  public void createTopic(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      TopicCreateRequest request) {
-    LOG.info("Received create topic request: {}.{}.{}", metalake, catalog, schema);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            LOG.info(
-                "Creating topic under schema: {}.{}.{}.{}",
-                metalake,
-                catalog,
-                schema,
-                request.getName());
-            request.validate();
-            NameIdentifier ident =
-                NameIdentifierUtil.ofTopic(metalake, catalog, schema, request.getName());
+      TopicCreateRequest request,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.CREATE,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          request.validate();
+          NameIdentifier ident =
+              NameIdentifierUtil.ofTopic(metalake, catalog, schema, request.getName());
 
-            Topic topic =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifierUtil.ofSchema(metalake, catalog, schema),
-                    LockType.WRITE,
-                    () ->
-                        dispatcher.createTopic(
-                            ident,
-                            request.getComment(),
-                            null /* dataLayout, always null because it's not supported yet.*/,
-                            request.getProperties()));
-            Response response = Utils.ok(new TopicResponse(DTOConverters.toDTO(topic)));
-            LOG.info("Topic created: {}.{}.{}.{}", metalake, catalog, schema, topic.name());
-            return response;
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handleTopicException(
-          OperationType.CREATE, request.getName(), schema, e);
-    }
+          Topic topic =
+              TreeLockUtils.doWithTreeLock(
+                  NameIdentifierUtil.ofSchema(metalake, catalog, schema),
+                  LockType.WRITE,
+                  () ->
+                      dispatcher.createTopic(
+                          ident,
+                          request.getComment(),
+                          null /* dataLayout, always null because it's not supported yet.*/,
+                          request.getProperties()));
+          return Utils.ok(new TopicResponse(DTOConverters.toDTO(topic)));
+        },
+        e ->
+            ExceptionHandlers.handleTopicException(
+                OperationType.CREATE, request.getName(), schema, e));
   }
 
   @GET
@@ -143,27 +142,22 @@ public class TopicOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "load-topic." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "load-topic", absolute = true)
-  public Response loadTopic(
+  public void loadTopic(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      @PathParam("topic") String topic) {
-    LOG.info(
-        "Received load topic request for topic: {}.{}.{}.{}", metalake, catalog, schema, topic);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            LOG.info("Loading topic: {}.{}.{}.{}", metalake, catalog, schema, topic);
-            NameIdentifier ident = NameIdentifierUtil.ofTopic(metalake, catalog, schema, topic);
-            Topic t = dispatcher.loadTopic(ident);
-            Response response = Utils.ok(new TopicResponse(DTOConverters.toDTO(t)));
-            LOG.info("Topic loaded: {}.{}.{}.{}", metalake, catalog, schema, topic);
-            return response;
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handleTopicException(OperationType.LOAD, topic, schema, e);
-    }
+      @PathParam("topic") String topic,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.LOAD,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          NameIdentifier ident = NameIdentifierUtil.ofTopic(metalake, catalog, schema, topic);
+          Topic t = dispatcher.loadTopic(ident);
+          return Utils.ok(new TopicResponse(DTOConverters.toDTO(t)));
+        },
+        e -> ExceptionHandlers.handleTopicException(OperationType.LOAD, topic, schema, e));
   }
 
   @PUT
@@ -171,37 +165,33 @@ public class TopicOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "alter-topic." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "alter-topic", absolute = true)
-  public Response alterTopic(
+  public void alterTopic(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
       @PathParam("topic") String topic,
-      TopicUpdatesRequest request) {
-    LOG.info("Received alter topic request: {}.{}.{}.{}", metalake, catalog, schema, topic);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            LOG.info("Altering topic: {}.{}.{}.{}", metalake, catalog, schema, topic);
-            request.validate();
-            NameIdentifier ident = NameIdentifierUtil.ofTopic(metalake, catalog, schema, topic);
-            TopicChange[] changes =
-                request.getUpdates().stream()
-                    .map(TopicUpdateRequest::topicChange)
-                    .toArray(TopicChange[]::new);
+      TopicUpdatesRequest request,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.ALTER,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          request.validate();
+          NameIdentifier ident = NameIdentifierUtil.ofTopic(metalake, catalog, schema, topic);
+          TopicChange[] changes =
+              request.getUpdates().stream()
+                  .map(TopicUpdateRequest::topicChange)
+                  .toArray(TopicChange[]::new);
 
-            Topic t =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifierUtil.ofSchema(metalake, catalog, schema),
-                    LockType.WRITE,
-                    () -> dispatcher.alterTopic(ident, changes));
-            Response response = Utils.ok(new TopicResponse(DTOConverters.toDTO(t)));
-            LOG.info("Topic altered: {}.{}.{}.{}", metalake, catalog, schema, t.name());
-            return response;
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handleTopicException(OperationType.ALTER, topic, schema, e);
-    }
+          Topic t =
+              TreeLockUtils.doWithTreeLock(
+                  NameIdentifierUtil.ofSchema(metalake, catalog, schema),
+                  LockType.WRITE,
+                  () -> dispatcher.alterTopic(ident, changes));
+          return Utils.ok(new TopicResponse(DTOConverters.toDTO(t)));
+        },
+        e -> ExceptionHandlers.handleTopicException(OperationType.ALTER, topic, schema, e));
   }
 
   @DELETE
@@ -209,34 +199,30 @@ public class TopicOperations {
   @Produces("application/vnd.gravitino.v1+json")
   @Timed(name = "drop-topic." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
   @ResponseMetered(name = "drop-topic", absolute = true)
-  public Response dropTopic(
+  public void dropTopic(
       @PathParam("metalake") String metalake,
       @PathParam("catalog") String catalog,
       @PathParam("schema") String schema,
-      @PathParam("topic") String topic) {
-    LOG.info("Received drop topic request: {}.{}.{}.{}", metalake, catalog, schema, topic);
-    try {
-      return Utils.doAs(
-          httpRequest,
-          () -> {
-            LOG.info("Dropping topic under schema: {}.{}.{}", metalake, catalog, schema);
-            NameIdentifier ident = NameIdentifierUtil.ofTopic(metalake, catalog, schema, topic);
-            boolean dropped =
-                TreeLockUtils.doWithTreeLock(
-                    NameIdentifierUtil.ofSchema(metalake, catalog, schema),
-                    LockType.WRITE,
-                    () -> dispatcher.dropTopic(ident));
+      @PathParam("topic") String topic,
+      @Suspended AsyncResponse asyncResponse) {
+    executors.execute(
+        OperationType.DROP,
+        httpRequest,
+        asyncResponse,
+        () -> {
+          NameIdentifier ident = NameIdentifierUtil.ofTopic(metalake, catalog, schema, topic);
+          boolean dropped =
+              TreeLockUtils.doWithTreeLock(
+                  NameIdentifierUtil.ofSchema(metalake, catalog, schema),
+                  LockType.WRITE,
+                  () -> dispatcher.dropTopic(ident));
 
-            if (!dropped) {
-              LOG.warn("Failed to drop topic {} under schema {}", topic, schema);
-            }
+          if (!dropped) {
+            LOG.warn("Failed to drop topic {} under schema {}", topic, schema);
+          }
 
-            Response response = Utils.ok(new DropResponse(dropped));
-            LOG.info("Topic dropped: {}.{}.{}.{}", metalake, catalog, schema, topic);
-            return response;
-          });
-    } catch (Exception e) {
-      return ExceptionHandlers.handleTopicException(OperationType.DROP, topic, schema, e);
-    }
+          return Utils.ok(new DropResponse(dropped));
+        },
+        e -> ExceptionHandlers.handleTopicException(OperationType.DROP, topic, schema, e));
   }
 }
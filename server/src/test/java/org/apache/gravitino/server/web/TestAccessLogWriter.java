@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestAccessLogWriter {
+
+  @Test
+  public void testDrain() {
+    List<String> records = new ArrayList<>();
+    AccessLogWriter writer = new AccessLogWriter(2, 1, true, records::add, false);
+
+    writer.log("GET", "/api/metalakes/m1", 200, 3_215_000L, "user1");
+    writer.log("DELETE", "/api/metalakes/m1", 404, 45_000L, null);
+    // The buffer is full.
+    writer.log("GET", "/api/metalakes", 200, 1_000_000L, "user1");
+    Assertions.assertEquals(1, writer.dropped());
+
+    Assertions.assertEquals(2, writer.drain());
+    Assertions.assertEquals(
+        "method=GET path=/api/metalakes/m1 status=200 durationMs=3.215 principal=user1",
+        records.get(0));
+    Assertions.assertEquals(
+        "method=DELETE path=/api/metalakes/m1 status=404 durationMs=0.045 principal=null",
+        records.get(1));
+
+    // The slots are reused after draining.
+    writer.log("GET", "/api/metalakes", 200, 1_000_000L, "user1");
+    Assertions.assertEquals(1, writer.drain());
+    Assertions.assertEquals(0, writer.drain());
+  }
+
+  @Test
+  public void testOverflowWithoutDropping() {
+    List<String> records = new ArrayList<>();
+    AccessLogWriter writer = new AccessLogWriter(1, 1, false, records::add, false);
+
+    writer.log("GET", "/api/metalakes/m0", 200, 0L, "user1");
+    writer.log("GET", "/api/metalakes/m1", 200, 0L, "user1");
+    writer.log("GET", "/api/metalakes/m2", 200, 0L, "user1");
+    Assertions.assertEquals(0, writer.dropped());
+    // The overflowed record is written by the request thread.
+    Assertions.assertEquals(1, records.size());
+    Assertions.assertTrue(records.get(0).contains("/api/metalakes/m2"));
+    Assertions.assertEquals(2, writer.drain());
+    Assertions.assertTrue(records.get(1).contains("/api/metalakes/m0"));
+    Assertions.assertTrue(records.get(2).contains("/api/metalakes/m1"));
+  }
+
+  @Test
+  public void testSampling() {
+    List<String> records = new ArrayList<>();
+    AccessLogWriter writer = new AccessLogWriter(4096, 1000, true, records::add, false);
+
+    for (int i = 0; i < 100; i++) {
+      writer.log("GET", "/api/metalakes/m1", 500, 0L, "user1");
+    }
+    for (int i = 0; i < 1000; i++) {
+      writer.log("GET", "/api/metalakes/m1", 200, 0L, "user1");
+    }
+    writer.drain();
+    // The failed requests are always logged.
+    Assertions.assertTrue(records.size() >= 100 && records.size() < 200);
+  }
+
+  @Test
+  public void testConcurrentWriters() throws Exception {
+    List<String> records = Collections.synchronizedList(new ArrayList<>());
+    int threads = 4;
+    int perThread = 10_000;
+    CountDownLatch done = new CountDownLatch(threads);
+    try (AccessLogWriter writer = new AccessLogWriter(1024, 1, false, records::add, true)) {
+      for (int t = 0; t < threads; t++) {
+        new Thread(
+                () -> {
+                  for (int i = 0; i < perThread; i++) {
+                    writer.log("GET", "/api/metalakes/m" + i, 200, 0L, "user1");
+                  }
+                  done.countDown();
+                })
+            .start();
+      }
+      Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+    }
+    Assertions.assertEquals(threads * perThread, records.size());
+  }
+}
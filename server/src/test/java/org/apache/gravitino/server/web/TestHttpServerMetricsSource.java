@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web;
+
+import static org.mockito.Mockito.mock;
+
+import com.codahale.metrics.Timer;
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.rest.RESTUtils;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestHttpServerMetricsSource extends JerseyTest {
+
+  private static final long DELAY_MS = 200;
+
+  private HttpServerMetricsSource metricsSource;
+
+  @Path("async")
+  public static class AsyncResource {
+    @GET
+    @Timed(name = "async-op." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+    @ResponseMetered(name = "async-op", absolute = true)
+    public void get(@Suspended AsyncResponse asyncResponse) {
+      new Thread(
+              () -> {
+                try {
+                  Thread.sleep(DELAY_MS);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                asyncResponse.resume(Response.ok("done").build());
+              })
+          .start();
+    }
+  }
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(AsyncResource.class);
+    metricsSource = new HttpServerMetricsSource("test", resourceConfig, mock(JettyServer.class));
+    return resourceConfig;
+  }
+
+  @Test
+  public void testTimeSuspendedRequests() throws InterruptedException {
+    Response resp = target("async").request().get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals("done", resp.readEntity(String.class));
+
+    // The request is timed until the response is resumed, not until the method returns.
+    Timer timer =
+        metricsSource
+            .getMetricRegistry()
+            .getTimers()
+            .get("async-op." + MetricNames.HTTP_PROCESS_DURATION);
+    // The request is finished after the response is sent.
+    long deadline = System.currentTimeMillis() + 5000;
+    while (timer.getCount() == 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    Assertions.assertEquals(1, timer.getCount());
+    Assertions.assertTrue(
+        timer.getSnapshot().getMax() >= TimeUnit.MILLISECONDS.toNanos(DELAY_MS),
+        "The request duration should include the asynchronous processing");
+    Assertions.assertEquals(
+        1, metricsSource.getMetricRegistry().getMeters().get("async-op.2xx-responses").getCount());
+  }
+}
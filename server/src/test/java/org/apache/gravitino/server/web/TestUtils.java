@@ -18,15 +18,29 @@
  */
 package org.apache.gravitino.server.web;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.NameListResponse;
 import org.junit.jupiter.api.Test;
 
 /*
@@ -167,4 +181,66 @@ public class TestUtils {
     ErrorResponse errorResponse = (ErrorResponse) response.getEntity();
     assertEquals("Unsupported operation", errorResponse.getMessage());
   }
+
+  @Test
+  public void testOkStreaming() throws IOException {
+    NameIdentifier[] idents =
+        new NameIdentifier[] {NameIdentifier.of("a", "b", "c"), NameIdentifier.of("a", "b", "d")};
+    Response response = Utils.okStreaming(idents);
+    assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    assertEquals(MediaType.APPLICATION_JSON, response.getMediaType().toString());
+    EntityListResponse listResponse = write(response, EntityListResponse.class);
+    assertEquals(0, listResponse.getCode());
+    assertArrayEquals(idents, listResponse.identifiers());
+
+    response = Utils.okStreaming("names", new String[] {"tag1", "tag2"});
+    NameListResponse nameListResponse = write(response, NameListResponse.class);
+    assertArrayEquals(new String[] {"tag1", "tag2"}, nameListResponse.getNames());
+
+    response = Utils.okStreaming("names", new String[0]);
+    nameListResponse = write(response, NameListResponse.class);
+    assertEquals(0, nameListResponse.getNames().length);
+  }
+
+  @Test
+  public void testOkWithVersionETag() throws Exception {
+    Request request = mock(Request.class);
+    AtomicInteger loads = new AtomicInteger();
+    Callable<String> loader =
+        () -> {
+          loads.incrementAndGet();
+          return "entity";
+        };
+
+    // No tag if the version is unknown
+    Response response = Utils.okWithVersionETag(request, Optional.empty(), loader);
+    assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    assertNull(response.getEntityTag());
+    assertEquals(1, loads.get());
+
+    response = Utils.okWithVersionETag(request, Optional.of("1:v1"), loader);
+    assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    assertEquals("entity", response.getEntity());
+    EntityTag eTag = response.getEntityTag();
+    assertNotNull(eTag);
+    assertEquals(2, loads.get());
+    // The same version gets the same tag, another version gets a new one
+    assertEquals(
+        eTag, Utils.okWithVersionETag(request, Optional.of("1:v1"), loader).getEntityTag());
+    assertNotEquals(
+        eTag, Utils.okWithVersionETag(request, Optional.of("1:v2"), loader).getEntityTag());
+
+    // The matched tag is answered without loading the entity
+    loads.set(0);
+    when(request.evaluatePreconditions(eTag)).thenReturn(Response.notModified(eTag));
+    response = Utils.okWithVersionETag(request, Optional.of("1:v1"), loader);
+    assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+    assertEquals(0, loads.get());
+  }
+
+  private static <T> T write(Response response, Class<T> responseType) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ((StreamingOutput) response.getEntity()).write(output);
+    return ObjectMapperProvider.objectMapper().readValue(output.toByteArray(), responseType);
+  }
 }
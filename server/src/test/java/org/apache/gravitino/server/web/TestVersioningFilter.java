@@ -82,6 +82,26 @@ public class TestVersioningFilter {
     verify(mockResponse).sendError(HttpServletResponse.SC_NOT_ACCEPTABLE, "Unsupported version");
   }
 
+  @Test
+  public void testDoFilterWithVersionInMediaTypeList() throws ServletException, IOException {
+    VersioningFilter filter = new VersioningFilter();
+    FilterChain mockChain = mock(FilterChain.class);
+    HttpServletRequest mockRequest = mock(HttpServletRequest.class);
+    HttpServletResponse mockResponse = mock(HttpServletResponse.class);
+
+    when(mockRequest.getHeaders("Accept"))
+        .thenReturn(
+            new Vector<>(
+                    Collections.singletonList(
+                        "application/x-jackson-smile, application/vnd.gravitino.v2+json;q=0.9"))
+                .elements());
+
+    filter.doFilter(mockRequest, mockResponse, mockChain);
+
+    verify(mockChain, never()).doFilter(any(), any());
+    verify(mockResponse).sendError(HttpServletResponse.SC_NOT_ACCEPTABLE, "Unsupported version");
+  }
+
   @Test
   public void testDoFilterWithNoVersionHeader() throws ServletException, IOException {
     // Arrange
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.filter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.trace.RequestTrace;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TestRequestTraceFilter {
+
+  @Test
+  public void testServerTiming() {
+    ContainerRequestContext requestContext = mock(ContainerRequestContext.class);
+    ContainerResponseContext responseContext = mock(ContainerResponseContext.class);
+    MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+    when(responseContext.getHeaders()).thenReturn(headers);
+
+    RequestTraceFilter filter = new RequestTraceFilter(0L, true);
+    filter.filter(requestContext);
+    ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+    verify(requestContext).setProperty(eq(Utils.REQUEST_TRACE_ATTRIBUTE), captor.capture());
+    RequestTrace trace = (RequestTrace) captor.getValue();
+    trace.record(RequestTrace.Stage.STORE, 1000L);
+
+    when(requestContext.getProperty(Utils.REQUEST_TRACE_ATTRIBUTE)).thenReturn(trace);
+    filter.filter(requestContext, responseContext);
+    String serverTiming = (String) headers.getFirst("Server-Timing");
+    Assertions.assertTrue(serverTiming.startsWith("store;dur=0.001, total;dur="));
+  }
+
+  @Test
+  public void testWithoutServerTiming() {
+    ContainerRequestContext requestContext = mock(ContainerRequestContext.class);
+    ContainerResponseContext responseContext = mock(ContainerResponseContext.class);
+    MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+    when(responseContext.getHeaders()).thenReturn(headers);
+    when(requestContext.getProperty(Utils.REQUEST_TRACE_ATTRIBUTE)).thenReturn(new RequestTrace());
+
+    RequestTraceFilter filter = new RequestTraceFilter(1000L, false);
+    filter.filter(requestContext);
+    verify(requestContext).setProperty(eq(Utils.REQUEST_TRACE_ATTRIBUTE), any());
+    filter.filter(requestContext, responseContext);
+    Assertions.assertFalse(headers.containsKey("Server-Timing"));
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.auth.AuthConstants;
+import org.apache.gravitino.server.web.Utils;
+import org.apache.gravitino.trace.RequestTrace;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class TestAsyncRequestExecutors {
+
+  @Test
+  public void testExecuteAsPrincipal() {
+    HttpServletRequest httpRequest = mock(HttpServletRequest.class);
+    when(httpRequest.getAttribute(AuthConstants.AUTHENTICATED_PRINCIPAL_ATTRIBUTE_NAME))
+        .thenReturn(new UserPrincipal("user1"));
+
+    try (AsyncRequestExecutors executors = new AsyncRequestExecutors(1, 1, 10)) {
+      AsyncResponse asyncResponse = mock(AsyncResponse.class);
+      executors.execute(
+          OperationType.LOAD,
+          httpRequest,
+          asyncResponse,
+          () -> Utils.ok(PrincipalUtils.getCurrentUserName()),
+          e -> Utils.internalError(e.getMessage()));
+
+      ArgumentCaptor<Response> captor = ArgumentCaptor.forClass(Response.class);
+      verify(asyncResponse, timeout(5000)).resume(captor.capture());
+      Assertions.assertEquals(Response.Status.OK.getStatusCode(), captor.getValue().getStatus());
+      Assertions.assertEquals("user1", captor.getValue().getEntity());
+
+      AsyncResponse failedResponse = mock(AsyncResponse.class);
+      executors.execute(
+          OperationType.CREATE,
+          httpRequest,
+          failedResponse,
+          () -> {
+            throw new IllegalArgumentException("mock error");
+          },
+          e -> Utils.illegalArguments(e.getMessage()));
+
+      verify(failedResponse, timeout(5000)).resume(captor.capture());
+      Assertions.assertEquals(
+          Response.Status.BAD_REQUEST.getStatusCode(), captor.getValue().getStatus());
+    }
+  }
+
+  @Test
+  public void testExecuteWithTrace() {
+    HttpServletRequest httpRequest = mock(HttpServletRequest.class);
+    RequestTrace trace = new RequestTrace();
+    when(httpRequest.getAttribute(Utils.REQUEST_TRACE_ATTRIBUTE)).thenReturn(trace);
+
+    try (AsyncRequestExecutors executors = new AsyncRequestExecutors(1, 1, 10)) {
+      AsyncResponse asyncResponse = mock(AsyncResponse.class);
+      executors.execute(
+          OperationType.LOAD,
+          httpRequest,
+          asyncResponse,
+          () -> Utils.ok(RequestTrace.current() == trace),
+          e -> Utils.internalError(e.getMessage()));
+
+      ArgumentCaptor<Response> captor = ArgumentCaptor.forClass(Response.class);
+      verify(asyncResponse, timeout(5000)).resume(captor.capture());
+      // The trace is attached to the executor thread, and the time in the queue is recorded
+      Assertions.assertEquals(true, captor.getValue().getEntity());
+      Assertions.assertEquals(1, trace.stageCount(RequestTrace.Stage.QUEUE));
+    }
+  }
+
+  @Test
+  public void testExecuteInline() {
+    HttpServletRequest httpRequest = mock(HttpServletRequest.class);
+    try (AsyncRequestExecutors executors = new AsyncRequestExecutors(0, 0, 10)) {
+      AsyncResponse asyncResponse = mock(AsyncResponse.class);
+      Thread caller = Thread.currentThread();
+      executors.execute(
+          OperationType.LIST,
+          httpRequest,
+          asyncResponse,
+          () -> Utils.ok(Thread.currentThread() == caller),
+          e -> Utils.internalError(e.getMessage()));
+
+      ArgumentCaptor<Response> captor = ArgumentCaptor.forClass(Response.class);
+      verify(asyncResponse).resume(captor.capture());
+      Assertions.assertEquals(true, captor.getValue().getEntity());
+    }
+  }
+
+  @Test
+  public void testRejectWhenSaturated() throws InterruptedException {
+    HttpServletRequest httpRequest = mock(HttpServletRequest.class);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    try (AsyncRequestExecutors executors = new AsyncRequestExecutors(1, 1, 1)) {
+      AsyncResponse running = mock(AsyncResponse.class);
+      executors.execute(
+          OperationType.DROP,
+          httpRequest,
+          running,
+          () -> {
+            started.countDown();
+            release.await();
+            return Utils.ok();
+          },
+          e -> Utils.internalError(e.getMessage()));
+      started.await();
+
+      AsyncResponse queued = mock(AsyncResponse.class);
+      executors.execute(
+          OperationType.ALTER,
+          httpRequest,
+          queued,
+          Utils::ok,
+          e -> Utils.internalError(e.getMessage()));
+
+      AsyncResponse rejected = mock(AsyncResponse.class);
+      executors.execute(
+          OperationType.CREATE,
+          httpRequest,
+          rejected,
+          Utils::ok,
+          e -> Utils.internalError(e.getMessage()));
+
+      ArgumentCaptor<Response> captor = ArgumentCaptor.forClass(Response.class);
+      verify(rejected).resume(captor.capture());
+      Assertions.assertEquals(
+          Response.Status.SERVICE_UNAVAILABLE.getStatusCode(), captor.getValue().getStatus());
+
+      // Reads are served by a separate executor and are not affected by the saturated writes.
+      AsyncResponse read = mock(AsyncResponse.class);
+      executors.execute(
+          OperationType.LOAD,
+          httpRequest,
+          read,
+          Utils::ok,
+          e -> Utils.internalError(e.getMessage()));
+      verify(read, timeout(5000)).resume(any(Response.class));
+
+      release.countDown();
+      verify(running, timeout(5000)).resume(any(Response.class));
+      verify(queued, timeout(5000)).resume(any(Response.class));
+    }
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Audit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.catalog.SchemaDispatcher;
+import org.apache.gravitino.catalog.TableDispatcher;
+import org.apache.gravitino.dto.requests.BatchOperationRequest;
+import org.apache.gravitino.dto.requests.BatchRequest;
+import org.apache.gravitino.dto.requests.SchemaCreateRequest;
+import org.apache.gravitino.dto.responses.BatchResponse;
+import org.apache.gravitino.dto.responses.DropResponse;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.SchemaResponse;
+import org.apache.gravitino.dto.responses.TableResponse;
+import org.apache.gravitino.exceptions.NoSuchTableException;
+import org.apache.gravitino.exceptions.SchemaAlreadyExistsException;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestBatchOperations extends JerseyTest {
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  private static final ObjectMapper MAPPER = ObjectMapperProvider.objectMapper();
+
+  private final SchemaDispatcher schemaDispatcher = mock(SchemaDispatcher.class);
+
+  private final TableDispatcher tableDispatcher = mock(TableDispatcher.class);
+
+  private final String metalake = "metalake1";
+
+  @BeforeAll
+  public static void setup() throws IllegalAccessException {
+    Config config = mock(Config.class);
+    Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+  }
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(BatchOperations.class);
+    resourceConfig.register(ObjectMapperProvider.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(schemaDispatcher).to(SchemaDispatcher.class).ranked(2);
+            bind(tableDispatcher).to(TableDispatcher.class).ranked(2);
+            bind(new AsyncRequestExecutors(2, 2, 100, 2, 2, 3))
+                .to(AsyncRequestExecutors.class)
+                .ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Override
+  protected void configureClient(ClientConfig config) {
+    config.register(ObjectMapperProvider.class);
+  }
+
+  @Test
+  public void testBatch() {
+    Schema schema = mockSchema("schema1");
+    when(schemaDispatcher.createSchema(any(), any(), any())).thenReturn(schema);
+    when(schemaDispatcher.createSchema(
+            eq(NameIdentifier.of(metalake, "catalog1", "schema2")), any(), any()))
+        .thenThrow(new SchemaAlreadyExistsException("mock error"));
+    Column[] columns = new Column[] {Column.of("col1", Types.StringType.get(), "comment")};
+    Table table = TestTableOperations.mockTable("table1", columns, "comment", null, null);
+    when(tableDispatcher.loadTable(NameIdentifier.of(metalake, "catalog1", "schema1", "table1")))
+        .thenReturn(table);
+    when(tableDispatcher.loadTable(NameIdentifier.of(metalake, "catalog1", "schema1", "table2")))
+        .thenThrow(new NoSuchTableException("mock error"));
+    when(tableDispatcher.dropTable(any())).thenReturn(true);
+
+    BatchRequest request =
+        new BatchRequest(
+            ImmutableList.of(
+                createSchemaOperation("schema1"),
+                createSchemaOperation("schema2"),
+                tableOperation(BatchOperationRequest.Operation.LOAD, "table1"),
+                tableOperation(BatchOperationRequest.Operation.LOAD, "table2"),
+                tableOperation(BatchOperationRequest.Operation.DROP, "table1")));
+    // Exceeds the max operations of a batch
+    Response resp = batch(request);
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+    ErrorResponse errorResp = resp.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResp.getCode());
+
+    request = new BatchRequest(request.getOperations().subList(0, 3));
+    resp = batch(request);
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    BatchResponse batchResp = resp.readEntity(BatchResponse.class);
+    Assertions.assertEquals(0, batchResp.getCode());
+    JsonNode[] results = batchResp.getResults();
+    Assertions.assertEquals(3, results.length);
+    Assertions.assertEquals(
+        "schema1", convert(results[0], SchemaResponse.class).getSchema().name());
+    ErrorResponse error = convert(results[1], ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ALREADY_EXISTS_CODE, error.getCode());
+    Assertions.assertEquals(SchemaAlreadyExistsException.class.getSimpleName(), error.getType());
+    Assertions.assertEquals("table1", convert(results[2], TableResponse.class).getTable().name());
+
+    request =
+        new BatchRequest(
+            ImmutableList.of(
+                tableOperation(BatchOperationRequest.Operation.LOAD, "table2"),
+                tableOperation(BatchOperationRequest.Operation.DROP, "table1")));
+    results = batch(request).readEntity(BatchResponse.class).getResults();
+    error = convert(results[0], ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, error.getCode());
+    Assertions.assertEquals(NoSuchTableException.class.getSimpleName(), error.getType());
+    Assertions.assertTrue(convert(results[1], DropResponse.class).dropped());
+  }
+
+  @Test
+  public void testInvalidBatch() {
+    Response resp = batch(new BatchRequest(Collections.emptyList()));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+
+    // The request body is required by the create operation
+    List<BatchOperationRequest> operations =
+        ImmutableList.of(
+            new BatchOperationRequest(
+                MetadataObject.Type.SCHEMA,
+                BatchOperationRequest.Operation.CREATE,
+                new String[] {"catalog1", "schema1"},
+                null));
+    resp = batch(new BatchRequest(operations));
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+
+    // The name in the request body must match the identifier
+    operations =
+        ImmutableList.of(
+            new BatchOperationRequest(
+                MetadataObject.Type.SCHEMA,
+                BatchOperationRequest.Operation.CREATE,
+                new String[] {"catalog1", "schema1"},
+                MAPPER.valueToTree(new SchemaCreateRequest("schema2", null, null))));
+    BatchResponse batchResp = batch(new BatchRequest(operations)).readEntity(BatchResponse.class);
+    Assertions.assertEquals(
+        ErrorConstants.ILLEGAL_ARGUMENTS_CODE,
+        convert(batchResp.getResults()[0], ErrorResponse.class).getCode());
+  }
+
+  private Response batch(BatchRequest request) {
+    return target("/metalakes/" + metalake + "/batch")
+        .request(MediaType.APPLICATION_JSON_TYPE)
+        .accept("application/vnd.gravitino.v1+json")
+        .post(Entity.entity(request, MediaType.APPLICATION_JSON_TYPE));
+  }
+
+  private static BatchOperationRequest createSchemaOperation(String schema) {
+    return new BatchOperationRequest(
+        MetadataObject.Type.SCHEMA,
+        BatchOperationRequest.Operation.CREATE,
+        new String[] {"catalog1", schema},
+        MAPPER.valueToTree(new SchemaCreateRequest(schema, "comment", ImmutableMap.of())));
+  }
+
+  private static BatchOperationRequest tableOperation(
+      BatchOperationRequest.Operation operation, String table) {
+    return new BatchOperationRequest(
+        MetadataObject.Type.TABLE, operation, new String[] {"catalog1", "schema1", table}, null);
+  }
+
+  private static <T> T convert(JsonNode node, Class<T> clazz) {
+    try {
+      return MAPPER.treeToValue(node, clazz);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static Schema mockSchema(String name) {
+    Schema mockSchema = mock(Schema.class);
+    when(mockSchema.name()).thenReturn(name);
+    when(mockSchema.comment()).thenReturn("comment");
+
+    Audit mockAudit = mock(Audit.class);
+    when(mockAudit.creator()).thenReturn("gravitino");
+    when(mockAudit.createTime()).thenReturn(Instant.now());
+    when(mockSchema.auditInfo()).thenReturn(mockAudit);
+
+    return mockSchema;
+  }
+}
@@ -64,7 +64,9 @@ import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.CatalogEntity;
 import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.test.JerseyTest;
 import org.glassfish.jersey.test.TestProperties;
@@ -106,6 +108,7 @@ public class TestCatalogOperations extends JerseyTest {
 
     ResourceConfig resourceConfig = new ResourceConfig();
     resourceConfig.register(CatalogOperations.class);
+    resourceConfig.register(ObjectMapperProvider.class);
     resourceConfig.register(
         new AbstractBinder() {
           @Override
@@ -118,6 +121,13 @@ public class TestCatalogOperations extends JerseyTest {
     return resourceConfig;
   }
 
+  @Override
+  protected void configureClient(ClientConfig config) {
+    // The streamed list of the catalogs is serialized by the ObjectMapper of server, which writes
+    // enums in lowercase.
+    config.register(ObjectMapperProvider.class);
+  }
+
   @Test
   public void testListCatalogs() {
     NameIdentifier ident1 = NameIdentifier.of("metalake1", "catalog1");
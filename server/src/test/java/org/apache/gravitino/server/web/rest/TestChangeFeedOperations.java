@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.ChangeDTO;
+import org.apache.gravitino.dto.responses.ChangeFeedResponse;
+import org.apache.gravitino.listener.ChangeFeed;
+import org.apache.gravitino.listener.api.event.AlterTableEvent;
+import org.apache.gravitino.listener.api.info.TableInfo;
+import org.apache.gravitino.metalake.MetalakeDispatcher;
+import org.apache.gravitino.rel.TableChange;
+import org.apache.gravitino.rest.RESTUtils;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestChangeFeedOperations extends JerseyTest {
+
+  private static final ChangeFeed changeFeed = new ChangeFeed(100);
+
+  private static final MetalakeDispatcher metalakeDispatcher = mock(MetalakeDispatcher.class);
+
+  private static class MockServletRequestFactory extends ServletRequestFactoryBase {
+    @Override
+    public HttpServletRequest get() {
+      HttpServletRequest request = mock(HttpServletRequest.class);
+      when(request.getRemoteUser()).thenReturn(null);
+      return request;
+    }
+  }
+
+  @BeforeAll
+  public static void setup() throws IllegalAccessException {
+    Config config = mock(Config.class);
+    when(config.get(Configs.CHANGE_FEED_MAX_WAIT_MS)).thenReturn(60000L);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "config", config, true);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "changeFeed", changeFeed, true);
+    changeFeed.start();
+  }
+
+  @AfterAll
+  public static void cleanup() throws IllegalAccessException {
+    changeFeed.stop();
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "changeFeed", null, true);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "config", null, true);
+  }
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(ChangeFeedOperations.class);
+    resourceConfig.register(
+        new AbstractBinder() {
+          @Override
+          protected void configure() {
+            bind(metalakeDispatcher).to(MetalakeDispatcher.class).ranked(2);
+            bind(new AsyncRequestExecutors(2, 2, 100)).to(AsyncRequestExecutors.class).ranked(2);
+            bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
+          }
+        });
+
+    return resourceConfig;
+  }
+
+  @Test
+  void testLongPollChanges() throws Exception {
+    when(metalakeDispatcher.metalakeExists(any())).thenReturn(true);
+
+    ChangeFeedResponse latest = listChanges();
+    long after = latest.getLatestSequence();
+    Assertions.assertEquals(changeFeed.epoch(), latest.getEpoch());
+    Assertions.assertEquals(0, latest.getChanges().length);
+
+    // The request waits for the change of the metalake, skipping the others.
+    CompletableFuture<ChangeFeedResponse> poll =
+        CompletableFuture.supplyAsync(
+            () -> listChanges("epoch", changeFeed.epoch(), "after", after, "waitMs", 20000));
+    Thread.sleep(200);
+    changeFeed.onPostEvent(alterTableEvent("other"));
+    changeFeed.onPostEvent(alterTableEvent("metalake1"));
+
+    ChangeFeedResponse response = poll.get(20, TimeUnit.SECONDS);
+    response.validate();
+    Assertions.assertFalse(response.isReset());
+    Assertions.assertEquals(after + 2, response.getLatestSequence());
+    Assertions.assertEquals(1, response.getChanges().length);
+    ChangeDTO change = response.getChanges()[0];
+    Assertions.assertEquals(after + 2, change.sequence());
+    Assertions.assertEquals(ChangeDTO.Operation.ALTER, change.operation());
+    Assertions.assertEquals(MetadataObject.Type.TABLE, change.objectType());
+    Assertions.assertEquals(
+        NameIdentifier.of("metalake1", "catalog1", "schema1", "table1"), change.identifier());
+
+    // The request returns no change when the time is up.
+    response = listChanges("after", response.getLatestSequence(), "waitMs", 100);
+    Assertions.assertEquals(0, response.getChanges().length);
+    Assertions.assertEquals(after + 2, response.getLatestSequence());
+
+    // A client of another epoch must reset its cache.
+    response = listChanges("epoch", "another", "after", 1);
+    Assertions.assertTrue(response.isReset());
+  }
+
+  @Test
+  void testMetalakeNotExists() {
+    when(metalakeDispatcher.metalakeExists(any())).thenReturn(false);
+    Response resp =
+        target("/metalakes/metalake1/changes")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp.getStatus());
+  }
+
+  private ChangeFeedResponse listChanges(Object... queryParams) {
+    WebTarget target = target("/metalakes/metalake1/changes");
+    for (int i = 0; i < queryParams.length; i += 2) {
+      target = target.queryParam((String) queryParams[i], queryParams[i + 1]);
+    }
+    Response resp =
+        target
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    return resp.readEntity(ChangeFeedResponse.class);
+  }
+
+  private static AlterTableEvent alterTableEvent(String metalake) {
+    return new AlterTableEvent(
+        "user",
+        NameIdentifier.of(metalake, "catalog1", "schema1", "table1"),
+        new TableChange[0],
+        (TableInfo) null);
+  }
+}
@@ -51,6 +51,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.FilesetListResponse;
 import org.apache.gravitino.dto.responses.FilesetResponse;
 import org.apache.gravitino.exceptions.FilesetAlreadyExistsException;
 import org.apache.gravitino.exceptions.NoSuchFilesetException;
@@ -59,6 +60,8 @@ import org.apache.gravitino.file.Fileset;
 import org.apache.gravitino.file.FilesetChange;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
+import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.test.JerseyTest;
@@ -106,11 +109,13 @@ public class TestFilesetOperations extends JerseyTest {
 
     ResourceConfig resourceConfig = new ResourceConfig();
     resourceConfig.register(FilesetOperations.class);
+    resourceConfig.register(ObjectMapperProvider.class);
     resourceConfig.register(
         new AbstractBinder() {
           @Override
           protected void configure() {
             bind(dispatcher).to(FilesetDispatcher.class).ranked(2);
+            bind(new AsyncRequestExecutors(2, 2, 100)).to(AsyncRequestExecutors.class).ranked(2);
             bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
           }
         });
@@ -118,6 +123,13 @@ public class TestFilesetOperations extends JerseyTest {
     return resourceConfig;
   }
 
+  @Override
+  protected void configureClient(ClientConfig config) {
+    // The streamed list of the filesets is serialized by the ObjectMapper of server, which writes
+    // enums in lowercase.
+    config.register(ObjectMapperProvider.class);
+  }
+
   @Test
   public void testListFileset() {
     NameIdentifier fileset1 = NameIdentifier.of(metalake, catalog, schema, "fileset1");
@@ -171,6 +183,61 @@ public class TestFilesetOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListFilesetsInfo() {
+    Fileset fileset1 =
+        mockFileset(
+            "fileset1",
+            Fileset.Type.MANAGED,
+            "mock comment",
+            "mock location",
+            ImmutableMap.of("k1", "v1"));
+    Fileset fileset2 =
+        mockFileset(
+            "fileset2",
+            Fileset.Type.EXTERNAL,
+            "mock comment",
+            "mock location2",
+            ImmutableMap.of("k2", "v2"));
+    when(dispatcher.listFilesetsInfo(any())).thenReturn(new Fileset[] {fileset1, fileset2});
+
+    Response resp =
+        target(filesetPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, resp.getMediaType());
+
+    FilesetListResponse listResp = resp.readEntity(FilesetListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+
+    FilesetDTO[] filesets = listResp.getFilesets();
+    Assertions.assertEquals(2, filesets.length);
+    Assertions.assertEquals("fileset1", filesets[0].name());
+    Assertions.assertEquals(Fileset.Type.MANAGED, filesets[0].type());
+    Assertions.assertEquals(ImmutableMap.of("k1", "v1"), filesets[0].properties());
+    Assertions.assertEquals("fileset2", filesets[1].name());
+    Assertions.assertEquals("mock location2", filesets[1].storageLocation());
+
+    // Test throw NoSuchSchemaException
+    doThrow(new NoSuchSchemaException("mock error")).when(dispatcher).listFilesetsInfo(any());
+    Response resp1 =
+        target(filesetPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+
+    ErrorResponse errorResp = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp.getCode());
+    Assertions.assertEquals(NoSuchSchemaException.class.getSimpleName(), errorResp.getType());
+  }
+
   @Test
   public void loadFileset() {
     Fileset fileset =
@@ -123,6 +123,7 @@ public class TestPartitionOperations extends JerseyTest {
           @Override
           protected void configure() {
             bind(dispatcher).to(PartitionDispatcher.class).ranked(2);
+            bind(new AsyncRequestExecutors(2, 2, 100)).to(AsyncRequestExecutors.class).ranked(2);
             bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
           }
         });
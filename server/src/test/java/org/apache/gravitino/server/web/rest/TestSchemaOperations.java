@@ -52,6 +52,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.SchemaListResponse;
 import org.apache.gravitino.dto.responses.SchemaResponse;
 import org.apache.gravitino.exceptions.NoSuchCatalogException;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -110,6 +111,7 @@ public class TestSchemaOperations extends JerseyTest {
           @Override
           protected void configure() {
             bind(dispatcher).to(SchemaDispatcher.class).ranked(2);
+            bind(new AsyncRequestExecutors(2, 2, 100)).to(AsyncRequestExecutors.class).ranked(2);
             bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
           }
         });
@@ -173,6 +175,49 @@ public class TestSchemaOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListSchemasInfo() {
+    Schema schema1 = mockSchema("schema1", "comment", ImmutableMap.of("k1", "v1"));
+    Schema schema2 = mockSchema("schema2", null, ImmutableMap.of("k2", "v2"));
+    when(dispatcher.listSchemasInfo(any())).thenReturn(new Schema[] {schema1, schema2});
+
+    Response resp =
+        target("/metalakes/" + metalake + "/catalogs/" + catalog + "/schemas")
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, resp.getMediaType());
+
+    SchemaListResponse listResp = resp.readEntity(SchemaListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+
+    SchemaDTO[] schemas = listResp.getSchemas();
+    Assertions.assertEquals(2, schemas.length);
+    Assertions.assertEquals("schema1", schemas[0].name());
+    Assertions.assertEquals("comment", schemas[0].comment());
+    Assertions.assertEquals(ImmutableMap.of("k1", "v1"), schemas[0].properties());
+    Assertions.assertEquals("schema2", schemas[1].name());
+    Assertions.assertNull(schemas[1].comment());
+
+    // Test throw NoSuchCatalogException
+    doThrow(new NoSuchCatalogException("mock error")).when(dispatcher).listSchemasInfo(any());
+    Response resp1 =
+        target("/metalakes/" + metalake + "/catalogs/" + catalog + "/schemas")
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+
+    ErrorResponse errorResp = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp.getCode());
+    Assertions.assertEquals(NoSuchCatalogException.class.getSimpleName(), errorResp.getType());
+  }
+
   @Test
   public void testCreateSchema() {
     SchemaCreateRequest req =
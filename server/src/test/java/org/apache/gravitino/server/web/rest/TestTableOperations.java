@@ -27,6 +27,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
@@ -38,6 +39,8 @@ import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -66,6 +69,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.TableListResponse;
 import org.apache.gravitino.dto.responses.TableResponse;
 import org.apache.gravitino.dto.util.DTOConverters;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -86,6 +90,9 @@ import org.apache.gravitino.rel.indexes.Indexes;
 import org.apache.gravitino.rel.types.Type;
 import org.apache.gravitino.rel.types.Types;
 import org.apache.gravitino.rest.RESTUtils;
+import org.apache.gravitino.server.web.ObjectMapperProvider;
+import org.apache.gravitino.server.web.SmileMessageBodyProvider;
+import org.apache.gravitino.server.web.filter.SmileContentNegotiationFilter;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.test.JerseyTest;
@@ -134,11 +141,14 @@ public class TestTableOperations extends JerseyTest {
 
     ResourceConfig resourceConfig = new ResourceConfig();
     resourceConfig.register(TableOperations.class);
+    resourceConfig.register(SmileMessageBodyProvider.class);
+    resourceConfig.register(SmileContentNegotiationFilter.class);
     resourceConfig.register(
         new AbstractBinder() {
           @Override
           protected void configure() {
             bind(dispatcher).to(TableDispatcher.class).ranked(2);
+            bind(new AsyncRequestExecutors(2, 2, 100)).to(AsyncRequestExecutors.class).ranked(2);
             bindFactory(MockServletRequestFactory.class).to(HttpServletRequest.class);
           }
         });
@@ -218,6 +228,49 @@ public class TestTableOperations extends JerseyTest {
     };
   }
 
+  @Test
+  public void testListTablesInfo() {
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table table1 = mockTable("table1", columns, "mock comment", ImmutableMap.of("k1", "v1"));
+    Table table2 = mockTable("table2", columns, "mock comment", ImmutableMap.of("k2", "v2"));
+    when(dispatcher.listTablesInfo(any())).thenReturn(new Table[] {table1, table2});
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, resp.getMediaType());
+
+    TableListResponse listResp = resp.readEntity(TableListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+
+    TableDTO[] tables = listResp.getTables();
+    Assertions.assertEquals(2, tables.length);
+    Assertions.assertEquals("table1", tables[0].name());
+    Assertions.assertEquals(ImmutableMap.of("k1", "v1"), tables[0].properties());
+    Assertions.assertEquals("table2", tables[1].name());
+    Assertions.assertEquals(1, tables[1].columns().length);
+
+    // Test throw NoSuchSchemaException
+    doThrow(new NoSuchSchemaException("mock error")).when(dispatcher).listTablesInfo(any());
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+
+    ErrorResponse errorResp = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp.getCode());
+    Assertions.assertEquals(NoSuchSchemaException.class.getSimpleName(), errorResp.getType());
+  }
+
   @Test
   public void testCreateTable() {
     Column[] columns =
@@ -490,6 +543,123 @@ public class TestTableOperations extends JerseyTest {
     Assertions.assertArrayEquals(partitioningWithAssignments, tableResp.getTable().partitioning());
   }
 
+  @Test
+  public void testLoadTableWithETag() {
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table table =
+        mockTable("table1", columns, "mock comment", ImmutableMap.of("k1", "v1"), new Transform[0]);
+    when(dispatcher.loadTable(any())).thenReturn(table);
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema) + "table1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    EntityTag eTag = resp.getEntityTag();
+    Assertions.assertNotNull(eTag);
+    Assertions.assertEquals("table1", resp.readEntity(TableResponse.class).getTable().name());
+
+    // The table is not changed, so the response is not modified
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema) + "table1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .header(HttpHeaders.IF_NONE_MATCH, eTag.toString())
+            .get();
+    Assertions.assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), resp1.getStatus());
+    Assertions.assertEquals(eTag, resp1.getEntityTag());
+    Assertions.assertFalse(resp1.hasEntity());
+
+    // The table is changed, so the new table is returned with a new ETag
+    Table alteredTable =
+        mockTable("table1", columns, "new comment", ImmutableMap.of("k1", "v1"), new Transform[0]);
+    when(dispatcher.loadTable(any())).thenReturn(alteredTable);
+    Response resp2 =
+        target(tablePath(metalake, catalog, schema) + "table1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .header(HttpHeaders.IF_NONE_MATCH, eTag.toString())
+            .get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp2.getStatus());
+    Assertions.assertNotEquals(eTag, resp2.getEntityTag());
+    Assertions.assertEquals(
+        "new comment", resp2.readEntity(TableResponse.class).getTable().comment());
+  }
+
+  @Test
+  public void testSmileContentNegotiation() throws IOException {
+    ObjectMapper smileMapper = ObjectMapperProvider.smileMapper();
+    String[] smileAccept = {
+      SmileMessageBodyProvider.APPLICATION_SMILE, "application/vnd.gravitino.v1+json;q=0.9"
+    };
+
+    // The streamed list response is written in Smile
+    NameIdentifier table1 = NameIdentifier.of(metalake, catalog, schema, "table1");
+    when(dispatcher.listTables(any())).thenReturn(new NameIdentifier[] {table1});
+    Response resp =
+        target(tablePath(metalake, catalog, schema)).request().accept(smileAccept).get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(SmileMessageBodyProvider.APPLICATION_SMILE_TYPE, resp.getMediaType());
+    Assertions.assertTrue(resp.getHeaderString(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT));
+    EntityListResponse listResp =
+        smileMapper.readValue(resp.readEntity(byte[].class), EntityListResponse.class);
+    Assertions.assertArrayEquals(new NameIdentifier[] {table1}, listResp.identifiers());
+
+    // The response with an ETag is serialized in Smile, and its tag differs from the JSON one
+    Column[] columns = new Column[] {mockColumn("col1", Types.StringType.get())};
+    Table table =
+        mockTable("table1", columns, "mock comment", ImmutableMap.of("k1", "v1"), new Transform[0]);
+    when(dispatcher.loadTable(any())).thenReturn(table);
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema) + "table1").request().accept(smileAccept).get();
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp1.getStatus());
+    Assertions.assertEquals(SmileMessageBodyProvider.APPLICATION_SMILE_TYPE, resp1.getMediaType());
+    TableResponse tableResp =
+        smileMapper.readValue(resp1.readEntity(byte[].class), TableResponse.class);
+    Assertions.assertEquals("table1", tableResp.getTable().name());
+    Response resp2 =
+        target(tablePath(metalake, catalog, schema) + "table1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+    Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, resp2.getMediaType());
+    Assertions.assertNotEquals(resp1.getEntityTag(), resp2.getEntityTag());
+
+    // The request body in Smile is accepted, and the response is written in Smile
+    TableUpdateRequest.UpdateTableCommentRequest req =
+        new TableUpdateRequest.UpdateTableCommentRequest("new comment");
+    Table alteredTable =
+        mockTable("table1", columns, "new comment", ImmutableMap.of("k1", "v1"), new Transform[0]);
+    when(dispatcher.alterTable(any(), eq(req.tableChange()))).thenReturn(alteredTable);
+    Response resp3 =
+        target(tablePath(metalake, catalog, schema) + "table1")
+            .request()
+            .accept(smileAccept)
+            .put(
+                Entity.entity(
+                    smileMapper.writeValueAsBytes(new TableUpdatesRequest(ImmutableList.of(req))),
+                    SmileMessageBodyProvider.APPLICATION_SMILE_TYPE));
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp3.getStatus());
+    Assertions.assertEquals(SmileMessageBodyProvider.APPLICATION_SMILE_TYPE, resp3.getMediaType());
+    Assertions.assertEquals(
+        "new comment",
+        smileMapper
+            .readValue(resp3.readEntity(byte[].class), TableResponse.class)
+            .getTable()
+            .comment());
+
+    // The error response stays in JSON
+    doThrow(new NoSuchTableException("mock error")).when(dispatcher).loadTable(any());
+    Response resp4 =
+        target(tablePath(metalake, catalog, schema) + "table1").request().accept(smileAccept).get();
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp4.getStatus());
+    Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, resp4.getMediaType());
+    Assertions.assertEquals(
+        NoSuchTableException.class.getSimpleName(),
+        resp4.readEntity(ErrorResponse.class).getType());
+  }
+
   @Test
   public void testLoadTable() {
     Column[] columns =
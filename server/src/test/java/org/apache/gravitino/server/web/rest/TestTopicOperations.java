@@ -51,6 +51,7 @@ import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.dto.responses.TopicListResponse;
 import org.apache.gravitino.dto.responses.TopicResponse;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
 import org.apache.gravitino.exceptions.TopicAlreadyExistsException;
@@ -108,6 +109,7 @@ public class TestTopicOperations extends JerseyTest {
           @Override
           protected void configure() {
             bind(dispatcher).to(TopicDispatcher.class).ranked(2);
+            bind(new AsyncRequestExecutors(2, 2, 100)).to(AsyncRequestExecutors.class).ranked(2);
             bindFactory(TestTopicOperations.MockServletRequestFactory.class)
                 .to(HttpServletRequest.class);
           }
@@ -170,6 +172,49 @@ public class TestTopicOperations extends JerseyTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListTopicsInfo() {
+    Topic topic1 = mockTopic("topic1", "comment", ImmutableMap.of("k1", "v1"));
+    Topic topic2 = mockTopic("topic2", "comment", ImmutableMap.of("k2", "v2"));
+    when(dispatcher.listTopicsInfo(any())).thenReturn(new Topic[] {topic1, topic2});
+
+    Response resp =
+        target(topicPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(MediaType.APPLICATION_JSON_TYPE, resp.getMediaType());
+
+    TopicListResponse listResp = resp.readEntity(TopicListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+
+    TopicDTO[] topics = listResp.getTopics();
+    Assertions.assertEquals(2, topics.length);
+    Assertions.assertEquals("topic1", topics[0].name());
+    Assertions.assertEquals("comment", topics[0].comment());
+    Assertions.assertEquals(ImmutableMap.of("k1", "v1"), topics[0].properties());
+    Assertions.assertEquals("topic2", topics[1].name());
+    Assertions.assertEquals(ImmutableMap.of("k2", "v2"), topics[1].properties());
+
+    // Test throw NoSuchSchemaException
+    doThrow(new NoSuchSchemaException("mock error")).when(dispatcher).listTopicsInfo(any());
+    Response resp1 =
+        target(topicPath(metalake, catalog, schema))
+            .queryParam("details", "true")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+
+    ErrorResponse errorResp = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResp.getCode());
+    Assertions.assertEquals(NoSuchSchemaException.class.getSimpleName(), errorResp.getType());
+  }
+
   @Test
   public void testLoadTopic() {
     Topic topic = mockTopic("topic1", "comment", ImmutableMap.of("key1", "value1"));